@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openmhealth.schema.configuration.JacksonConfiguration;
+import org.openmhealth.schema.domain.omh.DataPoint;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+
+/**
+ * A suite of benchmarks that compares the serialization and deserialization of data points using the JSON, Smile and
+ * CBOR object mappers.
+ *
+ * @author agent
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class DataFormatBenchmark {
+
+    public enum DataFormat {
+
+        JSON(JacksonConfiguration::newObjectMapper),
+        SMILE(JacksonConfiguration::newSmileObjectMapper),
+        CBOR(JacksonConfiguration::newCborObjectMapper);
+
+        private final Supplier<ObjectMapper> objectMapperSupplier;
+
+        DataFormat(Supplier<ObjectMapper> objectMapperSupplier) {
+            this.objectMapperSupplier = objectMapperSupplier;
+        }
+
+        public ObjectMapper newObjectMapper() {
+            return objectMapperSupplier.get();
+        }
+    }
+
+
+    @Param
+    private DataPointFixture fixture;
+
+    @Param
+    private DataFormat format;
+
+    private ObjectMapper objectMapper;
+    private JavaType dataPointType;
+    private DataPoint<?> dataPoint;
+    private byte[] document;
+
+
+    @Setup
+    public void setUp() throws IOException {
+
+        objectMapper = format.newObjectMapper();
+        dataPointType = fixture.getDataPointType(objectMapper);
+        dataPoint = fixture.newDataPoint(JacksonConfiguration.newObjectMapper());
+        document = objectMapper.writeValueAsBytes(dataPoint);
+
+        // fail fast instead of benchmarking a lossy round trip
+        if (!dataPoint.equals(objectMapper.readValue(document, dataPointType))) {
+            throw new IllegalStateException("The " + fixture + " data point doesn't survive a " + format
+                    + " round trip.");
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(dataPoint);
+    }
+
+    @Benchmark
+    public DataPoint<?> deserialize() throws IOException {
+        return objectMapper.readValue(document, dataPointType);
+    }
+}
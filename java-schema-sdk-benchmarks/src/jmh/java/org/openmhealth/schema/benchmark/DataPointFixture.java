@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openmhealth.schema.domain.omh.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+
+import static java.time.ZoneOffset.UTC;
+import static org.openmhealth.schema.domain.omh.DataPointModality.SENSED;
+
+
+/**
+ * A data point fixture used in benchmarks. Each fixture wraps a body from the schema library test data in a header
+ * that populates every optional property, so that benchmarks exercise the same code paths as real data points.
+ *
+ * @author agent
+ */
+public enum DataPointFixture {
+
+    HEART_RATE(HeartRate.class, HeartRate.SCHEMA_ID,
+            "heart-rate/1.1/shouldPass/with-temporal-relationship-to-sleep.json"),
+    PHYSICAL_ACTIVITY(PhysicalActivity.class, PhysicalActivity.SCHEMA_ID,
+            "physical-activity/1.2/shouldPass/with-calories-burned.json"),
+    BLOOD_PRESSURE(BloodPressure.class, BloodPressure.SCHEMA_ID,
+            "blood-pressure/1.0/shouldPass/with-everything.json"),
+    SLEEP_EPISODE(SleepEpisode.class, SleepEpisode.SCHEMA_ID,
+            "sleep-episode/1.0/shouldPass/valid-sleep-episode.json");
+
+    public static final String TEST_DATA_DIRECTORY_PROPERTY = "org.openmhealth.schema.testDataDirectory";
+    public static final String DEFAULT_TEST_DATA_DIRECTORY = "test-data";
+
+    private static final String OMH_TEST_DATA_SUBDIRECTORY = "omh";
+
+    private static final OffsetDateTime CREATION_DATE_TIME = OffsetDateTime.of(2017, 3, 14, 9, 26, 53, 0, UTC);
+
+    private Class<? extends Measure> bodyClass;
+    private SchemaId bodySchemaId;
+    private String bodyFilename;
+
+    DataPointFixture(Class<? extends Measure> bodyClass, SchemaId bodySchemaId, String bodyFilename) {
+
+        this.bodyClass = bodyClass;
+        this.bodySchemaId = bodySchemaId;
+        this.bodyFilename = bodyFilename;
+    }
+
+    public Class<? extends Measure> getBodyClass() {
+        return bodyClass;
+    }
+
+    public SchemaId getBodySchemaId() {
+        return bodySchemaId;
+    }
+
+    /**
+     * @param objectMapper the object mapper to construct the type with
+     * @return the fully parameterized data point type of this fixture
+     */
+    public JavaType getDataPointType(ObjectMapper objectMapper) {
+        return objectMapper.getTypeFactory().constructParametricType(DataPoint.class, bodyClass);
+    }
+
+    /**
+     * @return the file containing the body of this fixture
+     */
+    public File getBodyFile() {
+
+        String testDataDirectory = System.getProperty(TEST_DATA_DIRECTORY_PROPERTY, DEFAULT_TEST_DATA_DIRECTORY);
+
+        return new File(new File(testDataDirectory, OMH_TEST_DATA_SUBDIRECTORY), bodyFilename);
+    }
+
+    /**
+     * @param objectMapper the object mapper to read the body with
+     * @return a new data point containing the body of this fixture
+     * @throws IOException if the body can't be read
+     */
+    public DataPoint<? extends Measure> newDataPoint(ObjectMapper objectMapper) throws IOException {
+
+        Measure body = objectMapper.readValue(getBodyFile(), bodyClass);
+
+        DataPointAcquisitionProvenance acquisitionProvenance =
+                new DataPointAcquisitionProvenance.Builder("benchmark")
+                        .setSourceCreationDateTime(CREATION_DATE_TIME.minusMinutes(5))
+                        .setModality(SENSED)
+                        .build();
+
+        DataPointHeader header = new DataPointHeader.Builder("7e0fb6e5-b3c7-4ff8-ae3b-b6ecd3d8e4e1", bodySchemaId,
+                CREATION_DATE_TIME)
+                .setAcquisitionProvenance(acquisitionProvenance)
+                .setUserId("bd8b8e94-2b8d-4b9e-a7a6-4c8bd4f1b7c6")
+                .build();
+
+        return new DataPoint<>(header, body);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openmhealth.schema.domain.omh.DataPoint;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.openmhealth.schema.configuration.JacksonConfiguration.newObjectMapper;
+
+
+/**
+ * A suite of benchmarks for the serialization and deserialization of data points using the schema object mapper.
+ *
+ * @author agent
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class DataPointSerializationBenchmark {
+
+    @Param
+    private DataPointFixture fixture;
+
+    private ObjectMapper objectMapper;
+    private JavaType dataPointType;
+    private DataPoint<?> dataPoint;
+    private byte[] document;
+
+
+    @Setup
+    public void setUp() throws IOException {
+
+        objectMapper = newObjectMapper();
+        dataPointType = fixture.getDataPointType(objectMapper);
+        dataPoint = fixture.newDataPoint(objectMapper);
+        document = objectMapper.writeValueAsBytes(dataPoint);
+
+        // fail fast instead of benchmarking a lossy round trip
+        if (!dataPoint.equals(objectMapper.readValue(document, dataPointType))) {
+            throw new IllegalStateException("The " + fixture + " data point doesn't survive a round trip.");
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(dataPoint);
+    }
+
+    @Benchmark
+    public DataPoint<?> deserialize() throws IOException {
+        return objectMapper.readValue(document, dataPointType);
+    }
+
+    @Benchmark
+    public DataPoint<?> roundTrip() throws IOException {
+        return objectMapper.readValue(objectMapper.writeValueAsBytes(dataPoint), dataPointType);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openmhealth.schema.configuration.JacksonConfiguration;
+import org.openmhealth.schema.configuration.JacksonConfiguration.Options;
+import org.openmhealth.schema.configuration.JacksonConfiguration.Options.PropertyAccess;
+import org.openmhealth.schema.domain.omh.DataPoint;
+import org.openmhealth.schema.serializer.omh.OmhSchemaModule;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.openmhealth.schema.configuration.JacksonConfiguration.Options.PropertyAccess.AFTERBURNER;
+import static org.openmhealth.schema.configuration.JacksonConfiguration.Options.PropertyAccess.REFLECTION;
+
+
+/**
+ * A suite of benchmarks that compares the serialization and deserialization of data points using the bean
+ * serializers and deserializers, with and without Afterburner, with the serializers and deserializers of the
+ * {@link OmhSchemaModule}.
+ *
+ * @author agent
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class OmhSchemaModuleBenchmark {
+
+    public enum Binding {
+
+        BEAN(REFLECTION, false),
+        AFTERBURNER_BEAN(AFTERBURNER, false),
+        OMH_SCHEMA_MODULE(REFLECTION, true);
+
+        private final Options options;
+
+        Binding(PropertyAccess propertyAccess, boolean omhSchemaModuleRegistered) {
+
+            this.options = new Options.Builder()
+                    .setPropertyAccess(propertyAccess)
+                    .setOmhSchemaModuleRegistered(omhSchemaModuleRegistered)
+                    .build();
+        }
+
+        public ObjectMapper newObjectMapper() {
+            return JacksonConfiguration.newObjectMapper(options);
+        }
+    }
+
+
+    @Param
+    private DataPointFixture fixture;
+
+    @Param
+    private Binding binding;
+
+    private ObjectMapper objectMapper;
+    private JavaType dataPointType;
+    private DataPoint<?> dataPoint;
+    private byte[] document;
+
+
+    @Setup
+    public void setUp() throws IOException {
+
+        objectMapper = binding.newObjectMapper();
+        dataPointType = fixture.getDataPointType(objectMapper);
+        dataPoint = fixture.newDataPoint(JacksonConfiguration.newObjectMapper());
+        document = JacksonConfiguration.newObjectMapper().writeValueAsBytes(dataPoint);
+
+        // fail fast instead of benchmarking a binding that doesn't match the bean serializers
+        if (!Arrays.equals(objectMapper.writeValueAsBytes(dataPoint), document)
+                || !dataPoint.equals(objectMapper.readValue(document, dataPointType))) {
+            throw new IllegalStateException("The " + fixture + " data point doesn't survive a " + binding
+                    + " round trip.");
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(dataPoint);
+    }
+
+    @Benchmark
+    public DataPoint<?> deserialize() throws IOException {
+        return objectMapper.readValue(document, dataPointType);
+    }
+}
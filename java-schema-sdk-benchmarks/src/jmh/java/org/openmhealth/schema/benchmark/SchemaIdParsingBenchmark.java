@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openmhealth.schema.domain.omh.DataPointHeader;
+import org.openmhealth.schema.domain.omh.SchemaId;
+import org.openmhealth.schema.domain.omh.SchemaVersion;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+
+import static org.openmhealth.schema.configuration.JacksonConfiguration.newObjectMapper;
+import static org.openmhealth.schema.domain.omh.SchemaId.NAMESPACE_PATTERN;
+import static org.openmhealth.schema.domain.omh.SchemaId.NAME_PATTERN;
+import static org.openmhealth.schema.domain.omh.SchemaVersion.VERSION_PATTERN;
+
+
+/**
+ * A suite of benchmarks comparing the validation and parsing of schema identifiers using regular expressions to the
+ * hand-written scanners in {@link SchemaId} and {@link SchemaVersion}, along with the deserialization of headers,
+ * which contain a schema identifier each.
+ *
+ * @author agent
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SchemaIdParsingBenchmark {
+
+    @Param({"omh:heart-rate:1.1", "granola:hk-quantity-sample:1.0.RC1", "org.example.health:step-count:12.3"})
+    private String schemaId;
+
+    private String namespace;
+    private String name;
+    private String version;
+
+    private ObjectMapper objectMapper;
+    private byte[] headerDocument;
+
+
+    @Setup
+    public void setUp() throws IOException {
+
+        String[] components = schemaId.split(":");
+
+        namespace = components[0];
+        name = components[1];
+        version = components[2];
+
+        objectMapper = newObjectMapper();
+
+        headerDocument = ("{\"id\":\"7e0fb6e5-b3c7-4ff8-ae3b-b6ecd3d8e4e1\"," +
+                "\"creation_date_time\":\"2017-03-14T09:26:53Z\"," +
+                "\"schema_id\":{\"namespace\":\"" + namespace + "\",\"name\":\"" + name + "\"," +
+                "\"version\":\"" + version + "\"}}").getBytes("UTF-8");
+    }
+
+    /**
+     * Validates and parses the schema identifier the way it was done before the scanners were introduced.
+     */
+    @Benchmark
+    public int parseUsingRegularExpressions() {
+
+        if (!NAMESPACE_PATTERN.matcher(namespace).matches() || !NAME_PATTERN.matcher(name).matches()) {
+            throw new IllegalArgumentException();
+        }
+
+        Matcher matcher = VERSION_PATTERN.matcher(version);
+
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException();
+        }
+
+        return Integer.valueOf(matcher.group(1)) + Integer.valueOf(matcher.group(2))
+                + (matcher.group(3) == null ? 0 : matcher.group(3).length());
+    }
+
+    @Benchmark
+    public SchemaId parseUsingScanners() {
+        return new SchemaId(namespace, name, new SchemaVersion(version));
+    }
+
+    @Benchmark
+    public SchemaId parseUsingInternPool() {
+        return SchemaId.of(namespace, name, version);
+    }
+
+    @Benchmark
+    public DataPointHeader deserializeHeader() throws IOException {
+        return objectMapper.readValue(headerDocument, DataPointHeader.class);
+    }
+}
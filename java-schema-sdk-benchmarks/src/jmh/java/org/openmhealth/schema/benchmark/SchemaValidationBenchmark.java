@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.benchmark;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openmhealth.schema.domain.omh.BodyTypeRegistry;
+import org.openmhealth.schema.domain.omh.DataPoint;
+import org.openmhealth.schema.domain.omh.SchemaId;
+import org.openmhealth.schema.validation.SchemaValidationError;
+import org.openmhealth.schema.validation.SchemaValidator;
+import org.openmhealth.schema.validation.ValidatingDataPointReader;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.openmhealth.schema.configuration.JacksonConfiguration.newObjectMapper;
+
+
+/**
+ * A suite of benchmarks for the validation of data point bodies using the compiled schema validator, both as trees
+ * and as token streams, and for reading data points that are validated before they're bound.
+ *
+ * @author agent
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SchemaValidationBenchmark {
+
+    public static final String SCHEMA_DIRECTORY_PROPERTY = "org.openmhealth.schema.schemaDirectory";
+    public static final String DEFAULT_SCHEMA_DIRECTORY = "schema";
+
+    @Param
+    private DataPointFixture fixture;
+
+    private ObjectMapper objectMapper;
+    private SchemaValidator validator;
+    private ValidatingDataPointReader reader;
+    private SchemaId schemaId;
+    private JsonNode body;
+    private byte[] bodyDocument;
+    private byte[] dataPointDocument;
+
+
+    @Setup
+    public void setUp() throws IOException {
+
+        objectMapper = newObjectMapper();
+
+        String schemaDirectory = System.getProperty(SCHEMA_DIRECTORY_PROPERTY, DEFAULT_SCHEMA_DIRECTORY);
+
+        validator = SchemaValidator.fromDirectory(Paths.get(schemaDirectory));
+        reader = new ValidatingDataPointReader(validator, objectMapper, BodyTypeRegistry.newDefaultRegistry());
+        schemaId = fixture.getBodySchemaId();
+        body = objectMapper.readTree(fixture.getBodyFile());
+        bodyDocument = objectMapper.writeValueAsBytes(body);
+        dataPointDocument = objectMapper.writeValueAsBytes(fixture.newDataPoint(objectMapper));
+
+        if (!validator.isValid(schemaId, body)) {
+            throw new IllegalStateException("The " + fixture + " body isn't valid.");
+        }
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return validator.isValid(schemaId, body);
+    }
+
+    @Benchmark
+    public List<SchemaValidationError> validate() {
+        return validator.validate(schemaId, body);
+    }
+
+    @Benchmark
+    public boolean parseTreeAndValidate() throws IOException {
+        return validator.isValid(schemaId, objectMapper.readTree(bodyDocument));
+    }
+
+    @Benchmark
+    public boolean validateTokenStream() throws IOException {
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(bodyDocument)) {
+            return validator.isValid(schemaId, parser);
+        }
+    }
+
+    @Benchmark
+    public DataPoint<?> readValidatedDataPoint() throws IOException {
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(dataPointDocument)) {
+            return reader.read(parser);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.codegen;
+
+import org.openmhealth.schema.domain.omh.SchemaId;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * A class to generate from an object schema, along with its builder, serializer and deserializer.
+ *
+ * @author agent
+ */
+final class ClassDeclaration extends TypeDeclaration {
+
+    private final Map<String, Property> propertiesByName = new LinkedHashMap<>();
+
+
+    ClassDeclaration(JavaType type, @Nullable SchemaId schemaId, String source) {
+        super(type, schemaId, source);
+    }
+
+    Collection<Property> getProperties() {
+        return propertiesByName.values();
+    }
+
+    List<Property> getRequiredProperties() {
+
+        List<Property> requiredProperties = new ArrayList<>();
+
+        for (Property property : propertiesByName.values()) {
+            if (property.isRequired()) {
+                requiredProperties.add(property);
+            }
+        }
+
+        return requiredProperties;
+    }
+
+    @Nullable
+    Property getProperty(String name) {
+        return propertiesByName.get(name);
+    }
+
+    void addProperty(Property property) {
+        propertiesByName.put(property.getName(), property);
+    }
+
+    /**
+     * A property of a generated class.
+     */
+    static final class Property {
+
+        private final String name;
+        private JavaType type;
+        private boolean required;
+        private String description;
+
+
+        Property(String name, JavaType type) {
+            this.name = name;
+            this.type = type;
+        }
+
+        /**
+         * @return the name of the property in JSON, e.g. "heart_rate"
+         */
+        String getName() {
+            return name;
+        }
+
+        String getFieldName() {
+            return Names.toFieldName(name);
+        }
+
+        String getAccessorSuffix() {
+            return Names.toTypeName(name);
+        }
+
+        String getConstantName() {
+            return Names.toConstantName(name);
+        }
+
+        JavaType getType() {
+            return type;
+        }
+
+        void setType(JavaType type) {
+            this.type = type;
+        }
+
+        boolean isRequired() {
+            return required;
+        }
+
+        void setRequired(boolean required) {
+            this.required = required;
+        }
+
+        @Nullable
+        String getDescription() {
+            return description;
+        }
+
+        void setDescription(@Nullable String description) {
+            this.description = description;
+        }
+    }
+}
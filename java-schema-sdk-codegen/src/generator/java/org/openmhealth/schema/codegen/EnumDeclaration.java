@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.codegen;
+
+import org.openmhealth.schema.domain.omh.SchemaId;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * An enumeration to generate from a string schema with an enumerated set of values.
+ *
+ * @author agent
+ */
+final class EnumDeclaration extends TypeDeclaration {
+
+    private final Map<String, String> schemaValuesByConstantName = new LinkedHashMap<>();
+
+
+    EnumDeclaration(JavaType type, @Nullable SchemaId schemaId, String source, List<String> schemaValues) {
+
+        super(type, schemaId, source);
+
+        Set<String> constantNames = new HashSet<>();
+
+        for (int i = 0; i < schemaValues.size(); i++) {
+            String schemaValue = schemaValues.get(i);
+            String baseConstantName = Names.toConstantName(schemaValue);
+
+            // values made of symbols, like "%", are named after their position
+            if (baseConstantName.isEmpty()) {
+                baseConstantName = "VALUE_" + (i + 1);
+            }
+
+            String constantName = baseConstantName;
+
+            // values that only differ in case or punctuation get numbered constants
+            for (int j = 2; !constantNames.add(constantName); j++) {
+                constantName = baseConstantName + "_" + j;
+            }
+
+            schemaValuesByConstantName.put(constantName, schemaValue);
+        }
+    }
+
+    /**
+     * @return the schema values of the enumeration, keyed by constant name, in schema order
+     */
+    Map<String, String> getSchemaValuesByConstantName() {
+        return Collections.unmodifiableMap(schemaValuesByConstantName);
+    }
+}
@@ -0,0 +1,750 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.codegen;
+
+import org.openmhealth.schema.codegen.ClassDeclaration.Property;
+import org.openmhealth.schema.domain.omh.SchemaId;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.openmhealth.schema.codegen.JavaSourceFile.toStringLiteral;
+
+
+/**
+ * Writes the Java source files of generated types. Each class is generated along with a builder, a serializer and a
+ * deserializer. The serializers and deserializers call each other directly, and only use the object mapper for
+ * types that aren't generated, so that no reflection is involved in binding generated classes. Properties that a
+ * schema doesn't declare are kept as additional properties, so that they survive a round trip.
+ *
+ * @author agent
+ */
+final class JavaSourceEmitter {
+
+    static final String MODULE_NAME = "GeneratedSchemaModule";
+
+    private static final String SDK_PACKAGE_NAME = "org.openmhealth.schema.domain.omh";
+    private static final String TOKEN_READERS = "org.openmhealth.schema.codegen.support.TokenReaders";
+    private static final String JACKSON_CORE_PACKAGE_NAME = "com.fasterxml.jackson.core";
+    private static final String JACKSON_DATABIND_PACKAGE_NAME = "com.fasterxml.jackson.databind";
+
+    private static final Set<String> DESERIALIZER_LOCAL_NAMES =
+            new HashSet<>(Arrays.asList("parser", "context", "fieldName", "token", "additionalProperties"));
+
+
+    /**
+     * @return the source files of a type
+     */
+    List<JavaSourceFile> emit(TypeDeclaration declaration) {
+
+        List<JavaSourceFile> files = new ArrayList<>();
+
+        if (declaration instanceof ClassDeclaration) {
+            ClassDeclaration classDeclaration = (ClassDeclaration) declaration;
+
+            files.add(emitClass(classDeclaration));
+            files.add(emitSerializer(classDeclaration));
+            files.add(emitDeserializer(classDeclaration));
+        }
+        else {
+            files.add(emitEnum((EnumDeclaration) declaration));
+        }
+
+        return files;
+    }
+
+    /**
+     * @return whether a generated class implements {@link org.openmhealth.schema.domain.omh.SchemaSupport}, which
+     * it can't if it has a property that clashes with {@code getSchemaId()}
+     */
+    static boolean isSchemaSupport(ClassDeclaration declaration) {
+
+        if (declaration.getSchemaId() == null) {
+            return false;
+        }
+
+        for (Property property : declaration.getProperties()) {
+            if (property.getAccessorSuffix().equals("SchemaId")) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @throws IllegalArgumentException if a property of a class clashes with the members that hold its additional
+     * properties
+     */
+    private static void checkAdditionalPropertiesDontClash(ClassDeclaration declaration) {
+
+        for (Property property : declaration.getProperties()) {
+            String accessorSuffix = property.getAccessorSuffix();
+
+            if (accessorSuffix.equals("AdditionalProperties") || accessorSuffix.equals("AdditionalProperty")) {
+                throw new IllegalArgumentException("The property '" + property.getName() + "' of "
+                        + declaration.getSource() + " clashes with the additional properties of its class.");
+            }
+        }
+    }
+
+    private JavaSourceFile emitClass(ClassDeclaration declaration) {
+
+        checkAdditionalPropertiesDontClash(declaration);
+
+        JavaType type = declaration.getType();
+        JavaSourceFile file = new JavaSourceFile(type.getPackageName(), type.getSimpleName(), declaration.getSource());
+        String typeName = type.getSimpleName();
+        String map = file.use("java.util.Map");
+        String additionalPropertySupport = file.use(SDK_PACKAGE_NAME + ".AdditionalPropertySupport");
+
+        file.textJavadoc(declaration.getDescription());
+        file.open("public final class " + typeName + " implements "
+                + (isSchemaSupport(declaration) ? file.use(SDK_PACKAGE_NAME + ".SchemaSupport") + ", " : "")
+                + additionalPropertySupport + " {");
+        file.blankLine();
+
+        emitSchemaIdConstant(file, declaration.getSchemaId());
+
+        for (Property property : declaration.getProperties()) {
+            file.line("private final " + file.use(property.getType()) + " " + property.getFieldName() + ";");
+        }
+
+        file.line("private final " + map + "<String, Object> additionalProperties;");
+
+        file.blankLine();
+        file.blankLine();
+        file.open("private " + typeName + "(Builder builder) {");
+
+        for (Property property : declaration.getProperties()) {
+            String fieldName = property.getFieldName();
+
+            if (property.getType().getKind() == JavaType.Kind.LIST) {
+                file.line("this." + fieldName + " = builder." + fieldName + " == null ? null : "
+                        + file.useStatic("java.util.Collections", "unmodifiableList") + "(new "
+                        + file.use("java.util.ArrayList") + "<>(builder." + fieldName + "));");
+            }
+            else {
+                file.line("this." + fieldName + " = builder." + fieldName + ";");
+            }
+        }
+
+        file.blankLine();
+        file.line("this.additionalProperties = builder.additionalProperties == null ? "
+                + file.useStatic("java.util.Collections", "emptyMap") + "() : "
+                + file.useStatic("java.util.Collections", "unmodifiableMap") + "(new "
+                + file.use("java.util.LinkedHashMap") + "<>(builder.additionalProperties));");
+        file.close();
+
+        for (Property property : declaration.getProperties()) {
+            file.blankLine();
+            file.textJavadoc(property.getDescription());
+
+            if (!property.isRequired()) {
+                file.line("@" + file.use("javax.annotation.Nullable"));
+            }
+
+            file.open("public " + file.use(property.getType()) + " get" + property.getAccessorSuffix() + "() {");
+            file.line("return " + property.getFieldName() + ";");
+            file.close();
+        }
+
+        if (isSchemaSupport(declaration)) {
+            file.blankLine();
+            file.line("@Override");
+            file.open("public " + file.use(SDK_PACKAGE_NAME + ".SchemaId") + " getSchemaId() {");
+            file.line("return SCHEMA_ID;");
+            file.close();
+        }
+
+        file.blankLine();
+        file.javadoc("@return the properties that the schema doesn't declare, which can't be modified");
+        file.line("@Override");
+        file.open("public " + map + "<String, Object> getAdditionalProperties() {");
+        file.line("return additionalProperties;");
+        file.close();
+
+        emitEquals(file, declaration);
+        emitBuilder(file, declaration);
+
+        file.close();
+
+        return file;
+    }
+
+    private void emitSchemaIdConstant(JavaSourceFile file, SchemaId schemaId) {
+
+        if (schemaId == null) {
+            return;
+        }
+
+        file.line("public static final " + file.use(SDK_PACKAGE_NAME + ".SchemaId") + " SCHEMA_ID = "
+                + "SchemaId.of(" + toStringLiteral(schemaId.getNamespace()) + ", "
+                + toStringLiteral(schemaId.getName()) + ", " + toStringLiteral(schemaId.getVersion().toString())
+                + ");");
+        file.blankLine();
+    }
+
+    private void emitEquals(JavaSourceFile file, ClassDeclaration declaration) {
+
+        String typeName = declaration.getType().getSimpleName();
+        String objects = file.use("java.util.Objects");
+
+        file.blankLine();
+        file.line("@Override");
+        file.open("public boolean equals(Object object) {");
+        file.blankLine();
+        file.open("if (this == object) {");
+        file.line("return true;");
+        file.close();
+        file.blankLine();
+        file.open("if (object == null || getClass() != object.getClass()) {");
+        file.line("return false;");
+        file.close();
+        file.blankLine();
+        file.line(typeName + " that = (" + typeName + ") object;");
+        file.blankLine();
+
+        List<String> comparisons = new ArrayList<>();
+
+        for (Property property : declaration.getProperties()) {
+            String fieldName = property.getFieldName();
+            comparisons.add(objects + ".equals(" + fieldName + ", that." + fieldName + ")");
+        }
+
+        comparisons.add("additionalProperties.equals(that.additionalProperties)");
+
+        emitJoined(file, "return ", comparisons, " &&", ";");
+        file.close();
+
+        file.blankLine();
+        file.line("@Override");
+        file.open("public int hashCode() {");
+
+        List<String> fieldNames = new ArrayList<>();
+
+        for (Property property : declaration.getProperties()) {
+            fieldNames.add(property.getFieldName());
+        }
+
+        fieldNames.add("additionalProperties");
+
+        file.line("return " + objects + ".hash(" + String.join(", ", fieldNames) + ");");
+        file.close();
+    }
+
+    /**
+     * Writes an expression made of several terms, one term per line.
+     */
+    private static void emitJoined(JavaSourceFile file, String prefix, List<String> terms, String separator,
+            String suffix) {
+
+        for (int i = 0; i < terms.size(); i++) {
+            boolean last = i == terms.size() - 1;
+            String text = (i == 0 ? prefix : "        ") + terms.get(i) + (last ? suffix : separator);
+
+            file.line(text);
+        }
+    }
+
+    private void emitBuilder(JavaSourceFile file, ClassDeclaration declaration) {
+
+        String typeName = declaration.getType().getSimpleName();
+        List<Property> requiredProperties = declaration.getRequiredProperties();
+
+        file.blankLine();
+        file.open("public static final class Builder {");
+        file.blankLine();
+
+        for (Property property : declaration.getProperties()) {
+            file.line("private " + file.use(property.getType()) + " " + property.getFieldName() + ";");
+        }
+
+        file.line("private " + file.use("java.util.Map") + "<String, Object> additionalProperties;");
+        file.blankLine();
+        file.blankLine();
+
+        List<String> parameters = new ArrayList<>();
+
+        for (Property property : requiredProperties) {
+            parameters.add(file.use(property.getType()) + " " + property.getFieldName());
+        }
+
+        file.open("public Builder(" + String.join(", ", parameters) + ") {");
+
+        if (!requiredProperties.isEmpty()) {
+            file.blankLine();
+        }
+
+        for (Property property : requiredProperties) {
+            String message = Names.toArticleAndWords(property.getName()) + " hasn't been specified.";
+            message = Character.toUpperCase(message.charAt(0)) + message.substring(1);
+
+            file.line(file.useStatic("com.google.common.base.Preconditions", "checkNotNull") + "("
+                    + property.getFieldName() + ", " + toStringLiteral(message) + ");");
+        }
+
+        if (!requiredProperties.isEmpty()) {
+            file.blankLine();
+        }
+
+        for (Property property : requiredProperties) {
+            file.line("this." + property.getFieldName() + " = " + property.getFieldName() + ";");
+        }
+
+        file.close();
+
+        for (Property property : declaration.getProperties()) {
+            if (property.isRequired()) {
+                continue;
+            }
+
+            String fieldName = property.getFieldName();
+
+            file.blankLine();
+            file.open("public Builder set" + property.getAccessorSuffix() + "(" + file.use(property.getType()) + " "
+                    + fieldName + ") {");
+            file.line("this." + fieldName + " = " + fieldName + ";");
+            file.line("return this;");
+            file.close();
+        }
+
+        emitAdditionalPropertySetters(file);
+
+        file.blankLine();
+        file.open("public " + typeName + " build() {");
+        file.line("return new " + typeName + "(this);");
+        file.close();
+
+        file.close();
+    }
+
+    private void emitAdditionalPropertySetters(JavaSourceFile file) {
+
+        String map = file.use("java.util.Map");
+        String linkedHashMap = file.use("java.util.LinkedHashMap");
+        String checkNotNull = file.useStatic("com.google.common.base.Preconditions", "checkNotNull");
+
+        file.blankLine();
+        file.open("public Builder setAdditionalProperty(String name, Object value) {");
+        file.blankLine();
+        file.line(checkNotNull + "(name, \"A name hasn't been specified.\");");
+        file.blankLine();
+        file.open("if (additionalProperties == null) {");
+        file.line("additionalProperties = new " + linkedHashMap + "<>();");
+        file.close();
+        file.blankLine();
+        file.line("additionalProperties.put(name, value);");
+        file.line("return this;");
+        file.close();
+        file.blankLine();
+        file.open("public Builder setAdditionalProperties(" + map + "<String, Object> additionalProperties) {");
+        file.blankLine();
+        file.line(checkNotNull + "(additionalProperties, \"Additional properties haven't been specified.\");");
+        file.blankLine();
+        file.line("this.additionalProperties = additionalProperties.isEmpty() ? null : new " + linkedHashMap
+                + "<>(additionalProperties);");
+        file.line("return this;");
+        file.close();
+    }
+
+    private JavaSourceFile emitSerializer(ClassDeclaration declaration) {
+
+        JavaType type = declaration.getType();
+        String serializerName = type.getSimpleName() + "Serializer";
+        JavaSourceFile file = new JavaSourceFile(type.getPackageName(), serializerName, declaration.getSource());
+        String typeName = file.use(type);
+        String serializedString = file.use(JACKSON_CORE_PACKAGE_NAME + ".io.SerializedString");
+
+        file.javadoc("A serializer of {@link " + typeName + "} instances, which writes property names that have been "
+                + "encoded in advance.");
+        file.open("public final class " + serializerName + " extends "
+                + file.use(JACKSON_DATABIND_PACKAGE_NAME + ".ser.std.StdSerializer") + "<" + typeName + "> {");
+        file.blankLine();
+        file.line("public static final " + serializerName + " INSTANCE = new " + serializerName + "();");
+        file.blankLine();
+
+        for (Property property : declaration.getProperties()) {
+            file.line("private static final " + serializedString + " " + property.getConstantName() + "_PROPERTY = "
+                    + "new " + serializedString + "(" + toStringLiteral(property.getName()) + ");");
+        }
+
+        if (!declaration.getProperties().isEmpty()) {
+            file.blankLine();
+        }
+
+        file.blankLine();
+        file.open("private " + serializerName + "() {");
+        file.line("super(" + typeName + ".class);");
+        file.close();
+        file.blankLine();
+        file.line("@Override");
+        file.line("public void serialize(" + typeName + " value, "
+                + file.use(JACKSON_CORE_PACKAGE_NAME + ".JsonGenerator") + " generator, "
+                + file.use(JACKSON_DATABIND_PACKAGE_NAME + ".SerializerProvider") + " provider)");
+        file.open("        throws " + file.use("java.io.IOException") + " {");
+        file.blankLine();
+        file.line("generator.writeStartObject();");
+
+        for (Property property : declaration.getProperties()) {
+            String getter = "value.get" + property.getAccessorSuffix() + "()";
+
+            file.blankLine();
+
+            if (!property.isRequired()) {
+                file.open("if (" + getter + " != null) {");
+            }
+
+            file.line("generator.writeFieldName(" + property.getConstantName() + "_PROPERTY);");
+            emitWrite(file, property.getType(), getter, 0);
+
+            if (!property.isRequired()) {
+                file.close();
+            }
+        }
+
+        file.blankLine();
+        file.open("for (" + file.use("java.util.Map") + ".Entry<String, Object> additionalProperty : "
+                + "value.getAdditionalProperties().entrySet()) {");
+        file.line("provider.defaultSerializeField(additionalProperty.getKey(), additionalProperty.getValue(), "
+                + "generator);");
+        file.close();
+        file.blankLine();
+        file.line("generator.writeEndObject();");
+        file.close();
+        file.close();
+
+        return file;
+    }
+
+    /**
+     * Writes the statements that serialize a value.
+     */
+    private void emitWrite(JavaSourceFile file, JavaType type, String value, int depth) {
+
+        switch (type.getKind()) {
+            case STRING:
+                file.line("generator.writeString(" + value + ");");
+                break;
+            case DECIMAL:
+                file.line("generator.writeNumber(" + value + ");");
+                break;
+            case LONG:
+                file.line("generator.writeNumber(" + value + ".longValue());");
+                break;
+            case BOOLEAN:
+                file.line("generator.writeBoolean(" + value + ".booleanValue());");
+                break;
+            case ENUM:
+                file.line("generator.writeString(" + value + ".getSchemaValue());");
+                break;
+            case CLASS:
+                file.line(file.use(type.getQualifiedName() + "Serializer") + ".INSTANCE.serialize(" + value
+                        + ", generator, provider);");
+                break;
+            case MAPPED:
+                file.line("provider.defaultSerializeValue(" + value + ", generator);");
+                break;
+            case LIST:
+                String element = "element" + (depth > 0 ? depth : "");
+
+                file.line("generator.writeStartArray();");
+                file.blankLine();
+                file.open("for (" + file.use(type.getElementType()) + " " + element + " : " + value + ") {");
+                file.open("if (" + element + " == null) {");
+                file.line("generator.writeNull();");
+                file.close();
+                file.open("else {");
+                emitWrite(file, type.getElementType(), element, depth + 1);
+                file.close();
+                file.close();
+                file.blankLine();
+                file.line("generator.writeEndArray();");
+                break;
+            default:
+                throw new IllegalArgumentException("The type '" + type + "' can't be serialized.");
+        }
+    }
+
+    private JavaSourceFile emitDeserializer(ClassDeclaration declaration) {
+
+        JavaType type = declaration.getType();
+        String deserializerName = type.getSimpleName() + "Deserializer";
+        JavaSourceFile file = new JavaSourceFile(type.getPackageName(), deserializerName, declaration.getSource());
+        String typeName = file.use(type);
+        String tokenReaders = file.use(TOKEN_READERS);
+        String jsonToken = file.use(JACKSON_CORE_PACKAGE_NAME + ".JsonToken");
+
+        file.javadoc("A deserializer of {@link " + typeName + "} instances, which reads properties directly from the "
+                + "token stream.");
+        file.open("public final class " + deserializerName + " extends "
+                + file.use(JACKSON_DATABIND_PACKAGE_NAME + ".deser.std.StdDeserializer") + "<" + typeName + "> {");
+        file.blankLine();
+        file.line("public static final " + deserializerName + " INSTANCE = new " + deserializerName + "();");
+        file.blankLine();
+        file.blankLine();
+        file.open("private " + deserializerName + "() {");
+        file.line("super(" + typeName + ".class);");
+        file.close();
+        file.blankLine();
+        file.line("@Override");
+        file.line("public " + typeName + " deserialize(" + file.use(JACKSON_CORE_PACKAGE_NAME + ".JsonParser")
+                + " parser, " + file.use(JACKSON_DATABIND_PACKAGE_NAME + ".DeserializationContext") + " context)");
+        file.open("        throws " + file.use("java.io.IOException") + " {");
+        file.blankLine();
+
+        String map = file.use("java.util.Map");
+
+        for (Property property : declaration.getProperties()) {
+            file.line(file.use(property.getType()) + " " + getLocalName(property) + " = null;");
+        }
+
+        file.line(map + "<String, Object> additionalProperties = "
+                + file.useStatic("java.util.Collections", "emptyMap") + "();");
+        file.blankLine();
+        file.line("for (String fieldName = " + tokenReaders + ".startObject(parser, " + typeName + ".class); "
+                + "fieldName != null;");
+        file.open("        fieldName = parser.nextFieldName()) {");
+        file.blankLine();
+        file.line(jsonToken + " token = parser.nextToken();");
+        file.blankLine();
+        file.open("switch (fieldName) {");
+
+        // null values of declared properties are treated as missing, whereas additional properties keep them
+        for (Property property : declaration.getProperties()) {
+            file.open("case " + toStringLiteral(property.getName()) + ":");
+            file.open("if (token != " + jsonToken + ".VALUE_NULL) {");
+            file.line(getLocalName(property) + " = " + getReadExpression(file, property.getType(), "parser",
+                    "context", 0) + ";");
+            file.close();
+            file.line("break;");
+            file.outdent();
+        }
+
+        file.open("default:");
+        file.open("if (additionalProperties.isEmpty()) {");
+        file.line("additionalProperties = new " + file.use("java.util.LinkedHashMap") + "<>();");
+        file.close();
+        file.blankLine();
+        file.line("additionalProperties.put(fieldName, " + tokenReaders
+                + ".readAdditionalProperty(parser, context));");
+        file.outdent();
+        file.close();
+        file.close();
+
+        for (Property property : declaration.getRequiredProperties()) {
+            file.blankLine();
+            file.open("if (" + getLocalName(property) + " == null) {");
+            file.line("throw " + tokenReaders + ".missingProperty(parser, " + typeName + ".class, "
+                    + toStringLiteral(property.getName()) + ");");
+            file.close();
+        }
+
+        List<String> requiredLocalNames = new ArrayList<>();
+
+        for (Property property : declaration.getRequiredProperties()) {
+            requiredLocalNames.add(getLocalName(property));
+        }
+
+        file.blankLine();
+        file.line("return new " + typeName + ".Builder(" + String.join(", ", requiredLocalNames) + ")");
+
+        for (Property property : declaration.getProperties()) {
+            if (!property.isRequired()) {
+                file.line("        .set" + property.getAccessorSuffix() + "(" + getLocalName(property) + ")");
+            }
+        }
+
+        file.line("        .setAdditionalProperties(additionalProperties)");
+        file.line("        .build();");
+        file.close();
+        file.close();
+
+        return file;
+    }
+
+    private static String getLocalName(Property property) {
+
+        String fieldName = property.getFieldName();
+
+        return DESERIALIZER_LOCAL_NAMES.contains(fieldName) ? fieldName + "Value" : fieldName;
+    }
+
+    /**
+     * @return an expression that deserializes a value
+     */
+    private String getReadExpression(JavaSourceFile file, JavaType type, String parser, String context, int depth) {
+
+        String tokenReaders = file.use(TOKEN_READERS);
+        String arguments = "(" + parser + ", " + context;
+
+        switch (type.getKind()) {
+            case STRING:
+                return tokenReaders + ".readString" + arguments + ")";
+            case DECIMAL:
+                return tokenReaders + ".readDecimal" + arguments + ")";
+            case LONG:
+                return tokenReaders + ".readLong" + arguments + ")";
+            case BOOLEAN:
+                return tokenReaders + ".readBoolean" + arguments + ")";
+            case ENUM:
+                String enumName = file.use(type);
+                return tokenReaders + ".readEnum" + arguments + ", " + enumName + ".class)";
+            case CLASS:
+                return file.use(type.getQualifiedName() + "Deserializer") + ".INSTANCE.deserialize" + arguments + ")";
+            case MAPPED:
+                return tokenReaders + ".readValue" + arguments + ", " + file.use(type) + ".class)";
+            case LIST:
+                String elementParser = "elementParser" + (depth > 0 ? depth : "");
+                String elementContext = "elementContext" + (depth > 0 ? depth : "");
+
+                return tokenReaders + ".readList" + arguments + ", (" + elementParser + ", " + elementContext
+                        + ") -> " + getReadExpression(file, type.getElementType(), elementParser, elementContext,
+                        depth + 1) + ")";
+            default:
+                throw new IllegalArgumentException("The type '" + type + "' can't be deserialized.");
+        }
+    }
+
+    private JavaSourceFile emitEnum(EnumDeclaration declaration) {
+
+        JavaType type = declaration.getType();
+        String typeName = type.getSimpleName();
+        JavaSourceFile file = new JavaSourceFile(type.getPackageName(), typeName, declaration.getSource());
+        String schemaEnumValue = file.use(SDK_PACKAGE_NAME + ".SchemaEnumValue");
+
+        file.textJavadoc(declaration.getDescription());
+        file.open("public enum " + typeName + " implements " + schemaEnumValue
+                + (declaration.getSchemaId() != null ? ", " + file.use(SDK_PACKAGE_NAME + ".SchemaSupport") : "")
+                + " {");
+        file.blankLine();
+
+        List<Map.Entry<String, String>> constants =
+                new ArrayList<>(declaration.getSchemaValuesByConstantName().entrySet());
+
+        for (int i = 0; i < constants.size(); i++) {
+            Map.Entry<String, String> constant = constants.get(i);
+
+            file.line(constant.getKey() + "(" + toStringLiteral(constant.getValue()) + ")"
+                    + (i < constants.size() - 1 ? "," : ";"));
+        }
+
+        file.blankLine();
+        emitSchemaIdConstant(file, declaration.getSchemaId());
+
+        String lookup = file.use(SDK_PACKAGE_NAME + ".SchemaEnumLookup");
+
+        file.line("private static final " + lookup + "<" + typeName + "> constantsBySchemaValue = " + lookup
+                + ".forType(" + typeName + ".class);");
+        file.blankLine();
+        file.line("private final String schemaValue;");
+        file.blankLine();
+        file.open(typeName + "(String schemaValue) {");
+        file.line("this.schemaValue = schemaValue;");
+        file.close();
+
+        if (declaration.getSchemaId() != null) {
+            file.blankLine();
+            file.line("@Override");
+            file.open("public " + file.use(SDK_PACKAGE_NAME + ".SchemaId") + " getSchemaId() {");
+            file.line("return SCHEMA_ID;");
+            file.close();
+        }
+
+        file.blankLine();
+        file.line("@Override");
+        file.line("@" + file.use("com.fasterxml.jackson.annotation.JsonValue"));
+        file.open("public String getSchemaValue() {");
+        file.line("return schemaValue;");
+        file.close();
+        file.blankLine();
+        file.line("@" + file.use("javax.annotation.Nullable"));
+        file.line("@" + file.use("com.fasterxml.jackson.annotation.JsonCreator"));
+        file.open("public static " + typeName + " findBySchemaValue(String schemaValue) {");
+        file.line("return constantsBySchemaValue.get(schemaValue);");
+        file.close();
+        file.close();
+
+        return file;
+    }
+
+    /**
+     * @return the source file of the Jackson module that registers the serializers and deserializers of the
+     * generated classes
+     */
+    JavaSourceFile emitModule(String packageName, Collection<TypeDeclaration> declarations) {
+
+        JavaSourceFile file = new JavaSourceFile(packageName, MODULE_NAME, "the schema library");
+        List<ClassDeclaration> classDeclarations = new ArrayList<>();
+
+        for (TypeDeclaration declaration : declarations) {
+            if (declaration instanceof ClassDeclaration) {
+                classDeclarations.add((ClassDeclaration) declaration);
+            }
+        }
+
+        file.javadoc("A Jackson module that registers the serializers and deserializers of the classes generated "
+                + "from the schema library. It should be registered with an object mapper created by "
+                + "{@code JacksonConfiguration.newObjectMapper()}, which handles the SDK types that generated "
+                + "classes refer to.");
+        file.open("public class " + MODULE_NAME + " extends "
+                + file.use(JACKSON_DATABIND_PACKAGE_NAME + ".module.SimpleModule") + " {");
+        file.blankLine();
+        file.open("public " + MODULE_NAME + "() {");
+        file.blankLine();
+        file.line("super(" + MODULE_NAME + ".class.getSimpleName());");
+        file.blankLine();
+
+        for (ClassDeclaration declaration : classDeclarations) {
+            String qualifiedName = declaration.getType().getQualifiedName();
+            String typeName = file.use(qualifiedName);
+
+            file.line("addSerializer(" + typeName + ".class, " + file.use(qualifiedName + "Serializer")
+                    + ".INSTANCE);");
+            file.line("addDeserializer(" + typeName + ".class, " + file.use(qualifiedName + "Deserializer")
+                    + ".INSTANCE);");
+        }
+
+        file.close();
+        file.blankLine();
+        file.javadoc("Registers the classes generated from schemas as data point body types, so that data points "
+                + "with those bodies can be deserialized.",
+                "@param registry the registry to register the classes with");
+        file.open("public static void registerBodyTypes("
+                + file.use(SDK_PACKAGE_NAME + ".BodyTypeRegistry") + " registry) {");
+        file.blankLine();
+
+        for (ClassDeclaration declaration : classDeclarations) {
+            if (isSchemaSupport(declaration)) {
+                String typeName = file.use(declaration.getType());
+
+                file.line("registry.register(" + typeName + ".SCHEMA_ID, " + typeName + ".class);");
+            }
+        }
+
+        file.close();
+        file.close();
+
+        return file;
+    }
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.codegen;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+
+/**
+ * A Java source file being generated, which keeps track of indentation and imports.
+ *
+ * @author agent
+ */
+final class JavaSourceFile {
+
+    private static final int MAXIMUM_LINE_LENGTH = 120;
+    private static final String INDENTATION = "    ";
+
+    private final String packageName;
+    private final String typeName;
+    private final String source;
+    private final Map<String, String> qualifiedNamesBySimpleName = new HashMap<>();
+    private final Set<String> staticImports = new TreeSet<>();
+    private final StringBuilder body = new StringBuilder();
+    private int indentationLevel;
+
+
+    /**
+     * @param packageName the package of the type in the file
+     * @param typeName the simple name of the type in the file
+     * @param source a description of what the file is generated from
+     */
+    JavaSourceFile(String packageName, String typeName, String source) {
+
+        checkNotNull(packageName, "A package name hasn't been specified.");
+        checkNotNull(typeName, "A type name hasn't been specified.");
+        checkNotNull(source, "A source hasn't been specified.");
+
+        this.packageName = packageName;
+        this.typeName = typeName;
+        this.source = source;
+
+        qualifiedNamesBySimpleName.put(typeName, packageName + "." + typeName);
+    }
+
+    String getPackageName() {
+        return packageName;
+    }
+
+    String getTypeName() {
+        return typeName;
+    }
+
+    String getQualifiedTypeName() {
+        return packageName + "." + typeName;
+    }
+
+    /**
+     * Imports a class, unless it clashes with a class that has already been imported.
+     *
+     * @param qualifiedName the qualified name of the class
+     * @return the name to refer to the class by
+     */
+    String use(String qualifiedName) {
+
+        int simpleNameIndex = qualifiedName.lastIndexOf('.') + 1;
+        String simpleName = qualifiedName.substring(simpleNameIndex);
+        String importedName = qualifiedNamesBySimpleName.putIfAbsent(simpleName, qualifiedName);
+
+        return importedName == null || importedName.equals(qualifiedName) ? simpleName : qualifiedName;
+    }
+
+    /**
+     * Imports a static member of a class.
+     *
+     * @param qualifiedClassName the qualified name of the class
+     * @param memberName the name of the member
+     * @return the name to refer to the member by
+     */
+    String useStatic(String qualifiedClassName, String memberName) {
+
+        staticImports.add(qualifiedClassName + "." + memberName);
+
+        return memberName;
+    }
+
+    /**
+     * @return the name to refer to a type by, including type arguments
+     */
+    String use(JavaType type) {
+
+        String name = use(type.getQualifiedName());
+
+        return type.getElementType() == null ? name : name + "<" + use(type.getElementType()) + ">";
+    }
+
+    JavaSourceFile line(String text) {
+
+        for (int i = 0; i < indentationLevel; i++) {
+            body.append(INDENTATION);
+        }
+
+        body.append(text).append('\n');
+
+        return this;
+    }
+
+    JavaSourceFile blankLine() {
+
+        body.append('\n');
+
+        return this;
+    }
+
+    /**
+     * Writes a line that opens a block, and indents the lines that follow.
+     */
+    JavaSourceFile open(String text) {
+
+        line(text);
+        indentationLevel++;
+
+        return this;
+    }
+
+    /**
+     * Closes a block opened by {@link #open(String)}.
+     */
+    JavaSourceFile close(String text) {
+
+        indentationLevel--;
+
+        return line(text);
+    }
+
+    JavaSourceFile close() {
+        return close("}");
+    }
+
+    /**
+     * Ends the indentation started by {@link #open(String)} without writing a line.
+     */
+    JavaSourceFile outdent() {
+
+        indentationLevel--;
+
+        return this;
+    }
+
+    /**
+     * Writes a documentation comment, wrapping the text of each paragraph. Blank paragraphs are skipped, and
+     * paragraphs that start with a block tag like "@param" aren't preceded by a paragraph break.
+     */
+    JavaSourceFile javadoc(@Nullable String... paragraphs) {
+        return javadoc(false, paragraphs);
+    }
+
+    /**
+     * Writes a documentation comment containing text that isn't Javadoc, like a description copied from a schema.
+     */
+    JavaSourceFile textJavadoc(@Nullable String text) {
+        return javadoc(true, text);
+    }
+
+    private JavaSourceFile javadoc(boolean escape, String... paragraphs) {
+
+        List<String> lines = new ArrayList<>();
+        int maximumTextLength = MAXIMUM_LINE_LENGTH - indentationLevel * INDENTATION.length() - 3;
+
+        for (String paragraph : paragraphs) {
+            if (paragraph == null || paragraph.trim().isEmpty()) {
+                continue;
+            }
+
+            String text = paragraph.trim();
+
+            if (!lines.isEmpty()) {
+                lines.add(text.startsWith("@") ? "" : "<p>");
+            }
+
+            lines.addAll(wrap(escape ? escapeJavadoc(text) : text, maximumTextLength));
+        }
+
+        if (lines.isEmpty()) {
+            return this;
+        }
+
+        line("/**");
+
+        for (String text : lines) {
+            line(text.isEmpty() ? " *" : " * " + text);
+        }
+
+        return line(" */");
+    }
+
+    private static List<String> wrap(String text, int maximumLength) {
+
+        List<String> lines = new ArrayList<>();
+        StringBuilder line = new StringBuilder();
+
+        for (String word : text.split("\\s+")) {
+            if (line.length() > 0 && line.length() + 1 + word.length() > maximumLength) {
+                lines.add(line.toString());
+                line.setLength(0);
+            }
+
+            if (line.length() > 0) {
+                line.append(' ');
+            }
+
+            line.append(word);
+        }
+
+        if (line.length() > 0) {
+            lines.add(line.toString());
+        }
+
+        return lines;
+    }
+
+    private static String escapeJavadoc(String text) {
+
+        return text
+                .replace("&", "&amp;")
+                .replace("<", "&lt;")
+                .replace(">", "&gt;")
+                .replace("@", "&#64;")
+                .replace("*/", "*&#47;")
+                .replace("\\", "&#92;");
+    }
+
+    /**
+     * @return a Java string literal of a value
+     */
+    static String toStringLiteral(String value) {
+
+        StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+
+            if (character == '"' || character == '\\') {
+                builder.append('\\').append(character);
+            }
+            else if (character < 0x20 || character > 0x7e) {
+                builder.append(String.format("\\u%04x", (int) character));
+            }
+            else {
+                builder.append(character);
+            }
+        }
+
+        return builder.append('"').toString();
+    }
+
+    /**
+     * @return the contents of the file, starting with a notice that it has been generated
+     */
+    String getContents() {
+
+        StringBuilder builder = new StringBuilder()
+                .append("/*\n")
+                .append(" * Generated by ").append(SchemaClassGenerator.class.getSimpleName())
+                .append(" from ").append(source).append(". Don't edit this file.\n")
+                .append(" */\n\n")
+                .append("package ").append(packageName).append(";\n\n");
+
+        TreeSet<String> libraryImports = new TreeSet<>();
+        // javax imports precede java imports, as they do in the rest of the SDK
+        TreeSet<String> javaImports = new TreeSet<>((first, second) -> {
+            boolean firstIsJavax = first.startsWith("javax.");
+            boolean secondIsJavax = second.startsWith("javax.");
+
+            return firstIsJavax == secondIsJavax ? first.compareTo(second) : firstIsJavax ? -1 : 1;
+        });
+
+        for (Map.Entry<String, String> entry : qualifiedNamesBySimpleName.entrySet()) {
+            String qualifiedName = entry.getValue();
+            String importPackageName = qualifiedName.substring(0, qualifiedName.lastIndexOf('.'));
+
+            if (importPackageName.equals(packageName) || importPackageName.equals("java.lang")) {
+                continue;
+            }
+
+            if (qualifiedName.startsWith("java.") || qualifiedName.startsWith("javax.")) {
+                javaImports.add(qualifiedName);
+            }
+            else {
+                libraryImports.add(qualifiedName);
+            }
+        }
+
+        for (String qualifiedName : libraryImports) {
+            builder.append("import ").append(qualifiedName).append(";\n");
+        }
+
+        if (!libraryImports.isEmpty() && !javaImports.isEmpty()) {
+            builder.append('\n');
+        }
+
+        for (String qualifiedName : javaImports) {
+            builder.append("import ").append(qualifiedName).append(";\n");
+        }
+
+        if (!staticImports.isEmpty()) {
+            builder.append('\n');
+        }
+
+        for (String qualifiedName : staticImports) {
+            builder.append("import static ").append(qualifiedName).append(";\n");
+        }
+
+        if (!libraryImports.isEmpty() || !javaImports.isEmpty() || !staticImports.isEmpty()) {
+            builder.append("\n\n");
+        }
+
+        return builder.append(body).toString();
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.codegen;
+
+import java.util.Objects;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+
+/**
+ * The Java type that a schema, or part of a schema, is mapped to.
+ *
+ * @author agent
+ */
+final class JavaType {
+
+    /**
+     * The ways in which values of a type are read and written.
+     */
+    enum Kind {
+
+        /**
+         * A JSON string, mapped to {@link String}.
+         */
+        STRING,
+
+        /**
+         * A JSON number, mapped to {@link java.math.BigDecimal}.
+         */
+        DECIMAL,
+
+        /**
+         * A JSON integer, mapped to {@link Long}.
+         */
+        LONG,
+
+        /**
+         * A JSON boolean, mapped to {@link Boolean}.
+         */
+        BOOLEAN,
+
+        /**
+         * A generated enumeration.
+         */
+        ENUM,
+
+        /**
+         * A generated class, with a generated serializer and deserializer.
+         */
+        CLASS,
+
+        /**
+         * A type that's read and written by the object mapper, like {@link java.time.OffsetDateTime} or a
+         * {@link com.fasterxml.jackson.databind.JsonNode}.
+         */
+        MAPPED,
+
+        /**
+         * A JSON array, mapped to a {@link java.util.List}.
+         */
+        LIST
+    }
+
+    static final JavaType STRING = new JavaType(Kind.STRING, "java.lang", "String", null);
+    static final JavaType DECIMAL = new JavaType(Kind.DECIMAL, "java.math", "BigDecimal", null);
+    static final JavaType LONG = new JavaType(Kind.LONG, "java.lang", "Long", null);
+    static final JavaType BOOLEAN = new JavaType(Kind.BOOLEAN, "java.lang", "Boolean", null);
+    static final JavaType JSON_NODE = mapped("com.fasterxml.jackson.databind", "JsonNode");
+
+    private final Kind kind;
+    private final String packageName;
+    private final String simpleName;
+    private final JavaType elementType;
+
+
+    private JavaType(Kind kind, String packageName, String simpleName, JavaType elementType) {
+
+        this.kind = kind;
+        this.packageName = packageName;
+        this.simpleName = simpleName;
+        this.elementType = elementType;
+    }
+
+    static JavaType mapped(String packageName, String simpleName) {
+        return new JavaType(Kind.MAPPED, packageName, simpleName, null);
+    }
+
+    static JavaType generatedClass(String packageName, String simpleName) {
+        return new JavaType(Kind.CLASS, packageName, simpleName, null);
+    }
+
+    static JavaType generatedEnum(String packageName, String simpleName) {
+        return new JavaType(Kind.ENUM, packageName, simpleName, null);
+    }
+
+    static JavaType listOf(JavaType elementType) {
+
+        checkNotNull(elementType, "An element type hasn't been specified.");
+
+        return new JavaType(Kind.LIST, "java.util", "List", elementType);
+    }
+
+    Kind getKind() {
+        return kind;
+    }
+
+    String getPackageName() {
+        return packageName;
+    }
+
+    String getSimpleName() {
+        return simpleName;
+    }
+
+    String getQualifiedName() {
+        return packageName + "." + simpleName;
+    }
+
+    /**
+     * @return the type of the elements of a list, or null if this type isn't a list
+     */
+    JavaType getElementType() {
+        return elementType;
+    }
+
+    boolean isGenerated() {
+        return kind == Kind.CLASS || kind == Kind.ENUM;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+
+        if (this == object) {
+            return true;
+        }
+
+        if (object == null || getClass() != object.getClass()) {
+            return false;
+        }
+
+        JavaType that = (JavaType) object;
+
+        return kind == that.kind
+                && packageName.equals(that.packageName)
+                && simpleName.equals(that.simpleName)
+                && Objects.equals(elementType, that.elementType);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, packageName, simpleName, elementType);
+    }
+
+    @Override
+    public String toString() {
+        return elementType == null ? getQualifiedName() : getQualifiedName() + "<" + elementType + ">";
+    }
+}
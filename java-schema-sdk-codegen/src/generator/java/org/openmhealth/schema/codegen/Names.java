@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.codegen;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+
+/**
+ * Converts schema names, property names and enumeration values to Java identifiers.
+ *
+ * @author agent
+ */
+final class Names {
+
+    private static final Set<String> RESERVED_WORDS = new HashSet<>(Arrays.asList(
+            "abstract", "assert", "boolean", "break", "byte", "case", "catch", "char", "class", "const", "continue",
+            "default", "do", "double", "else", "enum", "extends", "false", "final", "finally", "float", "for", "goto",
+            "if", "implements", "import", "instanceof", "int", "interface", "long", "native", "new", "null",
+            "package", "private", "protected", "public", "return", "short", "static", "strictfp", "super", "switch",
+            "synchronized", "this", "throw", "throws", "transient", "true", "try", "void", "volatile", "while"));
+
+
+    private Names() {
+    }
+
+    /**
+     * @param name a name made of words separated by dashes, underscores or other punctuation, e.g. "heart-rate"
+     * @return the name in upper camel case, e.g. "HeartRate"
+     */
+    static String toTypeName(String name) {
+
+        StringBuilder builder = new StringBuilder(name.length());
+        boolean wordStart = true;
+
+        for (int i = 0; i < name.length(); i++) {
+            char character = name.charAt(i);
+
+            if (!Character.isLetterOrDigit(character)) {
+                wordStart = true;
+                continue;
+            }
+
+            if (builder.length() == 0 && Character.isDigit(character)) {
+                builder.append('_');
+            }
+
+            builder.append(wordStart ? Character.toUpperCase(character) : character);
+            wordStart = false;
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * @param name a property name in snake case, e.g. "heart_rate"
+     * @return the name in lower camel case, e.g. "heartRate"
+     */
+    static String toFieldName(String name) {
+
+        String typeName = toTypeName(name);
+
+        if (typeName.isEmpty() || typeName.charAt(0) == '_') {
+            return "_" + typeName;
+        }
+
+        String fieldName = Character.toLowerCase(typeName.charAt(0)) + typeName.substring(1);
+
+        return RESERVED_WORDS.contains(fieldName) ? fieldName + "_" : fieldName;
+    }
+
+    /**
+     * @param name a property name in snake case, e.g. "heart_rate"
+     * @return the name in upper snake case, e.g. "HEART_RATE", or an empty string if the name doesn't contain any
+     * letters or digits
+     */
+    static String toConstantName(String name) {
+
+        StringBuilder builder = new StringBuilder(name.length() + 8);
+        boolean separatorPending = false;
+
+        for (int i = 0; i < name.length(); i++) {
+            char character = name.charAt(i);
+
+            if (!Character.isLetterOrDigit(character)) {
+                separatorPending = builder.length() > 0;
+                continue;
+            }
+
+            // split camel case words, e.g. "HKBloodTypeAPositive" into "HK_BLOOD_TYPE_A_POSITIVE"
+            if (i > 0 && Character.isUpperCase(character)) {
+                char previous = name.charAt(i - 1);
+                boolean nextIsLowerCase = i + 1 < name.length() && Character.isLowerCase(name.charAt(i + 1));
+
+                if (Character.isLowerCase(previous) || Character.isDigit(previous)
+                        || (Character.isUpperCase(previous) && nextIsLowerCase)) {
+                    separatorPending = builder.length() > 0;
+                }
+            }
+
+            if (separatorPending) {
+                builder.append('_');
+                separatorPending = false;
+            }
+
+            if (builder.length() == 0 && Character.isDigit(character)) {
+                builder.append('_');
+            }
+
+            builder.append(Character.toUpperCase(character));
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * @param name a property name in snake case, e.g. "heart_rate"
+     * @return the name as words for use in messages, e.g. "a heart rate"
+     */
+    static String toArticleAndWords(String name) {
+
+        String words = name.replace('_', ' ').toLowerCase(Locale.ROOT);
+
+        return ("aeiou".indexOf(words.charAt(0)) >= 0 ? "an " : "a ") + words;
+    }
+}
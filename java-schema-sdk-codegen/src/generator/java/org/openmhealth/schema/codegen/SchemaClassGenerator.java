@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.codegen;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+
+/**
+ * Generates immutable Java classes, builders, serializers and deserializers from the schemas in a schema library.
+ * This is run by the build of this module, but can also be run from the command line, e.g.
+ * <pre>
+ * java org.openmhealth.schema.codegen.SchemaClassGenerator schema build/generated org.openmhealth.schema.generated
+ * </pre>
+ *
+ * @author agent
+ * @see SchemaTypeResolver
+ * @see JavaSourceEmitter
+ */
+public class SchemaClassGenerator {
+
+    private final Path schemaDirectory;
+    private final String basePackageName;
+
+
+    /**
+     * @param schemaDirectory a directory that contains a subdirectory per namespace, like the "schema" directory of
+     * this repository
+     * @param basePackageName the package to generate types in, which gets a subpackage per namespace
+     */
+    public SchemaClassGenerator(Path schemaDirectory, String basePackageName) {
+
+        checkNotNull(schemaDirectory, "A schema directory hasn't been specified.");
+        checkArgument(Files.isDirectory(schemaDirectory), "The path '%s' isn't a directory.", schemaDirectory);
+        checkNotNull(basePackageName, "A base package name hasn't been specified.");
+
+        this.schemaDirectory = schemaDirectory;
+        this.basePackageName = basePackageName;
+    }
+
+    public static void main(String[] args) throws IOException {
+
+        if (args.length != 3) {
+            System.err.println("Usage: " + SchemaClassGenerator.class.getName()
+                    + " <schema directory> <output directory> <base package name>");
+            System.exit(1);
+        }
+
+        int fileCount = new SchemaClassGenerator(Paths.get(args[0]), args[2]).generate(Paths.get(args[1]));
+
+        System.out.println("Generated " + fileCount + " source files in '" + args[1] + "'.");
+    }
+
+    /**
+     * @return the source files of the types generated from the schema library, including the Jackson module that
+     * registers their serializers and deserializers
+     * @throws IOException if the schema library can't be read
+     */
+    public List<GeneratedSourceFile> generateSourceFiles() throws IOException {
+
+        SchemaTypeResolver resolver = new SchemaTypeResolver(schemaDirectory, basePackageName);
+        Collection<TypeDeclaration> declarations = resolver.resolveAll();
+        JavaSourceEmitter emitter = new JavaSourceEmitter();
+        List<GeneratedSourceFile> sourceFiles = new ArrayList<>();
+
+        for (TypeDeclaration declaration : declarations) {
+            for (JavaSourceFile file : emitter.emit(declaration)) {
+                sourceFiles.add(new GeneratedSourceFile(file));
+            }
+        }
+
+        sourceFiles.add(new GeneratedSourceFile(emitter.emitModule(basePackageName, declarations)));
+
+        return sourceFiles;
+    }
+
+    /**
+     * Writes the generated source files to a directory, in subdirectories that match their packages.
+     *
+     * @param outputDirectory the directory to write the source files to
+     * @return the number of files written
+     * @throws IOException if the schema library can't be read or the source files can't be written
+     */
+    public int generate(Path outputDirectory) throws IOException {
+
+        checkNotNull(outputDirectory, "An output directory hasn't been specified.");
+
+        List<GeneratedSourceFile> sourceFiles = generateSourceFiles();
+
+        for (GeneratedSourceFile sourceFile : sourceFiles) {
+            Path path = outputDirectory.resolve(sourceFile.getRelativePath());
+            Files.createDirectories(path.getParent());
+
+            try (Writer writer = Files.newBufferedWriter(path, UTF_8)) {
+                writer.write(sourceFile.getContents());
+            }
+        }
+
+        return sourceFiles.size();
+    }
+
+    /**
+     * A generated Java source file.
+     */
+    public static final class GeneratedSourceFile {
+
+        private final String qualifiedTypeName;
+        private final String contents;
+
+
+        GeneratedSourceFile(JavaSourceFile file) {
+            this.qualifiedTypeName = file.getQualifiedTypeName();
+            this.contents = file.getContents();
+        }
+
+        public String getQualifiedTypeName() {
+            return qualifiedTypeName;
+        }
+
+        /**
+         * @return the path of the file relative to a source directory, e.g. "org/openmhealth/Foo.java"
+         */
+        public String getRelativePath() {
+            return qualifiedTypeName.replace('.', '/') + ".java";
+        }
+
+        public String getContents() {
+            return contents;
+        }
+    }
+}
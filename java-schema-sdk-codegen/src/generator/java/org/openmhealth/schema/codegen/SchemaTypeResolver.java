@@ -0,0 +1,661 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.codegen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openmhealth.schema.domain.omh.SchemaCatalog;
+import org.openmhealth.schema.domain.omh.SchemaId;
+import org.openmhealth.schema.domain.omh.SchemaVersion;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.openmhealth.schema.domain.omh.SchemaSupport.OMH_NAMESPACE;
+
+
+/**
+ * Maps the schemas in a schema library to Java types, and collects the classes and enumerations that have to be
+ * generated to represent them.
+ * <p>
+ * A class is generated for the latest minor version of each major version of each object schema, and an enumeration
+ * for each string schema with enumerated values. Object and string schemas nested in other schemas are generated as
+ * classes and enumerations named after the schema and property they're nested in. References are followed, with
+ * wildcard versions like "1.x" resolved using a {@link SchemaCatalog}, and references to IEEE 1752 schemas resolved
+ * to the Open mHealth schemas they were derived from. A few schemas are mapped to existing SDK types instead, and
+ * anything that can't be represented by a single Java type is mapped to a {@link JsonNode}.
+ *
+ * @author agent
+ */
+final class SchemaTypeResolver {
+
+    private static final String SCHEMA_FILE_EXTENSION = ".json";
+    private static final String SDK_PACKAGE_NAME = "org.openmhealth.schema.domain.omh";
+    private static final String IEEE_SCHEMA_BASE_URI = "https://w3id.org/ieee/ieee-1752-schema/";
+
+    private static final Map<String, JavaType> SDK_TYPES_BY_OMH_SCHEMA_NAME = new HashMap<>();
+
+    static {
+        SDK_TYPES_BY_OMH_SCHEMA_NAME.put("date-time", JavaType.mapped("java.time", "OffsetDateTime"));
+        SDK_TYPES_BY_OMH_SCHEMA_NAME.put("schema-id", JavaType.mapped(SDK_PACKAGE_NAME, "SchemaId"));
+        SDK_TYPES_BY_OMH_SCHEMA_NAME.put("time-frame", JavaType.mapped(SDK_PACKAGE_NAME, "TimeFrame"));
+        SDK_TYPES_BY_OMH_SCHEMA_NAME.put("time-interval", JavaType.mapped(SDK_PACKAGE_NAME, "TimeInterval"));
+    }
+
+    private final Path schemaDirectory;
+    private final String basePackageName;
+    private final SchemaCatalog catalog;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<Path, JsonNode> documentsByPath = new HashMap<>();
+    private final Map<Path, String> typeNamesByPath = new HashMap<>();
+    private final Map<String, JavaType> typesByLocation = new HashMap<>();
+    private final Map<String, TypeDeclaration> declarationsByQualifiedName = new TreeMap<>();
+
+
+    /**
+     * @param schemaDirectory a directory that contains a subdirectory per namespace, like the "schema" directory of
+     * this repository
+     * @param basePackageName the package to generate types in, which gets a subpackage per namespace
+     */
+    SchemaTypeResolver(Path schemaDirectory, String basePackageName) throws IOException {
+
+        checkNotNull(schemaDirectory, "A schema directory hasn't been specified.");
+        checkNotNull(basePackageName, "A base package name hasn't been specified.");
+
+        this.schemaDirectory = schemaDirectory.toAbsolutePath().normalize();
+        this.basePackageName = basePackageName;
+        this.catalog = SchemaCatalog.fromDirectory(this.schemaDirectory);
+    }
+
+    /**
+     * Resolves the latest minor version of each major version of each schema in the library.
+     *
+     * @return the types to generate, ordered by qualified name
+     */
+    Collection<TypeDeclaration> resolveAll() {
+
+        for (SchemaId schemaId : catalog.getSchemaIds()) {
+            SchemaVersion version = schemaId.getVersion();
+
+            if (version.equals(catalog.findLatestVersion(schemaId.getNamespace(), schemaId.getName(),
+                    version.getMajor()))) {
+                resolveSchema(schemaId);
+            }
+        }
+
+        return getDeclarations();
+    }
+
+    /**
+     * @return the types to generate that have been resolved so far, ordered by qualified name
+     */
+    Collection<TypeDeclaration> getDeclarations() {
+        return new ArrayList<>(declarationsByQualifiedName.values());
+    }
+
+    /**
+     * @param schemaId a schema identifier
+     * @return the type the schema is mapped to
+     */
+    JavaType resolveSchema(SchemaId schemaId) {
+
+        checkNotNull(schemaId, "A schema identifier hasn't been specified.");
+        checkArgument(catalog.contains(schemaId), "The schema '%s' isn't in the schema library.", schemaId);
+
+        if (schemaId.getNamespace().equals(OMH_NAMESPACE)
+                && SDK_TYPES_BY_OMH_SCHEMA_NAME.containsKey(schemaId.getName())) {
+            return SDK_TYPES_BY_OMH_SCHEMA_NAME.get(schemaId.getName());
+        }
+
+        Path path = getPath(schemaId);
+        typeNamesByPath.putIfAbsent(path, getTypeName(schemaId));
+
+        return resolve(new Location(path, "", getDocument(path)), typeNamesByPath.get(path), schemaId);
+    }
+
+    private Path getPath(SchemaId schemaId) {
+
+        return schemaDirectory
+                .resolve(schemaId.getNamespace())
+                .resolve(schemaId.getName() + "-" + schemaId.getVersion() + SCHEMA_FILE_EXTENSION);
+    }
+
+    /**
+     * @return the simple name of the type generated for a schema, which includes the major version if the library
+     * contains more than one major version of the schema, e.g. "StepCount2"
+     */
+    private String getTypeName(SchemaId schemaId) {
+
+        Set<Integer> majorVersions = new HashSet<>();
+
+        for (SchemaId otherSchemaId : catalog.getSchemaIds()) {
+            if (otherSchemaId.getNamespace().equals(schemaId.getNamespace())
+                    && otherSchemaId.getName().equals(schemaId.getName())) {
+                majorVersions.add(otherSchemaId.getVersion().getMajor());
+            }
+        }
+
+        String typeName = Names.toTypeName(schemaId.getName());
+
+        return majorVersions.size() > 1 ? typeName + schemaId.getVersion().getMajor() : typeName;
+    }
+
+    private String getPackageName(Path path) {
+
+        String namespace = schemaDirectory.relativize(path).getName(0).toString();
+
+        return basePackageName + "." + namespace.toLowerCase().replaceAll("[^a-z0-9]", "_");
+    }
+
+    private JsonNode getDocument(Path path) {
+
+        return documentsByPath.computeIfAbsent(path, key -> {
+            try {
+                return objectMapper.readTree(key.toFile());
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private JavaType resolve(Location location, String typeName, @Nullable SchemaId schemaId) {
+
+        JavaType type = typesByLocation.get(location.getKey());
+
+        if (type == null) {
+            type = resolveUncached(location, typeName, schemaId);
+            typesByLocation.put(location.getKey(), type);
+        }
+
+        return type;
+    }
+
+    private JavaType resolveUncached(Location location, String typeName, @Nullable SchemaId schemaId) {
+
+        JsonNode node = location.getNode();
+
+        if (!node.isObject()) {
+            return JavaType.JSON_NODE;
+        }
+
+        if (node.has("$ref")) {
+            return resolveReference(location, node.get("$ref").asText());
+        }
+
+        // nested schemas that combine a reference with constraints are represented by the referenced type
+        if (schemaId == null && node.has("allOf")) {
+            for (int i = 0; i < node.get("allOf").size(); i++) {
+                if (node.get("allOf").get(i).has("$ref")) {
+                    JavaType type = resolve(location.getChild("allOf", i), typeName, null);
+
+                    if (!type.equals(JavaType.JSON_NODE)) {
+                        return type;
+                    }
+                }
+            }
+        }
+
+        String schemaType = node.path("type").isTextual() ? node.get("type").textValue() : null;
+
+        if ("string".equals(schemaType) || (schemaType == null && isStringEnumeration(node))) {
+            if (isStringEnumeration(node)) {
+                return declareEnum(location, typeName, schemaId);
+            }
+
+            return "date-time".equals(node.path("format").asText())
+                    ? SDK_TYPES_BY_OMH_SCHEMA_NAME.get("date-time")
+                    : JavaType.STRING;
+        }
+
+        if ("integer".equals(schemaType)) {
+            return JavaType.LONG;
+        }
+
+        if ("number".equals(schemaType)) {
+            return JavaType.DECIMAL;
+        }
+
+        if ("boolean".equals(schemaType)) {
+            return JavaType.BOOLEAN;
+        }
+
+        if ("array".equals(schemaType)) {
+            return node.path("items").isObject()
+                    ? JavaType.listOf(resolve(location.getChild("items"), typeName + "Item", null))
+                    : JavaType.listOf(JavaType.JSON_NODE);
+        }
+
+        if ((schemaType == null || "object".equals(schemaType)) && hasProperties(location, new HashSet<>())) {
+            return declareClass(location, typeName, schemaId);
+        }
+
+        if (node.has("anyOf") || node.has("oneOf")) {
+            return resolveAlternatives(location, node.has("anyOf") ? "anyOf" : "oneOf", typeName);
+        }
+
+        if (node.has("allOf")) {
+            for (int i = 0; i < node.get("allOf").size(); i++) {
+                JavaType type = resolve(location.getChild("allOf", i), typeName, null);
+
+                if (!type.equals(JavaType.JSON_NODE)) {
+                    return type;
+                }
+            }
+        }
+
+        return JavaType.JSON_NODE;
+    }
+
+    private static boolean isStringEnumeration(JsonNode node) {
+
+        JsonNode values = node.get("enum");
+
+        if (values == null || !values.isArray() || values.size() == 0) {
+            return false;
+        }
+
+        for (JsonNode value : values) {
+            if (!value.isTextual()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @return the common type of a set of alternative schemas, or {@link JsonNode} if they don't have one
+     */
+    private JavaType resolveAlternatives(Location location, String keyword, String typeName) {
+
+        Set<JavaType> types = new LinkedHashSet<>();
+        JsonNode alternatives = location.getNode().get(keyword);
+
+        for (int i = 0; i < alternatives.size(); i++) {
+            types.add(resolve(location.getChild(keyword, i), typeName + (i + 1), null));
+        }
+
+        if (types.size() == 1) {
+            return types.iterator().next();
+        }
+
+        if (isKindSubset(types, JavaType.Kind.STRING, JavaType.Kind.ENUM)) {
+            return JavaType.STRING;
+        }
+
+        if (isKindSubset(types, JavaType.Kind.DECIMAL, JavaType.Kind.LONG)) {
+            return JavaType.DECIMAL;
+        }
+
+        return JavaType.JSON_NODE;
+    }
+
+    private static boolean isKindSubset(Set<JavaType> types, JavaType.Kind... kinds) {
+
+        for (JavaType type : types) {
+            boolean found = false;
+
+            for (JavaType.Kind kind : kinds) {
+                found |= type.getKind() == kind;
+            }
+
+            if (!found) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private JavaType resolveReference(Location location, String reference) {
+
+        Location target = dereference(location, reference);
+
+        if (target == null) {
+            return JavaType.JSON_NODE;
+        }
+
+        // a reference to a whole schema resolves to the type of that schema
+        if (target.getPointer().isEmpty()) {
+            return resolveSchema(getSchemaId(target.getPath()));
+        }
+
+        String segment = target.getPointer().substring(target.getPointer().lastIndexOf('/') + 1);
+
+        return resolve(target, typeNamesByPath.get(target.getPath()) + Names.toTypeName(segment), null);
+    }
+
+    /**
+     * @return the location a reference points to, or null if the reference can't be resolved within the library
+     */
+    @Nullable
+    private Location dereference(Location location, String reference) {
+
+        Path directory = location.getPath().getParent();
+
+        // IEEE 1752 schemas were derived from Open mHealth schemas, so they're resolved to their local equivalents
+        if (reference.startsWith(IEEE_SCHEMA_BASE_URI)) {
+            directory = schemaDirectory.resolve(OMH_NAMESPACE);
+            reference = reference.substring(IEEE_SCHEMA_BASE_URI.length());
+        }
+
+        // references to other libraries aren't followed
+        if (reference.contains("://")) {
+            return null;
+        }
+
+        int fragmentIndex = reference.indexOf('#');
+        String filename = fragmentIndex < 0 ? reference : reference.substring(0, fragmentIndex);
+        String pointer = fragmentIndex < 0 ? "" : reference.substring(fragmentIndex + 1);
+
+        Path path = location.getPath();
+
+        if (!filename.isEmpty()) {
+            SchemaId schemaId = findLatestCompatibleSchemaId(directory.resolve(filename).normalize());
+
+            if (schemaId == null) {
+                return null;
+            }
+
+            path = getPath(schemaId);
+            typeNamesByPath.putIfAbsent(path, getTypeName(schemaId));
+        }
+
+        JsonNode node = getDocument(path).at(pointer);
+
+        return node.isMissingNode() ? null : new Location(path, pointer, node);
+    }
+
+    /**
+     * @return the identifier of the latest schema compatible with the schema file at a path, which may be named
+     * after a wildcard version like "1.x", or null if the library doesn't contain one
+     */
+    @Nullable
+    private SchemaId findLatestCompatibleSchemaId(Path path) {
+
+        if (!path.startsWith(schemaDirectory)) {
+            return null;
+        }
+
+        String namespace = path.getParent().getFileName().toString();
+        String baseName = path.getFileName().toString().replaceFirst("\\.json$", "");
+        int versionSeparatorIndex = baseName.lastIndexOf('-');
+        int minorVersionSeparatorIndex = baseName.indexOf('.', versionSeparatorIndex);
+
+        if (versionSeparatorIndex < 0 || minorVersionSeparatorIndex < versionSeparatorIndex) {
+            return null;
+        }
+
+        String name = baseName.substring(0, versionSeparatorIndex);
+        int majorVersion;
+
+        try {
+            majorVersion = Integer.parseInt(baseName.substring(versionSeparatorIndex + 1, minorVersionSeparatorIndex));
+        }
+        catch (NumberFormatException e) {
+            return null;
+        }
+
+        SchemaVersion latestVersion = catalog.findLatestVersion(namespace, name, majorVersion);
+
+        return latestVersion != null ? SchemaId.of(namespace, name, latestVersion.toString()) : null;
+    }
+
+    private SchemaId getSchemaId(Path path) {
+
+        Path relativePath = schemaDirectory.relativize(path);
+
+        return SchemaCatalog.getSchemaId(relativePath.getName(0).toString(), relativePath.getFileName().toString());
+    }
+
+    /**
+     * @return true if a schema declares properties, either directly or through the schemas it combines
+     */
+    private boolean hasProperties(Location location, Set<String> visitedLocationKeys) {
+
+        if (!visitedLocationKeys.add(location.getKey())) {
+            return false;
+        }
+
+        JsonNode node = location.getNode();
+
+        if (node.path("properties").size() > 0) {
+            return true;
+        }
+
+        if (node.has("$ref")) {
+            Location target = dereference(location, node.get("$ref").asText());
+
+            return target != null && hasProperties(target, visitedLocationKeys);
+        }
+
+        for (String keyword : new String[] {"allOf", "anyOf", "oneOf"}) {
+            for (int i = 0; i < node.path(keyword).size(); i++) {
+                Location member = location.getChild(keyword, i);
+
+                // alternatives that are references to other types don't contribute properties
+                if (!keyword.equals("allOf") && member.getNode().has("$ref")) {
+                    continue;
+                }
+
+                if (hasProperties(member, visitedLocationKeys)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private JavaType declareClass(Location location, String typeName, @Nullable SchemaId schemaId) {
+
+        JavaType type = JavaType.generatedClass(getPackageName(location.getPath()), typeName);
+        ClassDeclaration declaration = new ClassDeclaration(type, schemaId, getSource(location));
+        declaration.setDescription(location.getNode().path("description").textValue());
+
+        declare(declaration);
+
+        // the type is cached before its properties are resolved, since they may refer back to it
+        typesByLocation.put(location.getKey(), type);
+
+        Set<String> requiredPropertyNames = new HashSet<>();
+        addProperties(declaration, location, true, requiredPropertyNames, new HashSet<>());
+
+        for (String requiredPropertyName : requiredPropertyNames) {
+            ClassDeclaration.Property property = declaration.getProperty(requiredPropertyName);
+
+            if (property != null) {
+                property.setRequired(true);
+            }
+        }
+
+        return type;
+    }
+
+    /**
+     * Adds the properties declared by a schema and the schemas it combines to a class. Properties declared by
+     * alternative schemas are added, but are never required.
+     */
+    private void addProperties(ClassDeclaration declaration, Location location, boolean requiredContext,
+            Set<String> requiredPropertyNames, Set<String> visitedLocationKeys) {
+
+        if (!visitedLocationKeys.add(location.getKey())) {
+            return;
+        }
+
+        JsonNode node = location.getNode();
+
+        if (node.has("$ref")) {
+            Location target = dereference(location, node.get("$ref").asText());
+
+            if (target != null) {
+                addProperties(declaration, target, requiredContext, requiredPropertyNames, visitedLocationKeys);
+            }
+
+            return;
+        }
+
+        Iterator<String> propertyNames = node.path("properties").fieldNames();
+
+        while (propertyNames.hasNext()) {
+            String propertyName = propertyNames.next();
+            ClassDeclaration.Property property = declaration.getProperty(propertyName);
+
+            Location propertyLocation = location.getChild("properties", propertyName);
+
+            // later declarations of a property usually only constrain it further, e.g. by enumerating its units
+            if (property != null && !property.getType().equals(JavaType.JSON_NODE)
+                    && !(property.getType().equals(JavaType.STRING)
+                    && isStringEnumeration(propertyLocation.getNode()))) {
+                continue;
+            }
+
+            String propertyTypeName = declaration.getType().getSimpleName() + Names.toTypeName(propertyName);
+            JavaType propertyType = resolve(propertyLocation, propertyTypeName, null);
+
+            if (property == null) {
+                property = new ClassDeclaration.Property(propertyName, propertyType);
+                property.setDescription(propertyLocation.getNode().path("description").textValue());
+                declaration.addProperty(property);
+            }
+            else {
+                property.setType(propertyType);
+            }
+        }
+
+        if (requiredContext) {
+            for (JsonNode requiredPropertyName : node.path("required")) {
+                requiredPropertyNames.add(requiredPropertyName.asText());
+            }
+        }
+
+        for (int i = 0; i < node.path("allOf").size(); i++) {
+            addProperties(declaration, location.getChild("allOf", i), requiredContext, requiredPropertyNames,
+                    visitedLocationKeys);
+        }
+
+        for (String keyword : new String[] {"anyOf", "oneOf"}) {
+            for (int i = 0; i < node.path(keyword).size(); i++) {
+                Location member = location.getChild(keyword, i);
+
+                if (!member.getNode().has("$ref")) {
+                    addProperties(declaration, member, false, requiredPropertyNames, visitedLocationKeys);
+                }
+            }
+        }
+    }
+
+    private JavaType declareEnum(Location location, String typeName, @Nullable SchemaId schemaId) {
+
+        List<String> schemaValues = new ArrayList<>();
+
+        for (JsonNode value : location.getNode().get("enum")) {
+            schemaValues.add(value.textValue());
+        }
+
+        JavaType type = JavaType.generatedEnum(getPackageName(location.getPath()), typeName);
+        EnumDeclaration declaration = new EnumDeclaration(type, schemaId, getSource(location), schemaValues);
+        declaration.setDescription(location.getNode().path("description").textValue());
+
+        declare(declaration);
+
+        return type;
+    }
+
+    private void declare(TypeDeclaration declaration) {
+
+        String qualifiedName = declaration.getType().getQualifiedName();
+        TypeDeclaration existingDeclaration = declarationsByQualifiedName.putIfAbsent(qualifiedName, declaration);
+
+        if (existingDeclaration != null) {
+            throw new IllegalStateException("The type '" + qualifiedName + "' is generated from both '"
+                    + existingDeclaration.getSource() + "' and '" + declaration.getSource() + "'.");
+        }
+    }
+
+    private String getSource(Location location) {
+
+        String source = schemaDirectory.relativize(location.getPath()).toString().replace('\\', '/');
+
+        return location.getPointer().isEmpty() ? source : source + "#" + location.getPointer();
+    }
+
+    /**
+     * A schema, or part of a schema, identified by its file and a JSON pointer.
+     */
+    private static final class Location {
+
+        private final Path path;
+        private final String pointer;
+        private final JsonNode node;
+
+
+        Location(Path path, String pointer, JsonNode node) {
+            this.path = path;
+            this.pointer = pointer;
+            this.node = node;
+        }
+
+        Path getPath() {
+            return path;
+        }
+
+        String getPointer() {
+            return pointer;
+        }
+
+        JsonNode getNode() {
+            return node;
+        }
+
+        String getKey() {
+            return path + "#" + pointer;
+        }
+
+        Location getChild(String keyword) {
+            return new Location(path, pointer + "/" + keyword, node.get(keyword));
+        }
+
+        Location getChild(String keyword, int index) {
+            return new Location(path, pointer + "/" + keyword + "/" + index, node.get(keyword).get(index));
+        }
+
+        Location getChild(String keyword, String name) {
+
+            String escapedName = name.replace("~", "~0").replace("/", "~1");
+
+            return new Location(path, pointer + "/" + keyword + "/" + escapedName, node.get(keyword).get(name));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.codegen;
+
+import org.openmhealth.schema.domain.omh.SchemaId;
+
+import javax.annotation.Nullable;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+
+/**
+ * A type to generate from a schema, or from part of a schema.
+ *
+ * @author agent
+ */
+abstract class TypeDeclaration {
+
+    private final JavaType type;
+    private final SchemaId schemaId;
+    private final String source;
+    private String description;
+
+
+    /**
+     * @param type the type to generate
+     * @param schemaId the identifier of the schema the type is generated from, or null if it's generated from part
+     * of a schema
+     * @param source a description of the location the type is generated from, e.g. "omh/heart-rate-1.1.json"
+     */
+    TypeDeclaration(JavaType type, @Nullable SchemaId schemaId, String source) {
+
+        checkNotNull(type, "A type hasn't been specified.");
+        checkNotNull(source, "A source hasn't been specified.");
+
+        this.type = type;
+        this.schemaId = schemaId;
+        this.source = source;
+    }
+
+    JavaType getType() {
+        return type;
+    }
+
+    @Nullable
+    SchemaId getSchemaId() {
+        return schemaId;
+    }
+
+    String getSource() {
+        return source;
+    }
+
+    @Nullable
+    String getDescription() {
+        return description;
+    }
+
+    void setDescription(@Nullable String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.codegen.support;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.openmhealth.schema.domain.omh.SchemaEnumLookup;
+import org.openmhealth.schema.domain.omh.SchemaEnumValue;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Methods used by generated deserializers to read values from a token stream without going through the object
+ * mapper. Each method expects the parser to be positioned on the first token of the value, and leaves it positioned
+ * on the last token of the value.
+ *
+ * @author agent
+ */
+public final class TokenReaders {
+
+    /**
+     * Reads a value from a token stream.
+     *
+     * @param <T> the type of value to read
+     */
+    @FunctionalInterface
+    public interface ValueReader<T> {
+
+        T read(JsonParser parser, DeserializationContext context) throws IOException;
+    }
+
+
+    private TokenReaders() {
+    }
+
+    /**
+     * Starts reading an object, which may already have been started by a deserializer that buffered its first
+     * properties.
+     *
+     * @param parser a parser positioned on the start of the object, or on its first property name
+     * @param type the type being deserialized
+     * @return the name of the first property, or null if the object is empty
+     */
+    @Nullable
+    public static String startObject(JsonParser parser, Class<?> type) throws IOException {
+
+        JsonToken token = parser.getCurrentToken();
+
+        if (token == JsonToken.START_OBJECT) {
+            return parser.nextFieldName();
+        }
+
+        if (token == JsonToken.FIELD_NAME) {
+            return parser.getCurrentName();
+        }
+
+        if (token == JsonToken.END_OBJECT) {
+            return null;
+        }
+
+        throw JsonMappingException.from(parser,
+                "An object was expected for a " + type.getSimpleName() + ", but " + token + " was found.");
+    }
+
+    public static String readString(JsonParser parser, DeserializationContext context) throws IOException {
+
+        if (parser.getCurrentToken() != JsonToken.VALUE_STRING) {
+            throw unexpectedToken(parser, "A string");
+        }
+
+        return parser.getText();
+    }
+
+    public static BigDecimal readDecimal(JsonParser parser, DeserializationContext context) throws IOException {
+
+        if (!parser.getCurrentToken().isNumeric()) {
+            throw unexpectedToken(parser, "A number");
+        }
+
+        return parser.getDecimalValue();
+    }
+
+    public static Long readLong(JsonParser parser, DeserializationContext context) throws IOException {
+
+        JsonToken token = parser.getCurrentToken();
+
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getLongValue();
+        }
+
+        // JSON Schema considers numbers with a zero fractional part to be integers
+        if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            try {
+                return parser.getDecimalValue().longValueExact();
+            }
+            catch (ArithmeticException e) {
+                throw unexpectedToken(parser, "An integer");
+            }
+        }
+
+        throw unexpectedToken(parser, "An integer");
+    }
+
+    public static Boolean readBoolean(JsonParser parser, DeserializationContext context) throws IOException {
+
+        if (!parser.getCurrentToken().isBoolean()) {
+            throw unexpectedToken(parser, "A boolean");
+        }
+
+        return parser.getBooleanValue();
+    }
+
+    /**
+     * Reads an enumeration value by matching the text buffer of the parser, without creating a string.
+     *
+     * @param type the enumeration type
+     */
+    public static <E extends Enum<E> & SchemaEnumValue> E readEnum(JsonParser parser, DeserializationContext context,
+            Class<E> type) throws IOException {
+
+        if (parser.getCurrentToken() != JsonToken.VALUE_STRING) {
+            throw unexpectedToken(parser, "A string");
+        }
+
+        E constant = SchemaEnumLookup.forType(type)
+                .get(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+
+        if (constant == null) {
+            throw JsonMappingException.from(parser,
+                    "The value '" + parser.getText() + "' isn't a valid " + type.getSimpleName() + ".");
+        }
+
+        return constant;
+    }
+
+    /**
+     * Reads a value using the object mapper, for types that don't have generated deserializers.
+     */
+    public static <T> T readValue(JsonParser parser, DeserializationContext context, Class<T> type)
+            throws IOException {
+
+        return context.readValue(parser, type);
+    }
+
+    /**
+     * Reads the value of a property that a schema doesn't declare, as the maps, lists and scalars that the object
+     * mapper binds untyped values to.
+     *
+     * @return the value, or null if it's null
+     */
+    @Nullable
+    public static Object readAdditionalProperty(JsonParser parser, DeserializationContext context)
+            throws IOException {
+
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        return context.readValue(parser, Object.class);
+    }
+
+    /**
+     * @param elementReader the reader of the elements of the list
+     * @return a list of the elements in an array
+     */
+    public static <T> List<T> readList(JsonParser parser, DeserializationContext context,
+            ValueReader<T> elementReader) throws IOException {
+
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw unexpectedToken(parser, "An array");
+        }
+
+        List<T> elements = new ArrayList<>();
+
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            if (token == null) {
+                throw JsonMappingException.from(parser, "The input ended in the middle of an array.");
+            }
+
+            elements.add(token == JsonToken.VALUE_NULL ? null : elementReader.read(parser, context));
+        }
+
+        return elements;
+    }
+
+    /**
+     * @return an exception that reports a required property that's missing from an object
+     */
+    public static JsonMappingException missingProperty(JsonParser parser, Class<?> type, String propertyName) {
+
+        return JsonMappingException.from(parser,
+                "The required property '" + propertyName + "' of a " + type.getSimpleName() + " is missing.");
+    }
+
+    private static JsonMappingException unexpectedToken(JsonParser parser, String expectedValue) {
+
+        return JsonMappingException.from(parser,
+                expectedValue + " was expected, but " + parser.getCurrentToken() + " was found.");
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.codegen;
+
+import org.testng.annotations.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+/**
+ * @author agent
+ */
+public class NamesUnitTests {
+
+    @Test
+    public void toTypeNameShouldReturnUpperCamelCase() {
+
+        assertThat(Names.toTypeName("heart-rate"), equalTo("HeartRate"));
+        assertThat(Names.toTypeName("hk_quantity_sample"), equalTo("HkQuantitySample"));
+        assertThat(Names.toTypeName("24-hour"), equalTo("_24Hour"));
+    }
+
+    @Test
+    public void toFieldNameShouldReturnLowerCamelCase() {
+
+        assertThat(Names.toFieldName("effective_time_frame"), equalTo("effectiveTimeFrame"));
+        assertThat(Names.toFieldName("unit"), equalTo("unit"));
+    }
+
+    @Test
+    public void toFieldNameShouldEscapeReservedWords() {
+
+        assertThat(Names.toFieldName("default"), equalTo("default_"));
+        assertThat(Names.toFieldName("class"), equalTo("class_"));
+    }
+
+    @Test
+    public void toConstantNameShouldReturnUpperSnakeCase() {
+
+        assertThat(Names.toConstantName("beats/min"), equalTo("BEATS_MIN"));
+        assertThat(Names.toConstantName("Metric Ton"), equalTo("METRIC_TON"));
+        assertThat(Names.toConstantName("HKBloodTypeAPositive"), equalTo("HK_BLOOD_TYPE_A_POSITIVE"));
+    }
+
+    @Test
+    public void toConstantNameShouldReturnEmptyStringWithoutLettersOrDigits() {
+
+        assertThat(Names.toConstantName("%"), equalTo(""));
+    }
+
+    @Test
+    public void toArticleAndWordsShouldChooseArticle() {
+
+        assertThat(Names.toArticleAndWords("heart_rate"), equalTo("a heart rate"));
+        assertThat(Names.toArticleAndWords("effective_time_frame"), equalTo("an effective time frame"));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.codegen;
+
+import org.openmhealth.schema.domain.omh.SchemaId;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.openmhealth.schema.domain.omh.SchemaSupport.OMH_NAMESPACE;
+
+
+/**
+ * @author agent
+ */
+public class SchemaTypeResolverUnitTests {
+
+    private SchemaTypeResolver resolver;
+
+
+    @BeforeMethod
+    public void initializeResolver() throws IOException {
+        resolver = new SchemaTypeResolver(Paths.get("schema"), "org.example");
+    }
+
+    @Test
+    public void resolveSchemaShouldMapSdkTypes() {
+
+        JavaType type = resolver.resolveSchema(new SchemaId(OMH_NAMESPACE, "time-frame", "1.0"));
+
+        assertThat(type.getKind(), equalTo(JavaType.Kind.MAPPED));
+        assertThat(type.getQualifiedName(), equalTo("org.openmhealth.schema.domain.omh.TimeFrame"));
+    }
+
+    @Test
+    public void resolveSchemaShouldDeclareClass() {
+
+        JavaType type = resolver.resolveSchema(new SchemaId(OMH_NAMESPACE, "unit-value", "1.0"));
+
+        assertThat(type.getKind(), equalTo(JavaType.Kind.CLASS));
+        assertThat(type.getQualifiedName(), equalTo("org.example.omh.UnitValue"));
+
+        ClassDeclaration declaration = getClassDeclaration(type);
+
+        assertThat(declaration.getProperty("value").getType(), equalTo(JavaType.DECIMAL));
+        assertThat(declaration.getProperty("value").isRequired(), equalTo(true));
+        assertThat(declaration.getProperty("unit").getType(), equalTo(JavaType.STRING));
+    }
+
+    @Test
+    public void resolveSchemaShouldMergeCombinedSchemas() {
+
+        // mass-unit-value 1.1 extends the IEEE unit-value schema, which is resolved to the local unit-value schema
+        JavaType type = resolver.resolveSchema(new SchemaId(OMH_NAMESPACE, "mass-unit-value", "1.1"));
+
+        ClassDeclaration declaration = getClassDeclaration(type);
+
+        assertThat(declaration.getProperty("value"), notNullValue());
+        assertThat(declaration.getProperty("value").getType(), equalTo(JavaType.DECIMAL));
+        assertThat(declaration.getProperty("unit").getType().getKind(), equalTo(JavaType.Kind.ENUM));
+    }
+
+    private ClassDeclaration getClassDeclaration(JavaType type) {
+
+        for (TypeDeclaration declaration : resolver.getDeclarations()) {
+            if (declaration.getType().equals(type)) {
+                assertThat(declaration, instanceOf(ClassDeclaration.class));
+                return (ClassDeclaration) declaration;
+            }
+        }
+
+        throw new AssertionError("The type '" + type + "' hasn't been declared.");
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.generated;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openmhealth.schema.domain.omh.BodyTypeRegistry;
+import org.openmhealth.schema.domain.omh.SchemaId;
+import org.openmhealth.schema.domain.omh.SchemaSupport;
+import org.openmhealth.schema.domain.omh.TimeFrame;
+import org.openmhealth.schema.generated.granola.HkMetadataItem;
+import org.openmhealth.schema.generated.granola.HkQuantitySample;
+import org.openmhealth.schema.generated.granola.HkQuantityType;
+import org.openmhealth.schema.generated.omh.Acceleration1;
+import org.openmhealth.schema.generated.omh.HeartRate1;
+import org.openmhealth.schema.generated.omh.Medication;
+import org.openmhealth.schema.generated.omh.RrInterval;
+import org.openmhealth.schema.generated.omh.TemporalRelationshipToSleep;
+import org.openmhealth.schema.generated.omh.UnitValue;
+import org.openmhealth.schema.validation.SchemaValidationError;
+import org.openmhealth.schema.validation.SchemaValidator;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.openmhealth.schema.configuration.JacksonConfiguration.newObjectMapper;
+
+
+/**
+ * A suite of unit tests for the classes generated from the schema library, which round trips the test data of every
+ * schema that a class has been generated for.
+ *
+ * @author agent
+ */
+public class GeneratedSchemaModuleUnitTests {
+
+    public static final Path SCHEMA_DIRECTORY = Paths.get("schema");
+    public static final Path TEST_DATA_DIRECTORY = Paths.get("test-data");
+
+    private ObjectMapper objectMapper;
+    private BodyTypeRegistry bodyTypeRegistry;
+    private SchemaValidator validator;
+
+
+    @BeforeClass
+    public void initializeFixtures() throws IOException {
+
+        objectMapper = newObjectMapper().registerModule(new GeneratedSchemaModule());
+
+        bodyTypeRegistry = new BodyTypeRegistry();
+        GeneratedSchemaModule.registerBodyTypes(bodyTypeRegistry);
+
+        validator = SchemaValidator.fromDirectory(SCHEMA_DIRECTORY);
+    }
+
+    @Test
+    public void registerBodyTypesShouldRegisterGeneratedClasses() {
+
+        assertThat(bodyTypeRegistry.findBodyType(HeartRate1.SCHEMA_ID), equalTo(HeartRate1.class));
+        assertThat(bodyTypeRegistry.findBodyType(Acceleration1.SCHEMA_ID), equalTo(Acceleration1.class));
+        assertThat(bodyTypeRegistry.findBodyType(Medication.SCHEMA_ID), equalTo(Medication.class));
+        assertThat(bodyTypeRegistry.findBodyType(RrInterval.SCHEMA_ID), equalTo(RrInterval.class));
+        assertThat(bodyTypeRegistry.findBodyType(HkQuantitySample.SCHEMA_ID), equalTo(HkQuantitySample.class));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void builderShouldThrowExceptionOnUndefinedRequiredProperty() {
+
+        new HeartRate1.Builder(null);
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void listPropertiesShouldBeImmutable() {
+
+        HkQuantitySample sample = newQuantitySample();
+
+        sample.getMetadata().add(new HkMetadataItem.Builder("foo", objectMapper.getNodeFactory().textNode("bar"))
+                .build());
+    }
+
+    @Test(expectedExceptions = JsonMappingException.class)
+    public void deserializerShouldThrowExceptionOnMissingRequiredProperty() throws IOException {
+
+        objectMapper.readValue("{\"temporal_relationship_to_sleep\": \"on waking\"}", HeartRate1.class);
+    }
+
+    @Test(expectedExceptions = JsonMappingException.class)
+    public void deserializerShouldThrowExceptionOnUnknownEnumValue() throws IOException {
+
+        objectMapper.readValue("{\"heart_rate\": {\"unit\": \"beats/min\", \"value\": 60}, "
+                + "\"temporal_relationship_to_sleep\": \"while dreaming\"}", HeartRate1.class);
+    }
+
+    @Test
+    public void deserializerShouldSkipNullProperties() throws IOException {
+
+        HeartRate1 heartRate = objectMapper.readValue("{\"user_notes\": null, "
+                + "\"heart_rate\": {\"unit\": \"beats/min\", \"value\": 60}}", HeartRate1.class);
+
+        assertThat(heartRate, equalTo(new HeartRate1.Builder(newUnitValue("beats/min", "60")).build()));
+    }
+
+    @Test
+    public void deserializerShouldKeepUnknownProperties() throws IOException {
+
+        HeartRate1 heartRate = objectMapper.readValue("{\"foo\": {\"bar\": [1, 2]}, \"baz\": null, "
+                + "\"heart_rate\": {\"unit\": \"beats/min\", \"value\": 60}}", HeartRate1.class);
+
+        HeartRate1 expectedHeartRate = new HeartRate1.Builder(newUnitValue("beats/min", "60"))
+                .setAdditionalProperty("foo", singletonMap("bar", asList(1, 2)))
+                .setAdditionalProperty("baz", null)
+                .build();
+
+        assertThat(heartRate, equalTo(expectedHeartRate));
+        assertThat(heartRate.getAdditionalProperty("foo").isPresent(), equalTo(true));
+    }
+
+    @Test
+    public void serializerShouldWriteUnknownProperties() throws IOException {
+
+        String json = "{\"heart_rate\": {\"unit\": \"beats/min\", \"value\": 60, \"precision\": 1}, "
+                + "\"foo\": {\"bar\": [1, 2]}, \"baz\": null}";
+
+        HeartRate1 heartRate = objectMapper.readValue(json, HeartRate1.class);
+
+        assertThat(objectMapper.readTree(objectMapper.writeValueAsString(heartRate)),
+                equalTo(objectMapper.readTree(json)));
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void additionalPropertiesShouldBeImmutable() {
+
+        new HeartRate1.Builder(newUnitValue("beats/min", "60")).build().setAdditionalProperty("foo", "bar");
+    }
+
+    @Test
+    public void serializerShouldWriteSchemaValuesAndOmitUndefinedProperties() throws IOException {
+
+        HeartRate1 heartRate = new HeartRate1.Builder(newUnitValue("beats/min", "60"))
+                .setTemporalRelationshipToSleep(TemporalRelationshipToSleep.ON_WAKING)
+                .build();
+
+        assertThat(objectMapper.readTree(objectMapper.writeValueAsString(heartRate)),
+                equalTo(objectMapper.readTree("{\"heart_rate\": {\"unit\": \"beats/min\", \"value\": 60}, "
+                        + "\"temporal_relationship_to_sleep\": \"on waking\"}")));
+    }
+
+    @Test
+    public void serializedClassesShouldBeValid() throws IOException {
+
+        HkQuantitySample sample = newQuantitySample();
+
+        List<SchemaValidationError> errors = validator.validate(HkQuantitySample.SCHEMA_ID,
+                objectMapper.readTree(objectMapper.writeValueAsString(sample)));
+
+        assertThat(errors, empty());
+    }
+
+    @DataProvider(name = "testDataFiles")
+    public Object[][] newTestDataFiles() throws IOException {
+
+        List<Path> files;
+
+        try (Stream<Path> paths = Files.walk(TEST_DATA_DIRECTORY)) {
+            files = paths
+                    .filter(path -> path.toString().endsWith(".json"))
+                    .filter(path -> path.getParent().getFileName().toString().equals("shouldPass"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+
+        return files.stream()
+                .map(file -> new Object[] {file})
+                .toArray(Object[][]::new);
+    }
+
+    @Test(dataProvider = "testDataFiles")
+    public void generatedClassesShouldRoundTripTestData(Path file) throws IOException {
+
+        // test data files are located at paths like "test-data/omh/heart-rate/1.0/shouldPass/foo.json"
+        Path versionDirectory = file.getParent().getParent();
+        Path nameDirectory = versionDirectory.getParent();
+
+        SchemaId schemaId = SchemaId.of(nameDirectory.getParent().getFileName().toString(),
+                nameDirectory.getFileName().toString(), versionDirectory.getFileName().toString());
+
+        Class<? extends SchemaSupport> bodyType = bodyTypeRegistry.findBodyType(schemaId);
+
+        if (bodyType == null) {
+            return;
+        }
+
+        SchemaSupport body = objectMapper.readValue(file.toFile(), bodyType);
+        String json = objectMapper.writeValueAsString(body);
+
+        // the class is generated from the latest minor version, which all earlier minor versions are compatible with
+        if (validator.getUnresolvableReferences(body.getSchemaId()).isEmpty()) {
+            List<SchemaValidationError> errors = validator.validate(body.getSchemaId(), objectMapper.readTree(json));
+
+            assertThat(json, errors, empty());
+        }
+
+        assertThat(objectMapper.readValue(json, bodyType), equalTo(body));
+    }
+
+    private HkQuantitySample newQuantitySample() {
+
+        return new HkQuantitySample.Builder(new TimeFrame(OffsetDateTime.parse("2015-10-21T16:29:00-07:00")),
+                HkQuantityType.HK_QUANTITY_TYPE_IDENTIFIER_HEART_RATE)
+                .setUnitValue(newUnitValue("count/min", "60"))
+                .setMetadata(singletonList(new HkMetadataItem.Builder("HKMetadataKeyDeviceSerialNumber",
+                        objectMapper.getNodeFactory().textNode("1234")).build()))
+                .build();
+    }
+
+    private static UnitValue newUnitValue(String unit, String value) {
+        return new UnitValue.Builder(new BigDecimal(value), unit).build();
+    }
+}
@@ -16,16 +16,28 @@
 
 package org.openmhealth.schema.configuration;
 
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import org.openmhealth.schema.domain.omh.BodyTypeRegistry;
+import org.openmhealth.schema.domain.omh.DataPoint;
+import org.openmhealth.schema.serializer.DataPointDeserializer;
+import org.openmhealth.schema.serializer.Rfc3339OffsetDateTimeDeserializer;
 import org.openmhealth.schema.serializer.Rfc3339OffsetDateTimeSerializer;
+import org.openmhealth.schema.serializer.omh.OmhSchemaModule;
+import org.openmhealth.schema.serializer.omh.SchemaEnumModule;
 
 import java.time.OffsetDateTime;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 
 /**
  * A Jackson {@link ObjectMapper} configuration that matches schema conventions.
@@ -34,9 +46,134 @@ import java.time.OffsetDateTime;
  */
 public class JacksonConfiguration {
 
+    /**
+     * The options of an object mapper created by {@link #newObjectMapper(Options)}.
+     */
+    public static class Options {
+
+        /**
+         * The way bean serializers and deserializers access the properties of objects.
+         */
+        public enum PropertyAccess {
+
+            /**
+             * Properties are accessed using reflection, which is Jackson's default.
+             */
+            REFLECTION,
+
+            /**
+             * Properties are accessed using bytecode generated by the Jackson
+             * <a href="https://github.com/FasterXML/jackson-modules-base/tree/master/afterburner">Afterburner</a>
+             * module. Members that generated code can't access, such as the protected serialization constructors of
+             * schema classes, are still accessed using reflection.
+             */
+            AFTERBURNER
+        }
+
+        private final PropertyAccess propertyAccess;
+        private final boolean omhSchemaModuleRegistered;
+
+
+        public static class Builder {
+
+            private PropertyAccess propertyAccess = PropertyAccess.REFLECTION;
+            private boolean omhSchemaModuleRegistered;
+
+            public Builder setPropertyAccess(PropertyAccess propertyAccess) {
+
+                checkNotNull(propertyAccess, "A property access hasn't been specified.");
+
+                this.propertyAccess = propertyAccess;
+                return this;
+            }
+
+            /**
+             * @param omhSchemaModuleRegistered true if the {@link OmhSchemaModule} should be registered, false
+             * otherwise
+             */
+            public Builder setOmhSchemaModuleRegistered(boolean omhSchemaModuleRegistered) {
+                this.omhSchemaModuleRegistered = omhSchemaModuleRegistered;
+                return this;
+            }
+
+            public Options build() {
+                return new Options(this);
+            }
+        }
+
+        private Options(Builder builder) {
+
+            this.propertyAccess = builder.propertyAccess;
+            this.omhSchemaModuleRegistered = builder.omhSchemaModuleRegistered;
+        }
+
+        public PropertyAccess getPropertyAccess() {
+            return propertyAccess;
+        }
+
+        public boolean isOmhSchemaModuleRegistered() {
+            return omhSchemaModuleRegistered;
+        }
+    }
+
+
     public static ObjectMapper newObjectMapper() {
+        return newObjectMapper(new JsonFactory());
+    }
+
+    /**
+     * Creates an object mapper that uses the same conventions as {@link #newObjectMapper()}, but serializes and
+     * deserializes objects faster depending on the given options. Documents written by the object mapper are the same
+     * as those written by {@link #newObjectMapper()}.
+     *
+     * @param options the options of the object mapper
+     * @return the object mapper
+     */
+    public static ObjectMapper newObjectMapper(Options options) {
+
+        checkNotNull(options, "Options haven't been specified.");
+
+        ObjectMapper objectMapper = newObjectMapper();
 
-        ObjectMapper objectMapper = new ObjectMapper();
+        if (options.getPropertyAccess() == Options.PropertyAccess.AFTERBURNER) {
+            objectMapper.registerModule(new AfterburnerModule());
+
+            // registered after Afterburner so that it's called first
+            objectMapper.registerModule(new SimpleModule("reflectiveCreatorModule")
+                    .setDeserializerModifier(new ReflectiveCreatorDeserializerModifier()));
+        }
+
+        if (options.isOmhSchemaModuleRegistered()) {
+            objectMapper.registerModule(new OmhSchemaModule());
+        }
+
+        return objectMapper;
+    }
+
+    /**
+     * Creates an object mapper that reads and writes the binary
+     * <a href="https://github.com/FasterXML/smile-format-specification">Smile</a> format using the same conventions as
+     * {@link #newObjectMapper()}.
+     *
+     * @return the object mapper
+     */
+    public static ObjectMapper newSmileObjectMapper() {
+        return newObjectMapper(new SmileFactory());
+    }
+
+    /**
+     * Creates an object mapper that reads and writes the binary <a href="https://tools.ietf.org/html/rfc7049">CBOR</a>
+     * format using the same conventions as {@link #newObjectMapper()}.
+     *
+     * @return the object mapper
+     */
+    public static ObjectMapper newCborObjectMapper() {
+        return newObjectMapper(new CBORFactory());
+    }
+
+    private static ObjectMapper newObjectMapper(JsonFactory jsonFactory) {
+
+        ObjectMapper objectMapper = new ObjectMapper(jsonFactory);
 
         // we represent JSON numbers as Java BigDecimals
         objectMapper.enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
@@ -52,11 +189,54 @@ public class JacksonConfiguration {
         objectMapper.registerModule(new Jdk8Module());
 
         // but we have to explicitly support the RFC3339 format over ISO8601 to make JSON Schema happy, specifically to
-        // prevent the truncation of zero second fields
+        // prevent the truncation of zero second fields, and we parse RFC3339 date times without a formatter for speed
         SimpleModule rfc3339Module = new SimpleModule("rfc3339Module");
         rfc3339Module.addSerializer(new Rfc3339OffsetDateTimeSerializer(OffsetDateTime.class));
+        rfc3339Module.addDeserializer(OffsetDateTime.class,
+                new Rfc3339OffsetDateTimeDeserializer(OffsetDateTime.class));
         objectMapper.registerModule(rfc3339Module);
 
+        // we deserialize schema enumeration values without creating strings, but as their factory methods would
+        objectMapper.registerModule(new SchemaEnumModule());
+
+        return objectMapper;
+    }
+
+    /**
+     * Creates an object mapper that deserializes decimal JSON numbers as Java doubles instead of BigDecimals, so that
+     * {@link org.openmhealth.schema.domain.omh.UnitValue unit values} and additional properties hold primitives. This
+     * trades the exact representation of decimals, e.g. trailing zeros, for memory and speed when processing large
+     * numbers of measures. Values that fit in a double are serialized the same way as they are by
+     * {@link #newObjectMapper()}.
+     *
+     * @return the object mapper
+     */
+    public static ObjectMapper newPrimitiveNumberObjectMapper() {
+
+        ObjectMapper objectMapper = newObjectMapper();
+
+        objectMapper.disable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+
+        return objectMapper;
+    }
+
+    /**
+     * Creates an object mapper that deserializes the bodies of data points as the classes registered for their body
+     * schemas, even if the requested type is a raw {@link DataPoint}. Bodies whose schemas aren't registered are
+     * deserialized as they would be by {@link #newObjectMapper()}.
+     *
+     * @param bodyTypeRegistry the registry used to resolve the body types of data points
+     * @return the object mapper
+     */
+    public static ObjectMapper newObjectMapper(BodyTypeRegistry bodyTypeRegistry) {
+
+        ObjectMapper objectMapper = newObjectMapper();
+
+        SimpleModule dataPointModule = new SimpleModule("dataPointModule");
+        dataPointModule.addDeserializer(DataPoint.class,
+                new DataPointDeserializer(bodyTypeRegistry, objectMapper.constructType(Object.class)));
+        objectMapper.registerModule(dataPointModule);
+
         return objectMapper;
     }
 }
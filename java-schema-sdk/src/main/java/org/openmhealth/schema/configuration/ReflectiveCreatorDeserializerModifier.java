@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.configuration;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.ValueInstantiator;
+import com.fasterxml.jackson.databind.deser.std.StdValueInstantiator;
+import com.fasterxml.jackson.databind.introspect.AnnotatedWithParams;
+
+import java.lang.reflect.Modifier;
+
+
+/**
+ * A deserializer modifier that stops the Afterburner module from generating code that invokes non-public creators,
+ * such as the protected serialization constructors of schema classes. The generated code is loaded by a separate
+ * class loader if Afterburner can't define classes in the class loader of the bean, which is always the case on
+ * Java 9 and later, and can't invoke those creators from there. Afterburner only optimizes instances of
+ * {@link StdValueInstantiator} itself, so wrapping the value instantiator in a subclass keeps it reflective.
+ *
+ * <p>This modifier must be called before the Afterburner one, i.e. registered after the Afterburner module.</p>
+ *
+ * @author agent
+ */
+class ReflectiveCreatorDeserializerModifier extends BeanDeserializerModifier {
+
+    @Override
+    public BeanDeserializerBuilder updateBuilder(DeserializationConfig config, BeanDescription beanDescription,
+            BeanDeserializerBuilder builder) {
+
+        ValueInstantiator valueInstantiator = builder.getValueInstantiator();
+
+        if (valueInstantiator != null && valueInstantiator.getClass() == StdValueInstantiator.class
+                && hasNonPublicDefaultCreator(valueInstantiator)) {
+
+            builder.setValueInstantiator(new ReflectiveValueInstantiator((StdValueInstantiator) valueInstantiator));
+        }
+
+        return builder;
+    }
+
+    private boolean hasNonPublicDefaultCreator(ValueInstantiator valueInstantiator) {
+
+        AnnotatedWithParams defaultCreator = valueInstantiator.getDefaultCreator();
+
+        return defaultCreator != null && !Modifier.isPublic(defaultCreator.getMember().getModifiers());
+    }
+
+    /**
+     * A value instantiator that behaves exactly like the one it copies, but isn't optimized by Afterburner.
+     */
+    static class ReflectiveValueInstantiator extends StdValueInstantiator {
+
+        private static final long serialVersionUID = 1L;
+
+        ReflectiveValueInstantiator(StdValueInstantiator source) {
+            super(source);
+        }
+    }
+}
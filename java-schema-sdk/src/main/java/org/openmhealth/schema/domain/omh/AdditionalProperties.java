@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.domain.omh;
+
+import com.google.common.base.Splitter;
+
+import javax.annotation.Nullable;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+
+
+/**
+ * A set of utility methods for the additional properties of immutable schema objects. The maps created by these
+ * methods are deeply unmodifiable, and are shared instead of copied when an immutable object is copied. This class
+ * also holds the splitter used to parse additional property paths.
+ *
+ * @author agent
+ */
+final class AdditionalProperties {
+
+    static final Splitter PATH_SPLITTER = Splitter.on(".").omitEmptyStrings();
+
+    private static final Map<String, Object> EMPTY_PROPERTIES = emptyMap();
+
+
+    private AdditionalProperties() {
+    }
+
+    /**
+     * @param properties the additional properties of a schema object, if any
+     * @return true if the additional properties have been created by this class, false otherwise
+     */
+    private static boolean isUnmodifiableCopy(@Nullable Map<String, Object> properties) {
+        return properties == EMPTY_PROPERTIES || properties instanceof UnmodifiablePropertyMap;
+    }
+
+    /**
+     * @param properties the additional properties to copy, if any
+     * @return an unmodifiable copy of the additional properties, in which nested maps and collections are also
+     * unmodifiable, or the additional properties themselves if they're already an unmodifiable copy
+     */
+    static Map<String, Object> unmodifiableCopy(@Nullable Map<String, Object> properties) {
+
+        if (properties == null || properties.isEmpty()) {
+            return EMPTY_PROPERTIES;
+        }
+
+        if (isUnmodifiableCopy(properties)) {
+            return properties;
+        }
+
+        Map<String, Object> copy = new HashMap<>(properties.size() * 2);
+
+        for (Map.Entry<String, Object> property : properties.entrySet()) {
+            copy.put(property.getKey(), unmodifiableValue(property.getValue()));
+        }
+
+        return new UnmodifiablePropertyMap(copy);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object unmodifiableValue(@Nullable Object value) {
+
+        if (value instanceof Map) {
+            return unmodifiableCopy((Map<String, Object>) value);
+        }
+
+        if (value instanceof Collection) {
+            List<Object> copy = new ArrayList<>(((Collection<?>) value).size());
+
+            for (Object element : (Collection<?>) value) {
+                copy.add(unmodifiableValue(element));
+            }
+
+            return unmodifiableList(copy);
+        }
+
+        return value;
+    }
+
+    /**
+     * Creates a copy of additional properties with a property set, following the conventions of
+     * {@link AdditionalPropertySupport#setAdditionalProperty(String, Object)}. Only the maps on the path of the
+     * property are copied, all other properties are shared with the given additional properties.
+     *
+     * @param properties the additional properties to copy, if any
+     * @param path the path of the property to set
+     * @param value the value of the property to set
+     * @return an unmodifiable copy of the additional properties with the property set
+     */
+    static Map<String, Object> withProperty(@Nullable Map<String, Object> properties, String path, Object value) {
+
+        checkNotNull(path, "A path hasn't been specified.");
+        checkArgument(!path.isEmpty(), "An empty path has been specified.");
+
+        List<String> names = path.indexOf('.') < 0 ? singletonList(path) : PATH_SPLITTER.splitToList(path);
+        Map<String, Object> copy = unmodifiableCopy(properties);
+
+        return names.isEmpty() ? copy : withProperty(copy, names, 0, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> withProperty(Map<String, Object> properties, List<String> names, int index,
+            Object value) {
+
+        Map<String, Object> copy = new HashMap<>(properties);
+        String name = names.get(index);
+
+        if (index == names.size() - 1) {
+            copy.put(name, unmodifiableValue(value));
+        }
+        else {
+            // traverse into a collection if one exists, otherwise create a new one
+            Object nestedProperties = properties.get(name);
+
+            copy.put(name, withProperty(nestedProperties instanceof Map ? (Map<String, Object>) nestedProperties
+                    : EMPTY_PROPERTIES, names, index + 1, value));
+        }
+
+        return new UnmodifiablePropertyMap(copy);
+    }
+
+    /**
+     * An unmodifiable map of additional properties, which is only created by this class and therefore never needs to
+     * be copied again.
+     */
+    private static final class UnmodifiablePropertyMap extends AbstractMap<String, Object> {
+
+        private final Map<String, Object> properties;
+
+        UnmodifiablePropertyMap(Map<String, Object> properties) {
+            this.properties = properties;
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return unmodifiableMap(properties).entrySet();
+        }
+
+        @Override
+        public int size() {
+            return properties.size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return properties.containsKey(key);
+        }
+
+        @Override
+        public Object get(Object key) {
+            return properties.get(key);
+        }
+    }
+}
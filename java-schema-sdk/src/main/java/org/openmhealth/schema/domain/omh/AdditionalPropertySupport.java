@@ -18,7 +18,7 @@ package org.openmhealth.schema.domain.omh;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonAnySetter;
-import com.google.common.base.Splitter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import java.util.HashMap;
 import java.util.Iterator;
@@ -27,6 +27,7 @@ import java.util.Optional;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static org.openmhealth.schema.domain.omh.AdditionalProperties.PATH_SPLITTER;
 
 
 /**
@@ -49,7 +50,13 @@ public interface AdditionalPropertySupport {
         checkNotNull(path, "A path hasn't been specified.");
         checkArgument(!path.isEmpty(), "An empty path has been specified.");
 
-        Iterator<String> names = Splitter.on(".").omitEmptyStrings().split(path).iterator();
+        // most paths are plain names, so avoid splitting them
+        if (path.indexOf('.') < 0) {
+            getAdditionalProperties().put(path, value);
+            return;
+        }
+
+        Iterator<String> names = PATH_SPLITTER.split(path).iterator();
         Map<String, Object> currentCollection = getAdditionalProperties();
 
         while (names.hasNext()) {
@@ -85,14 +92,29 @@ public interface AdditionalPropertySupport {
         checkNotNull(name, "A name hasn't been specified.");
         checkArgument(!name.isEmpty(), "An empty name has been specified.");
 
-        return Optional.ofNullable(getAdditionalProperties().get(name));
+        return Optional.ofNullable(peekAdditionalProperties().get(name));
     }
 
     /**
-     * Gets the additional properties.
+     * Gets the additional properties. Implementations that only create their additional properties when the first
+     * one is set create them when this method is called, so use {@link #peekAdditionalProperties()} or
+     * {@link #getAdditionalProperty(String)} to read the additional properties of an object that's shared between
+     * threads.
      *
-     * @return the additional properties as a map
+     * @return the additional properties as a map, which is modifiable unless the object is immutable
      */
-    @JsonAnyGetter
+    @JsonIgnore
     Map<String, Object> getAdditionalProperties();
+
+    /**
+     * Gets the additional properties without creating them. This method is used to read and serialize additional
+     * properties, and implementations that only create their additional properties when the first one is set should
+     * override it to return an empty map until then.
+     *
+     * @return the additional properties as a map, which mustn't be modified
+     */
+    @JsonAnyGetter
+    default Map<String, Object> peekAdditionalProperties() {
+        return getAdditionalProperties();
+    }
 }
@@ -37,7 +37,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 @JsonNaming(SnakeCaseStrategy.class)
 public class AmbientTemperature extends Measure {
 
-    private static final SchemaId SCHEMA_ID = new SchemaId(OMH_NAMESPACE, "ambient-temperature", "1.0");
+    public static final SchemaId SCHEMA_ID = new SchemaId(OMH_NAMESPACE, "ambient-temperature", "1.0");
 
     private TemperatureUnitValue ambientTemperature;
 
@@ -21,8 +21,6 @@ import com.fasterxml.jackson.annotation.JsonValue;
 
 import javax.annotation.Nullable;
 import java.math.BigDecimal;
-import java.util.HashMap;
-import java.util.Map;
 
 
 /**
@@ -44,13 +42,7 @@ public enum AreaUnit implements Unit {
     SQUARE_MILE("mi^2");
 
     private String schemaValue;
-    private static final Map<String, AreaUnit> constantsBySchemaValue = new HashMap<>();
-
-    static {
-        for (AreaUnit constant : values()) {
-            constantsBySchemaValue.put(constant.getSchemaValue(), constant);
-        }
-    }
+    private static final SchemaEnumLookup<AreaUnit> constantsBySchemaValue = SchemaEnumLookup.forType(AreaUnit.class);
 
     AreaUnit(String schemaValue) {
         this.schemaValue = schemaValue;
@@ -38,10 +38,17 @@ public class AreaUnitValue extends TypedUnitValue<AreaUnit> {
     }
 
     @JsonCreator
-    public AreaUnitValue(@JsonProperty("unit") AreaUnit unit, @JsonProperty("value") BigDecimal value) {
+    public AreaUnitValue(@JsonProperty("unit") AreaUnit unit, @JsonProperty("value") Number value) {
         super(unit, value);
     }
 
+    /**
+     * Kept for binary compatibility with clients compiled against earlier versions.
+     */
+    public AreaUnitValue(AreaUnit unit, BigDecimal value) {
+        this(unit, (Number) value);
+    }
+
     @Override
     public SchemaId getSchemaId() {
         return SCHEMA_ID;
@@ -54,4 +61,9 @@ public class AreaUnitValue extends TypedUnitValue<AreaUnit> {
     public AreaUnitValue(AreaUnit unit, long value) {
         super(unit, value);
     }
+
+    @Override
+    public AreaUnitValue convertTo(AreaUnit unit) {
+        return (AreaUnitValue) super.convertTo(unit);
+    }
 }
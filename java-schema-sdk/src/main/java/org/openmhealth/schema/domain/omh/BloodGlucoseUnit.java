@@ -20,8 +20,6 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
-import java.util.Map;
 
 
 /**
@@ -37,13 +35,8 @@ public enum BloodGlucoseUnit implements Unit {
     MILLIMOLES_PER_LITER("mmol/L");
 
     private String schemaValue;
-    private static final Map<String, BloodGlucoseUnit> constantsBySchemaValue = new HashMap<>();
-
-    static {
-        for (BloodGlucoseUnit constant : values()) {
-            constantsBySchemaValue.put(constant.getSchemaValue(), constant);
-        }
-    }
+    private static final SchemaEnumLookup<BloodGlucoseUnit> constantsBySchemaValue =
+            SchemaEnumLookup.forType(BloodGlucoseUnit.class);
 
     BloodGlucoseUnit(String schemaValue) {
         this.schemaValue = schemaValue;
@@ -20,8 +20,6 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
-import java.util.Map;
 
 
 /**
@@ -36,13 +34,8 @@ public enum BloodPressureUnit implements Unit {
     MM_OF_MERCURY("mmHg");
 
     private String schemaValue;
-    private static final Map<String, BloodPressureUnit> constantsBySchemaValue = new HashMap<>();
-
-    static {
-        for (BloodPressureUnit constant : values()) {
-            constantsBySchemaValue.put(constant.getSchemaValue(), constant);
-        }
-    }
+    private static final SchemaEnumLookup<BloodPressureUnit> constantsBySchemaValue =
+            SchemaEnumLookup.forType(BloodPressureUnit.class);
 
     BloodPressureUnit(String schemaValue) {
         this.schemaValue = schemaValue;
@@ -20,8 +20,6 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
-import java.util.Map;
 
 
 /**
@@ -41,13 +39,8 @@ public enum BloodSpecimenType implements SchemaEnumValue, SchemaSupport {
     public static final SchemaId SCHEMA_ID = new SchemaId(OMH_NAMESPACE, "blood-specimen-type", "1.0");
 
     private String schemaValue;
-    private static final Map<String, BloodSpecimenType> constantsBySchemaValue = new HashMap<>();
-
-    static {
-        for (BloodSpecimenType constant : values()) {
-            constantsBySchemaValue.put(constant.getSchemaValue(), constant);
-        }
-    }
+    private static final SchemaEnumLookup<BloodSpecimenType> constantsBySchemaValue =
+            SchemaEnumLookup.forType(BloodSpecimenType.class);
 
     BloodSpecimenType() {
         this.schemaValue = name().toLowerCase().replace('_', ' ');
@@ -37,7 +37,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 @JsonNaming(SnakeCaseStrategy.class)
 public class BodyFatPercentage extends Measure {
 
-    private static final SchemaId SCHEMA_ID = new SchemaId(OMH_NAMESPACE, "body-fat-percentage", "1.0");
+    public static final SchemaId SCHEMA_ID = new SchemaId(OMH_NAMESPACE, "body-fat-percentage", "1.0");
 
     private TypedUnitValue<PercentUnit> bodyFatPercentage;
 
@@ -20,8 +20,6 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
-import java.util.Map;
 
 
 /**
@@ -36,13 +34,8 @@ public enum BodyMassIndexUnit1 implements Unit {
     KILOGRAMS_PER_SQUARE_METER("kg/m2");
 
     private String schemaValue;
-    private static final Map<String, BodyMassIndexUnit1> constantsBySchemaValue = new HashMap<>();
-
-    static {
-        for (BodyMassIndexUnit1 constant : values()) {
-            constantsBySchemaValue.put(constant.getSchemaValue(), constant);
-        }
-    }
+    private static final SchemaEnumLookup<BodyMassIndexUnit1> constantsBySchemaValue =
+            SchemaEnumLookup.forType(BodyMassIndexUnit1.class);
 
     BodyMassIndexUnit1(String schemaValue) {
         this.schemaValue = schemaValue;
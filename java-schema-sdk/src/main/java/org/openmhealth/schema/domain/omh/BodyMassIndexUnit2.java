@@ -20,8 +20,6 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
-import java.util.Map;
 
 
 /**
@@ -36,13 +34,8 @@ public enum BodyMassIndexUnit2 implements Unit {
     KILOGRAMS_PER_SQUARE_METER("kg/m^2");
 
     private String schemaValue;
-    private static final Map<String, BodyMassIndexUnit2> constantsBySchemaValue = new HashMap<>();
-
-    static {
-        for (BodyMassIndexUnit2 constant : values()) {
-            constantsBySchemaValue.put(constant.getSchemaValue(), constant);
-        }
-    }
+    private static final SchemaEnumLookup<BodyMassIndexUnit2> constantsBySchemaValue =
+            SchemaEnumLookup.forType(BodyMassIndexUnit2.class);
 
     BodyMassIndexUnit2(String schemaValue) {
         this.schemaValue = schemaValue;
@@ -22,11 +22,9 @@ import com.fasterxml.jackson.annotation.JsonValue;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy.SnakeCaseStrategy;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
-import com.google.common.collect.Maps;
 import org.openmhealth.schema.serializer.SerializationConstructor;
 
 import javax.annotation.Nullable;
-import java.util.Map;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -43,7 +41,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 @JsonNaming(SnakeCaseStrategy.class)
 public class BodyTemperature extends Measure {
 
-    private static final SchemaId SCHEMA_ID = new SchemaId(OMH_NAMESPACE, "body-temperature", "1.0");
+    public static final SchemaId SCHEMA_ID = new SchemaId(OMH_NAMESPACE, "body-temperature", "1.0");
 
 
     /**
@@ -61,13 +59,8 @@ public class BodyTemperature extends Measure {
         TEMPORAL;
 
         private String schemaValue;
-        private static final Map<String, MeasurementLocation> constantsBySchemaValue = Maps.newHashMap();
-
-        static {
-            for (MeasurementLocation location : values()) {
-                constantsBySchemaValue.put(location.getSchemaValue(), location);
-            }
-        }
+        private static final SchemaEnumLookup<MeasurementLocation> constantsBySchemaValue =
+                SchemaEnumLookup.forType(MeasurementLocation.class);
 
         MeasurementLocation() {
             schemaValue = name().toLowerCase();
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.domain.omh;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+
+/**
+ * A registry of the classes that represent data point bodies, keyed by the identifiers of the schemas they conform
+ * to. It's used to deserialize data point bodies whose types aren't known until their headers have been read.
+ * <p>
+ * If no class has been registered for a schema identifier, the class registered for the latest minor version with
+ * the same major version is used instead, since minor versions of a schema are backwards compatible.
+ *
+ * @author agent
+ */
+public class BodyTypeRegistry {
+
+    private final Map<SchemaId, Class<? extends SchemaSupport>> bodyTypesBySchemaId = new ConcurrentHashMap<>();
+    private final Map<String, SchemaId> latestSchemaIdsByMajorVersion = new ConcurrentHashMap<>();
+
+
+    /**
+     * @return a new registry containing the measures in this SDK
+     */
+    public static BodyTypeRegistry newDefaultRegistry() {
+
+        BodyTypeRegistry registry = new BodyTypeRegistry();
+
+        registry.register(AmbientTemperature.SCHEMA_ID, AmbientTemperature.class);
+        registry.register(BloodGlucose.SCHEMA_ID, BloodGlucose.class);
+        registry.register(BloodPressure.SCHEMA_ID, BloodPressure.class);
+        registry.register(BodyFatPercentage.SCHEMA_ID, BodyFatPercentage.class);
+        registry.register(BodyHeight.SCHEMA_ID, BodyHeight.class);
+        registry.register(BodyMassIndex1.SCHEMA_ID, BodyMassIndex1.class);
+        registry.register(BodyMassIndex2.SCHEMA_ID, BodyMassIndex2.class);
+        registry.register(BodyTemperature.SCHEMA_ID, BodyTemperature.class);
+        registry.register(BodyWeight.SCHEMA_ID, BodyWeight.class);
+        registry.register(CaloriesBurned1.SCHEMA_ID, CaloriesBurned1.class);
+        registry.register(CaloriesBurned2.SCHEMA_ID, CaloriesBurned2.class);
+        registry.register(Geoposition.SCHEMA_ID, Geoposition.class);
+        registry.register(HeartRate.SCHEMA_ID, HeartRate.class);
+        registry.register(MinutesModerateActivity.SCHEMA_ID, MinutesModerateActivity.class);
+        registry.register(OxygenSaturation.SCHEMA_ID, OxygenSaturation.class);
+        registry.register(PhysicalActivity.SCHEMA_ID, PhysicalActivity.class);
+        registry.register(RespiratoryRate.SCHEMA_ID, RespiratoryRate.class);
+        registry.register(SleepDuration1.SCHEMA_ID, SleepDuration1.class);
+        registry.register(SleepDuration2.SCHEMA_ID, SleepDuration2.class);
+        registry.register(SleepEpisode.SCHEMA_ID, SleepEpisode.class);
+        registry.register(Speed.SCHEMA_ID, Speed.class);
+        registry.register(StepCount1.SCHEMA_ID, StepCount1.class);
+        registry.register(StepCount2.SCHEMA_ID, StepCount2.class);
+
+        return registry;
+    }
+
+    /**
+     * Registers a body class, replacing any class previously registered for the same schema identifier.
+     *
+     * @param schemaId the identifier of the schema the body class conforms to
+     * @param bodyType the body class
+     */
+    public void register(SchemaId schemaId, Class<? extends SchemaSupport> bodyType) {
+
+        checkNotNull(schemaId, "A schema identifier hasn't been specified.");
+        checkNotNull(bodyType, "A body type hasn't been specified.");
+
+        bodyTypesBySchemaId.put(schemaId, bodyType);
+
+        latestSchemaIdsByMajorVersion.merge(getMajorVersionKey(schemaId), schemaId,
+                (existing, candidate) -> existing.getVersion().compareTo(candidate.getVersion()) >= 0
+                        ? existing
+                        : candidate);
+    }
+
+    /**
+     * @param schemaId a schema identifier
+     * @return the body class corresponding to the schema identifier, or null if there isn't one
+     */
+    @Nullable
+    public Class<? extends SchemaSupport> findBodyType(SchemaId schemaId) {
+
+        checkNotNull(schemaId, "A schema identifier hasn't been specified.");
+
+        Class<? extends SchemaSupport> bodyType = bodyTypesBySchemaId.get(schemaId);
+
+        if (bodyType != null) {
+            return bodyType;
+        }
+
+        SchemaId compatibleSchemaId = latestSchemaIdsByMajorVersion.get(getMajorVersionKey(schemaId));
+
+        return compatibleSchemaId == null ? null : bodyTypesBySchemaId.get(compatibleSchemaId);
+    }
+
+    private String getMajorVersionKey(SchemaId schemaId) {
+
+        return schemaId.getNamespace() + ":" + schemaId.getName() + ":" + schemaId.getVersion().getMajor();
+    }
+}
@@ -20,10 +20,14 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.openmhealth.schema.serializer.SerializationConstructor;
 
+import javax.annotation.Nullable;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Collections.emptyMap;
 
 
 /**
@@ -37,14 +41,20 @@ public class DataPoint<T> implements SchemaSupport, AdditionalPropertySupport {
 
     public static final SchemaId SCHEMA_ID = new SchemaId(OMH_NAMESPACE, "data-point", "1.0");
 
-    private String id; // this is duplicated from the header to make Spring Data happy
-    private DataPointHeader header;
-    private T body;
-    private Map<String, Object> additionalProperties = new HashMap<>();
+    private final String id; // this is duplicated from the header to make Spring Data happy
+    private final DataPointHeader header;
+    private final T body;
+    private Map<String, Object> additionalProperties; // created when the first additional property is set
+    private final Map<String, Object> unmodifiableAdditionalProperties; // only set by snapshots
 
 
     @SerializationConstructor
     protected DataPoint() {
+
+        this.id = null;
+        this.header = null;
+        this.body = null;
+        this.unmodifiableAdditionalProperties = null;
     }
 
     /**
@@ -60,6 +70,18 @@ public class DataPoint<T> implements SchemaSupport, AdditionalPropertySupport {
         this.id = header.getId();
         this.header = header;
         this.body = body;
+        this.unmodifiableAdditionalProperties = null;
+    }
+
+    private DataPoint(DataPointHeader header, T body, Map<String, Object> unmodifiableAdditionalProperties) {
+
+        checkNotNull(header, "A header hasn't been specified.");
+        checkNotNull(body, "A body hasn't been specified.");
+
+        this.id = header.getId();
+        this.header = header.toImmutable();
+        this.body = body;
+        this.unmodifiableAdditionalProperties = unmodifiableAdditionalProperties;
     }
 
     public DataPointHeader getHeader() {
@@ -77,7 +99,91 @@ public class DataPoint<T> implements SchemaSupport, AdditionalPropertySupport {
 
     @Override
     public Map<String, Object> getAdditionalProperties() {
-        return this.additionalProperties;
+
+        if (unmodifiableAdditionalProperties != null) {
+            return unmodifiableAdditionalProperties;
+        }
+
+        if (additionalProperties == null) {
+            additionalProperties = new HashMap<>();
+        }
+
+        return additionalProperties;
+    }
+
+    @Override
+    public Map<String, Object> peekAdditionalProperties() {
+
+        if (unmodifiableAdditionalProperties != null) {
+            return unmodifiableAdditionalProperties;
+        }
+
+        return additionalProperties == null ? emptyMap() : additionalProperties;
+    }
+
+    /**
+     * Creates a snapshot of this data point, whose header, acquisition provenance and additional properties, including
+     * nested maps and collections, are immutable. The body isn't copied or frozen, it's shared with this data point.
+     * A snapshot can therefore be shared between threads without copying it, as long as its body isn't modified.
+     *
+     * @return a snapshot of this data point
+     */
+    public DataPoint<T> toSnapshot() {
+
+        if (unmodifiableAdditionalProperties != null) {
+            return this;
+        }
+
+        return new DataPoint<>(header, body, AdditionalProperties.unmodifiableCopy(additionalProperties));
+    }
+
+    /**
+     * @param header the header of the copy
+     * @return a snapshot of this data point with the given header
+     * @see #toSnapshot()
+     */
+    public DataPoint<T> withHeader(DataPointHeader header) {
+
+        checkNotNull(header, "A header hasn't been specified.");
+
+        return new DataPoint<>(header, body, AdditionalProperties.unmodifiableCopy(peekAdditionalProperties()));
+    }
+
+    /**
+     * @param body the body of the copy
+     * @param <B> the type of the body of the copy
+     * @return a snapshot of this data point with the given body
+     * @see #toSnapshot()
+     */
+    public <B> DataPoint<B> withBody(B body) {
+
+        checkNotNull(body, "A body hasn't been specified.");
+
+        return new DataPoint<>(header, body, AdditionalProperties.unmodifiableCopy(peekAdditionalProperties()));
+    }
+
+    /**
+     * @param path the path of the additional property to set
+     * @param value the value of the additional property to set
+     * @return a snapshot of this data point with the additional property set
+     * @see #toSnapshot()
+     * @see #setAdditionalProperty(String, Object)
+     */
+    public DataPoint<T> withAdditionalProperty(String path, Object value) {
+        return new DataPoint<>(header, body,
+                AdditionalProperties.withProperty(peekAdditionalProperties(), path, value));
+    }
+
+    /**
+     * Gets the key of this data point for deduplication. Two data points are duplicates if their headers have the same
+     * identifier and user, regardless of their bodies. Unlike data points, keys are cheap to compare and hash, and
+     * don't reference headers or bodies, so large numbers of them can be kept in hash sets to deduplicate data points
+     * as they're ingested.
+     *
+     * @return the deduplication key of this data point
+     */
+    public DedupKey dedupKey() {
+        return new DedupKey(id, header.getUserId());
     }
 
     @SuppressWarnings("SimplifiableIfStatement")
@@ -110,4 +216,62 @@ public class DataPoint<T> implements SchemaSupport, AdditionalPropertySupport {
         result = 31 * result + body.hashCode();
         return result;
     }
+
+    /**
+     * The key of a data point for deduplication.
+     *
+     * @see #dedupKey()
+     */
+    public static final class DedupKey {
+
+        private final String id;
+        private final String userId;
+        private final int hashCode;
+
+        /**
+         * @param id the identifier of the data point
+         * @param userId the user the data point belongs to, if any
+         */
+        public DedupKey(String id, @Nullable String userId) {
+
+            checkNotNull(id, "An identifier hasn't been specified.");
+
+            this.id = id;
+            this.userId = userId;
+            this.hashCode = 31 * id.hashCode() + (userId != null ? userId.hashCode() : 0);
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public Optional<String> getUserId() {
+            return Optional.ofNullable(userId);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+
+            if (this == object) {
+                return true;
+            }
+            if (object == null || getClass() != object.getClass()) {
+                return false;
+            }
+
+            DedupKey that = (DedupKey) object;
+
+            return hashCode == that.hashCode && id.equals(that.id) && Objects.equals(userId, that.userId);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            return userId == null ? id : userId + ":" + id;
+        }
+    }
 }
@@ -27,6 +27,7 @@ import java.util.Map;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Collections.emptyMap;
 
 
 /**
@@ -40,14 +41,20 @@ import static com.google.common.base.Preconditions.checkNotNull;
 @JsonNaming(SnakeCaseStrategy.class)
 public class DataPointAcquisitionProvenance implements AdditionalPropertySupport {
 
-    private String sourceName;
-    private OffsetDateTime sourceCreationDateTime;
-    private DataPointModality modality;
-    private Map<String, Object> additionalProperties = new HashMap<>();
+    private final String sourceName;
+    private final OffsetDateTime sourceCreationDateTime;
+    private final DataPointModality modality;
+    private Map<String, Object> additionalProperties; // created when the first additional property is set
+    private final Map<String, Object> unmodifiableAdditionalProperties; // only set by immutable copies
 
 
     @SerializationConstructor
     protected DataPointAcquisitionProvenance() {
+
+        this.sourceName = null;
+        this.sourceCreationDateTime = null;
+        this.modality = null;
+        this.unmodifiableAdditionalProperties = null;
     }
 
     public static class Builder {
@@ -95,6 +102,16 @@ public class DataPointAcquisitionProvenance implements AdditionalPropertySupport
         this.sourceName = builder.sourceName;
         this.sourceCreationDateTime = builder.sourceCreationDateTime;
         this.modality = builder.modality;
+        this.unmodifiableAdditionalProperties = null;
+    }
+
+    private DataPointAcquisitionProvenance(DataPointAcquisitionProvenance source,
+            Map<String, Object> unmodifiableAdditionalProperties) {
+
+        this.sourceName = source.sourceName;
+        this.sourceCreationDateTime = source.sourceCreationDateTime;
+        this.modality = source.modality;
+        this.unmodifiableAdditionalProperties = unmodifiableAdditionalProperties;
     }
 
     public String getSourceName() {
@@ -111,7 +128,49 @@ public class DataPointAcquisitionProvenance implements AdditionalPropertySupport
 
     @Override
     public Map<String, Object> getAdditionalProperties() {
-        return this.additionalProperties;
+
+        if (unmodifiableAdditionalProperties != null) {
+            return unmodifiableAdditionalProperties;
+        }
+
+        if (additionalProperties == null) {
+            additionalProperties = new HashMap<>();
+        }
+
+        return additionalProperties;
+    }
+
+    @Override
+    public Map<String, Object> peekAdditionalProperties() {
+
+        if (unmodifiableAdditionalProperties != null) {
+            return unmodifiableAdditionalProperties;
+        }
+
+        return additionalProperties == null ? emptyMap() : additionalProperties;
+    }
+
+    /**
+     * @return an immutable copy of this acquisition provenance, whose additional properties can't be modified
+     */
+    public DataPointAcquisitionProvenance toImmutable() {
+
+        if (unmodifiableAdditionalProperties != null) {
+            return this;
+        }
+
+        return new DataPointAcquisitionProvenance(this, AdditionalProperties.unmodifiableCopy(additionalProperties));
+    }
+
+    /**
+     * @param path the path of the additional property to set
+     * @param value the value of the additional property to set
+     * @return an immutable copy of this acquisition provenance with the additional property set
+     * @see #setAdditionalProperty(String, Object)
+     */
+    public DataPointAcquisitionProvenance withAdditionalProperty(String path, Object value) {
+        return new DataPointAcquisitionProvenance(this,
+                AdditionalProperties.withProperty(peekAdditionalProperties(), path, value));
     }
 
     @SuppressWarnings("SimplifiableIfStatement")
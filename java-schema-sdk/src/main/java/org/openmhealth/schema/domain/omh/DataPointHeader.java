@@ -29,6 +29,7 @@ import java.util.Map;
 import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Collections.emptyMap;
 
 
 /**
@@ -44,16 +45,25 @@ public class DataPointHeader implements SchemaSupport, AdditionalPropertySupport
 
     public static final SchemaId SCHEMA_ID = new SchemaId(OMH_NAMESPACE, "header", "1.1");
 
-    private String id;
-    private OffsetDateTime creationDateTime;
-    private SchemaId bodySchemaId;
-    private DataPointAcquisitionProvenance acquisitionProvenance;
-    private String userId;
-    private Map<String, Object> additionalProperties = new HashMap<>();
+    private final String id;
+    private final OffsetDateTime creationDateTime;
+    private final SchemaId bodySchemaId;
+    private final DataPointAcquisitionProvenance acquisitionProvenance;
+    private final String userId;
+    private Map<String, Object> additionalProperties; // created when the first additional property is set
+    private final Map<String, Object> unmodifiableAdditionalProperties; // only set by immutable copies
+    private transient int hashCode; // only cached by immutable headers
 
 
     @SerializationConstructor
     protected DataPointHeader() {
+
+        this.id = null;
+        this.creationDateTime = null;
+        this.bodySchemaId = null;
+        this.acquisitionProvenance = null;
+        this.userId = null;
+        this.unmodifiableAdditionalProperties = null;
     }
 
     public static class Builder {
@@ -120,6 +130,18 @@ public class DataPointHeader implements SchemaSupport, AdditionalPropertySupport
         this.bodySchemaId = builder.bodySchemaId;
         this.acquisitionProvenance = builder.acquisitionProvenance;
         this.userId = builder.userId;
+        this.unmodifiableAdditionalProperties = null;
+    }
+
+    private DataPointHeader(DataPointHeader source, String id, DataPointAcquisitionProvenance acquisitionProvenance,
+            String userId, Map<String, Object> unmodifiableAdditionalProperties) {
+
+        this.id = id;
+        this.creationDateTime = source.creationDateTime;
+        this.bodySchemaId = source.bodySchemaId;
+        this.acquisitionProvenance = acquisitionProvenance == null ? null : acquisitionProvenance.toImmutable();
+        this.userId = userId;
+        this.unmodifiableAdditionalProperties = unmodifiableAdditionalProperties;
     }
 
     public String getId() {
@@ -151,7 +173,81 @@ public class DataPointHeader implements SchemaSupport, AdditionalPropertySupport
 
     @Override
     public Map<String, Object> getAdditionalProperties() {
-        return this.additionalProperties;
+
+        if (unmodifiableAdditionalProperties != null) {
+            return unmodifiableAdditionalProperties;
+        }
+
+        if (additionalProperties == null) {
+            additionalProperties = new HashMap<>();
+        }
+
+        return additionalProperties;
+    }
+
+    @Override
+    public Map<String, Object> peekAdditionalProperties() {
+
+        if (unmodifiableAdditionalProperties != null) {
+            return unmodifiableAdditionalProperties;
+        }
+
+        return additionalProperties == null ? emptyMap() : additionalProperties;
+    }
+
+    /**
+     * @return an immutable copy of this header, whose acquisition provenance and additional properties can't be
+     * modified
+     */
+    public DataPointHeader toImmutable() {
+
+        if (unmodifiableAdditionalProperties != null) {
+            return this;
+        }
+
+        return new DataPointHeader(this, id, acquisitionProvenance, userId,
+                AdditionalProperties.unmodifiableCopy(additionalProperties));
+    }
+
+    /**
+     * @param id the identifier of the copy
+     * @return an immutable copy of this header with the given identifier
+     */
+    public DataPointHeader withId(String id) {
+
+        checkNotNull(id, "An identifier hasn't been specified.");
+
+        return new DataPointHeader(this, id, acquisitionProvenance, userId,
+                AdditionalProperties.unmodifiableCopy(peekAdditionalProperties()));
+    }
+
+    /**
+     * @param acquisitionProvenance the acquisition provenance of the copy
+     * @return an immutable copy of this header with the given acquisition provenance
+     */
+    public DataPointHeader withAcquisitionProvenance(DataPointAcquisitionProvenance acquisitionProvenance) {
+        return new DataPointHeader(this, id, acquisitionProvenance, userId,
+                AdditionalProperties.unmodifiableCopy(peekAdditionalProperties()));
+    }
+
+    /**
+     * @param userId the user the copy belongs to
+     * @return an immutable copy of this header with the given user
+     */
+    public DataPointHeader withUserId(String userId) {
+        return new DataPointHeader(this, id, acquisitionProvenance, userId,
+                AdditionalProperties.unmodifiableCopy(peekAdditionalProperties()));
+    }
+
+    /**
+     * @param path the path of the additional property to set
+     * @param value the value of the additional property to set
+     * @return an immutable copy of this header with the additional property set
+     * @see #setAdditionalProperty(String, Object)
+     */
+    public DataPointHeader withAdditionalProperty(String path, Object value) {
+        return new DataPointHeader(this, id, acquisitionProvenance, userId,
+                AdditionalProperties.withProperty(peekAdditionalProperties(), path, value));
     }
 
     @SuppressWarnings("SimplifiableIfStatement")
@@ -186,11 +282,20 @@ public class DataPointHeader implements SchemaSupport, AdditionalPropertySupport
     @Override
     public int hashCode() {
 
-        int result = id.hashCode();
-        result = 31 * result + creationDateTime.hashCode();
-        result = 31 * result + bodySchemaId.hashCode();
-        result = 31 * result + (acquisitionProvenance != null ? acquisitionProvenance.hashCode() : 0);
-        result = 31 * result + (userId != null ? userId.hashCode() : 0);
+        int result = hashCode;
+
+        if (result == 0) {
+            result = id.hashCode();
+            result = 31 * result + creationDateTime.hashCode();
+            result = 31 * result + bodySchemaId.hashCode();
+            result = 31 * result + (acquisitionProvenance != null ? acquisitionProvenance.hashCode() : 0);
+            result = 31 * result + (userId != null ? userId.hashCode() : 0);
+
+            if (unmodifiableAdditionalProperties != null) {
+                hashCode = result;
+            }
+        }
+
         return result;
     }
 }
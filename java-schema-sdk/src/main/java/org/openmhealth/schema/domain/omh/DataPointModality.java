@@ -20,8 +20,6 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
-import java.util.Map;
 
 
 /**
@@ -38,13 +36,8 @@ public enum DataPointModality implements SchemaEnumValue {
     SELF_REPORTED;
 
     private String schemaValue;
-    private static final Map<String, DataPointModality> constantsBySchemaValue = new HashMap<>();
-
-    static {
-        for (DataPointModality constant : values()) {
-            constantsBySchemaValue.put(constant.getSchemaValue(), constant);
-        }
-    }
+    private static final SchemaEnumLookup<DataPointModality> constantsBySchemaValue =
+            SchemaEnumLookup.forType(DataPointModality.class);
 
     DataPointModality() {
         this.schemaValue = name().toLowerCase().replace('_', '-');
@@ -20,8 +20,6 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
-import java.util.Map;
 
 
 /**
@@ -45,13 +43,8 @@ public enum DescriptiveStatistic implements SchemaEnumValue, SchemaSupport {
     public static final SchemaId SCHEMA_ID = new SchemaId(OMH_NAMESPACE, "descriptive-statistic", "1.0");
 
     private String schemaValue;
-    private static final Map<String, DescriptiveStatistic> constantsBySchemaValue = new HashMap<>();
-
-    static {
-        for (DescriptiveStatistic constant : values()) {
-            constantsBySchemaValue.put(constant.getSchemaValue(), constant);
-        }
-    }
+    private static final SchemaEnumLookup<DescriptiveStatistic> constantsBySchemaValue =
+            SchemaEnumLookup.forType(DescriptiveStatistic.class);
 
     DescriptiveStatistic() {
         this.schemaValue = name().toLowerCase().replace('_', ' ');
@@ -20,8 +20,6 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
-import java.util.Map;
 
 
 /**
@@ -42,13 +40,8 @@ public enum DescriptiveStatisticDenominator implements SchemaEnumValue, SchemaSu
     public static final SchemaId SCHEMA_ID = new SchemaId(OMH_NAMESPACE, "descriptive-statistic-denominator", "1.0");
 
     private String schemaValue;
-    private static final Map<String, DescriptiveStatisticDenominator> constantsBySchemaValue = new HashMap<>();
-
-    static {
-        for (DescriptiveStatisticDenominator constant : values()) {
-            constantsBySchemaValue.put(constant.getSchemaValue(), constant);
-        }
-    }
+    private static final SchemaEnumLookup<DescriptiveStatisticDenominator> constantsBySchemaValue =
+            SchemaEnumLookup.forType(DescriptiveStatisticDenominator.class);
 
     DescriptiveStatisticDenominator() {
         this.schemaValue = name().toLowerCase().replace('_', ' ');
@@ -21,8 +21,6 @@ import com.fasterxml.jackson.annotation.JsonValue;
 
 import javax.annotation.Nullable;
 import java.math.BigDecimal;
-import java.util.HashMap;
-import java.util.Map;
 
 
 /**
@@ -47,13 +45,8 @@ public enum DurationUnit implements Unit {
     YEAR("yr");
 
     private String schemaValue;
-    private static final Map<String, DurationUnit> constantsBySchemaValue = new HashMap<>();
-
-    static {
-        for (DurationUnit constant : values()) {
-            constantsBySchemaValue.put(constant.getSchemaValue(), constant);
-        }
-    }
+    private static final SchemaEnumLookup<DurationUnit> constantsBySchemaValue =
+            SchemaEnumLookup.forType(DurationUnit.class);
 
     DurationUnit(String schemaValue) {
         this.schemaValue = schemaValue;
@@ -38,10 +38,17 @@ public class DurationUnitValue extends TypedUnitValue<DurationUnit> {
     }
 
     @JsonCreator
-    public DurationUnitValue(@JsonProperty("unit") DurationUnit unit, @JsonProperty("value") BigDecimal value) {
+    public DurationUnitValue(@JsonProperty("unit") DurationUnit unit, @JsonProperty("value") Number value) {
         super(unit, value);
     }
 
+    /**
+     * Kept for binary compatibility with clients compiled against earlier versions.
+     */
+    public DurationUnitValue(DurationUnit unit, BigDecimal value) {
+        this(unit, (Number) value);
+    }
+
     @Override
     public SchemaId getSchemaId() {
         return SCHEMA_ID;
@@ -54,4 +61,9 @@ public class DurationUnitValue extends TypedUnitValue<DurationUnit> {
     public DurationUnitValue(DurationUnit unit, long value) {
         super(unit, value);
     }
+
+    @Override
+    public DurationUnitValue convertTo(DurationUnit unit) {
+        return (DurationUnitValue) super.convertTo(unit);
+    }
 }
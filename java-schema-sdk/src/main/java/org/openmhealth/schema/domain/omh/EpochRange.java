@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.domain.omh;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+
+/**
+ * A range of instants, represented as nanoseconds since the epoch, that includes its start and excludes its end. A
+ * range whose start and end are the same represents a point in time.
+ * <p>
+ * Instants are representable between the years 1677 and 2262.
+ *
+ * @author agent
+ */
+public final class EpochRange {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final long startEpochNano;
+    private final long endEpochNano;
+
+
+    /**
+     * @param startEpochNano the start of the range, in nanoseconds since the epoch
+     * @param endEpochNano the end of the range, in nanoseconds since the epoch, which can't be before the start
+     */
+    public EpochRange(long startEpochNano, long endEpochNano) {
+
+        checkArgument(startEpochNano <= endEpochNano, "The specified start and end are reversed.");
+
+        this.startEpochNano = startEpochNano;
+        this.endEpochNano = endEpochNano;
+    }
+
+    public static EpochRange of(OffsetDateTime startDateTime, OffsetDateTime endDateTime) {
+
+        checkNotNull(startDateTime, "A start date time hasn't been specified.");
+        checkNotNull(endDateTime, "An end date time hasn't been specified.");
+
+        return new EpochRange(toEpochNano(startDateTime.toInstant()), toEpochNano(endDateTime.toInstant()));
+    }
+
+    public static EpochRange ofPointInTime(OffsetDateTime dateTime) {
+
+        checkNotNull(dateTime, "A point in time hasn't been specified.");
+
+        long epochNano = toEpochNano(dateTime.toInstant());
+
+        return new EpochRange(epochNano, epochNano);
+    }
+
+    /**
+     * @return the number of nanoseconds since the epoch of the given instant
+     * @throws ArithmeticException if the instant isn't representable
+     */
+    public static long toEpochNano(Instant instant) {
+
+        checkNotNull(instant, "An instant hasn't been specified.");
+
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), NANOS_PER_SECOND), instant.getNano());
+    }
+
+    public long getStartEpochNano() {
+        return startEpochNano;
+    }
+
+    public long getEndEpochNano() {
+        return endEpochNano;
+    }
+
+    public Instant getStartInstant() {
+        return Instant.ofEpochSecond(0, startEpochNano);
+    }
+
+    public Instant getEndInstant() {
+        return Instant.ofEpochSecond(0, endEpochNano);
+    }
+
+    public long getDurationNanos() {
+        return endEpochNano - startEpochNano;
+    }
+
+    public boolean isPointInTime() {
+        return startEpochNano == endEpochNano;
+    }
+
+    /**
+     * @return true if this range overlaps the range [startEpochNano, endEpochNano), i.e. if they share an instant,
+     * false otherwise
+     */
+    public boolean overlaps(long startEpochNano, long endEpochNano) {
+
+        // a point in time overlaps the ranges that include it
+        if (startEpochNano == endEpochNano) {
+            return startEpochNano >= this.startEpochNano
+                    && (startEpochNano < this.endEpochNano || isPointInTime() && startEpochNano == this.endEpochNano);
+        }
+
+        return this.startEpochNano < endEpochNano
+                && (this.endEpochNano > startEpochNano || this.startEpochNano >= startEpochNano);
+    }
+
+    public boolean overlaps(EpochRange range) {
+
+        checkNotNull(range, "A range hasn't been specified.");
+
+        return overlaps(range.startEpochNano, range.endEpochNano);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+
+        if (this == object) {
+            return true;
+        }
+        if (object == null || getClass() != object.getClass()) {
+            return false;
+        }
+
+        EpochRange that = (EpochRange) object;
+
+        return startEpochNano == that.startEpochNano && endEpochNano == that.endEpochNano;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(startEpochNano) + Long.hashCode(endEpochNano);
+    }
+
+    @Override
+    public String toString() {
+        return "[" + getStartInstant() + ", " + getEndInstant() + ")";
+    }
+}
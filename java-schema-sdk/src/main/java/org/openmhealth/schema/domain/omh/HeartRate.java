@@ -74,14 +74,14 @@ public class HeartRate extends Measure {
          * @param heartRateValue the heart rate in beats per minute
          */
         public Builder(double heartRateValue) {
-            this(BigDecimal.valueOf(heartRateValue));
+            this.heartRate = new TypedUnitValue<>(HeartRateUnit.BEATS_PER_MINUTE, heartRateValue);
         }
 
         /**
          * @param heartRateValue the heart rate in beats per minute
          */
         public Builder(long heartRateValue) {
-            this(BigDecimal.valueOf(heartRateValue));
+            this.heartRate = new TypedUnitValue<>(HeartRateUnit.BEATS_PER_MINUTE, heartRateValue);
         }
 
         public Builder setTemporalRelationshipToPhysicalActivity(TemporalRelationshipToPhysicalActivity relationship) {
@@ -20,8 +20,6 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
-import java.util.Map;
 
 
 /**
@@ -36,13 +34,8 @@ public enum HeartRateUnit implements Unit {
     BEATS_PER_MINUTE("beats/min");
 
     private String schemaValue;
-    private static final Map<String, HeartRateUnit> constantsBySchemaValue = new HashMap<>();
-
-    static {
-        for (HeartRateUnit constant : values()) {
-            constantsBySchemaValue.put(constant.getSchemaValue(), constant);
-        }
-    }
+    private static final SchemaEnumLookup<HeartRateUnit> constantsBySchemaValue =
+            SchemaEnumLookup.forType(HeartRateUnit.class);
 
     HeartRateUnit(String schemaValue) {
         this.schemaValue = schemaValue;
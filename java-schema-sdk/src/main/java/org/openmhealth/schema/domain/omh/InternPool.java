@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.domain.omh;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+
+/**
+ * A bounded, thread-safe pool of canonical instances of an immutable class. Once the pool is full, new values are
+ * created but no longer pooled, so the pool can't grow without bounds if it's fed unexpected keys.
+ *
+ * @param <K> the type of key
+ * @param <V> the type of pooled value
+ * @author agent
+ */
+class InternPool<K, V> {
+
+    private final int maximumSize;
+    private final ConcurrentMap<K, V> instances = new ConcurrentHashMap<>();
+
+
+    /**
+     * @param maximumSize the maximum number of instances to pool
+     */
+    InternPool(int maximumSize) {
+
+        checkArgument(maximumSize > 0, "A non-positive maximum size has been specified.");
+
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * @param key the key of the value
+     * @param factory the function used to create the value if it isn't pooled
+     * @return the pooled value, if one exists or there's room to pool it, or else a new value
+     */
+    V intern(K key, Function<? super K, ? extends V> factory) {
+
+        V instance = instances.get(key);
+
+        if (instance != null) {
+            return instance;
+        }
+
+        instance = factory.apply(key);
+
+        if (instances.size() >= maximumSize) {
+            return instance;
+        }
+
+        V existingInstance = instances.putIfAbsent(key, instance);
+
+        return existingInstance != null ? existingInstance : instance;
+    }
+
+    /**
+     * @return the number of pooled instances
+     */
+    int size() {
+        return instances.size();
+    }
+}
@@ -21,8 +21,6 @@ import com.fasterxml.jackson.annotation.JsonValue;
 
 import javax.annotation.Nullable;
 import java.math.BigDecimal;
-import java.util.HashMap;
-import java.util.Map;
 
 
 /**
@@ -37,13 +35,7 @@ public enum KcalUnit implements Unit {
     KILOCALORIE("kcal");
 
     private String schemaValue;
-    private static final Map<String, KcalUnit> constantsBySchemaValue = new HashMap<>();
-
-    static {
-        for (KcalUnit constant : values()) {
-            constantsBySchemaValue.put(constant.getSchemaValue(), constant);
-        }
-    }
+    private static final SchemaEnumLookup<KcalUnit> constantsBySchemaValue = SchemaEnumLookup.forType(KcalUnit.class);
 
     KcalUnit(String schemaValue) {
         this.schemaValue = schemaValue;
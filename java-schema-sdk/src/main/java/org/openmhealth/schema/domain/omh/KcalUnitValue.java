@@ -37,10 +37,17 @@ public class KcalUnitValue extends TypedUnitValue<KcalUnit> {
     }
 
     @JsonCreator
-    public KcalUnitValue(@JsonProperty("unit") KcalUnit unit, @JsonProperty("value") BigDecimal value) {
+    public KcalUnitValue(@JsonProperty("unit") KcalUnit unit, @JsonProperty("value") Number value) {
         super(unit, value);
     }
 
+    /**
+     * Kept for binary compatibility with clients compiled against earlier versions.
+     */
+    public KcalUnitValue(KcalUnit unit, BigDecimal value) {
+        this(unit, (Number) value);
+    }
+
     @Override
     public SchemaId getSchemaId() {
         return SCHEMA_ID;
@@ -53,4 +60,9 @@ public class KcalUnitValue extends TypedUnitValue<KcalUnit> {
     public KcalUnitValue(KcalUnit unit, long value) {
         super(unit, value);
     }
+
+    @Override
+    public KcalUnitValue convertTo(KcalUnit unit) {
+        return (KcalUnitValue) super.convertTo(unit);
+    }
 }
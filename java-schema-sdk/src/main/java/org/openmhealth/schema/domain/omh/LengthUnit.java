@@ -21,8 +21,6 @@ import com.fasterxml.jackson.annotation.JsonValue;
 
 import javax.annotation.Nullable;
 import java.math.BigDecimal;
-import java.util.HashMap;
-import java.util.Map;
 
 
 /**
@@ -48,13 +46,8 @@ public enum LengthUnit implements Unit {
     MILE("mi");
 
     private String schemaValue;
-    private static final Map<String, LengthUnit> constantsBySchemaValue = new HashMap<>();
-
-    static {
-        for (LengthUnit constant : values()) {
-            constantsBySchemaValue.put(constant.getSchemaValue(), constant);
-        }
-    }
+    private static final SchemaEnumLookup<LengthUnit> constantsBySchemaValue =
+            SchemaEnumLookup.forType(LengthUnit.class);
 
     LengthUnit(String schemaValue) {
         this.schemaValue = schemaValue;
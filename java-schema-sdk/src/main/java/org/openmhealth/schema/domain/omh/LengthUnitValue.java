@@ -38,10 +38,17 @@ public class LengthUnitValue extends TypedUnitValue<LengthUnit> {
     }
 
     @JsonCreator
-    public LengthUnitValue(@JsonProperty("unit") LengthUnit unit, @JsonProperty("value") BigDecimal value) {
+    public LengthUnitValue(@JsonProperty("unit") LengthUnit unit, @JsonProperty("value") Number value) {
         super(unit, value);
     }
 
+    /**
+     * Kept for binary compatibility with clients compiled against earlier versions.
+     */
+    public LengthUnitValue(LengthUnit unit, BigDecimal value) {
+        this(unit, (Number) value);
+    }
+
     @Override
     public SchemaId getSchemaId() {
         return SCHEMA_ID;
@@ -54,4 +61,9 @@ public class LengthUnitValue extends TypedUnitValue<LengthUnit> {
     public LengthUnitValue(LengthUnit unit, long value) {
         super(unit, value);
     }
+
+    @Override
+    public LengthUnitValue convertTo(LengthUnit unit) {
+        return (LengthUnitValue) super.convertTo(unit);
+    }
 }
@@ -21,8 +21,6 @@ import com.fasterxml.jackson.annotation.JsonValue;
 
 import javax.annotation.Nullable;
 import java.math.BigDecimal;
-import java.util.HashMap;
-import java.util.Map;
 
 
 /**
@@ -48,13 +46,7 @@ public enum MassUnit implements Unit {
     TON("Ton");
 
     private String schemaValue;
-    private static final Map<String, MassUnit> constantsBySchemaValue = new HashMap<>();
-
-    static {
-        for (MassUnit constant : values()) {
-            constantsBySchemaValue.put(constant.getSchemaValue(), constant);
-        }
-    }
+    private static final SchemaEnumLookup<MassUnit> constantsBySchemaValue = SchemaEnumLookup.forType(MassUnit.class);
 
     MassUnit(String schemaValue) {
         this.schemaValue = schemaValue;
@@ -38,10 +38,17 @@ public class MassUnitValue extends TypedUnitValue<MassUnit> {
     }
 
     @JsonCreator
-    public MassUnitValue(@JsonProperty("unit") MassUnit unit, @JsonProperty("value") BigDecimal value) {
+    public MassUnitValue(@JsonProperty("unit") MassUnit unit, @JsonProperty("value") Number value) {
         super(unit, value);
     }
 
+    /**
+     * Kept for binary compatibility with clients compiled against earlier versions.
+     */
+    public MassUnitValue(MassUnit unit, BigDecimal value) {
+        this(unit, (Number) value);
+    }
+
     @Override
     public SchemaId getSchemaId() {
         return SCHEMA_ID;
@@ -54,4 +61,9 @@ public class MassUnitValue extends TypedUnitValue<MassUnit> {
     public MassUnitValue(MassUnit unit, long value) {
         super(unit, value);
     }
+
+    @Override
+    public MassUnitValue convertTo(MassUnit unit) {
+        return (MassUnitValue) super.convertTo(unit);
+    }
 }
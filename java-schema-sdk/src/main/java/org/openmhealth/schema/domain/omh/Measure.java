@@ -25,6 +25,7 @@ import java.util.Objects;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Collections.emptyMap;
 
 
 /**
@@ -38,7 +39,7 @@ public abstract class Measure implements SchemaSupport, AdditionalPropertySuppor
     private TimeFrame effectiveTimeFrame;
     private DescriptiveStatistic descriptiveStatistic;
     private String userNotes;
-    private Map<String, Object> additionalProperties = new HashMap<>();
+    private Map<String, Object> additionalProperties; // created when the first additional property is set
 
 
     @SuppressWarnings("unchecked")
@@ -243,7 +244,17 @@ public abstract class Measure implements SchemaSupport, AdditionalPropertySuppor
 
     @Override
     public Map<String, Object> getAdditionalProperties() {
-        return this.additionalProperties;
+
+        if (additionalProperties == null) {
+            additionalProperties = new HashMap<>();
+        }
+
+        return additionalProperties;
+    }
+
+    @Override
+    public Map<String, Object> peekAdditionalProperties() {
+        return additionalProperties == null ? emptyMap() : additionalProperties;
     }
 
     @Override
@@ -0,0 +1,715 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.domain.omh;
+
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+
+/**
+ * A columnar batch of measures of a single type that have a unit value, such as heart rates, step counts, and body
+ * weights. Instead of holding around ten objects per measure, a batch holds its effective time frames as epoch
+ * milliseconds in a {@code long[]}, its values in a {@code double[]}, its units, time zone offsets and descriptive
+ * statistics as dictionary codes, and user notes and additional properties in sparse maps.
+ * <p>
+ * Conversion is lossless. Measures that can't be represented by these columns, e.g. because their time frames have
+ * sub-millisecond precision, their values don't fit in a double, or they have properties that their
+ * {@link Mapping mapping} doesn't cover, are kept as they are, although their columns are still filled where
+ * possible. Additional properties are copied shallowly.
+ * <p>
+ * This class isn't thread-safe.
+ *
+ * @param <M> the measure type
+ * @author agent
+ */
+public final class MeasureBatch<M extends Measure> implements Iterable<MeasureBatch<M>.Row> {
+
+    /**
+     * The epoch millisecond value of a measure without a corresponding date time.
+     */
+    public static final long NO_EPOCH_MILLI = Long.MIN_VALUE;
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+    private static final short NO_CODE = -1;
+    private static final BigDecimal MAXIMUM_INTEGRAL_DOUBLE = BigDecimal.valueOf(1L << 53);
+    private static final DescriptiveStatistic[] DESCRIPTIVE_STATISTICS = DescriptiveStatistic.values();
+
+
+    /**
+     * A mapping between a measure type and its columns.
+     *
+     * @param <M> the measure type
+     */
+    public interface Mapping<M extends Measure> {
+
+        /**
+         * @param measure a measure
+         * @return the value of the measure, or null if it doesn't have one
+         */
+        @Nullable
+        UnitValue getValue(M measure);
+
+        /**
+         * @param measure a measure
+         * @return true if the measure has properties that {@link #newMeasure} can't reproduce, in which case the
+         * measure is kept as is
+         */
+        boolean hasUnmappedProperties(M measure);
+
+        /**
+         * Creates a measure from its columns.
+         *
+         * @param value the value, which is of the same class as the value returned by {@link #getValue(Measure)}
+         * @param effectiveTimeFrame the effective time frame, if any
+         * @param descriptiveStatistic the descriptive statistic, if any
+         * @param userNotes the user notes, if any
+         * @return the measure
+         */
+        M newMeasure(UnitValue value, @Nullable TimeFrame effectiveTimeFrame,
+                @Nullable DescriptiveStatistic descriptiveStatistic, @Nullable String userNotes);
+    }
+
+
+    public static final Mapping<HeartRate> HEART_RATE_MAPPING = new Mapping<HeartRate>() {
+
+        @Override
+        public UnitValue getValue(HeartRate measure) {
+            return measure.getHeartRate();
+        }
+
+        @Override
+        public boolean hasUnmappedProperties(HeartRate measure) {
+
+            return measure.getTemporalRelationshipToPhysicalActivity() != null
+                    || measure.getTemporalRelationshipToSleep() != null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public HeartRate newMeasure(UnitValue value, TimeFrame effectiveTimeFrame,
+                DescriptiveStatistic descriptiveStatistic, String userNotes) {
+
+            return new HeartRate.Builder((TypedUnitValue<HeartRateUnit>) value)
+                    .setEffectiveTimeFrame(effectiveTimeFrame)
+                    .setDescriptiveStatistic(descriptiveStatistic)
+                    .setUserNotes(userNotes)
+                    .build();
+        }
+    };
+
+    public static final Mapping<BodyWeight> BODY_WEIGHT_MAPPING = new Mapping<BodyWeight>() {
+
+        @Override
+        public UnitValue getValue(BodyWeight measure) {
+            return measure.getBodyWeight();
+        }
+
+        @Override
+        public boolean hasUnmappedProperties(BodyWeight measure) {
+            return false;
+        }
+
+        @Override
+        public BodyWeight newMeasure(UnitValue value, TimeFrame effectiveTimeFrame,
+                DescriptiveStatistic descriptiveStatistic, String userNotes) {
+
+            return new BodyWeight.Builder((MassUnitValue) value)
+                    .setEffectiveTimeFrame(effectiveTimeFrame)
+                    .setDescriptiveStatistic(descriptiveStatistic)
+                    .setUserNotes(userNotes)
+                    .build();
+        }
+    };
+
+    /**
+     * A mapping for step counts, which hold their values as unitless numbers. These are mapped to unit values in
+     * steps.
+     */
+    public static final Mapping<StepCount2> STEP_COUNT_2_MAPPING = new Mapping<StepCount2>() {
+
+        private static final String STEPS_UNIT = "steps";
+
+        @Override
+        public UnitValue getValue(StepCount2 measure) {
+            return measure.getStepCount() == null ? null : new UnitValue(STEPS_UNIT, measure.getStepCount());
+        }
+
+        @Override
+        public boolean hasUnmappedProperties(StepCount2 measure) {
+
+            return measure.getDescriptiveStatisticDenominator() != null
+                    || measure.getEffectiveTimeFrame() == null
+                    || measure.getEffectiveTimeFrame().getTimeInterval() == null;
+        }
+
+        @Override
+        public StepCount2 newMeasure(UnitValue value, TimeFrame effectiveTimeFrame,
+                DescriptiveStatistic descriptiveStatistic, String userNotes) {
+
+            return new StepCount2.Builder(value.getValue(), effectiveTimeFrame)
+                    .setDescriptiveStatistic(descriptiveStatistic)
+                    .setUserNotes(userNotes)
+                    .build();
+        }
+    };
+
+
+    private final Mapping<M> mapping;
+    private int size;
+
+    private long[] epochMillis;
+    private short[] offsetCodes;
+    private long[] endEpochMillis;
+    private short[] endOffsetCodes;
+    private double[] values;
+    private final BitSet integralValues = new BitSet();
+    private short[] unitCodes;
+    private byte[] descriptiveStatisticCodes;
+
+    private final Dictionary<ZoneOffset> offsetDictionary = new Dictionary<>();
+    private final Dictionary<UnitKey> unitDictionary = new Dictionary<>();
+    private final List<UnitValue> unitPrototypes = new ArrayList<>();
+
+    private final Map<Integer, String> userNotes = new HashMap<>();
+    private final Map<Integer, Map<String, Object>> additionalProperties = new HashMap<>();
+    private final Map<Integer, M> unmappedMeasures = new HashMap<>();
+
+
+    public MeasureBatch(Mapping<M> mapping) {
+        this(mapping, DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public MeasureBatch(Mapping<M> mapping, int initialCapacity) {
+
+        checkNotNull(mapping, "A mapping hasn't been specified.");
+        checkArgument(initialCapacity >= 0, "A negative initial capacity has been specified.");
+
+        this.mapping = mapping;
+
+        this.epochMillis = new long[initialCapacity];
+        this.offsetCodes = new short[initialCapacity];
+        this.values = new double[initialCapacity];
+        this.unitCodes = new short[initialCapacity];
+        this.descriptiveStatisticCodes = new byte[initialCapacity];
+    }
+
+    /**
+     * Creates a batch from measures.
+     *
+     * @param mapping the mapping of the measure type
+     * @param measures the measures to add to the batch
+     * @param <M> the measure type
+     * @return the batch
+     */
+    public static <M extends Measure> MeasureBatch<M> of(Mapping<M> mapping, Iterable<? extends M> measures) {
+
+        checkNotNull(measures, "A list of measures hasn't been specified.");
+
+        MeasureBatch<M> batch = new MeasureBatch<>(mapping);
+
+        for (M measure : measures) {
+            batch.add(measure);
+        }
+
+        return batch;
+    }
+
+    /**
+     * Adds a measure to the end of this batch.
+     *
+     * @param measure the measure to add
+     */
+    public void add(M measure) {
+
+        checkNotNull(measure, "A measure hasn't been specified.");
+
+        ensureCapacity(size + 1);
+
+        int index = size++;
+
+        // each add method fills the columns as far as it can and returns false if the measure has to be kept as is
+        boolean mapped = !mapping.hasUnmappedProperties(measure);
+
+        mapped &= addEffectiveTimeFrame(index, measure.getEffectiveTimeFrame());
+        mapped &= addValue(index, mapping.getValue(measure));
+
+        DescriptiveStatistic descriptiveStatistic = measure.getDescriptiveStatistic();
+        descriptiveStatisticCodes[index] =
+                (byte) (descriptiveStatistic == null ? 0 : descriptiveStatistic.ordinal() + 1);
+
+        if (!mapped) {
+            unmappedMeasures.put(index, measure);
+            return;
+        }
+
+        if (measure.getUserNotes() != null) {
+            userNotes.put(index, measure.getUserNotes());
+        }
+
+        if (!measure.peekAdditionalProperties().isEmpty()) {
+            additionalProperties.put(index, new HashMap<>(measure.peekAdditionalProperties()));
+        }
+    }
+
+    private boolean addEffectiveTimeFrame(int index, @Nullable TimeFrame timeFrame) {
+
+        epochMillis[index] = NO_EPOCH_MILLI;
+        offsetCodes[index] = NO_CODE;
+
+        if (endEpochMillis != null) {
+            endEpochMillis[index] = NO_EPOCH_MILLI;
+            endOffsetCodes[index] = NO_CODE;
+        }
+
+        if (timeFrame == null) {
+            return true;
+        }
+
+        if (!timeFrame.peekAdditionalProperties().isEmpty()) {
+            return false;
+        }
+
+        TimeInterval timeInterval = timeFrame.getTimeInterval();
+
+        if (timeInterval == null) {
+            return addDateTime(index, timeFrame.getDateTime(), epochMillis, offsetCodes);
+        }
+
+        boolean mapped = timeFrame.getDateTime() == null
+                & timeInterval.getDuration() == null
+                & timeInterval.getDate() == null
+                & timeInterval.getPartOfDay() == null
+                & timeInterval.peekAdditionalProperties().isEmpty()
+                & timeInterval.getEndDateTime() != null
+                & addDateTime(index, timeInterval.getStartDateTime(), epochMillis, offsetCodes);
+
+        if (timeInterval.getEndDateTime() != null) {
+            ensureEndColumns();
+            mapped &= addDateTime(index, timeInterval.getEndDateTime(), endEpochMillis, endOffsetCodes);
+        }
+
+        return mapped;
+    }
+
+    private boolean addDateTime(int index, @Nullable OffsetDateTime dateTime, long[] epochMillis,
+            short[] offsetCodes) {
+
+        if (dateTime == null) {
+            return false;
+        }
+
+        Instant instant = dateTime.toInstant();
+
+        epochMillis[index] = instant.toEpochMilli();
+
+        short offsetCode = offsetDictionary.encode(dateTime.getOffset());
+        offsetCodes[index] = offsetCode;
+
+        return offsetCode != NO_CODE && instant.getNano() % 1_000_000 == 0;
+    }
+
+    private boolean addValue(int index, @Nullable UnitValue value) {
+
+        values[index] = Double.NaN;
+        unitCodes[index] = NO_CODE;
+
+        if (value == null) {
+            return false;
+        }
+
+        BigDecimal decimalValue = value.getValue();
+        boolean mapped = value.peekAdditionalProperties().isEmpty();
+
+        values[index] = value.doubleValue();
+
+        if (decimalValue.scale() == 0 && decimalValue.abs().compareTo(MAXIMUM_INTEGRAL_DOUBLE) <= 0) {
+            integralValues.set(index);
+        }
+        else {
+            integralValues.clear(index);
+
+            // the value is only held losslessly if the double converts back to the same decimal, including its scale
+            mapped &= BigDecimal.valueOf(values[index]).equals(decimalValue);
+        }
+
+        UnitKey unitKey = new UnitKey(value);
+        short unitCode = unitDictionary.encode(unitKey);
+        unitCodes[index] = unitCode;
+
+        if (unitCode == unitPrototypes.size()) {
+            unitPrototypes.add(value);
+        }
+
+        return mapped && unitCode != NO_CODE;
+    }
+
+    private void ensureCapacity(int capacity) {
+
+        if (capacity <= epochMillis.length) {
+            return;
+        }
+
+        int newCapacity = Math.max(capacity, epochMillis.length + (epochMillis.length >> 1) + 1);
+
+        epochMillis = Arrays.copyOf(epochMillis, newCapacity);
+        offsetCodes = Arrays.copyOf(offsetCodes, newCapacity);
+        values = Arrays.copyOf(values, newCapacity);
+        unitCodes = Arrays.copyOf(unitCodes, newCapacity);
+        descriptiveStatisticCodes = Arrays.copyOf(descriptiveStatisticCodes, newCapacity);
+
+        if (endEpochMillis != null) {
+            endEpochMillis = Arrays.copyOf(endEpochMillis, newCapacity);
+            endOffsetCodes = Arrays.copyOf(endOffsetCodes, newCapacity);
+        }
+    }
+
+    private void ensureEndColumns() {
+
+        if (endEpochMillis != null) {
+            return;
+        }
+
+        // the end columns are only created once a batch contains a time interval
+        endEpochMillis = new long[epochMillis.length];
+        endOffsetCodes = new short[epochMillis.length];
+
+        Arrays.fill(endEpochMillis, NO_EPOCH_MILLI);
+        Arrays.fill(endOffsetCodes, NO_CODE);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param index the index of a measure
+     * @return the epoch millisecond of the effective date time or of the start of the effective time interval, or
+     * {@link #NO_EPOCH_MILLI} if the measure doesn't have one
+     */
+    public long getEpochMilli(int index) {
+
+        checkElementIndex(index, size);
+        return epochMillis[index];
+    }
+
+    /**
+     * @param index the index of a measure
+     * @return the epoch millisecond of the end of the effective time interval, or {@link #NO_EPOCH_MILLI} if the
+     * measure doesn't have one
+     */
+    public long getEndEpochMilli(int index) {
+
+        checkElementIndex(index, size);
+        return endEpochMillis == null ? NO_EPOCH_MILLI : endEpochMillis[index];
+    }
+
+    /**
+     * @param index the index of a measure
+     * @return the value, or {@link Double#NaN} if the measure doesn't have one
+     */
+    public double getValue(int index) {
+
+        checkElementIndex(index, size);
+        return values[index];
+    }
+
+    /**
+     * @param index the index of a measure
+     * @return the unit of the value, or null if the measure doesn't have a value
+     */
+    @Nullable
+    public String getUnit(int index) {
+
+        checkElementIndex(index, size);
+        return unitCodes[index] == NO_CODE ? null : unitPrototypes.get(unitCodes[index]).getUnit();
+    }
+
+    @Nullable
+    public DescriptiveStatistic getDescriptiveStatistic(int index) {
+
+        checkElementIndex(index, size);
+
+        int code = descriptiveStatisticCodes[index];
+        return code == 0 ? null : DESCRIPTIVE_STATISTICS[code - 1];
+    }
+
+    /**
+     * @return a column of values, which must not be modified, whose length can exceed the size of this batch
+     */
+    public double[] getValueColumn() {
+        return values;
+    }
+
+    /**
+     * @return a column of epoch milliseconds, which must not be modified, whose length can exceed the size of this
+     * batch
+     * @see #getEpochMilli(int)
+     */
+    public long[] getEpochMilliColumn() {
+        return epochMillis;
+    }
+
+    /**
+     * Creates the measure at an index of this batch.
+     *
+     * @param index the index of a measure
+     * @return a measure equal to the one that was added to this batch
+     */
+    public M getMeasure(int index) {
+
+        checkElementIndex(index, size);
+
+        M unmappedMeasure = unmappedMeasures.get(index);
+
+        if (unmappedMeasure != null) {
+            return unmappedMeasure;
+        }
+
+        UnitValue unitPrototype = unitPrototypes.get(unitCodes[index]);
+        UnitValue value = integralValues.get(index)
+                ? unitPrototype.copyWithValue((long) values[index])
+                : unitPrototype.copyWithValue(values[index]);
+
+        M measure = mapping.newMeasure(value, getEffectiveTimeFrame(index), getDescriptiveStatistic(index),
+                userNotes.get(index));
+
+        Map<String, Object> measureAdditionalProperties = additionalProperties.get(index);
+
+        if (measureAdditionalProperties != null) {
+            measure.getAdditionalProperties().putAll(measureAdditionalProperties);
+        }
+
+        return measure;
+    }
+
+    @Nullable
+    private TimeFrame getEffectiveTimeFrame(int index) {
+
+        if (offsetCodes[index] == NO_CODE) {
+            return null;
+        }
+
+        OffsetDateTime dateTime = toDateTime(epochMillis[index], offsetCodes[index]);
+
+        if (endEpochMillis == null || endOffsetCodes[index] == NO_CODE) {
+            return new TimeFrame(dateTime);
+        }
+
+        OffsetDateTime endDateTime = toDateTime(endEpochMillis[index], endOffsetCodes[index]);
+
+        return new TimeFrame(TimeInterval.ofStartDateTimeAndEndDateTime(dateTime, endDateTime));
+    }
+
+    private OffsetDateTime toDateTime(long epochMilli, short offsetCode) {
+        return Instant.ofEpochMilli(epochMilli).atOffset(offsetDictionary.decode(offsetCode));
+    }
+
+    /**
+     * @return the measures in this batch
+     */
+    public List<M> toMeasures() {
+
+        List<M> measures = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            measures.add(getMeasure(i));
+        }
+
+        return measures;
+    }
+
+    /**
+     * Returns an iterator over the rows of this batch. To avoid allocation, the iterator returns the same {@link Row}
+     * instance on each call to {@link Iterator#next()}, moved to the next measure, so rows must not be retained.
+     *
+     * @return an iterator over the rows of this batch
+     */
+    @Override
+    public Iterator<Row> iterator() {
+
+        Row row = new Row();
+
+        return new Iterator<Row>() {
+
+            @Override
+            public boolean hasNext() {
+                return row.index + 1 < size;
+            }
+
+            @Override
+            public Row next() {
+
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                row.index++;
+                return row;
+            }
+        };
+    }
+
+
+    /**
+     * A reusable view of a measure in a batch.
+     */
+    public final class Row {
+
+        private int index = -1;
+
+        private Row() {
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * @see MeasureBatch#getEpochMilli(int)
+         */
+        public long getEpochMilli() {
+            return epochMillis[index];
+        }
+
+        /**
+         * @see MeasureBatch#getEndEpochMilli(int)
+         */
+        public long getEndEpochMilli() {
+            return endEpochMillis == null ? NO_EPOCH_MILLI : endEpochMillis[index];
+        }
+
+        /**
+         * @see MeasureBatch#getValue(int)
+         */
+        public double getValue() {
+            return values[index];
+        }
+
+        /**
+         * @see MeasureBatch#getUnit(int)
+         */
+        @Nullable
+        public String getUnit() {
+            return MeasureBatch.this.getUnit(index);
+        }
+
+        @Nullable
+        public DescriptiveStatistic getDescriptiveStatistic() {
+            return MeasureBatch.this.getDescriptiveStatistic(index);
+        }
+
+        /**
+         * @see MeasureBatch#getMeasure(int)
+         */
+        public M toMeasure() {
+            return getMeasure(index);
+        }
+    }
+
+
+    /**
+     * The identity of a unit, which includes the class of the unit value since typed unit values can share units
+     * with untyped ones.
+     */
+    private static final class UnitKey {
+
+        private final Class<?> unitValueClass;
+        private final String unit;
+
+        UnitKey(UnitValue unitValue) {
+
+            this.unitValueClass = unitValue.getClass();
+            this.unit = unitValue.getUnit();
+        }
+
+        @Override
+        public boolean equals(Object object) {
+
+            if (this == object) {
+                return true;
+            }
+            if (object == null || getClass() != object.getClass()) {
+                return false;
+            }
+
+            UnitKey unitKey = (UnitKey) object;
+
+            return unitValueClass.equals(unitKey.unitValueClass) && unit.equals(unitKey.unit);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * unitValueClass.hashCode() + unit.hashCode();
+        }
+    }
+
+
+    /**
+     * A dictionary that encodes up to {@link Short#MAX_VALUE} distinct values as codes.
+     */
+    private static final class Dictionary<T> {
+
+        private final Map<T, Short> codesByValue = new HashMap<>();
+        private final List<T> values = new ArrayList<>();
+
+        /**
+         * @return the code of the value, or {@link #NO_CODE} if the dictionary is full
+         */
+        short encode(T value) {
+
+            Short code = codesByValue.get(value);
+
+            if (code != null) {
+                return code;
+            }
+
+            if (values.size() == Short.MAX_VALUE) {
+                return NO_CODE;
+            }
+
+            code = (short) values.size();
+
+            codesByValue.put(value, code);
+            values.add(value);
+
+            return code;
+        }
+
+        T decode(short code) {
+            return values.get(code);
+        }
+    }
+}
@@ -20,8 +20,6 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
-import java.util.Map;
 
 
 /**
@@ -33,13 +31,8 @@ public enum OxygenFlowRateUnit implements Unit {
 
     private final String schemaValue;
 
-    private static final Map<String, OxygenFlowRateUnit> constantsBySchemaValue = new HashMap<>();
-
-    static {
-        for (OxygenFlowRateUnit constant : values()) {
-            constantsBySchemaValue.put(constant.getSchemaValue(), constant);
-        }
-    }
+    private static final SchemaEnumLookup<OxygenFlowRateUnit> constantsBySchemaValue =
+            SchemaEnumLookup.forType(OxygenFlowRateUnit.class);
 
     OxygenFlowRateUnit(String schemaValue) {
         this.schemaValue = schemaValue;
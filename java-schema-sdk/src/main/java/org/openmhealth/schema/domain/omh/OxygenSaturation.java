@@ -23,12 +23,9 @@ import com.fasterxml.jackson.annotation.JsonValue;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy.SnakeCaseStrategy;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
-import com.google.common.collect.Maps;
 import org.openmhealth.schema.serializer.SerializationConstructor;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
-import java.util.Map;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -56,14 +53,8 @@ public class OxygenSaturation extends Measure {
         NASAL_CANNULA;
 
         private String schemaValue;
-        private static final Map<String, SupplementalOxygenAdministrationMode> constantsBySchemaValue =
-                Maps.newHashMap();
-
-        static {
-            for (SupplementalOxygenAdministrationMode mode : values()) {
-                constantsBySchemaValue.put(mode.getSchemaValue(), mode);
-            }
-        }
+        private static final SchemaEnumLookup<SupplementalOxygenAdministrationMode> constantsBySchemaValue =
+                SchemaEnumLookup.forType(SupplementalOxygenAdministrationMode.class);
 
         SupplementalOxygenAdministrationMode() {
             this.schemaValue = name().toLowerCase().replace('_', ' ');
@@ -92,13 +83,8 @@ public class OxygenSaturation extends Measure {
         PERIPHERAL_CAPILLARY;
 
         private String schemaValue;
-        private static final Map<String, MeasurementSystem> constantsBySchemaValue = Maps.newHashMap();
-
-        static {
-            for (MeasurementSystem system : values()) {
-                constantsBySchemaValue.put(system.getSchemaValue(), system);
-            }
-        }
+        private static final SchemaEnumLookup<MeasurementSystem> constantsBySchemaValue =
+                SchemaEnumLookup.forType(MeasurementSystem.class);
 
         MeasurementSystem() {
             this.schemaValue = name().toLowerCase().replace('_', ' ');
@@ -129,13 +115,8 @@ public class OxygenSaturation extends Measure {
 
         private String schemaValue;
 
-        private static final Map<String, MeasurementMethod> constantsBySchemaValue = new HashMap<>();
-
-        static {
-            for (MeasurementMethod constant : values()) {
-                constantsBySchemaValue.put(constant.getSchemaValue(), constant);
-            }
-        }
+        private static final SchemaEnumLookup<MeasurementMethod> constantsBySchemaValue =
+                SchemaEnumLookup.forType(MeasurementMethod.class);
 
         MeasurementMethod() {
             this.schemaValue = name().toLowerCase().replace('_', ' ');
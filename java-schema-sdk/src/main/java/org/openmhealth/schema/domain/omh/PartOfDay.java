@@ -20,8 +20,6 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
-import java.util.Map;
 
 
 /**
@@ -42,13 +40,7 @@ public enum PartOfDay implements SchemaEnumValue, SchemaSupport {
     public static final SchemaId SCHEMA_ID = new SchemaId(OMH_NAMESPACE, "part-of-day", "1.0");
 
     private String schemaValue;
-    private static final Map<String, PartOfDay> constantsBySchemaValue = new HashMap<>();
-
-    static {
-        for (PartOfDay constant : values()) {
-            constantsBySchemaValue.put(constant.getSchemaValue(), constant);
-        }
-    }
+    private static final SchemaEnumLookup<PartOfDay> constantsBySchemaValue = SchemaEnumLookup.forType(PartOfDay.class);
 
     PartOfDay() {
         this.schemaValue = name().toLowerCase().replace('_', ' ');
@@ -20,8 +20,6 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
-import java.util.Map;
 
 
 /**
@@ -32,13 +30,8 @@ public enum PercentUnit implements Unit {
     PERCENT("%");
 
     private final String schemaValue;
-    private static final Map<String, PercentUnit> constantsBySchemaValue = new HashMap<>();
-
-    static {
-        for (PercentUnit constant : values()) {
-            constantsBySchemaValue.put(constant.getSchemaValue(), constant);
-        }
-    }
+    private static final SchemaEnumLookup<PercentUnit> constantsBySchemaValue =
+            SchemaEnumLookup.forType(PercentUnit.class);
 
     PercentUnit(String schemaValue) {
         this.schemaValue = schemaValue;
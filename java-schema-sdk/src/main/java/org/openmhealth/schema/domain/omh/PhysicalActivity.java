@@ -25,8 +25,6 @@ import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import org.openmhealth.schema.serializer.SerializationConstructor;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
-import java.util.Map;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -57,13 +55,8 @@ public class PhysicalActivity extends Measure {
         VIGOROUS;
 
         private String schemaValue;
-        private static final Map<String, SelfReportedIntensity> constantsBySchemaValue = new HashMap<>();
-
-        static {
-            for (SelfReportedIntensity constant : values()) {
-                constantsBySchemaValue.put(constant.getSchemaValue(), constant);
-            }
-        }
+        private static final SchemaEnumLookup<SelfReportedIntensity> constantsBySchemaValue =
+                SchemaEnumLookup.forType(SelfReportedIntensity.class);
 
         SelfReportedIntensity() {
             this.schemaValue = name().toLowerCase().replace('_', ' ');
@@ -21,8 +21,6 @@ import com.fasterxml.jackson.annotation.JsonValue;
 
 import javax.annotation.Nullable;
 import java.math.BigDecimal;
-import java.util.HashMap;
-import java.util.Map;
 
 
 /**
@@ -37,13 +35,8 @@ public enum PlaneAngleUnit implements Unit {
     DEGREE_OF_ARC("deg");
 
     private String schemaValue;
-    private static final Map<String, PlaneAngleUnit> constantsBySchemaValue = new HashMap<>();
-
-    static {
-        for (PlaneAngleUnit constant : values()) {
-            constantsBySchemaValue.put(constant.getSchemaValue(), constant);
-        }
-    }
+    private static final SchemaEnumLookup<PlaneAngleUnit> constantsBySchemaValue =
+            SchemaEnumLookup.forType(PlaneAngleUnit.class);
 
     PlaneAngleUnit(String schemaValue) {
         this.schemaValue = schemaValue;
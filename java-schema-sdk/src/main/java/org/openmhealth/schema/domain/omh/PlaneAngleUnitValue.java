@@ -37,10 +37,17 @@ public class PlaneAngleUnitValue extends TypedUnitValue<PlaneAngleUnit> {
     }
 
     @JsonCreator
-    public PlaneAngleUnitValue(@JsonProperty("unit") PlaneAngleUnit unit, @JsonProperty("value") BigDecimal value) {
+    public PlaneAngleUnitValue(@JsonProperty("unit") PlaneAngleUnit unit, @JsonProperty("value") Number value) {
         super(unit, value);
     }
 
+    /**
+     * Kept for binary compatibility with clients compiled against earlier versions.
+     */
+    public PlaneAngleUnitValue(PlaneAngleUnit unit, BigDecimal value) {
+        this(unit, (Number) value);
+    }
+
     @Override
     public SchemaId getSchemaId() {
         return SCHEMA_ID;
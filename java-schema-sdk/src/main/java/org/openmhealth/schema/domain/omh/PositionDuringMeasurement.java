@@ -20,8 +20,6 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
-import java.util.Map;
 
 
 /**
@@ -42,13 +40,8 @@ public enum PositionDuringMeasurement implements SchemaEnumValue, SchemaSupport
     public static final SchemaId SCHEMA_ID = new SchemaId(OMH_NAMESPACE, "position-during-measurement", "1.0");
 
     private String schemaValue;
-    private static final Map<String, PositionDuringMeasurement> constantsBySchemaValue = new HashMap<>();
-
-    static {
-        for (PositionDuringMeasurement constant : values()) {
-            constantsBySchemaValue.put(constant.getSchemaValue(), constant);
-        }
-    }
+    private static final SchemaEnumLookup<PositionDuringMeasurement> constantsBySchemaValue =
+            SchemaEnumLookup.forType(PositionDuringMeasurement.class);
 
     @Override
     public SchemaId getSchemaId() {
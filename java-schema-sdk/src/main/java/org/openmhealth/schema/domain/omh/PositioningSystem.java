@@ -4,8 +4,6 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
-import java.util.Map;
 
 
 /**
@@ -15,7 +13,7 @@ import java.util.Map;
  * @version 1.0
  * @see <a href="http://www.openmhealth.org/documentation/#/schema-docs/schema-library/schemas/omh_geoposition">geoposition</a>
  */
-enum PositioningSystem implements SchemaEnumValue {
+public enum PositioningSystem implements SchemaEnumValue {
 
     GPS,
     GLONASS,
@@ -26,13 +24,8 @@ enum PositioningSystem implements SchemaEnumValue {
     QZSS;
 
     private String schemaValue;
-    private static final Map<String, PositioningSystem> constantsBySchemaValue = new HashMap<>();
-
-    static {
-        for (PositioningSystem constant : values()) {
-            constantsBySchemaValue.put(constant.getSchemaValue(), constant);
-        }
-    }
+    private static final SchemaEnumLookup<PositioningSystem> constantsBySchemaValue =
+            SchemaEnumLookup.forType(PositioningSystem.class);
 
     PositioningSystem() {
         this.schemaValue = this.name();
@@ -22,11 +22,9 @@ import com.fasterxml.jackson.annotation.JsonValue;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy.SnakeCaseStrategy;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
-import com.google.common.collect.Maps;
 import org.openmhealth.schema.serializer.SerializationConstructor;
 
 import javax.annotation.Nullable;
-import java.util.Map;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -43,7 +41,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 @JsonNaming(SnakeCaseStrategy.class)
 public class RespiratoryRate extends Measure {
 
-    private static final SchemaId SCHEMA_ID = new SchemaId(OMH_NAMESPACE, "respiratory-rate", "1.0");
+    public static final SchemaId SCHEMA_ID = new SchemaId(OMH_NAMESPACE, "respiratory-rate", "1.0");
 
 
     /**
@@ -54,13 +52,8 @@ public class RespiratoryRate extends Measure {
         BREATHS_PER_MINUTE("breaths/min");
 
         private final String schemaValue;
-        private static final Map<String, RespirationUnit> constantsBySchemaValue = Maps.newHashMap();
-
-        static {
-            for (RespirationUnit unit : values()) {
-                constantsBySchemaValue.put(unit.getSchemaValue(), unit);
-            }
-        }
+        private static final SchemaEnumLookup<RespirationUnit> constantsBySchemaValue =
+                SchemaEnumLookup.forType(RespirationUnit.class);
 
         RespirationUnit(String schemaValue) {
             this.schemaValue = schemaValue;
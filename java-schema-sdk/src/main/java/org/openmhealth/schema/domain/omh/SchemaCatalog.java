@@ -0,0 +1,374 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.domain.omh;
+
+import javax.annotation.Nullable;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+
+/**
+ * An index of the schemas in a schema library, used to resolve wildcard versions like "1.x" to the latest minor
+ * version of a schema without walking the library. The versions of each schema are kept in a sorted set per major
+ * version, so the latest compatible version of a schema is found with a single hash lookup and a logarithmic search.
+ * <p>
+ * A catalog can be built from a schema directory or read from a catalog file, which lists one schema identifier per
+ * line. The SDK build generates a catalog file of the schemas in this repository, which is loaded by
+ * {@link #newDefaultCatalog()}. Catalogs are immutable once created.
+ *
+ * @author agent
+ */
+public class SchemaCatalog {
+
+    /**
+     * The name of the catalog file generated by the SDK build, relative to this class.
+     */
+    public static final String DEFAULT_CATALOG_RESOURCE = "schema-catalog.txt";
+
+    private static final String SCHEMA_FILE_EXTENSION = ".json";
+    private static final char COMMENT_PREFIX = '#';
+
+    private final Set<SchemaId> schemaIds;
+    private final Map<VersionLine, NavigableSet<SchemaVersion>> versionsByLine = new HashMap<>();
+
+
+    public SchemaCatalog(Collection<SchemaId> schemaIds) {
+
+        checkNotNull(schemaIds, "A collection of schema identifiers hasn't been specified.");
+
+        for (SchemaId schemaId : schemaIds) {
+            checkNotNull(schemaId, "A null schema identifier has been specified.");
+
+            versionsByLine
+                    .computeIfAbsent(new VersionLine(schemaId), line -> new TreeSet<>())
+                    .add(schemaId.getVersion());
+        }
+
+        for (Map.Entry<VersionLine, NavigableSet<SchemaVersion>> entry : versionsByLine.entrySet()) {
+            entry.setValue(Collections.unmodifiableNavigableSet(entry.getValue()));
+        }
+
+        this.schemaIds = Collections.unmodifiableSet(new HashSet<>(schemaIds));
+    }
+
+    /**
+     * @return the catalog of the schemas in this SDK's schema library, generated when the SDK was built
+     * @throws IllegalStateException if the catalog file is missing or can't be read
+     */
+    public static SchemaCatalog newDefaultCatalog() {
+
+        try (InputStream inputStream = SchemaCatalog.class.getResourceAsStream(DEFAULT_CATALOG_RESOURCE)) {
+            if (inputStream == null) {
+                throw new IllegalStateException(
+                        "The catalog file '" + DEFAULT_CATALOG_RESOURCE + "' hasn't been found on the classpath.");
+            }
+
+            return read(new InputStreamReader(inputStream, UTF_8));
+        }
+        catch (IOException e) {
+            throw new IllegalStateException("The catalog file '" + DEFAULT_CATALOG_RESOURCE + "' can't be read.", e);
+        }
+    }
+
+    /**
+     * Creates a catalog of the schemas in a directory that contains a subdirectory per namespace, like the "schema"
+     * directory of this repository. Files named after wildcard versions, e.g. "omh/heart-rate-1.x.json", are skipped.
+     *
+     * @param schemaDirectory the directory to catalog
+     * @return the catalog
+     * @throws IOException if the directory can't be read
+     */
+    public static SchemaCatalog fromDirectory(Path schemaDirectory) throws IOException {
+
+        checkNotNull(schemaDirectory, "A schema directory hasn't been specified.");
+        checkArgument(Files.isDirectory(schemaDirectory), "The path '%s' isn't a directory.", schemaDirectory);
+
+        List<SchemaId> schemaIds = new ArrayList<>();
+
+        try (DirectoryStream<Path> namespaceDirectories =
+                Files.newDirectoryStream(schemaDirectory, Files::isDirectory)) {
+            for (Path namespaceDirectory : namespaceDirectories) {
+                String namespace = namespaceDirectory.getFileName().toString();
+
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(namespaceDirectory)) {
+                    for (Path file : files) {
+                        SchemaId schemaId = getSchemaId(namespace, file.getFileName().toString());
+
+                        if (schemaId != null) {
+                            schemaIds.add(schemaId);
+                        }
+                    }
+                }
+            }
+        }
+
+        return new SchemaCatalog(schemaIds);
+    }
+
+    /**
+     * Reads a catalog file, which contains one schema identifier per line, e.g. "omh:heart-rate:1.1". Blank lines
+     * and lines starting with '#' are ignored.
+     *
+     * @param reader the reader to read the catalog file from, which isn't closed
+     * @return the catalog
+     * @throws IOException if the catalog file can't be read
+     * @throws IllegalArgumentException if the catalog file contains a malformed schema identifier
+     */
+    public static SchemaCatalog read(Reader reader) throws IOException {
+
+        checkNotNull(reader, "A reader hasn't been specified.");
+
+        BufferedReader bufferedReader = new BufferedReader(reader);
+        List<SchemaId> schemaIds = new ArrayList<>();
+        String line;
+
+        while ((line = bufferedReader.readLine()) != null) {
+            line = line.trim();
+
+            if (line.isEmpty() || line.charAt(0) == COMMENT_PREFIX) {
+                continue;
+            }
+
+            int nameStart = line.indexOf(':') + 1;
+            int versionStart = line.indexOf(':', nameStart) + 1;
+
+            checkArgument(nameStart > 0 && versionStart > 0, "The catalog entry '%s' is malformed.", line);
+
+            schemaIds.add(SchemaId.of(
+                    line.substring(0, nameStart - 1),
+                    line.substring(nameStart, versionStart - 1),
+                    line.substring(versionStart)));
+        }
+
+        return new SchemaCatalog(schemaIds);
+    }
+
+    /**
+     * Writes this catalog as a catalog file that can be read by {@link #read(Reader)}. Schema identifiers are written
+     * in order, so that the same catalog always produces the same file.
+     *
+     * @param writer the writer to write the catalog file to, which isn't closed
+     * @throws IOException if the catalog file can't be written
+     */
+    public void write(Writer writer) throws IOException {
+
+        checkNotNull(writer, "A writer hasn't been specified.");
+
+        List<SchemaId> sortedSchemaIds = new ArrayList<>(schemaIds);
+        Collections.sort(sortedSchemaIds);
+
+        for (SchemaId schemaId : sortedSchemaIds) {
+            writer.write(schemaId.toString());
+            writer.write('\n');
+        }
+
+        writer.flush();
+    }
+
+    /**
+     * Writes a catalog file of the schemas in a directory. The build uses this method to generate the default
+     * catalog, so that schema filenames are only parsed by {@link #getSchemaId(String, String)}.
+     *
+     * @param args the schema directory and the catalog file to write
+     * @throws IOException if the directory can't be read or the catalog file can't be written
+     */
+    public static void main(String[] args) throws IOException {
+
+        checkArgument(args.length == 2, "A schema directory and a catalog file haven't been specified.");
+
+        SchemaCatalog catalog = fromDirectory(Paths.get(args[0]));
+        Path catalogFile = Paths.get(args[1]);
+
+        Files.createDirectories(catalogFile.toAbsolutePath().getParent());
+
+        try (Writer writer = Files.newBufferedWriter(catalogFile, UTF_8)) {
+            catalog.write(writer);
+        }
+    }
+
+    /**
+     * Parses the identifier of a schema from the name of its file, e.g. "heart-rate-1.0.json".
+     *
+     * @param namespace the namespace of the schema
+     * @param filename the name of the schema file
+     * @return the schema identifier, or null if the filename doesn't name a specific version of a schema
+     */
+    @Nullable
+    public static SchemaId getSchemaId(String namespace, String filename) {
+
+        checkNotNull(namespace, "A namespace hasn't been specified.");
+        checkNotNull(filename, "A filename hasn't been specified.");
+
+        if (!filename.endsWith(SCHEMA_FILE_EXTENSION)) {
+            return null;
+        }
+
+        String baseName = filename.substring(0, filename.length() - SCHEMA_FILE_EXTENSION.length());
+        int versionSeparatorIndex = baseName.lastIndexOf('-');
+
+        if (versionSeparatorIndex < 0) {
+            return null;
+        }
+
+        String name = baseName.substring(0, versionSeparatorIndex);
+        String version = baseName.substring(versionSeparatorIndex + 1);
+
+        if (!SchemaId.isValidNamespace(namespace) || !SchemaId.isValidName(name)
+                || !SchemaVersion.isValidVersion(version)) {
+            return null;
+        }
+
+        return SchemaId.of(namespace, name, version);
+    }
+
+    /**
+     * @return the identifiers of the schemas in this catalog
+     */
+    public Set<SchemaId> getSchemaIds() {
+        return schemaIds;
+    }
+
+    public boolean contains(SchemaId schemaId) {
+
+        checkNotNull(schemaId, "A schema identifier hasn't been specified.");
+
+        return schemaIds.contains(schemaId);
+    }
+
+    /**
+     * @param namespace the namespace of the schema
+     * @param name the name of the schema
+     * @param majorVersion the major version of the schema
+     * @return the versions of the schema with that major version, in ascending order
+     */
+    public NavigableSet<SchemaVersion> getVersions(String namespace, String name, int majorVersion) {
+
+        checkNotNull(namespace, "A namespace hasn't been specified.");
+        checkNotNull(name, "A name hasn't been specified.");
+
+        NavigableSet<SchemaVersion> versions = versionsByLine.get(new VersionLine(namespace, name, majorVersion));
+
+        return versions != null ? versions : Collections.emptyNavigableSet();
+    }
+
+    /**
+     * Resolves a wildcard version like "1.x" to the latest version of a schema with that major version.
+     *
+     * @param namespace the namespace of the schema
+     * @param name the name of the schema
+     * @param majorVersion the major version of the schema
+     * @return the latest version of the schema with that major version, or null if there's no such version
+     */
+    @Nullable
+    public SchemaVersion findLatestVersion(String namespace, String name, int majorVersion) {
+
+        NavigableSet<SchemaVersion> versions = getVersions(namespace, name, majorVersion);
+
+        return versions.isEmpty() ? null : versions.last();
+    }
+
+    /**
+     * Finds the latest version of a schema that documents conforming to the specified schema also conform to. Since
+     * minor versions of a schema are backwards compatible, this is the latest version with the same major version,
+     * as long as it isn't older than the specified version.
+     *
+     * @param schemaId a schema identifier
+     * @return the identifier of the latest compatible schema, or null if this catalog doesn't contain one
+     */
+    @Nullable
+    public SchemaId findLatestCompatibleSchemaId(SchemaId schemaId) {
+
+        checkNotNull(schemaId, "A schema identifier hasn't been specified.");
+
+        SchemaVersion version = schemaId.getVersion();
+        SchemaVersion latestVersion =
+                findLatestVersion(schemaId.getNamespace(), schemaId.getName(), version.getMajor());
+
+        if (latestVersion == null || latestVersion.compareTo(version) < 0) {
+            return null;
+        }
+
+        return latestVersion.equals(version)
+                ? schemaId
+                : SchemaId.of(schemaId.getNamespace(), schemaId.getName(), latestVersion.toString());
+    }
+
+    /**
+     * The key of the versions of a schema that share a major version.
+     */
+    private static final class VersionLine {
+
+        private final String namespace;
+        private final String name;
+        private final int majorVersion;
+
+
+        VersionLine(SchemaId schemaId) {
+            this(schemaId.getNamespace(), schemaId.getName(), schemaId.getVersion().getMajor());
+        }
+
+        VersionLine(String namespace, String name, int majorVersion) {
+            this.namespace = namespace;
+            this.name = name;
+            this.majorVersion = majorVersion;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+
+            if (this == object) {
+                return true;
+            }
+
+            if (object == null || getClass() != object.getClass()) {
+                return false;
+            }
+
+            VersionLine that = (VersionLine) object;
+
+            return majorVersion == that.majorVersion && namespace.equals(that.namespace) && name.equals(that.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * namespace.hashCode() + name.hashCode()) + majorVersion;
+        }
+    }
+}
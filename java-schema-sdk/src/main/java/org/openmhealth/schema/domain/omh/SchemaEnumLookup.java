@@ -0,0 +1,227 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.domain.omh;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+
+/**
+ * A lookup of the constants of a schema enumeration by their schema values. The lookup uses a perfect hash of the
+ * schema values, which is found when the lookup is created, so that finding a constant takes a single hash
+ * computation and comparison. Since it can match the characters of a parser's text buffer, deserializers can find
+ * constants without creating a {@link String} for each value.
+ *
+ * @param <E> the enumeration type
+ * @author agent
+ */
+public final class SchemaEnumLookup<E extends Enum<E> & SchemaEnumValue> {
+
+    private static final int MAXIMUM_SEED_COUNT = 1024;
+    private static final int MAXIMUM_TABLE_SIZE_FACTOR = 16;
+
+    @SuppressWarnings("unchecked")
+    private static final ClassValue<SchemaEnumLookup<?>> lookupsByType = new ClassValue<SchemaEnumLookup<?>>() {
+
+        @Override
+        protected SchemaEnumLookup<?> computeValue(Class<?> type) {
+            return new SchemaEnumLookup((Enum[]) type.getEnumConstants());
+        }
+    };
+
+    private final List<String> schemaValues;
+    private final int multiplier;
+    private final int shift;
+    private final char[][] schemaValuesBySlot;
+    private final E[] constantsBySlot;
+
+
+    /**
+     * @param constants the constants of the enumeration, usually its {@code values()}
+     * @throws IllegalArgumentException if the constants don't have distinct schema values
+     */
+    @SuppressWarnings("unchecked")
+    public SchemaEnumLookup(E[] constants) {
+
+        checkNotNull(constants, "Constants haven't been specified.");
+
+        List<String> schemaValues = new ArrayList<>(constants.length);
+        Set<String> distinctSchemaValues = new HashSet<>();
+
+        for (E constant : constants) {
+            String schemaValue = constant.getSchemaValue();
+
+            checkArgument(distinctSchemaValues.add(schemaValue), "The schema value '%s' isn't unique.", schemaValue);
+            schemaValues.add(schemaValue);
+        }
+
+        this.schemaValues = Collections.unmodifiableList(schemaValues);
+
+        int minimumTableSize = Integer.highestOneBit(Math.max(constants.length, 1)) * 2;
+
+        for (int tableSize = minimumTableSize; ; tableSize *= 2) {
+
+            checkArgument(tableSize <= minimumTableSize * MAXIMUM_TABLE_SIZE_FACTOR,
+                    "A perfect hash of the schema values %s can't be found.", schemaValues);
+
+            int shift = Integer.SIZE - Integer.numberOfTrailingZeros(tableSize);
+
+            for (int seed = 0; seed < MAXIMUM_SEED_COUNT; seed++) {
+                int multiplier = getMultiplier(seed);
+                E[] constantsBySlot = (E[]) new Enum[tableSize];
+                boolean perfect = true;
+
+                for (E constant : constants) {
+                    String schemaValue = constant.getSchemaValue();
+                    int slot = hash(schemaValue, multiplier) >>> shift;
+
+                    if (constantsBySlot[slot] != null) {
+                        perfect = false;
+                        break;
+                    }
+
+                    constantsBySlot[slot] = constant;
+                }
+
+                if (perfect) {
+                    this.multiplier = multiplier;
+                    this.shift = shift;
+                    this.constantsBySlot = constantsBySlot;
+                    this.schemaValuesBySlot = new char[tableSize][];
+
+                    for (int slot = 0; slot < tableSize; slot++) {
+                        if (constantsBySlot[slot] != null) {
+                            schemaValuesBySlot[slot] = constantsBySlot[slot].getSchemaValue().toCharArray();
+                        }
+                    }
+
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * @param enumType an enumeration type
+     * @param <E> the enumeration type
+     * @return a shared lookup of the constants of the enumeration
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E> & SchemaEnumValue> SchemaEnumLookup<E> forType(Class<E> enumType) {
+
+        checkNotNull(enumType, "An enumeration type hasn't been specified.");
+
+        return (SchemaEnumLookup<E>) lookupsByType.get(enumType);
+    }
+
+    private static int getMultiplier(int seed) {
+
+        // odd multipliers spread over the integers, starting with the FNV prime
+        return 0x01000193 + seed * 0x9E3779B8;
+    }
+
+    private static int hash(String string, int multiplier) {
+
+        int hash = string.length();
+
+        for (int i = 0; i < string.length(); i++) {
+            hash = (hash ^ string.charAt(i)) * multiplier;
+        }
+
+        return hash ^ (hash >>> 15);
+    }
+
+    private static int hash(char[] buffer, int offset, int length, int multiplier) {
+
+        int hash = length;
+
+        for (int i = offset; i < offset + length; i++) {
+            hash = (hash ^ buffer[i]) * multiplier;
+        }
+
+        return hash ^ (hash >>> 15);
+    }
+
+    /**
+     * @return the schema values of the constants, in declaration order
+     */
+    public List<String> getSchemaValues() {
+        return schemaValues;
+    }
+
+    /**
+     * @param schemaValue a schema value
+     * @return the constant with the given schema value, or null if there isn't one
+     */
+    @Nullable
+    public E get(@Nullable String schemaValue) {
+
+        if (schemaValue == null) {
+            return null;
+        }
+
+        int slot = hash(schemaValue, multiplier) >>> shift;
+        char[] candidate = schemaValuesBySlot[slot];
+
+        if (candidate == null || candidate.length != schemaValue.length()) {
+            return null;
+        }
+
+        for (int i = 0; i < candidate.length; i++) {
+            if (candidate[i] != schemaValue.charAt(i)) {
+                return null;
+            }
+        }
+
+        return constantsBySlot[slot];
+    }
+
+    /**
+     * @param buffer a buffer containing a schema value, e.g. the text characters of a parser
+     * @param offset the offset of the schema value in the buffer
+     * @param length the length of the schema value
+     * @return the constant with the given schema value, or null if there isn't one
+     */
+    @Nullable
+    public E get(char[] buffer, int offset, int length) {
+
+        checkNotNull(buffer, "A buffer hasn't been specified.");
+
+        int slot = hash(buffer, offset, length, multiplier) >>> shift;
+        char[] candidate = schemaValuesBySlot[slot];
+
+        if (candidate == null || candidate.length != length) {
+            return null;
+        }
+
+        for (int i = 0; i < length; i++) {
+            if (candidate[i] != buffer[offset + i]) {
+                return null;
+            }
+        }
+
+        return constantsBySlot[slot];
+    }
+}
@@ -16,9 +16,14 @@
 
 package org.openmhealth.schema.domain.omh;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.base.Joiner;
 import org.openmhealth.schema.serializer.SerializationConstructor;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -42,11 +47,19 @@ public class SchemaId implements Comparable<SchemaId>, SchemaSupport {
     public static final String NAME_PATTERN_STRING = "[a-zA-Z0-9-]+";
     public static final Pattern NAME_PATTERN = compile(NAME_PATTERN_STRING);
 
+    private static final int MAXIMUM_INTERNED_INSTANCES = 4096;
+
+    // keyed by namespace, name and version in turn, so that looking up a pooled instance doesn't allocate a key
+    private static final ConcurrentMap<String, ConcurrentMap<String, ConcurrentMap<String, SchemaId>>>
+            internedInstances = new ConcurrentHashMap<>();
+    private static final AtomicInteger internedInstanceCount = new AtomicInteger();
+
     public static final SchemaId SCHEMA_ID = new SchemaId(OMH_NAMESPACE, "schema-id", "1.0");
 
     private String namespace;
     private String name;
     private SchemaVersion version;
+    private transient int hashCode; // cached, since schema identifiers are immutable and often used as keys
 
 
     @SerializationConstructor
@@ -55,7 +68,7 @@ public class SchemaId implements Comparable<SchemaId>, SchemaSupport {
 
     public SchemaId(String namespace, String name, String version) {
 
-        this(namespace, name, new SchemaVersion(version));
+        this(namespace, name, SchemaVersion.of(version));
     }
 
     public SchemaId(String namespace, String name, SchemaVersion version) {
@@ -71,20 +84,125 @@ public class SchemaId implements Comparable<SchemaId>, SchemaSupport {
         this.version = version;
     }
 
+    /**
+     * Returns a canonical instance of a schema identifier. Since only a small number of distinct schema identifiers
+     * are in use, this avoids validating and allocating the same identifiers repeatedly when deserializing large
+     * numbers of data points.
+     *
+     * @param namespace the namespace of the schema
+     * @param name the name of the schema
+     * @param version the version of the schema
+     * @return the corresponding schema identifier, which may be shared
+     */
+    @JsonCreator
+    public static SchemaId of(@JsonProperty("namespace") String namespace, @JsonProperty("name") String name,
+            @JsonProperty("version") String version) {
+
+        checkNotNull(namespace, "A namespace hasn't been specified.");
+        checkNotNull(name, "A name hasn't been specified.");
+        checkNotNull(version, "A version hasn't been specified.");
+
+        ConcurrentMap<String, ConcurrentMap<String, SchemaId>> instancesByName = internedInstances.get(namespace);
+
+        if (instancesByName != null) {
+            ConcurrentMap<String, SchemaId> instancesByVersion = instancesByName.get(name);
+
+            if (instancesByVersion != null) {
+                SchemaId instance = instancesByVersion.get(version);
+
+                if (instance != null) {
+                    return instance;
+                }
+            }
+        }
+
+        SchemaId instance = new SchemaId(namespace, name, version);
+
+        // once the pool is full, new instances are no longer pooled, so it can't grow without bounds
+        if (internedInstanceCount.get() >= MAXIMUM_INTERNED_INSTANCES) {
+            return instance;
+        }
+
+        SchemaId existingInstance = internedInstances
+                .computeIfAbsent(namespace, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(name, key -> new ConcurrentHashMap<>())
+                .putIfAbsent(version, instance);
+
+        if (existingInstance != null) {
+            return existingInstance;
+        }
+
+        internedInstanceCount.incrementAndGet();
+
+        return instance;
+    }
+
     public String getNamespace() {
         return namespace;
     }
 
+    /**
+     * Checks if a namespace matches {@link #NAMESPACE_PATTERN}. The check is implemented without regular expressions,
+     * since it's performed every time a schema identifier is constructed.
+     *
+     * @param namespace a namespace
+     * @return true if the namespace is undefined or valid, false otherwise
+     */
     public static boolean isValidNamespace(String namespace) {
-        return namespace == null || NAMESPACE_PATTERN.matcher(namespace).matches();
+
+        if (namespace == null) {
+            return true;
+        }
+
+        if (namespace.isEmpty()) {
+            return false;
+        }
+
+        for (int i = 0; i < namespace.length(); i++) {
+            char character = namespace.charAt(i);
+
+            if (!isValidNameCharacter(character) && character != '.') {
+                return false;
+            }
+        }
+
+        return true;
     }
 
     public String getName() {
         return name;
     }
 
+    /**
+     * Checks if a name matches {@link #NAME_PATTERN}. The check is implemented without regular expressions, since it's
+     * performed every time a schema identifier is constructed.
+     *
+     * @param name a name
+     * @return true if the name is undefined or valid, false otherwise
+     */
     public static boolean isValidName(String name) {
-        return name == null || NAME_PATTERN.matcher(name).matches();
+
+        if (name == null) {
+            return true;
+        }
+
+        if (name.isEmpty()) {
+            return false;
+        }
+
+        for (int i = 0; i < name.length(); i++) {
+            if (!isValidNameCharacter(name.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isValidNameCharacter(char character) {
+
+        return (character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z')
+                || (character >= '0' && character <= '9') || character == '-';
     }
 
     public SchemaVersion getVersion() {
@@ -120,7 +238,18 @@ public class SchemaId implements Comparable<SchemaId>, SchemaSupport {
 
     @Override
     public int hashCode() {
-        return name.hashCode();
+
+        int result = hashCode;
+
+        if (result == 0) {
+            result = namespace.hashCode();
+            result = 31 * result + name.hashCode();
+            result = 31 * result + version.hashCode();
+
+            hashCode = result;
+        }
+
+        return result;
     }
 
     @Override
@@ -21,7 +21,6 @@ import com.fasterxml.jackson.annotation.JsonValue;
 import org.openmhealth.schema.serializer.SerializationConstructor;
 
 import java.util.Optional;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -40,6 +39,10 @@ public class SchemaVersion implements Comparable<SchemaVersion> {
     public static final String VERSION_PATTERN_STRING = "(\\d+)\\.(\\d+)(?:\\.(" + QUALIFIER_PATTERN_STRING + "))?";
     public static final Pattern VERSION_PATTERN = Pattern.compile(VERSION_PATTERN_STRING);
 
+    private static final int MAXIMUM_INTERNED_INSTANCES = 1024;
+    private static final InternPool<String, SchemaVersion> internedInstances =
+            new InternPool<>(MAXIMUM_INTERNED_INSTANCES);
+
     private int major;
     private int minor;
     private String qualifier;
@@ -49,16 +52,18 @@ public class SchemaVersion implements Comparable<SchemaVersion> {
     protected SchemaVersion() {
     }
 
-    @JsonCreator
     public SchemaVersion(String version) {
 
         checkNotNull(version, "A version hasn't been specified.");
-        Matcher matcher = VERSION_PATTERN.matcher(version);
-        checkArgument(matcher.matches(), "A malformed version has been specified.");
 
-        this.major = Integer.valueOf(matcher.group(1));
-        this.minor = Integer.valueOf(matcher.group(2));
-        this.qualifier = matcher.group(3);
+        int minorVersionEnd = findMinorVersionEnd(version);
+        checkArgument(minorVersionEnd >= 0, "A malformed version has been specified.");
+
+        int majorVersionEnd = skipDigits(version, 0);
+
+        this.major = parseVersionNumber(version, 0, majorVersionEnd);
+        this.minor = parseVersionNumber(version, majorVersionEnd + 1, minorVersionEnd);
+        this.qualifier = minorVersionEnd < version.length() ? version.substring(minorVersionEnd + 1) : null;
     }
 
     public SchemaVersion(int major, int minor) {
@@ -69,7 +74,7 @@ public class SchemaVersion implements Comparable<SchemaVersion> {
 
         checkArgument(major >= 0, "A negative major version has been specified.");
         checkArgument(minor >= 0, "A negative minor version has been specified.");
-        checkArgument(qualifier == null || QUALIFIER_PATTERN.matcher(qualifier).matches(),
+        checkArgument(qualifier == null || isValidQualifier(qualifier, 0),
                 "A malformed qualifier has been specified.");
 
         this.major = major;
@@ -77,8 +82,119 @@ public class SchemaVersion implements Comparable<SchemaVersion> {
         this.qualifier = qualifier;
     }
 
+    /**
+     * Returns a canonical instance of a version. Since only a small number of distinct versions are in use, this avoids
+     * parsing the same version strings repeatedly when deserializing large numbers of data points.
+     *
+     * @param version a version string
+     * @return the corresponding version, which may be shared
+     */
+    @JsonCreator
+    public static SchemaVersion of(String version) {
+
+        checkNotNull(version, "A version hasn't been specified.");
+
+        return internedInstances.intern(version, SchemaVersion::new);
+    }
+
+    /**
+     * Checks if a version string matches {@link #VERSION_PATTERN}. The check is implemented without regular
+     * expressions, since it's performed every time a version is constructed.
+     *
+     * @param version a version string
+     * @return true if the version is undefined or well-formed, false otherwise
+     */
     public static boolean isValidVersion(String version) {
-        return version == null || VERSION_PATTERN.matcher(version).matches();
+        return version == null || findMinorVersionEnd(version) >= 0;
+    }
+
+    /**
+     * @return the index following the minor version number, or -1 if the version is malformed
+     */
+    private static int findMinorVersionEnd(String version) {
+
+        int majorVersionEnd = skipDigits(version, 0);
+
+        if (majorVersionEnd == 0 || majorVersionEnd == version.length() || version.charAt(majorVersionEnd) != '.') {
+            return -1;
+        }
+
+        int minorVersionEnd = skipDigits(version, majorVersionEnd + 1);
+
+        if (minorVersionEnd == majorVersionEnd + 1) {
+            return -1;
+        }
+
+        if (minorVersionEnd == version.length()) {
+            return minorVersionEnd;
+        }
+
+        if (version.charAt(minorVersionEnd) != '.' || !isValidQualifier(version, minorVersionEnd + 1)) {
+            return -1;
+        }
+
+        return minorVersionEnd;
+    }
+
+    /**
+     * @return the index of the first character at or after the start index that isn't an ASCII digit
+     */
+    private static int skipDigits(String string, int start) {
+
+        int index = start;
+
+        while (index < string.length() && isDigit(string.charAt(index))) {
+            index++;
+        }
+
+        return index;
+    }
+
+    /**
+     * @return true if the characters from the start index to the end of the string match {@link #QUALIFIER_PATTERN}
+     */
+    private static boolean isValidQualifier(String string, int start) {
+
+        if (start >= string.length()) {
+            return false;
+        }
+
+        for (int i = start; i < string.length(); i++) {
+            char character = string.charAt(i);
+
+            if (!isDigit(character) && !(character >= 'a' && character <= 'z')
+                    && !(character >= 'A' && character <= 'Z')) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+
+    /**
+     * @return the version number represented by a run of ASCII digits
+     * @throws NumberFormatException if the version number is too large to be represented as an integer
+     */
+    private static int parseVersionNumber(String string, int start, int end) {
+
+        int number = 0;
+
+        for (int i = start; i < end; i++) {
+            int digit = string.charAt(i) - '0';
+
+            if (number > (Integer.MAX_VALUE - digit) / 10) {
+                // delegate to get the same exception as before
+                return Integer.valueOf(string.substring(start, end));
+            }
+
+            number = number * 10 + digit;
+        }
+
+        return number;
     }
 
     public int getMajor() {
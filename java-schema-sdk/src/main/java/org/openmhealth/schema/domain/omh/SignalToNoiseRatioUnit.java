@@ -20,8 +20,6 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
-import java.util.Map;
 
 
 /**
@@ -36,13 +34,8 @@ public enum SignalToNoiseRatioUnit implements Unit {
     DECIBEL("dB");
 
     private String schemaValue;
-    private static final Map<String, SignalToNoiseRatioUnit> constantsBySchemaValue = new HashMap<>();
-
-    static {
-        for (SignalToNoiseRatioUnit constant : values()) {
-            constantsBySchemaValue.put(constant.getSchemaValue(), constant);
-        }
-    }
+    private static final SchemaEnumLookup<SignalToNoiseRatioUnit> constantsBySchemaValue =
+            SchemaEnumLookup.forType(SignalToNoiseRatioUnit.class);
 
     SignalToNoiseRatioUnit(String schemaValue) {
         this.schemaValue = schemaValue;
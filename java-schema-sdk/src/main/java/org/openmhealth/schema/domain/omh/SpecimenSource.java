@@ -20,8 +20,6 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
-import java.util.Map;
 
 
 /**
@@ -44,13 +42,8 @@ public enum SpecimenSource implements SchemaEnumValue, SchemaSupport {
     public static final SchemaId SCHEMA_ID = new SchemaId(OMH_NAMESPACE, "specimen-source", "1.0");
 
     private String schemaValue;
-    private static final Map<String, SpecimenSource> constantsBySchemaValue = new HashMap<>();
-
-    static {
-        for (SpecimenSource constant : values()) {
-            constantsBySchemaValue.put(constant.getSchemaValue(), constant);
-        }
-    }
+    private static final SchemaEnumLookup<SpecimenSource> constantsBySchemaValue =
+            SchemaEnumLookup.forType(SpecimenSource.class);
 
     SpecimenSource() {
         this.schemaValue = name().toLowerCase().replace('_', ' ');
@@ -21,8 +21,6 @@ import com.fasterxml.jackson.annotation.JsonValue;
 
 import javax.annotation.Nullable;
 import java.math.BigDecimal;
-import java.util.HashMap;
-import java.util.Map;
 
 
 /**
@@ -38,13 +36,7 @@ public enum SpeedUnit implements Unit {
     KILOMETERS_PER_HOUR("km/h");
 
     private String schemaValue;
-    private static final Map<String, SpeedUnit> constantsBySchemaValue = new HashMap<>();
-
-    static {
-        for (SpeedUnit constant : values()) {
-            constantsBySchemaValue.put(constant.getSchemaValue(), constant);
-        }
-    }
+    private static final SchemaEnumLookup<SpeedUnit> constantsBySchemaValue = SchemaEnumLookup.forType(SpeedUnit.class);
 
     SpeedUnit(String schemaValue) {
         this.schemaValue = schemaValue;
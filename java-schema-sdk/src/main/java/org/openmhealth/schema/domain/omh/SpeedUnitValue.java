@@ -37,10 +37,17 @@ public class SpeedUnitValue extends TypedUnitValue<SpeedUnit> {
     }
 
     @JsonCreator
-    public SpeedUnitValue(@JsonProperty("unit") SpeedUnit unit, @JsonProperty("value") BigDecimal value) {
+    public SpeedUnitValue(@JsonProperty("unit") SpeedUnit unit, @JsonProperty("value") Number value) {
         super(unit, value);
     }
 
+    /**
+     * Kept for binary compatibility with clients compiled against earlier versions.
+     */
+    public SpeedUnitValue(SpeedUnit unit, BigDecimal value) {
+        this(unit, (Number) value);
+    }
+
     @Override
     public SchemaId getSchemaId() {
         return SCHEMA_ID;
@@ -53,4 +60,9 @@ public class SpeedUnitValue extends TypedUnitValue<SpeedUnit> {
     public SpeedUnitValue(SpeedUnit unit, long value) {
         super(unit, value);
     }
+
+    @Override
+    public SpeedUnitValue convertTo(SpeedUnit unit) {
+        return (SpeedUnitValue) super.convertTo(unit);
+    }
 }
@@ -20,8 +20,6 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.openmhealth.schema.serializer.SerializationConstructor;
 
-import java.math.BigDecimal;
-
 
 /**
  * @author Emerson Farrugia
@@ -39,7 +37,7 @@ public class SystolicBloodPressure extends TypedUnitValue<BloodPressureUnit> {
 
     @JsonCreator
     public SystolicBloodPressure(@JsonProperty("unit") BloodPressureUnit unit,
-            @JsonProperty("value") BigDecimal value) {
+            @JsonProperty("value") Number value) {
 
         super(unit, value);
     }
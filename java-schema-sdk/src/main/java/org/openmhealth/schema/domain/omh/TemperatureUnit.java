@@ -18,11 +18,9 @@ package org.openmhealth.schema.domain.omh;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
-import com.google.common.collect.Maps;
 
 import javax.annotation.Nullable;
 import java.math.BigDecimal;
-import java.util.Map;
 
 
 /**
@@ -38,15 +36,10 @@ public enum TemperatureUnit implements Unit {
     CELSIUS("C"),
     FAHRENHEIT("F");
 
-    private static Map<String, TemperatureUnit> constantsBySchemaValue = Maps.newHashMap();
+    private static final SchemaEnumLookup<TemperatureUnit> constantsBySchemaValue =
+            SchemaEnumLookup.forType(TemperatureUnit.class);
     private final String schemaValue;
 
-    static {
-        for (TemperatureUnit unit : values()) {
-            constantsBySchemaValue.put(unit.getSchemaValue(), unit);
-        }
-    }
-
     TemperatureUnit(String schemaValue) {
         this.schemaValue = schemaValue;
     }
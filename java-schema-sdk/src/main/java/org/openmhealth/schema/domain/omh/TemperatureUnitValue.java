@@ -38,10 +38,17 @@ public class TemperatureUnitValue extends TypedUnitValue<TemperatureUnit> {
     }
 
     @JsonCreator
-    public TemperatureUnitValue(@JsonProperty("unit") TemperatureUnit unit, @JsonProperty("value") BigDecimal value) {
+    public TemperatureUnitValue(@JsonProperty("unit") TemperatureUnit unit, @JsonProperty("value") Number value) {
         super(unit, value);
     }
 
+    /**
+     * Kept for binary compatibility with clients compiled against earlier versions.
+     */
+    public TemperatureUnitValue(TemperatureUnit unit, BigDecimal value) {
+        this(unit, (Number) value);
+    }
+
     @Override
     public SchemaId getSchemaId() {
         return SCHEMA_ID;
@@ -54,4 +61,9 @@ public class TemperatureUnitValue extends TypedUnitValue<TemperatureUnit> {
     public TemperatureUnitValue(TemperatureUnit unit, Double value) {
         super(unit, value);
     }
+
+    @Override
+    public TemperatureUnitValue convertTo(TemperatureUnit unit) {
+        return (TemperatureUnitValue) super.convertTo(unit);
+    }
 }
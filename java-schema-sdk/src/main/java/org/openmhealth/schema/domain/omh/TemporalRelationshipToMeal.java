@@ -20,8 +20,6 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
-import java.util.Map;
 
 
 /**
@@ -50,13 +48,8 @@ public enum TemporalRelationshipToMeal implements SchemaEnumValue, SchemaSupport
     public static final SchemaId SCHEMA_ID = new SchemaId(OMH_NAMESPACE, "temporal-relationship-to-meal", "1.0");
 
     private String schemaValue;
-    private static final Map<String, TemporalRelationshipToMeal> constantsBySchemaValue = new HashMap<>();
-
-    static {
-        for (TemporalRelationshipToMeal constant : values()) {
-            constantsBySchemaValue.put(constant.getSchemaValue(), constant);
-        }
-    }
+    private static final SchemaEnumLookup<TemporalRelationshipToMeal> constantsBySchemaValue =
+            SchemaEnumLookup.forType(TemporalRelationshipToMeal.class);
 
     TemporalRelationshipToMeal() {
         this.schemaValue = name().toLowerCase().replace('_', ' ');
@@ -20,8 +20,6 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
-import java.util.Map;
 
 
 /**
@@ -45,13 +43,8 @@ public enum TemporalRelationshipToPhysicalActivity implements SchemaEnumValue, S
             new SchemaId(OMH_NAMESPACE, "temporal-relationship-to-physical-activity", "1.0");
 
     private String schemaValue;
-    private static final Map<String, TemporalRelationshipToPhysicalActivity> constantsBySchemaValue = new HashMap<>();
-
-    static {
-        for (TemporalRelationshipToPhysicalActivity constant : values()) {
-            constantsBySchemaValue.put(constant.getSchemaValue(), constant);
-        }
-    }
+    private static final SchemaEnumLookup<TemporalRelationshipToPhysicalActivity> constantsBySchemaValue =
+            SchemaEnumLookup.forType(TemporalRelationshipToPhysicalActivity.class);
 
     TemporalRelationshipToPhysicalActivity() {
         this.schemaValue = name().toLowerCase().replace('_', ' ');
@@ -20,8 +20,6 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
-import java.util.Map;
 
 
 /**
@@ -42,13 +40,8 @@ public enum TemporalRelationshipToSleep implements SchemaEnumValue, SchemaSuppor
     public static final SchemaId SCHEMA_ID = new SchemaId(OMH_NAMESPACE, "temporal-relationship-to-sleep", "1.0");
 
     private String schemaValue;
-    private static final Map<String, TemporalRelationshipToSleep> constantsBySchemaValue = new HashMap<>();
-
-    static {
-        for (TemporalRelationshipToSleep constant : values()) {
-            constantsBySchemaValue.put(constant.getSchemaValue(), constant);
-        }
-    }
+    private static final SchemaEnumLookup<TemporalRelationshipToSleep> constantsBySchemaValue =
+            SchemaEnumLookup.forType(TemporalRelationshipToSleep.class);
 
     TemporalRelationshipToSleep() {
         this.schemaValue = name().toLowerCase().replace('_', ' ');
@@ -26,6 +26,8 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Collections.emptyMap;
 
 
 /**
@@ -43,7 +45,8 @@ public class TimeFrame implements SchemaSupport, AdditionalPropertySupport {
 
     private TimeInterval timeInterval;
     private OffsetDateTime dateTime;
-    private Map<String, Object> additionalProperties = new HashMap<>();
+    private Map<String, Object> additionalProperties; // created when the first additional property is set
+    private transient EpochRange epochRange; // resolved when first requested, and reset when the time frame changes
 
 
     @SerializationConstructor
@@ -71,6 +74,7 @@ public class TimeFrame implements SchemaSupport, AdditionalPropertySupport {
 
     public void setTimeInterval(TimeInterval timeInterval) {
         this.timeInterval = timeInterval;
+        this.epochRange = null;
     }
 
     public OffsetDateTime getDateTime() {
@@ -79,6 +83,35 @@ public class TimeFrame implements SchemaSupport, AdditionalPropertySupport {
 
     public void setDateTime(OffsetDateTime dateTime) {
         this.dateTime = dateTime;
+        this.epochRange = null;
+    }
+
+    /**
+     * Resolves this time frame to a range of instants. If the time frame has a time interval, the range is that of the
+     * time interval, otherwise the range is the point in time of the date time. The range is resolved once and reused
+     * until the time frame is changed.
+     *
+     * @return the range of instants in this time frame
+     * @throws IllegalStateException if the time frame can't be resolved to a range of instants
+     * @see TimeInterval#toEpochRange()
+     */
+    public EpochRange toEpochRange() {
+
+        EpochRange epochRange = this.epochRange;
+
+        if (epochRange == null) {
+            if (timeInterval != null) {
+                epochRange = timeInterval.toEpochRange();
+            }
+            else {
+                checkState(dateTime != null, "A time frame without a time interval or a date time can't be resolved.");
+                epochRange = EpochRange.ofPointInTime(dateTime);
+            }
+
+            this.epochRange = epochRange;
+        }
+
+        return epochRange;
     }
 
     @Override
@@ -88,7 +121,17 @@ public class TimeFrame implements SchemaSupport, AdditionalPropertySupport {
 
     @Override
     public Map<String, Object> getAdditionalProperties() {
-        return this.additionalProperties;
+
+        if (additionalProperties == null) {
+            additionalProperties = new HashMap<>();
+        }
+
+        return additionalProperties;
+    }
+
+    @Override
+    public Map<String, Object> peekAdditionalProperties() {
+        return additionalProperties == null ? emptyMap() : additionalProperties;
     }
 
     @SuppressWarnings("SimplifiableIfStatement")
@@ -21,6 +21,7 @@ import com.fasterxml.jackson.databind.PropertyNamingStrategy.SnakeCaseStrategy;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import org.openmhealth.schema.serializer.SerializationConstructor;
 
+import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.HashMap;
@@ -28,6 +29,10 @@ import java.util.Map;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Collections.emptyMap;
+import static org.openmhealth.schema.domain.omh.DurationUnit.NANOSECOND;
+import static org.openmhealth.schema.domain.omh.UnitConverter.DURATION;
 
 
 /**
@@ -48,7 +53,8 @@ public class TimeInterval implements SchemaSupport, AdditionalPropertySupport {
     private DurationUnitValue duration;
     private LocalDate date;
     private PartOfDay partOfDay;
-    private Map<String, Object> additionalProperties = new HashMap<>();
+    private Map<String, Object> additionalProperties; // created when the first additional property is set
+    private transient EpochRange epochRange; // resolved when first requested
 
 
     @SerializationConstructor
@@ -129,6 +135,51 @@ public class TimeInterval implements SchemaSupport, AdditionalPropertySupport {
         return partOfDay;
     }
 
+    /**
+     * Resolves this time interval to a range of instants. A duration is added to its start date time or subtracted
+     * from its end date time, where months and years have the length of Julian months and years. The range is resolved
+     * once and reused.
+     *
+     * @return the range of instants in this time interval
+     * @throws IllegalStateException if this time interval is a part of a day, which doesn't identify instants
+     */
+    public EpochRange toEpochRange() {
+
+        // racy caching is safe since ranges are immutable and resolving them is idempotent
+        EpochRange epochRange = this.epochRange;
+
+        if (epochRange == null) {
+            epochRange = resolveEpochRange();
+            this.epochRange = epochRange;
+        }
+
+        return epochRange;
+    }
+
+    private EpochRange resolveEpochRange() {
+
+        if (startDateTime != null && endDateTime != null) {
+            return EpochRange.of(startDateTime, endDateTime);
+        }
+
+        checkState(duration != null && (startDateTime != null || endDateTime != null),
+                "A time interval without a start date time, an end date time or a duration can't be resolved.");
+
+        long durationNanos = DURATION.convert(duration.getValue(), duration.getTypedUnit(), NANOSECOND)
+                .setScale(0, RoundingMode.HALF_UP)
+                .longValueExact();
+
+        if (startDateTime != null) {
+            long startEpochNano = EpochRange.toEpochNano(startDateTime.toInstant());
+
+            return new EpochRange(startEpochNano, Math.addExact(startEpochNano, durationNanos));
+        }
+
+        long endEpochNano = EpochRange.toEpochNano(endDateTime.toInstant());
+
+        return new EpochRange(Math.subtractExact(endEpochNano, durationNanos), endEpochNano);
+    }
+
     @Override
     public SchemaId getSchemaId() {
         return SCHEMA_ID;
@@ -136,7 +187,17 @@ public class TimeInterval implements SchemaSupport, AdditionalPropertySupport {
 
     @Override
     public Map<String, Object> getAdditionalProperties() {
-        return this.additionalProperties;
+
+        if (additionalProperties == null) {
+            additionalProperties = new HashMap<>();
+        }
+
+        return additionalProperties;
+    }
+
+    @Override
+    public Map<String, Object> peekAdditionalProperties() {
+        return additionalProperties == null ? emptyMap() : additionalProperties;
     }
 
     @SuppressWarnings("SimplifiableIfStatement")
@@ -23,6 +23,8 @@ import org.openmhealth.schema.serializer.SerializationConstructor;
 
 import java.math.BigDecimal;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 
 /**
  * A unit value implementation that uses a Java enum to represent units.
@@ -39,18 +41,29 @@ public class TypedUnitValue<T extends Unit> extends UnitValue {
     }
 
     @JsonCreator
-    public TypedUnitValue(@JsonProperty("unit") T typedUnit, @JsonProperty("value") BigDecimal value) {
+    public TypedUnitValue(@JsonProperty("unit") T typedUnit, @JsonProperty("value") Number value) {
         super(typedUnit.getSchemaValue(), value);
 
         this.typedUnit = typedUnit;
     }
 
+    /**
+     * Kept for binary compatibility with clients compiled against earlier versions.
+     */
+    public TypedUnitValue(T typedUnit, BigDecimal value) {
+        this(typedUnit, (Number) value);
+    }
+
     public TypedUnitValue(T typedUnit, double value) {
-        this(typedUnit, BigDecimal.valueOf(value));
+        super(typedUnit.getSchemaValue(), value);
+
+        this.typedUnit = typedUnit;
     }
 
     public TypedUnitValue(T typedUnit, long value) {
-        this(typedUnit, BigDecimal.valueOf(value));
+        super(typedUnit.getSchemaValue(), value);
+
+        this.typedUnit = typedUnit;
     }
 
     @JsonIgnore
@@ -58,6 +71,30 @@ public class TypedUnitValue<T extends Unit> extends UnitValue {
         return typedUnit;
     }
 
+    /**
+     * @param unit the unit to convert to
+     * @return this unit value if it's already in the given unit, or a copy of it in the given unit otherwise, which
+     * has no additional properties
+     * @throws IllegalArgumentException if units of this type can't be converted
+     * @see UnitConverter
+     */
+    @SuppressWarnings("unchecked")
+    public TypedUnitValue<T> convertTo(T unit) {
+
+        checkNotNull(unit, "A unit hasn't been specified.");
+
+        if (unit == typedUnit) {
+            return this;
+        }
+
+        UnitConverter<T> converter = UnitConverter.forUnitType((Class<T>) typedUnit.getClass());
+
+        TypedUnitValue<T> copy = (TypedUnitValue<T>) copyWithConvertedValue(converter, typedUnit, unit);
+        copy.typedUnit = unit;
+
+        return copy;
+    }
+
     @Override
     public boolean equals(Object object) {
 
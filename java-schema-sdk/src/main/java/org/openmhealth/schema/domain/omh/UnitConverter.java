@@ -0,0 +1,493 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.domain.omh;
+
+import com.google.common.collect.ImmutableMap;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.math.BigInteger.ONE;
+import static java.math.BigInteger.ZERO;
+import static org.openmhealth.schema.domain.omh.AreaUnit.*;
+import static org.openmhealth.schema.domain.omh.BloodGlucoseUnit.MILLIGRAMS_PER_DECILITER;
+import static org.openmhealth.schema.domain.omh.BloodGlucoseUnit.MILLIMOLES_PER_LITER;
+import static org.openmhealth.schema.domain.omh.DurationUnit.*;
+import static org.openmhealth.schema.domain.omh.KcalUnit.KILOCALORIE;
+import static org.openmhealth.schema.domain.omh.LengthUnit.*;
+import static org.openmhealth.schema.domain.omh.MassUnit.*;
+import static org.openmhealth.schema.domain.omh.SpeedUnit.KILOMETERS_PER_HOUR;
+import static org.openmhealth.schema.domain.omh.SpeedUnit.METERS_PER_SECOND;
+import static org.openmhealth.schema.domain.omh.TemperatureUnit.CELSIUS;
+import static org.openmhealth.schema.domain.omh.TemperatureUnit.FAHRENHEIT;
+import static org.openmhealth.schema.domain.omh.TemperatureUnit.KELVIN;
+import static org.openmhealth.schema.domain.omh.VolumeUnit.*;
+
+
+/**
+ * A converter between the units of a unit enum. Each unit is defined by an exact rational scale and offset relative to
+ * a base unit of its type, from which the conversions between every pair of units are precomputed, both as
+ * {@code double} factors and as exact rational factors.
+ * <p>
+ * Conversions of {@code double} values multiply by a single precomputed factor, and add a precomputed offset for
+ * temperatures, so they may differ from exact conversions in the last bits. Conversions of {@link BigDecimal} values
+ * are exact if the result can be represented as a decimal, and are rounded to {@link MathContext#DECIMAL128}
+ * otherwise, e.g. when converting kilometers per hour to meters per second.
+ * <p>
+ * Months and years are converted as average Julian months and years, i.e. 30.4375 and 365.25 days. Blood glucose
+ * is converted using the molar mass of glucose, i.e. 1 mmol/L is 18.0156 mg/dL.
+ *
+ * @param <U> the unit type
+ * @author agent
+ */
+public final class UnitConverter<U extends Unit> {
+
+    public static final UnitConverter<AreaUnit> AREA = new UnitConverter<>(AreaUnit.class,
+            ImmutableMap.<AreaUnit, String>builder()
+                    .put(SQUARE_MILLIMETER, "0.000001")
+                    .put(SQUARE_CENTIMETER, "0.0001")
+                    .put(SQUARE_METER, "1")
+                    .put(SQUARE_KILOMETER, "1000000")
+                    .put(SQUARE_INCH, "0.00064516")
+                    .put(SQUARE_FOOT, "0.09290304")
+                    .put(SQUARE_YARD, "0.83612736")
+                    .put(SQUARE_MILE, "2589988.110336")
+                    .build());
+
+    public static final UnitConverter<BloodGlucoseUnit> BLOOD_GLUCOSE = new UnitConverter<>(BloodGlucoseUnit.class,
+            ImmutableMap.of(
+                    MILLIGRAMS_PER_DECILITER, "1",
+                    MILLIMOLES_PER_LITER, "18.0156"));
+
+    public static final UnitConverter<DurationUnit> DURATION = new UnitConverter<>(DurationUnit.class,
+            ImmutableMap.<DurationUnit, String>builder()
+                    .put(PICOSECOND, "0.000000000001")
+                    .put(NANOSECOND, "0.000000001")
+                    .put(MICROSECOND, "0.000001")
+                    .put(MILLISECOND, "0.001")
+                    .put(SECOND, "1")
+                    .put(MINUTE, "60")
+                    .put(HOUR, "3600")
+                    .put(DAY, "86400")
+                    .put(WEEK, "604800")
+                    .put(MONTH, "2629800")
+                    .put(YEAR, "31557600")
+                    .build());
+
+    public static final UnitConverter<KcalUnit> KCAL = new UnitConverter<>(KcalUnit.class,
+            ImmutableMap.of(KILOCALORIE, "1"));
+
+    public static final UnitConverter<LengthUnit> LENGTH = new UnitConverter<>(LengthUnit.class,
+            ImmutableMap.<LengthUnit, String>builder()
+                    .put(FEMTOMETER, "0.000000000000001")
+                    .put(PICOMETER, "0.000000000001")
+                    .put(NANOMETER, "0.000000001")
+                    .put(MICROMETER, "0.000001")
+                    .put(MILLIMETER, "0.001")
+                    .put(CENTIMETER, "0.01")
+                    .put(METER, "1")
+                    .put(KILOMETER, "1000")
+                    .put(INCH, "0.0254")
+                    .put(FOOT, "0.3048")
+                    .put(YARD, "0.9144")
+                    .put(MILE, "1609.344")
+                    .build());
+
+    public static final UnitConverter<MassUnit> MASS = new UnitConverter<>(MassUnit.class,
+            ImmutableMap.<MassUnit, String>builder()
+                    .put(FEMTOGRAM, "0.000000000000001")
+                    .put(PICOGRAM, "0.000000000001")
+                    .put(NANOGRAM, "0.000000001")
+                    .put(MICROGRAM, "0.000001")
+                    .put(MILLIGRAM, "0.001")
+                    .put(GRAM, "1")
+                    .put(KILOGRAM, "1000")
+                    .put(METRIC_TON, "1000000")
+                    .put(GRAIN, "0.06479891")
+                    .put(OUNCE, "28.349523125")
+                    .put(POUND, "453.59237")
+                    .put(TON, "907184.74")
+                    .build());
+
+    public static final UnitConverter<SpeedUnit> SPEED = new UnitConverter<>(SpeedUnit.class,
+            ImmutableMap.of(
+                    METERS_PER_SECOND, "1",
+                    KILOMETERS_PER_HOUR, "5/18"));
+
+    public static final UnitConverter<TemperatureUnit> TEMPERATURE = new UnitConverter<>(TemperatureUnit.class,
+            ImmutableMap.of(
+                    KELVIN, "1",
+                    CELSIUS, "1",
+                    FAHRENHEIT, "5/9"),
+            ImmutableMap.of(
+                    CELSIUS, "273.15",
+                    FAHRENHEIT, "45967/180"));
+
+    public static final UnitConverter<VolumeUnit> VOLUME = new UnitConverter<>(VolumeUnit.class,
+            ImmutableMap.<VolumeUnit, String>builder()
+                    .put(FEMTOLITER, "0.000000000000001")
+                    .put(PICOLITER, "0.000000000001")
+                    .put(NANOLITER, "0.000000001")
+                    .put(MICROLITER, "0.000001")
+                    .put(MILLILITER, "0.001")
+                    .put(CENTILITER, "0.01")
+                    .put(DECILITER, "0.1")
+                    .put(LITER, "1")
+                    .put(KILOLITER, "1000")
+                    .put(FLUID_OUNCE, "0.0295735295625")
+                    .put(CUP, "0.2365882365")
+                    .put(CUBIC_INCH, "0.016387064")
+                    .put(PINT, "0.473176473")
+                    .put(QUART, "0.946352946")
+                    .put(GALLON, "3.785411784")
+                    .put(TEASPOON, "0.00492892159375")
+                    .put(TABLESPOON, "0.01478676478125")
+                    .build());
+
+    private static final Map<Class<?>, UnitConverter<?>> convertersByUnitType =
+            ImmutableMap.<Class<?>, UnitConverter<?>>builder()
+                    .put(AreaUnit.class, AREA)
+                    .put(BloodGlucoseUnit.class, BLOOD_GLUCOSE)
+                    .put(DurationUnit.class, DURATION)
+                    .put(KcalUnit.class, KCAL)
+                    .put(LengthUnit.class, LENGTH)
+                    .put(MassUnit.class, MASS)
+                    .put(SpeedUnit.class, SPEED)
+                    .put(TemperatureUnit.class, TEMPERATURE)
+                    .put(VolumeUnit.class, VOLUME)
+                    .build();
+
+    private final Class<U> unitType;
+
+    // indexed by the ordinals of the source and target units
+    private final double[][] doubleFactors;
+    private final double[][] doubleOffsets;
+    private final ExactConversion[][] exactConversions;
+
+
+    private UnitConverter(Class<U> unitType, Map<U, String> scales) {
+        this(unitType, scales, ImmutableMap.of());
+    }
+
+    /**
+     * @param unitType the unit type
+     * @param scales the scale of each unit relative to the base unit, as a decimal or a fraction
+     * @param offsets the offsets of units relative to the base unit, as decimals or fractions, if any
+     */
+    private UnitConverter(Class<U> unitType, Map<U, String> scales, Map<U, String> offsets) {
+
+        U[] units = unitType.getEnumConstants();
+        int unitCount = units.length;
+
+        this.unitType = unitType;
+        this.doubleFactors = new double[unitCount][unitCount];
+        this.doubleOffsets = new double[unitCount][unitCount];
+        this.exactConversions = new ExactConversion[unitCount][unitCount];
+
+        for (U from : units) {
+            for (U to : units) {
+                Rational fromScale = Rational.parse(scales.get(from));
+                Rational toScale = Rational.parse(scales.get(to));
+                Rational fromOffset = Rational.parse(offsets.getOrDefault(from, "0"));
+                Rational toOffset = Rational.parse(offsets.getOrDefault(to, "0"));
+
+                // base = value * fromScale + fromOffset, and result = (base - toOffset) / toScale
+                Rational factor = fromScale.divide(toScale);
+                Rational offset = fromOffset.subtract(toOffset).divide(toScale);
+
+                int i = ordinal(from);
+                int j = ordinal(to);
+
+                doubleFactors[i][j] = factor.doubleValue();
+                doubleOffsets[i][j] = offset.doubleValue();
+                exactConversions[i][j] = new ExactConversion(factor, offset);
+            }
+        }
+    }
+
+    /**
+     * @param unitType a unit type
+     * @param <U> the unit type
+     * @return the converter for the unit type
+     * @throws IllegalArgumentException if units of the given type can't be converted
+     */
+    @SuppressWarnings("unchecked")
+    public static <U extends Unit> UnitConverter<U> forUnitType(Class<U> unitType) {
+
+        checkNotNull(unitType, "A unit type hasn't been specified.");
+
+        UnitConverter<?> converter = convertersByUnitType.get(unitType);
+
+        checkArgument(converter != null, "Units of type '%s' can't be converted.", unitType.getSimpleName());
+
+        return (UnitConverter<U>) converter;
+    }
+
+    /**
+     * @param unitType a unit type
+     * @return true if units of the given type can be converted, false otherwise
+     */
+    public static boolean isConvertible(Class<? extends Unit> unitType) {
+        return convertersByUnitType.containsKey(unitType);
+    }
+
+    public Class<U> getUnitType() {
+        return unitType;
+    }
+
+    /**
+     * @param value the value to convert
+     * @param from the unit of the value
+     * @param to the unit to convert the value to
+     * @return the converted value
+     */
+    public double convert(double value, U from, U to) {
+
+        int i = ordinal(from);
+        int j = ordinal(to);
+
+        if (i == j) {
+            return value;
+        }
+
+        return value * doubleFactors[i][j] + doubleOffsets[i][j];
+    }
+
+    /**
+     * Converts values in place, which avoids looking up the conversion for each value.
+     *
+     * @param values the values to convert, which are overwritten with the converted values
+     * @param from the unit of the values
+     * @param to the unit to convert the values to
+     * @return the given array
+     */
+    public double[] convert(double[] values, U from, U to) {
+
+        checkNotNull(values, "Values haven't been specified.");
+
+        int i = ordinal(from);
+        int j = ordinal(to);
+
+        if (i == j) {
+            return values;
+        }
+
+        double factor = doubleFactors[i][j];
+        double offset = doubleOffsets[i][j];
+
+        for (int k = 0; k < values.length; k++) {
+            values[k] = values[k] * factor + offset;
+        }
+
+        return values;
+    }
+
+    /**
+     * @param value the value to convert
+     * @param from the unit of the value
+     * @param to the unit to convert the value to
+     * @return the converted value, which is exact if it can be represented as a decimal
+     */
+    public BigDecimal convert(BigDecimal value, U from, U to) {
+
+        checkNotNull(value, "A value hasn't been specified.");
+
+        int i = ordinal(from);
+        int j = ordinal(to);
+
+        if (i == j) {
+            return value;
+        }
+
+        return exactConversions[i][j].convert(value);
+    }
+
+    /**
+     * @return the factor {@code double} values are multiplied by to convert them from one unit to another
+     */
+    double getDoubleFactor(U from, U to) {
+        return doubleFactors[ordinal(from)][ordinal(to)];
+    }
+
+    /**
+     * @return the offset added to {@code double} values once they're multiplied
+     */
+    double getDoubleOffset(U from, U to) {
+        return doubleOffsets[ordinal(from)][ordinal(to)];
+    }
+
+    /**
+     * @return the exact factor the {@code double} factor is derived from
+     */
+    Rational getExactFactor(U from, U to) {
+        return exactConversions[ordinal(from)][ordinal(to)].factor;
+    }
+
+    /**
+     * @return the exact offset the {@code double} offset is derived from
+     */
+    Rational getExactOffset(U from, U to) {
+        return exactConversions[ordinal(from)][ordinal(to)].offset;
+    }
+
+    private int ordinal(U unit) {
+
+        checkNotNull(unit, "A unit hasn't been specified.");
+
+        return ((Enum<?>) unit).ordinal();
+    }
+
+    /**
+     * A conversion of the form {@code (value * multiplicand + addend) / divisor}, with integer operands.
+     */
+    private static final class ExactConversion {
+
+        private final Rational factor;
+        private final Rational offset;
+        private final BigDecimal multiplicand;
+        private final BigDecimal addend;
+        private final BigDecimal divisor;
+        private final boolean terminating; // true if the divisor only has the prime factors 2 and 5
+
+        ExactConversion(Rational factor, Rational offset) {
+
+            BigInteger denominator = lcm(factor.denominator, offset.denominator);
+
+            this.factor = factor;
+            this.offset = offset;
+            this.multiplicand = new BigDecimal(factor.numerator.multiply(denominator.divide(factor.denominator)));
+            this.addend = new BigDecimal(offset.numerator.multiply(denominator.divide(offset.denominator)));
+            this.divisor = new BigDecimal(denominator);
+            this.terminating = isTerminating(denominator);
+        }
+
+        private static BigInteger lcm(BigInteger a, BigInteger b) {
+            return a.divide(a.gcd(b)).multiply(b);
+        }
+
+        private static boolean isTerminating(BigInteger denominator) {
+
+            BigInteger two = BigInteger.valueOf(2);
+            BigInteger five = BigInteger.valueOf(5);
+
+            while (denominator.mod(two).signum() == 0) {
+                denominator = denominator.divide(two);
+            }
+
+            while (denominator.mod(five).signum() == 0) {
+                denominator = denominator.divide(five);
+            }
+
+            return denominator.equals(ONE);
+        }
+
+        BigDecimal convert(BigDecimal value) {
+
+            BigDecimal result = value.multiply(multiplicand);
+
+            if (addend.signum() != 0) {
+                result = result.add(addend);
+            }
+
+            if (divisor.compareTo(BigDecimal.ONE) == 0) {
+                return result;
+            }
+
+            return terminating ? result.divide(divisor) : result.divide(divisor, MathContext.DECIMAL128);
+        }
+    }
+
+    /**
+     * A rational number in lowest terms with a positive denominator.
+     */
+    static final class Rational {
+
+        final BigInteger numerator;
+        final BigInteger denominator;
+
+        Rational(BigInteger numerator, BigInteger denominator) {
+
+            checkArgument(denominator.signum() != 0, "A zero denominator has been specified.");
+
+            BigInteger gcd = numerator.gcd(denominator);
+
+            if (gcd.equals(ZERO)) {
+                gcd = ONE;
+            }
+
+            if (denominator.signum() < 0) {
+                gcd = gcd.negate();
+            }
+
+            this.numerator = numerator.divide(gcd);
+            this.denominator = denominator.divide(gcd);
+        }
+
+        /**
+         * @param string a decimal, e.g. "0.0254", or a fraction of integers, e.g. "5/18"
+         */
+        static Rational parse(String string) {
+
+            checkNotNull(string, "A rational number hasn't been specified.");
+
+            int slash = string.indexOf('/');
+
+            if (slash >= 0) {
+                return new Rational(new BigInteger(string.substring(0, slash)),
+                        new BigInteger(string.substring(slash + 1)));
+            }
+
+            BigDecimal decimal = new BigDecimal(string);
+
+            return decimal.scale() > 0
+                    ? new Rational(decimal.unscaledValue(), BigInteger.TEN.pow(decimal.scale()))
+                    : new Rational(decimal.toBigIntegerExact(), ONE);
+        }
+
+        Rational subtract(Rational that) {
+
+            return new Rational(numerator.multiply(that.denominator).subtract(that.numerator.multiply(denominator)),
+                    denominator.multiply(that.denominator));
+        }
+
+        Rational divide(Rational that) {
+            return new Rational(numerator.multiply(that.denominator), denominator.multiply(that.numerator));
+        }
+
+        /**
+         * @return the closest {@code double} to this number
+         */
+        double doubleValue() {
+
+            // rounding to a decimal first can't change which double the quotient rounds to, since this precision
+            // keeps a quotient whose denominator is a power of two exact, e.g. one halfway between two doubles, and
+            // keeps any other quotient p/q, which is at least 1/(q * 2^54) away from halfway, on the same side
+            int precision = Math.max(MathContext.DECIMAL128.getPrecision(),
+                    numerator.bitLength() + denominator.bitLength() + 20);
+
+            return new BigDecimal(numerator)
+                    .divide(new BigDecimal(denominator), new MathContext(precision, RoundingMode.HALF_EVEN))
+                    .doubleValue();
+        }
+    }
+}
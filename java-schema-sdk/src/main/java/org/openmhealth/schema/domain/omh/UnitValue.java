@@ -22,50 +22,130 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import org.openmhealth.schema.serializer.SerializationConstructor;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.HashMap;
 import java.util.Map;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Collections.emptyMap;
 
 
 /**
  * A base class for unit value tuples.
+ * <p>
+ * Values are always held as a {@link BigDecimal}. Values created from Java primitives or from deserialized integers
+ * and doubles are also held as a {@code long} or a {@code double}, which keeps comparing, hashing, converting and
+ * serializing them cheap. The primitives are transient, so unit values are stored the same way by field-based mappers
+ * regardless of how they were created. Use
+ * {@link org.openmhealth.schema.configuration.JacksonConfiguration#newPrimitiveNumberObjectMapper()} to deserialize
+ * decimal values as doubles.
  *
  * @author Emerson Farrugia
  * @version 1.0
  * @see <a href="http://www.openmhealth.org/documentation/#/schema-docs/schema-library/schemas/omh_unit-value">unit-value</a>
  */
-public class UnitValue implements SchemaSupport, AdditionalPropertySupport {
+public class UnitValue implements SchemaSupport, AdditionalPropertySupport, Cloneable {
 
     public static final SchemaId SCHEMA_ID = new SchemaId(OMH_NAMESPACE, "unit-value", "1.0");
 
+    /**
+     * The range of doubles that {@link Double#toString(double)} formats the same way as {@link BigDecimal#toString()}.
+     */
+    private static final double MINIMUM_PLAIN_DOUBLE = 1e-3;
+    private static final double MAXIMUM_PLAIN_DOUBLE = 1e7;
+
+    private enum Representation {
+        LONG,
+        DOUBLE
+    }
+
     private String unit;
     private BigDecimal value;
-    private Map<String, Object> additionalProperties = new HashMap<>();
+    private transient Representation representation; // null if the value is only held as a BigDecimal
+    private transient long longValue;
+    private transient double doubleValue;
+    private Map<String, Object> additionalProperties; // created when the first additional property is set
 
 
     @SerializationConstructor
     protected UnitValue() {
     }
 
+    /**
+     * @param unit the unit
+     * @param value the value, which is held as a {@code long} if it's a {@link Long}, {@link Integer}, {@link Short}
+     * or {@link Byte}, as a {@code double} if it's a {@link Double} or {@link Float}, and as a {@link BigDecimal}
+     * otherwise
+     */
     @JsonCreator
-    public UnitValue(@JsonProperty("unit") String unit, @JsonProperty("value") BigDecimal value) {
+    public UnitValue(@JsonProperty("unit") String unit, @JsonProperty("value") Number value) {
 
-        checkNotNull(unit, "A unit hasn't been specified.");
-        checkArgument(!unit.isEmpty(), "An empty unit has been specified.");
+        checkUnit(unit);
         checkNotNull(value, "A value hasn't been specified.");
 
         this.unit = unit;
-        this.value = value;
+
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            setLongValue(value.longValue());
+        }
+        else if (value instanceof Double || value instanceof Float) {
+            setDoubleValue(value.doubleValue());
+        }
+        else if (value instanceof BigDecimal) {
+            this.value = (BigDecimal) value;
+        }
+        else if (value instanceof BigInteger) {
+            this.value = new BigDecimal((BigInteger) value);
+        }
+        else {
+            this.value = new BigDecimal(value.toString());
+        }
+    }
+
+    /**
+     * Kept for binary compatibility with clients compiled against earlier versions.
+     */
+    public UnitValue(String unit, BigDecimal value) {
+        this(unit, (Number) value);
     }
 
     public UnitValue(String unit, double value) {
-        this(unit, BigDecimal.valueOf(value));
+
+        checkUnit(unit);
+
+        this.unit = unit;
+        setDoubleValue(value);
     }
 
     public UnitValue(String unit, long value) {
-        this(unit, BigDecimal.valueOf(value));
+
+        checkUnit(unit);
+
+        this.unit = unit;
+        setLongValue(value);
+    }
+
+    private static void checkUnit(String unit) {
+
+        checkNotNull(unit, "A unit hasn't been specified.");
+        checkArgument(!unit.isEmpty(), "An empty unit has been specified.");
+    }
+
+    private void setLongValue(long value) {
+
+        this.representation = Representation.LONG;
+        this.longValue = value;
+        this.value = BigDecimal.valueOf(value);
+    }
+
+    private void setDoubleValue(double value) {
+
+        checkArgument(Double.isFinite(value), "A non-finite value has been specified.");
+
+        this.representation = Representation.DOUBLE;
+        this.doubleValue = value;
+        this.value = BigDecimal.valueOf(value);
     }
 
     public String getUnit() {
@@ -76,6 +156,105 @@ public class UnitValue implements SchemaSupport, AdditionalPropertySupport {
         return value;
     }
 
+    /**
+     * @return the value as a double, which may lose precision if the value isn't held as a primitive
+     */
+    public double doubleValue() {
+
+        if (representation == Representation.LONG) {
+            return longValue;
+        }
+
+        if (representation == Representation.DOUBLE) {
+            return doubleValue;
+        }
+
+        return value.doubleValue();
+    }
+
+    /**
+     * @return the value to serialize, which is formatted the same way as the equivalent {@link #getValue()}
+     */
+    @JsonProperty("value")
+    public Number getSerializableValue() {
+
+        if (representation == Representation.LONG) {
+            return longValue;
+        }
+
+        if (representation == Representation.DOUBLE) {
+            double absoluteValue = Math.abs(doubleValue);
+
+            // Double.toString() uses computerized scientific notation outside this range, unlike BigDecimal
+            if (absoluteValue >= MINIMUM_PLAIN_DOUBLE && absoluteValue < MAXIMUM_PLAIN_DOUBLE) {
+                return doubleValue;
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * @return a copy of this unit value that holds a long value and has no additional properties
+     */
+    UnitValue copyWithValue(long value) {
+
+        UnitValue copy = copyWithoutValue();
+        copy.setLongValue(value);
+
+        return copy;
+    }
+
+    /**
+     * @return a copy of this unit value that holds a double value and has no additional properties
+     */
+    UnitValue copyWithValue(double value) {
+
+        UnitValue copy = copyWithoutValue();
+        copy.setDoubleValue(value);
+
+        return copy;
+    }
+
+    /**
+     * @param converter the converter to use
+     * @param from the unit of this unit value
+     * @param to the unit to convert to
+     * @return a copy of this unit value in the given unit that has no additional properties, which holds a double
+     * value if this unit value does, and an exact value otherwise
+     */
+    <U extends Unit> UnitValue copyWithConvertedValue(UnitConverter<U> converter, U from, U to) {
+
+        UnitValue copy = copyWithoutValue();
+        copy.unit = to.getSchemaValue();
+
+        if (representation == Representation.DOUBLE) {
+            copy.setDoubleValue(converter.convert(doubleValue, from, to));
+        }
+        else {
+            copy.representation = null;
+            copy.value = converter.convert(value, from, to);
+        }
+
+        return copy;
+    }
+
+    private UnitValue copyWithoutValue() {
+
+        try {
+            // cloning preserves the class and any typed unit of subclasses
+            UnitValue copy = (UnitValue) clone();
+
+            copy.value = null;
+            copy.additionalProperties = null;
+
+            return copy;
+        }
+        catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
     @Override
     @JsonIgnore
     public SchemaId getSchemaId() {
@@ -84,7 +263,17 @@ public class UnitValue implements SchemaSupport, AdditionalPropertySupport {
 
     @Override
     public Map<String, Object> getAdditionalProperties() {
-        return this.additionalProperties;
+
+        if (additionalProperties == null) {
+            additionalProperties = new HashMap<>();
+        }
+
+        return additionalProperties;
+    }
+
+    @Override
+    public Map<String, Object> peekAdditionalProperties() {
+        return additionalProperties == null ? emptyMap() : additionalProperties;
     }
 
     @Override
@@ -99,14 +288,31 @@ public class UnitValue implements SchemaSupport, AdditionalPropertySupport {
 
         UnitValue unitValue = (UnitValue) object;
 
-        return unit.equals(unitValue.unit) && value.compareTo(unitValue.value) == 0;
+        return unit.equals(unitValue.unit) && hasEqualValue(unitValue);
+    }
+
+    private boolean hasEqualValue(UnitValue unitValue) {
+
+        if (representation != null && representation == unitValue.representation) {
+            switch (representation) {
+                case LONG:
+                    return longValue == unitValue.longValue;
+                case DOUBLE:
+                    // distinct doubles have distinct decimal representations, and positive and negative zero are equal
+                    return doubleValue == unitValue.doubleValue;
+            }
+        }
+
+        return value.compareTo(unitValue.value) == 0;
     }
 
     @Override
     public int hashCode() {
 
         int result = unit.hashCode();
-        result = 31 * result + value.hashCode();
+
+        // numerically equal values have the same double representation, and adding zero normalizes negative zero
+        result = 31 * result + Double.hashCode(doubleValue() + 0.0);
         return result;
     }
 }
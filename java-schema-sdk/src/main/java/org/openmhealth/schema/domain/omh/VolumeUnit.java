@@ -21,8 +21,6 @@ import com.fasterxml.jackson.annotation.JsonValue;
 
 import javax.annotation.Nullable;
 import java.math.BigDecimal;
-import java.util.HashMap;
-import java.util.Map;
 
 
 /**
@@ -53,13 +51,8 @@ public enum VolumeUnit implements Unit {
     TABLESPOON("tbsp");
 
     private String schemaValue;
-    private static final Map<String, VolumeUnit> constantsBySchemaValue = new HashMap<>();
-
-    static {
-        for (VolumeUnit constant : values()) {
-            constantsBySchemaValue.put(constant.getSchemaValue(), constant);
-        }
-    }
+    private static final SchemaEnumLookup<VolumeUnit> constantsBySchemaValue =
+            SchemaEnumLookup.forType(VolumeUnit.class);
 
     VolumeUnit(String schemaValue) {
         this.schemaValue = schemaValue;
@@ -37,10 +37,17 @@ public class VolumeUnitValue extends TypedUnitValue<VolumeUnit> {
     }
 
     @JsonCreator
-    public VolumeUnitValue(@JsonProperty("unit") VolumeUnit unit, @JsonProperty("value") BigDecimal value) {
+    public VolumeUnitValue(@JsonProperty("unit") VolumeUnit unit, @JsonProperty("value") Number value) {
         super(unit, value);
     }
 
+    /**
+     * Kept for binary compatibility with clients compiled against earlier versions.
+     */
+    public VolumeUnitValue(VolumeUnit unit, BigDecimal value) {
+        this(unit, (Number) value);
+    }
+
     @Override
     public SchemaId getSchemaId() {
         return SCHEMA_ID;
@@ -53,4 +60,9 @@ public class VolumeUnitValue extends TypedUnitValue<VolumeUnit> {
     public VolumeUnitValue(VolumeUnit unit, long value) {
         super(unit, value);
     }
+
+    @Override
+    public VolumeUnitValue convertTo(VolumeUnit unit) {
+        return (VolumeUnitValue) super.convertTo(unit);
+    }
 }
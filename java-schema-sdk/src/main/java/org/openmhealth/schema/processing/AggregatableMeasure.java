@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.processing;
+
+import org.openmhealth.schema.domain.omh.BloodGlucose;
+import org.openmhealth.schema.domain.omh.BloodGlucoseUnit;
+import org.openmhealth.schema.domain.omh.BodyTemperature;
+import org.openmhealth.schema.domain.omh.DescriptiveStatistic;
+import org.openmhealth.schema.domain.omh.DescriptiveStatisticDenominator;
+import org.openmhealth.schema.domain.omh.HeartRate;
+import org.openmhealth.schema.domain.omh.Measure;
+import org.openmhealth.schema.domain.omh.StepCount2;
+import org.openmhealth.schema.domain.omh.TemperatureUnitValue;
+import org.openmhealth.schema.domain.omh.TimeInterval;
+import org.openmhealth.schema.domain.omh.TypedUnitValue;
+
+import javax.annotation.Nullable;
+import java.util.function.ToDoubleFunction;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.openmhealth.schema.domain.omh.BloodGlucoseUnit.MILLIGRAMS_PER_DECILITER;
+import static org.openmhealth.schema.domain.omh.TemperatureUnit.CELSIUS;
+import static org.openmhealth.schema.domain.omh.UnitConverter.BLOOD_GLUCOSE;
+import static org.openmhealth.schema.domain.omh.UnitConverter.TEMPERATURE;
+
+
+/**
+ * A type of measure that can be aggregated by a {@link MeasureAggregator}, which defines how to get the value of a
+ * measure and how to create a measure that holds a descriptive statistic.
+ *
+ * @param <M> the measure type
+ * @author agent
+ */
+public final class AggregatableMeasure<M extends Measure> {
+
+    /**
+     * Heart rates, in beats per minute.
+     */
+    public static final AggregatableMeasure<HeartRate> HEART_RATE = new AggregatableMeasure<>(HeartRate.class, false,
+            heartRate -> heartRate.getHeartRate().doubleValue(),
+            (value, statistic, denominator, timeInterval) -> new HeartRate.Builder(value)
+                    .setDescriptiveStatistic(statistic)
+                    .setEffectiveTimeFrame(timeInterval)
+                    .build());
+
+    /**
+     * Blood glucose levels, which are aggregated in milligrams per deciliter.
+     */
+    public static final AggregatableMeasure<BloodGlucose> BLOOD_GLUCOSE_LEVEL = new AggregatableMeasure<>(
+            BloodGlucose.class, false,
+            bloodGlucose -> {
+                TypedUnitValue<BloodGlucoseUnit> level = bloodGlucose.getBloodGlucose();
+
+                return BLOOD_GLUCOSE.convert(level.doubleValue(), level.getTypedUnit(), MILLIGRAMS_PER_DECILITER);
+            },
+            (value, statistic, denominator, timeInterval) ->
+                    new BloodGlucose.Builder(new TypedUnitValue<>(MILLIGRAMS_PER_DECILITER, value))
+                            .setDescriptiveStatistic(statistic)
+                            .setEffectiveTimeFrame(timeInterval)
+                            .build());
+
+    /**
+     * Body temperatures, which are aggregated in degrees Celsius.
+     */
+    public static final AggregatableMeasure<BodyTemperature> BODY_TEMPERATURE = new AggregatableMeasure<>(
+            BodyTemperature.class, false,
+            bodyTemperature -> {
+                TemperatureUnitValue temperature = bodyTemperature.getBodyTemperature();
+
+                return TEMPERATURE.convert(temperature.doubleValue(), temperature.getTypedUnit(), CELSIUS);
+            },
+            (value, statistic, denominator, timeInterval) -> new BodyTemperature.Builder(CELSIUS.newUnitValue(value))
+                    .setDescriptiveStatistic(statistic)
+                    .setEffectiveTimeFrame(timeInterval)
+                    .build());
+
+    /**
+     * Step counts, which are additive.
+     */
+    public static final AggregatableMeasure<StepCount2> STEP_COUNT = new AggregatableMeasure<>(StepCount2.class, true,
+            stepCount -> stepCount.getStepCount().doubleValue(),
+            (value, statistic, denominator, timeInterval) -> new StepCount2.Builder(value, timeInterval)
+                    .setDescriptiveStatistic(statistic)
+                    .setDescriptiveStatisticDenominator(denominator)
+                    .build());
+
+    private final Class<M> measureType;
+    private final boolean additive;
+    private final ToDoubleFunction<? super M> valueFunction;
+    private final MeasureFactory<M> measureFactory;
+
+
+    /**
+     * Creates a measure that holds a descriptive statistic.
+     *
+     * @param <M> the measure type
+     */
+    @FunctionalInterface
+    public interface MeasureFactory<M extends Measure> {
+
+        /**
+         * @param value the value of the statistic
+         * @param statistic the statistic
+         * @param denominator the denominator of the statistic, if the statistic isn't computed over the values of
+         * individual measures
+         * @param effectiveTimeInterval the time interval over which the statistic was computed
+         * @return the measure
+         */
+        M newMeasure(double value, DescriptiveStatistic statistic,
+                @Nullable DescriptiveStatisticDenominator denominator, TimeInterval effectiveTimeInterval);
+    }
+
+
+    /**
+     * @param measureType the measure type
+     * @param additive true if the values of measures add up over time, like step counts, or false if they're
+     * samples, like heart rates
+     * @param valueFunction the function that gets the value of a measure, which must use the same unit for every
+     * measure
+     * @param measureFactory the factory that creates measures that hold descriptive statistics
+     */
+    public AggregatableMeasure(Class<M> measureType, boolean additive, ToDoubleFunction<? super M> valueFunction,
+            MeasureFactory<M> measureFactory) {
+
+        checkNotNull(measureType, "A measure type hasn't been specified.");
+        checkNotNull(valueFunction, "A value function hasn't been specified.");
+        checkNotNull(measureFactory, "A measure factory hasn't been specified.");
+
+        this.measureType = measureType;
+        this.additive = additive;
+        this.valueFunction = valueFunction;
+        this.measureFactory = measureFactory;
+    }
+
+    public Class<M> getMeasureType() {
+        return measureType;
+    }
+
+    /**
+     * @return true if the values of measures add up over time, false otherwise
+     */
+    public boolean isAdditive() {
+        return additive;
+    }
+
+    double getValue(M measure) {
+        return valueFunction.applyAsDouble(measure);
+    }
+
+    M newMeasure(double value, DescriptiveStatistic statistic, @Nullable DescriptiveStatisticDenominator denominator,
+            TimeInterval effectiveTimeInterval) {
+
+        return measureFactory.newMeasure(value, statistic, denominator, effectiveTimeInterval);
+    }
+}
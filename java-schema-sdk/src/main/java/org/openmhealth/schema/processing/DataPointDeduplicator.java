@@ -0,0 +1,352 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.processing;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.openmhealth.schema.configuration.JacksonConfiguration;
+import org.openmhealth.schema.domain.omh.DataPoint;
+import org.openmhealth.schema.domain.omh.DataPointHeader;
+import org.openmhealth.schema.domain.omh.SchemaId;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.stream.Stream;
+
+import static com.fasterxml.jackson.databind.SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+
+/**
+ * A deduplicator that removes duplicate data points from a stream of data points. A data point is a duplicate if
+ * a data point with the same {@link DataPoint#dedupKey() deduplication key} has been seen before, i.e. one with the
+ * same header identifier and user. If content deduplication is enabled, a data point is also a duplicate if a data
+ * point with the same body schema identifier, user and body has been seen before, regardless of its header identifier,
+ * creation date time and acquisition provenance. This catches data points that are created again when a device retries
+ * a synchronization. Bodies are compared by their serialized form, which includes the effective time frame and the
+ * values of measures. The form is canonical: map entries are sorted by key, and numbers are written without trailing
+ * zeros, so that a value of 60 and a value of 60.0 are the same.
+ * <p>
+ * Instead of data points, the deduplicator keeps 128-bit fingerprints of them in a hash set outside the Java heap,
+ * which takes between 21 and 43 bytes per fingerprint. The probability of two distinct data points sharing a
+ * fingerprint is negligible, even for billions of data points. The memory the set takes is capped, by default at
+ * 1 GiB, and is freed by the garbage collector once the deduplicator is unreachable.
+ * <p>
+ * This class isn't thread-safe. To deduplicate data points in parallel, partition them by user and use a deduplicator
+ * per partition.
+ *
+ * @author agent
+ */
+public class DataPointDeduplicator {
+
+    private static final HashFunction FINGERPRINT_FUNCTION = Hashing.murmur3_128();
+
+    // distinguishes the two kinds of fingerprints, which share the same set
+    private static final byte KEY_FINGERPRINT = 1;
+    private static final byte CONTENT_FINGERPRINT = 2;
+
+    private final boolean contentDeduplicated;
+    private final ObjectMapper objectMapper;
+    private final FingerprintSet fingerprints;
+
+
+    public static class Builder {
+
+        private boolean contentDeduplicated;
+        private ObjectMapper objectMapper;
+        private long expectedDataPointCount = 1 << 16;
+        private long maximumAllocatedBytes = FingerprintSet.DEFAULT_MAXIMUM_ALLOCATED_BYTES;
+
+        /**
+         * @param contentDeduplicated true if data points with the same content but different header identifiers
+         * should be considered duplicates, false otherwise
+         * @return this builder
+         */
+        public Builder setContentDeduplicated(boolean contentDeduplicated) {
+            this.contentDeduplicated = contentDeduplicated;
+            return this;
+        }
+
+        /**
+         * @param objectMapper the object mapper used to serialize bodies when content deduplication is enabled, which
+         * defaults to the one created by {@link JacksonConfiguration#newObjectMapper()}. The deduplicator uses a copy
+         * that sorts map entries by key.
+         * @return this builder
+         */
+        public Builder setObjectMapper(ObjectMapper objectMapper) {
+
+            checkNotNull(objectMapper, "An object mapper hasn't been specified.");
+
+            this.objectMapper = objectMapper;
+            return this;
+        }
+
+        /**
+         * @param expectedDataPointCount the number of distinct data points the deduplicator is expected to see, which
+         * is used to size it initially
+         * @return this builder
+         */
+        public Builder setExpectedDataPointCount(long expectedDataPointCount) {
+
+            checkArgument(expectedDataPointCount >= 0, "A negative expected data point count has been specified.");
+
+            this.expectedDataPointCount = expectedDataPointCount;
+            return this;
+        }
+
+        /**
+         * @param maximumAllocatedBytes the maximum number of bytes the deduplicator can allocate outside the Java heap
+         * to record fingerprints, which defaults to 1 GiB
+         * @return this builder
+         */
+        public Builder setMaximumAllocatedBytes(long maximumAllocatedBytes) {
+
+            checkArgument(maximumAllocatedBytes >= FingerprintSet.MINIMUM_ALLOCATED_BYTES,
+                    "A maximum allocated size smaller than %s bytes has been specified.",
+                    FingerprintSet.MINIMUM_ALLOCATED_BYTES);
+
+            this.maximumAllocatedBytes = maximumAllocatedBytes;
+            return this;
+        }
+
+        public DataPointDeduplicator build() {
+            return new DataPointDeduplicator(this);
+        }
+    }
+
+    private DataPointDeduplicator(Builder builder) {
+
+        this.contentDeduplicated = builder.contentDeduplicated;
+        this.objectMapper = (builder.objectMapper != null ? builder.objectMapper.copy()
+                : JacksonConfiguration.newObjectMapper()).enable(ORDER_MAP_ENTRIES_BY_KEYS);
+        this.fingerprints = new FingerprintSet(
+                builder.contentDeduplicated ? builder.expectedDataPointCount * 2 : builder.expectedDataPointCount,
+                builder.maximumAllocatedBytes);
+    }
+
+    public boolean isContentDeduplicated() {
+        return contentDeduplicated;
+    }
+
+    /**
+     * Records a data point.
+     *
+     * @param dataPoint a data point
+     * @return true if the data point isn't a duplicate of a data point recorded earlier, false otherwise
+     * @throws UncheckedIOException if the body of the data point can't be serialized
+     * @throws IllegalStateException if recording the data point would exceed the maximum allocated size
+     */
+    public boolean add(DataPoint<?> dataPoint) {
+
+        checkNotNull(dataPoint, "A data point hasn't been specified.");
+
+        byte[] keyFingerprint = getKeyFingerprint(dataPoint);
+
+        if (!contentDeduplicated) {
+            return fingerprints.add(toLong(keyFingerprint, 0), toLong(keyFingerprint, 8));
+        }
+
+        // both fingerprints are computed before either is recorded, so that a data point whose body can't be
+        // serialized isn't half recorded. both are recorded, so that a later data point can be a duplicate of either
+        byte[] contentFingerprint = getContentFingerprint(dataPoint);
+
+        return fingerprints.add(toLong(keyFingerprint, 0), toLong(keyFingerprint, 8),
+                toLong(contentFingerprint, 0), toLong(contentFingerprint, 8));
+    }
+
+    /**
+     * Removes duplicates from a stream of data points. The data points are recorded as the returned stream is
+     * consumed.
+     *
+     * @param dataPoints a stream of data points
+     * @param <T> the body type of the data points
+     * @return a stream of the data points that aren't duplicates of data points recorded earlier
+     */
+    public <T> Stream<DataPoint<T>> deduplicate(Stream<DataPoint<T>> dataPoints) {
+
+        checkNotNull(dataPoints, "A stream of data points hasn't been specified.");
+
+        return dataPoints.filter(this::add);
+    }
+
+    /**
+     * @return the number of fingerprints recorded, which is twice the number of unique data points if content
+     * deduplication is enabled
+     */
+    public long getFingerprintCount() {
+        return fingerprints.size();
+    }
+
+    /**
+     * @return the number of bytes allocated outside the Java heap to record fingerprints
+     */
+    public long getAllocatedBytes() {
+        return fingerprints.getAllocatedBytes();
+    }
+
+    private byte[] getKeyFingerprint(DataPoint<?> dataPoint) {
+
+        DataPoint.DedupKey key = dataPoint.dedupKey();
+
+        Hasher hasher = FINGERPRINT_FUNCTION.newHasher()
+                .putByte(KEY_FINGERPRINT)
+                .putUnencodedChars(key.getId())
+                .putByte((byte) 0);
+
+        key.getUserId().ifPresent(hasher::putUnencodedChars);
+
+        return hasher.hash().asBytes();
+    }
+
+    private byte[] getContentFingerprint(DataPoint<?> dataPoint) {
+
+        DataPointHeader header = dataPoint.getHeader();
+        SchemaId bodySchemaId = header.getBodySchemaId();
+
+        // the separators avoid ambiguity between adjacent strings
+        Hasher hasher = FINGERPRINT_FUNCTION.newHasher()
+                .putByte(CONTENT_FINGERPRINT)
+                .putUnencodedChars(bodySchemaId.getNamespace())
+                .putByte((byte) 0)
+                .putUnencodedChars(bodySchemaId.getName())
+                .putByte((byte) 0)
+                .putUnencodedChars(bodySchemaId.getVersion().toString())
+                .putByte((byte) 0);
+
+        if (header.getUserId() != null) {
+            hasher.putUnencodedChars(header.getUserId());
+        }
+
+        hasher.putByte((byte) 0);
+
+        try (OutputStream outputStream = Funnels.asOutputStream(hasher);
+             JsonGenerator generator = new CanonicalNumberGenerator(
+                     objectMapper.getFactory().createGenerator(outputStream))) {
+
+            // reading the body back as maps sorts all its properties when it's written, since the additional
+            // properties of schema objects aren't sorted when they're serialized directly
+            TokenBuffer buffer = new TokenBuffer(objectMapper, false);
+            objectMapper.writeValue(buffer, dataPoint.getBody());
+
+            objectMapper.writeValue(generator, objectMapper.readValue(buffer.asParser(), Object.class));
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return hasher.hash().asBytes();
+    }
+
+    private static long toLong(byte[] bytes, int offset) {
+
+        long value = 0;
+
+        for (int i = offset; i < offset + 8; i++) {
+            value = (value << 8) | (bytes[i] & 0xFF);
+        }
+
+        return value;
+    }
+
+    /**
+     * A generator that writes numbers in a canonical form, so that numbers with the same value are written the same
+     * way regardless of their type and scale. Integers are written as such, and other numbers as decimals without
+     * trailing zeros.
+     */
+    private static final class CanonicalNumberGenerator extends JsonGeneratorDelegate {
+
+        CanonicalNumberGenerator(JsonGenerator delegate) {
+            super(delegate, false);
+        }
+
+        @Override
+        public void writeNumber(short value) throws IOException {
+            delegate.writeNumber((long) value);
+        }
+
+        @Override
+        public void writeNumber(int value) throws IOException {
+            delegate.writeNumber((long) value);
+        }
+
+        @Override
+        public void writeNumber(BigInteger value) throws IOException {
+            writeCanonicalNumber(new BigDecimal(value));
+        }
+
+        @Override
+        public void writeNumber(float value) throws IOException {
+            writeNumber((double) value);
+        }
+
+        @Override
+        public void writeNumber(double value) throws IOException {
+
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                delegate.writeNumber(value);
+            }
+            else {
+                writeCanonicalNumber(BigDecimal.valueOf(value));
+            }
+        }
+
+        @Override
+        public void writeNumber(BigDecimal value) throws IOException {
+            writeCanonicalNumber(value);
+        }
+
+        @Override
+        public void writeNumber(String encodedValue) throws IOException {
+
+            BigDecimal value;
+
+            try {
+                value = new BigDecimal(encodedValue);
+            }
+            catch (NumberFormatException e) {
+                delegate.writeNumber(encodedValue);
+                return;
+            }
+
+            writeCanonicalNumber(value);
+        }
+
+        private void writeCanonicalNumber(BigDecimal value) throws IOException {
+
+            BigDecimal strippedValue = value.signum() == 0 ? BigDecimal.ZERO : value.stripTrailingZeros();
+
+            // integers that fit in a long are written like longs, everything else in scientific notation if needed
+            if (strippedValue.scale() <= 0 && strippedValue.precision() - strippedValue.scale() <= 18) {
+                delegate.writeNumber(strippedValue.longValueExact());
+            }
+            else {
+                delegate.writeNumber(strippedValue.toString());
+            }
+        }
+    }
+}
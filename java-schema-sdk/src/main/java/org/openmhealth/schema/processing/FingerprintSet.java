@@ -0,0 +1,304 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.processing;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+
+/**
+ * A hash set of 128-bit fingerprints that's stored outside the Java heap. The set is split into segments, which are
+ * open addressing hash tables using linear probing, and which are resized independently to avoid copying the whole set
+ * at once. Fingerprints can't be removed.
+ * <p>
+ * Each fingerprint takes 16 bytes, and tables are kept at most three quarters full, so a set takes between 21 and 43
+ * bytes per fingerprint. Since the all-zero fingerprint marks empty slots, it's treated as equal to the fingerprint
+ * whose last bit is set.
+ * <p>
+ * The tables are direct buffers, which can't be freed explicitly. The garbage collector frees them once they're
+ * unreachable, i.e. once the set is, or once a resize has replaced them. To bound the memory a set can hold, the
+ * buffers it allocates, including the one a segment is being resized into, can't exceed a maximum size. Direct buffers
+ * also count towards the limit set by {@code -XX:MaxDirectMemorySize}.
+ * <p>
+ * This class isn't thread-safe.
+ *
+ * @author agent
+ */
+final class FingerprintSet {
+
+    private static final int SLOT_SIZE = 16;
+    private static final int SEGMENT_COUNT_BITS = 4;
+    private static final int SEGMENT_COUNT = 1 << SEGMENT_COUNT_BITS;
+    private static final int MINIMUM_SEGMENT_CAPACITY = 1 << 6;
+    private static final int MAXIMUM_SEGMENT_CAPACITY = 1 << 26; // a 1 GiB buffer
+
+    static final long MINIMUM_ALLOCATED_BYTES = (long) SEGMENT_COUNT * MINIMUM_SEGMENT_CAPACITY * SLOT_SIZE;
+    static final long DEFAULT_MAXIMUM_ALLOCATED_BYTES = 1L << 30;
+
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+    private final long maximumAllocatedBytes;
+    private long allocatedBytes;
+    private long size;
+
+
+    /**
+     * @param expectedSize the number of fingerprints the set is expected to hold, used to size it initially
+     */
+    FingerprintSet(long expectedSize) {
+        this(expectedSize, DEFAULT_MAXIMUM_ALLOCATED_BYTES);
+    }
+
+    /**
+     * @param expectedSize the number of fingerprints the set is expected to hold, used to size it initially
+     * @param maximumAllocatedBytes the maximum number of bytes the set can allocate outside the Java heap
+     */
+    FingerprintSet(long expectedSize, long maximumAllocatedBytes) {
+
+        checkArgument(expectedSize >= 0, "A negative expected size has been specified.");
+        checkArgument(maximumAllocatedBytes >= MINIMUM_ALLOCATED_BYTES,
+                "A maximum allocated size smaller than %s bytes has been specified.", MINIMUM_ALLOCATED_BYTES);
+
+        long segmentSize = expectedSize / SEGMENT_COUNT + 1;
+        int segmentCapacity = MINIMUM_SEGMENT_CAPACITY;
+
+        while (segmentCapacity < MAXIMUM_SEGMENT_CAPACITY && segmentCapacity * 3L / 4 < segmentSize
+                && (long) SEGMENT_COUNT * (segmentCapacity << 1) * SLOT_SIZE <= maximumAllocatedBytes) {
+            segmentCapacity <<= 1;
+        }
+
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+
+        this.maximumAllocatedBytes = maximumAllocatedBytes;
+        this.allocatedBytes = (long) SEGMENT_COUNT * segmentCapacity * SLOT_SIZE;
+    }
+
+    /**
+     * Adds a fingerprint to this set.
+     *
+     * @param high the high 64 bits of the fingerprint
+     * @param low the low 64 bits of the fingerprint
+     * @return true if the fingerprint wasn't already in this set, false otherwise
+     * @throws IllegalStateException if the segment the fingerprint belongs to is full, and can't be resized without
+     * exceeding the maximum allocated size
+     */
+    boolean add(long high, long low) {
+
+        low = toStoredLow(high, low);
+        Segment segment = getSegment(high);
+
+        // a fingerprint that's already present is found even if its segment is full
+        if (segment.contains(high, low)) {
+            return false;
+        }
+
+        if (segment.size >= segment.resizeThreshold) {
+            resize(segment);
+        }
+
+        segment.add(high, low);
+        size++;
+
+        return true;
+    }
+
+    /**
+     * Adds two fingerprints to this set. Either both fingerprints are added, or neither is if the set can't be resized
+     * to hold them.
+     *
+     * @param firstHigh the high 64 bits of the first fingerprint
+     * @param firstLow the low 64 bits of the first fingerprint
+     * @param secondHigh the high 64 bits of the second fingerprint
+     * @param secondLow the low 64 bits of the second fingerprint
+     * @return true if neither fingerprint was already in this set, false otherwise
+     * @throws IllegalStateException if the segments the fingerprints belong to are full, and can't be resized without
+     * exceeding the maximum allocated size
+     */
+    boolean add(long firstHigh, long firstLow, long secondHigh, long secondLow) {
+
+        firstLow = toStoredLow(firstHigh, firstLow);
+        secondLow = toStoredLow(secondHigh, secondLow);
+
+        Segment firstSegment = getSegment(firstHigh);
+        Segment secondSegment = getSegment(secondHigh);
+
+        boolean firstAbsent = !firstSegment.contains(firstHigh, firstLow);
+        boolean secondAbsent = !secondSegment.contains(secondHigh, secondLow)
+                && !(firstHigh == secondHigh && firstLow == secondLow);
+
+        // both segments are resized before either fingerprint is added
+        if (firstAbsent && firstSegment.size >= firstSegment.resizeThreshold) {
+            resize(firstSegment);
+        }
+
+        int secondSegmentSize = secondSegment.size + (firstAbsent && secondSegment == firstSegment ? 1 : 0);
+
+        if (secondAbsent && secondSegmentSize >= secondSegment.resizeThreshold) {
+            resize(secondSegment);
+        }
+
+        if (firstAbsent) {
+            firstSegment.add(firstHigh, firstLow);
+            size++;
+        }
+
+        if (secondAbsent) {
+            secondSegment.add(secondHigh, secondLow);
+            size++;
+        }
+
+        return firstAbsent && secondAbsent;
+    }
+
+    /**
+     * @param high the high 64 bits of the fingerprint
+     * @param low the low 64 bits of the fingerprint
+     * @return true if the fingerprint is in this set, false otherwise
+     */
+    boolean contains(long high, long low) {
+        return getSegment(high).contains(high, toStoredLow(high, low));
+    }
+
+    /**
+     * @return the number of fingerprints in this set
+     */
+    long size() {
+        return size;
+    }
+
+    /**
+     * @return the number of bytes allocated outside the Java heap by this set, excluding the buffers replaced by
+     * resizes that haven't been freed yet
+     */
+    long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * @return the low bits of the fingerprint as stored, since the all-zero fingerprint marks empty slots
+     */
+    private static long toStoredLow(long high, long low) {
+        return (high | low) == 0 ? 1 : low;
+    }
+
+    /**
+     * @return the segment of the fingerprint with the given high bits, which select the segment while the low bits
+     * select the slot, so that they're independent
+     */
+    private Segment getSegment(long high) {
+        return segments[(int) (high >>> (64 - SEGMENT_COUNT_BITS))];
+    }
+
+    private void resize(Segment segment) {
+
+        long oldBytes = segment.slots.capacity();
+        long newBytes = oldBytes << 1;
+
+        // both buffers are held while the segment is resized
+        if (segment.mask + 1 >= MAXIMUM_SEGMENT_CAPACITY || allocatedBytes + newBytes > maximumAllocatedBytes) {
+            throw new IllegalStateException("The fingerprint set is full.");
+        }
+
+        segment.resize();
+        allocatedBytes += newBytes - oldBytes;
+    }
+
+    private static final class Segment {
+
+        private ByteBuffer slots;
+        private int mask;
+        private int size;
+        private int resizeThreshold;
+
+        Segment(int capacity) {
+            allocate(capacity);
+        }
+
+        private void allocate(int capacity) {
+
+            this.slots = ByteBuffer.allocateDirect(capacity * SLOT_SIZE).order(ByteOrder.nativeOrder());
+            this.mask = capacity - 1;
+            this.resizeThreshold = capacity / 4 * 3;
+        }
+
+        boolean add(long high, long low) {
+
+            int slot = findSlot(slots, mask, high, low);
+            int offset = slot * SLOT_SIZE;
+
+            if ((slots.getLong(offset) | slots.getLong(offset + 8)) != 0) {
+                return false;
+            }
+
+            slots.putLong(offset, high);
+            slots.putLong(offset + 8, low);
+            size++;
+
+            return true;
+        }
+
+        boolean contains(long high, long low) {
+
+            int offset = findSlot(slots, mask, high, low) * SLOT_SIZE;
+
+            return (slots.getLong(offset) | slots.getLong(offset + 8)) != 0;
+        }
+
+        /**
+         * @return the slot containing the fingerprint, or the empty slot it belongs in if it's absent
+         */
+        private static int findSlot(ByteBuffer slots, int mask, long high, long low) {
+
+            int slot = (int) low & mask;
+
+            while (true) {
+                int offset = slot * SLOT_SIZE;
+                long slotHigh = slots.getLong(offset);
+                long slotLow = slots.getLong(offset + 8);
+
+                if ((slotHigh | slotLow) == 0 || (slotHigh == high && slotLow == low)) {
+                    return slot;
+                }
+
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        void resize() {
+
+            int capacity = mask + 1;
+            ByteBuffer oldSlots = slots;
+            allocate(capacity << 1);
+
+            for (int offset = 0; offset < oldSlots.capacity(); offset += SLOT_SIZE) {
+                long high = oldSlots.getLong(offset);
+                long low = oldSlots.getLong(offset + 8);
+
+                if ((high | low) != 0) {
+                    int newOffset = findSlot(slots, mask, high, low) * SLOT_SIZE;
+
+                    slots.putLong(newOffset, high);
+                    slots.putLong(newOffset + 8, low);
+                }
+            }
+        }
+    }
+}
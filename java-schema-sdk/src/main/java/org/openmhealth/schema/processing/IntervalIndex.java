@@ -0,0 +1,312 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.processing;
+
+import org.openmhealth.schema.domain.omh.DataPoint;
+import org.openmhealth.schema.domain.omh.EpochRange;
+import org.openmhealth.schema.domain.omh.Measure;
+import org.openmhealth.schema.domain.omh.TimeFrame;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+
+/**
+ * An index of items that span ranges of time, which finds the items that overlap a given range, e.g. the measures
+ * taken during a sleep episode.
+ * <p>
+ * The index is an augmented interval tree, which is laid out implicitly over arrays of the items sorted by the start
+ * of their ranges. The node of each subarray is its middle item, and holds the largest end of the ranges in the
+ * subarray. The items that start in the queried range are found using a binary search, and the items that start
+ * before it are found by descending the tree into the subarrays whose largest end is after the start of the queried
+ * range. A query therefore takes O(log n + k) time for k overlapping items, and doesn't allocate if the items are
+ * passed to a consumer.
+ * <p>
+ * Ranges include their start and exclude their end, and a range that's a point in time overlaps the ranges that
+ * include it. The index can't be modified once it's created, and is therefore thread-safe.
+ *
+ * @param <T> the item type
+ * @author agent
+ */
+public final class IntervalIndex<T> {
+
+    private final Object[] items;
+    private final long[] startEpochNanos;
+    private final long[] endEpochNanos;
+    private final long[] maximumEndEpochNanos; // the largest end in the subarray whose node is at the same index
+
+
+    /**
+     * @param items the items to index
+     * @param rangeFunction the function that gets the range of an item
+     */
+    public IntervalIndex(Collection<? extends T> items, Function<? super T, EpochRange> rangeFunction) {
+
+        checkNotNull(items, "Items haven't been specified.");
+        checkNotNull(rangeFunction, "A range function hasn't been specified.");
+
+        List<Entry<T>> entries = new ArrayList<>(items.size());
+
+        for (T item : items) {
+            EpochRange range = rangeFunction.apply(item);
+
+            checkArgument(range != null, "The range of an item hasn't been specified.");
+            entries.add(new Entry<>(item, range));
+        }
+
+        // stable, so items with the same start keep their order
+        entries.sort(Comparator.comparingLong(entry -> entry.range.getStartEpochNano()));
+
+        int size = entries.size();
+
+        this.items = new Object[size];
+        this.startEpochNanos = new long[size];
+        this.endEpochNanos = new long[size];
+        this.maximumEndEpochNanos = new long[size];
+
+        for (int i = 0; i < size; i++) {
+            Entry<T> entry = entries.get(i);
+
+            this.items[i] = entry.item;
+            this.startEpochNanos[i] = entry.range.getStartEpochNano();
+            this.endEpochNanos[i] = entry.range.getEndEpochNano();
+        }
+
+        initializeMaximumEnds(0, size);
+    }
+
+    /**
+     * Creates an index of data points by the effective time frames of their measures. Data points whose effective time
+     * frames are a part of a day, e.g. the morning of a date, can't be indexed, since a part of a day doesn't identify
+     * a range of instants.
+     *
+     * @param dataPoints data points whose bodies are measures with effective time frames
+     * @param <T> the data point type
+     * @return the index
+     * @throws IllegalArgumentException if a data point doesn't have a body with an effective time frame, or if its
+     * effective time frame can't be resolved, e.g. because it's a part of a day
+     */
+    public static <T extends DataPoint<?>> IntervalIndex<T> ofDataPoints(Collection<? extends T> dataPoints) {
+
+        return new IntervalIndex<>(dataPoints, dataPoint -> {
+            checkArgument(dataPoint.getBody() instanceof Measure, "A data point without a measure has been specified.");
+
+            Measure measure = (Measure) dataPoint.getBody();
+            TimeFrame timeFrame = measure.getEffectiveTimeFrame();
+
+            checkArgument(timeFrame != null, "A data point without an effective time frame has been specified.");
+
+            try {
+                return timeFrame.toEpochRange();
+            }
+            catch (IllegalStateException e) {
+                throw new IllegalArgumentException(String.format(
+                        "The effective time frame of the data point '%s' can't be resolved to a range of time.",
+                        dataPoint.getHeader().getId()), e);
+            }
+        });
+    }
+
+    /**
+     * @return the largest end in the subarray [from, to)
+     */
+    private long initializeMaximumEnds(int from, int to) {
+
+        if (from >= to) {
+            return Long.MIN_VALUE;
+        }
+
+        int node = (from + to) >>> 1;
+
+        long maximumEnd = Math.max(endEpochNanos[node],
+                Math.max(initializeMaximumEnds(from, node), initializeMaximumEnds(node + 1, to)));
+
+        maximumEndEpochNanos[node] = maximumEnd;
+
+        return maximumEnd;
+    }
+
+    public int size() {
+        return items.length;
+    }
+
+    /**
+     * @return the items that overlap the range [startEpochNano, endEpochNano), in order of the start of their ranges
+     */
+    public List<T> findOverlapping(long startEpochNano, long endEpochNano) {
+
+        List<T> overlappingItems = new ArrayList<>();
+
+        forEachOverlapping(startEpochNano, endEpochNano, overlappingItems::add);
+
+        return overlappingItems;
+    }
+
+    /**
+     * @return the items that overlap the range [startDateTime, endDateTime), in order of the start of their ranges
+     */
+    public List<T> findOverlapping(OffsetDateTime startDateTime, OffsetDateTime endDateTime) {
+
+        EpochRange range = EpochRange.of(startDateTime, endDateTime);
+
+        return findOverlapping(range.getStartEpochNano(), range.getEndEpochNano());
+    }
+
+    /**
+     * @return the number of items that overlap the range [startEpochNano, endEpochNano)
+     */
+    public int countOverlapping(long startEpochNano, long endEpochNano) {
+
+        checkArgument(startEpochNano <= endEpochNano, "The specified start and end are reversed.");
+
+        int startingIndex = findFirstIndexStartingAtOrAfter(startEpochNano);
+        int endingIndex = findFirstIndexStartingAfterRange(startEpochNano, endEpochNano);
+
+        int[] count = {endingIndex - startingIndex};
+
+        forEachOverlappingStartingBefore(0, items.length, startingIndex, startEpochNano, item -> count[0]++);
+
+        return count[0];
+    }
+
+    /**
+     * Passes the items that overlap the range [startEpochNano, endEpochNano) to a consumer, in order of the start of
+     * their ranges.
+     */
+    public void forEachOverlapping(long startEpochNano, long endEpochNano, Consumer<? super T> consumer) {
+
+        checkArgument(startEpochNano <= endEpochNano, "The specified start and end are reversed.");
+        checkNotNull(consumer, "A consumer hasn't been specified.");
+
+        int startingIndex = findFirstIndexStartingAtOrAfter(startEpochNano);
+        int endingIndex = findFirstIndexStartingAfterRange(startEpochNano, endEpochNano);
+
+        // the items that start before the range overlap it if they end after its start
+        forEachOverlappingStartingBefore(0, items.length, startingIndex, startEpochNano, consumer);
+
+        // the items that start in the range overlap it
+        for (int i = startingIndex; i < endingIndex; i++) {
+            consumer.accept(getItem(i));
+        }
+    }
+
+    /**
+     * Passes the items in the subarray [from, to) whose index is less than the limit, and whose end is after the given
+     * instant, to a consumer.
+     */
+    private void forEachOverlappingStartingBefore(int from, int to, int limit, long epochNano,
+            Consumer<? super T> consumer) {
+
+        while (from < to && from < limit) {
+            int node = (from + to) >>> 1;
+
+            if (maximumEndEpochNanos[node] <= epochNano) {
+                return;
+            }
+
+            forEachOverlappingStartingBefore(from, node, limit, epochNano, consumer);
+
+            if (node >= limit) {
+                return;
+            }
+
+            if (endEpochNanos[node] > epochNano) {
+                consumer.accept(getItem(node));
+            }
+
+            // the right subarray is visited iteratively
+            from = node + 1;
+        }
+    }
+
+    /**
+     * @return the index of the first item that starts at or after the given instant, or the number of items if there
+     * isn't one
+     */
+    private int findFirstIndexStartingAtOrAfter(long epochNano) {
+
+        int low = 0;
+        int high = startEpochNanos.length;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (startEpochNanos[middle] < epochNano) {
+                low = middle + 1;
+            }
+            else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * @return the index of the first item that starts after the range [startEpochNano, endEpochNano), or the number of
+     * items if there isn't one. If the range is a point in time, the items that start at it are in the range.
+     */
+    private int findFirstIndexStartingAfterRange(long startEpochNano, long endEpochNano) {
+
+        if (startEpochNano < endEpochNano) {
+            return findFirstIndexStartingAtOrAfter(endEpochNano);
+        }
+
+        int low = 0;
+        int high = startEpochNanos.length;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (startEpochNanos[middle] <= endEpochNano) {
+                low = middle + 1;
+            }
+            else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T getItem(int index) {
+        return (T) items[index];
+    }
+
+
+    private static final class Entry<T> {
+
+        private final T item;
+        private final EpochRange range;
+
+        Entry(T item, EpochRange range) {
+
+            this.item = item;
+            this.range = range;
+        }
+    }
+}
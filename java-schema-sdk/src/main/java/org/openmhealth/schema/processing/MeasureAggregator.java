@@ -0,0 +1,565 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.processing;
+
+import org.openmhealth.schema.domain.omh.DataPoint;
+import org.openmhealth.schema.domain.omh.DataPointAcquisitionProvenance;
+import org.openmhealth.schema.domain.omh.DataPointHeader;
+import org.openmhealth.schema.domain.omh.DescriptiveStatistic;
+import org.openmhealth.schema.domain.omh.DescriptiveStatisticDenominator;
+import org.openmhealth.schema.domain.omh.EpochRange;
+import org.openmhealth.schema.domain.omh.Measure;
+import org.openmhealth.schema.domain.omh.TimeFrame;
+import org.openmhealth.schema.domain.omh.TimeInterval;
+
+import javax.annotation.Nullable;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyList;
+import static org.openmhealth.schema.domain.omh.DescriptiveStatistic.*;
+import static org.openmhealth.schema.domain.omh.DescriptiveStatisticDenominator.DAY;
+
+
+/**
+ * An aggregator that rolls up time-ordered measures into data points that hold descriptive statistics of the measures
+ * in fixed time windows, e.g. the hourly average heart rate or the daily median blood glucose level of a user.
+ * <p>
+ * Each window is a time interval of the configured duration, aligned to midnight at the configured offset, that is
+ * either a divisor or a multiple of a day. Windows of several days are aligned to midnight of 1970-01-01 at the offset,
+ * i.e. they're consecutive runs of that many days counted from the epoch, so windows of a week start on Thursdays.
+ * Calendar weeks, months and years aren't supported. A measure belongs to the window that contains the start of its
+ * effective time frame. A window is open while measures that belong to it are added, and is closed when a later measure
+ * of the same user belongs to a later window, or when the aggregator is {@link #flush() flushed}. Closing a window
+ * emits a data point for each statistic, whose effective time frame is the time interval of the window. Since windows
+ * only hold running statistics and a bounded {@link QuantileSketch} if the median is computed, the memory used by an
+ * open window doesn't depend on the number of measures in it, and measures must be added in time order for each user.
+ * <p>
+ * Statistics of measures that aren't additive, like heart rates, are computed over the values of the measures. The
+ * sum of the values is only computed for additive measures, like step counts. Other statistics of additive measures
+ * are only computed for windows of several days, over the daily totals of the days in the window that have measures,
+ * and have a {@link DescriptiveStatisticDenominator#DAY day} denominator, e.g. the average number of steps per day in
+ * a week.
+ * <p>
+ * The identifiers of the emitted data points are derived from the user, the statistic and the window, so that
+ * aggregating the same measures again emits data points with the same identifiers.
+ * <p>
+ * This class isn't thread-safe. To aggregate the measures of many users in parallel, partition them by user and use
+ * {@link #aggregateInParallel(Stream)}.
+ *
+ * @param <M> the measure type
+ * @author agent
+ */
+public class MeasureAggregator<M extends Measure> {
+
+    public static final String DEFAULT_SOURCE_NAME = "omh-measure-aggregator";
+
+    private static final long SECONDS_PER_DAY = Duration.ofDays(1).getSeconds();
+    private static final long NANOS_PER_SECOND = Duration.ofSeconds(1).toNanos();
+
+    private final AggregatableMeasure<M> measureType;
+    private final long windowSeconds;
+    private final ZoneOffset zoneOffset;
+    private final Set<DescriptiveStatistic> statistics;
+    private final double medianRelativeAccuracy;
+    private final String sourceName;
+    private final DataPointAcquisitionProvenance acquisitionProvenance;
+    private final Clock clock;
+    private final boolean dailyTotalAggregated;
+    private final Map<String, Window> openWindowsByUserId = new LinkedHashMap<>();
+
+
+    public static class Builder<M extends Measure> {
+
+        private final AggregatableMeasure<M> measureType;
+        private final Duration windowDuration;
+        private ZoneOffset zoneOffset = ZoneOffset.UTC;
+        private Set<DescriptiveStatistic> statistics;
+        private double medianRelativeAccuracy = QuantileSketch.DEFAULT_RELATIVE_ACCURACY;
+        private String sourceName = DEFAULT_SOURCE_NAME;
+        private Clock clock = Clock.systemUTC();
+
+        /**
+         * @param measureType the type of measures to aggregate
+         * @param windowDuration the duration of each window, which must be a whole number of seconds that either
+         * divides or is a multiple of a day. Windows of several days are aligned to the epoch, not to calendar weeks
+         * or months.
+         */
+        public Builder(AggregatableMeasure<M> measureType, Duration windowDuration) {
+
+            checkNotNull(measureType, "A measure type hasn't been specified.");
+            checkNotNull(windowDuration, "A window duration hasn't been specified.");
+            checkArgument(!windowDuration.isNegative() && !windowDuration.isZero(),
+                    "A non-positive window duration has been specified.");
+
+            long windowSeconds = windowDuration.getSeconds();
+
+            checkArgument(windowDuration.getNano() == 0
+                            && (SECONDS_PER_DAY % windowSeconds == 0 || windowSeconds % SECONDS_PER_DAY == 0),
+                    "A window duration that neither divides nor is a multiple of a day has been specified.");
+
+            this.measureType = measureType;
+            this.windowDuration = windowDuration;
+        }
+
+        /**
+         * @param zoneOffset the offset that windows are aligned to, and that the effective time frames of emitted
+         * measures use, which defaults to UTC
+         * @return this builder
+         */
+        public Builder<M> setZoneOffset(ZoneOffset zoneOffset) {
+
+            checkNotNull(zoneOffset, "A zone offset hasn't been specified.");
+
+            this.zoneOffset = zoneOffset;
+            return this;
+        }
+
+        /**
+         * @param statistic a statistic to compute
+         * @param otherStatistics other statistics to compute
+         * @return this builder
+         */
+        public Builder<M> setStatistics(DescriptiveStatistic statistic, DescriptiveStatistic... otherStatistics) {
+
+            checkNotNull(statistic, "A statistic hasn't been specified.");
+            checkNotNull(otherStatistics, "Statistics haven't been specified.");
+
+            this.statistics = EnumSet.of(statistic, otherStatistics);
+            return this;
+        }
+
+        /**
+         * @param medianRelativeAccuracy the relative accuracy of estimated medians, which defaults to
+         * {@link QuantileSketch#DEFAULT_RELATIVE_ACCURACY}
+         * @return this builder
+         */
+        public Builder<M> setMedianRelativeAccuracy(double medianRelativeAccuracy) {
+
+            checkArgument(medianRelativeAccuracy > 0 && medianRelativeAccuracy < 1,
+                    "A relative accuracy outside of (0, 1) has been specified.");
+
+            this.medianRelativeAccuracy = medianRelativeAccuracy;
+            return this;
+        }
+
+        /**
+         * @param sourceName the source name in the acquisition provenance of emitted data points, which defaults to
+         * {@link #DEFAULT_SOURCE_NAME}
+         * @return this builder
+         */
+        public Builder<M> setSourceName(String sourceName) {
+
+            checkNotNull(sourceName, "A source name hasn't been specified.");
+            checkArgument(!sourceName.isEmpty(), "An empty source name has been specified.");
+
+            this.sourceName = sourceName;
+            return this;
+        }
+
+        /**
+         * @param clock the clock used to set the creation date times of emitted data points
+         * @return this builder
+         */
+        public Builder<M> setClock(Clock clock) {
+
+            checkNotNull(clock, "A clock hasn't been specified.");
+
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * @return the aggregator
+         * @throws IllegalArgumentException if the statistics can't be computed for the measure type and window
+         * duration
+         */
+        public MeasureAggregator<M> build() {
+            return new MeasureAggregator<>(this);
+        }
+    }
+
+    private MeasureAggregator(Builder<M> builder) {
+
+        this.measureType = builder.measureType;
+        this.windowSeconds = builder.windowDuration.getSeconds();
+        this.zoneOffset = builder.zoneOffset;
+        this.medianRelativeAccuracy = builder.medianRelativeAccuracy;
+        this.sourceName = builder.sourceName;
+        this.acquisitionProvenance = new DataPointAcquisitionProvenance.Builder(sourceName).build().toImmutable();
+        this.clock = builder.clock;
+
+        boolean multipleDayWindow = windowSeconds > SECONDS_PER_DAY;
+        Set<DescriptiveStatistic> dailyTotalStatistics =
+                EnumSet.of(AVERAGE, MINIMUM, MAXIMUM, MEDIAN, STANDARD_DEVIATION, VARIANCE);
+
+        if (builder.statistics != null) {
+            this.statistics = EnumSet.copyOf(builder.statistics);
+        }
+        else if (!measureType.isAdditive()) {
+            this.statistics = EnumSet.of(AVERAGE, MINIMUM, MAXIMUM, MEDIAN, STANDARD_DEVIATION);
+        }
+        else if (multipleDayWindow) {
+            this.statistics = EnumSet.of(SUM, AVERAGE, MINIMUM, MAXIMUM, MEDIAN, STANDARD_DEVIATION);
+        }
+        else {
+            this.statistics = EnumSet.of(SUM);
+        }
+
+        if (measureType.isAdditive()) {
+            checkArgument(multipleDayWindow || statistics.equals(EnumSet.of(SUM)),
+                    "Only the sum of additive measures can be computed over windows of a day or less.");
+        }
+        else {
+            checkArgument(!statistics.contains(SUM), "The sum of measures that aren't additive can't be computed.");
+        }
+
+        this.dailyTotalAggregated = measureType.isAdditive() && statistics.stream().anyMatch(
+                dailyTotalStatistics::contains);
+    }
+
+    /**
+     * Creates an aggregator with the same configuration as the given one, but without open windows.
+     */
+    private MeasureAggregator(MeasureAggregator<M> aggregator) {
+
+        this.measureType = aggregator.measureType;
+        this.windowSeconds = aggregator.windowSeconds;
+        this.zoneOffset = aggregator.zoneOffset;
+        this.statistics = aggregator.statistics;
+        this.medianRelativeAccuracy = aggregator.medianRelativeAccuracy;
+        this.sourceName = aggregator.sourceName;
+        this.acquisitionProvenance = aggregator.acquisitionProvenance;
+        this.clock = aggregator.clock;
+        this.dailyTotalAggregated = aggregator.dailyTotalAggregated;
+    }
+
+    public Duration getWindowDuration() {
+        return Duration.ofSeconds(windowSeconds);
+    }
+
+    public Set<DescriptiveStatistic> getStatistics() {
+        return EnumSet.copyOf(statistics);
+    }
+
+    /**
+     * @return the number of windows that are open, which is at most the number of users
+     */
+    public int getOpenWindowCount() {
+        return openWindowsByUserId.size();
+    }
+
+    /**
+     * Adds the body of a data point, which belongs to the user of the data point.
+     *
+     * @see #add(String, Measure)
+     */
+    public List<DataPoint<M>> add(DataPoint<? extends M> dataPoint) {
+
+        checkNotNull(dataPoint, "A data point hasn't been specified.");
+
+        return add(dataPoint.getHeader().getUserId(), dataPoint.getBody());
+    }
+
+    /**
+     * Adds a measure to the window it belongs to, closing the open window of the user if the measure belongs to a
+     * later window.
+     *
+     * @param userId the user the measure belongs to, if any
+     * @param measure a measure that doesn't start before the measures of the user added earlier, other than those
+     * that belong to the same window
+     * @return the data points emitted by closing a window, if any
+     * @throws IllegalArgumentException if the measure belongs to an earlier window than the open window of the user,
+     * or if the start of its effective time frame can't be determined
+     */
+    public List<DataPoint<M>> add(@Nullable String userId, M measure) {
+
+        checkNotNull(measure, "A measure hasn't been specified.");
+
+        long startEpochSecond = getStartEpochSecond(measure);
+        double value = measureType.getValue(measure);
+
+        checkArgument(Double.isFinite(value), "A measure with a non-finite value has been specified.");
+
+        long windowStartEpochSecond = floor(startEpochSecond, windowSeconds);
+        Window window = openWindowsByUserId.get(userId);
+        List<DataPoint<M>> dataPoints = emptyList();
+
+        if (window != null && window.startEpochSecond != windowStartEpochSecond) {
+            checkArgument(windowStartEpochSecond > window.startEpochSecond,
+                    "The measures of user '%s' haven't been added in time order.", userId);
+
+            dataPoints = close(userId, window);
+            window = null;
+        }
+
+        if (window == null) {
+            window = new Window(windowStartEpochSecond);
+            openWindowsByUserId.put(userId, window);
+        }
+
+        window.add(userId, startEpochSecond, value);
+
+        return dataPoints;
+    }
+
+    /**
+     * Closes every open window.
+     *
+     * @return the data points emitted by closing the windows
+     */
+    public List<DataPoint<M>> flush() {
+
+        List<DataPoint<M>> dataPoints = new ArrayList<>();
+
+        openWindowsByUserId.forEach((userId, window) -> dataPoints.addAll(close(userId, window)));
+        openWindowsByUserId.clear();
+
+        return dataPoints;
+    }
+
+    /**
+     * Aggregates a stream of data points, which are added as the returned stream is consumed. The aggregator is
+     * flushed once the data points have been added.
+     *
+     * @param dataPoints a stream of data points, in time order for each user
+     * @return a stream of the emitted data points
+     */
+    public Stream<DataPoint<M>> aggregate(Stream<? extends DataPoint<? extends M>> dataPoints) {
+
+        checkNotNull(dataPoints, "A stream of data points hasn't been specified.");
+
+        // the flush is deferred until the added data points have been consumed
+        return Stream.concat(
+                dataPoints.sequential().flatMap(dataPoint -> add(dataPoint).stream()),
+                Stream.of(this).flatMap(aggregator -> aggregator.flush().stream()));
+    }
+
+    /**
+     * Aggregates partitions of data points in parallel, using a separate aggregator with the configuration of this
+     * aggregator for each partition, e.g. the data points of each user, or the results of queries for disjoint sets of
+     * users. Each partition is consumed by a single task as the returned stream is consumed, so the data points aren't
+     * buffered, and only the open windows of the users of the partitions being consumed are held in memory.
+     *
+     * @param partitions a stream of partitions, which don't share users, and whose data points are in time order for
+     * each user
+     * @return a parallel stream of the emitted data points
+     */
+    public Stream<DataPoint<M>> aggregateInParallel(
+            Stream<? extends Stream<? extends DataPoint<? extends M>>> partitions) {
+
+        checkNotNull(partitions, "A stream of partitions hasn't been specified.");
+
+        return partitions.parallel().flatMap(partition -> new MeasureAggregator<>(this).aggregate(partition));
+    }
+
+    private List<DataPoint<M>> close(@Nullable String userId, Window window) {
+
+        window.closeDay();
+
+        OffsetDateTime startDateTime = OffsetDateTime.ofInstant(Instant.ofEpochSecond(window.startEpochSecond),
+                zoneOffset);
+        TimeInterval timeInterval =
+                TimeInterval.ofStartDateTimeAndEndDateTime(startDateTime, startDateTime.plusSeconds(windowSeconds));
+        OffsetDateTime creationDateTime = OffsetDateTime.now(clock);
+        DescriptiveStatisticDenominator denominator = dailyTotalAggregated ? DAY : null;
+
+        List<DataPoint<M>> dataPoints = new ArrayList<>(statistics.size());
+
+        for (DescriptiveStatistic statistic : statistics) {
+            double value;
+
+            switch (statistic) {
+                case SUM:
+                    dataPoints.add(newDataPoint(userId, window, SUM, null, window.sum, timeInterval,
+                            creationDateTime));
+                    continue;
+                case AVERAGE:
+                    value = window.mean;
+                    break;
+                case MINIMUM:
+                    value = window.minimum;
+                    break;
+                case MAXIMUM:
+                    value = window.maximum;
+                    break;
+                case MEDIAN:
+                    value = window.sketch.getMedian();
+                    break;
+                case STANDARD_DEVIATION:
+                case VARIANCE:
+                    // the sample variance is undefined for a single value
+                    if (window.count < 2) {
+                        continue;
+                    }
+
+                    double variance = window.m2 / (window.count - 1);
+                    value = statistic == VARIANCE ? variance : Math.sqrt(variance);
+                    break;
+                default:
+                    throw new IllegalStateException("The statistic '" + statistic + "' isn't supported.");
+            }
+
+            dataPoints.add(newDataPoint(userId, window, statistic, denominator, value, timeInterval,
+                    creationDateTime));
+        }
+
+        return dataPoints;
+    }
+
+    private DataPoint<M> newDataPoint(@Nullable String userId, Window window, DescriptiveStatistic statistic,
+            @Nullable DescriptiveStatisticDenominator denominator, double value, TimeInterval timeInterval,
+            OffsetDateTime creationDateTime) {
+
+        M measure = measureType.newMeasure(value, statistic, denominator, timeInterval);
+
+        // the separators avoid ambiguity between adjacent strings
+        String name = String.join("\u0000", sourceName, userId != null ? userId : "",
+                measure.getSchemaId().toString(), Long.toString(window.startEpochSecond),
+                Long.toString(windowSeconds), statistic.getSchemaValue());
+
+        DataPointHeader header = new DataPointHeader.Builder(UUID.nameUUIDFromBytes(name.getBytes(UTF_8)).toString(),
+                measure.getSchemaId(), creationDateTime)
+                .setUserId(userId)
+                .setAcquisitionProvenance(acquisitionProvenance)
+                .build();
+
+        return new DataPoint<>(header, measure);
+    }
+
+    /**
+     * @return the start of the interval of the given length that contains the given instant, where intervals are
+     * counted from midnight of 1970-01-01 at the zone offset
+     */
+    private long floor(long epochSecond, long seconds) {
+
+        long offsetSeconds = zoneOffset.getTotalSeconds();
+
+        return Math.floorDiv(epochSecond + offsetSeconds, seconds) * seconds - offsetSeconds;
+    }
+
+    private static long getStartEpochSecond(Measure measure) {
+
+        TimeFrame timeFrame = measure.getEffectiveTimeFrame();
+
+        checkArgument(timeFrame != null, "A measure without an effective time frame has been specified.");
+
+        EpochRange epochRange;
+
+        try {
+            epochRange = timeFrame.toEpochRange();
+        }
+        catch (IllegalStateException e) {
+            throw new IllegalArgumentException("A measure whose effective time frame can't be resolved has been "
+                    + "specified.", e);
+        }
+
+        return Math.floorDiv(epochRange.getStartEpochNano(), NANOS_PER_SECOND);
+    }
+
+
+    /**
+     * The running statistics of the measures of a user in a window.
+     */
+    private final class Window {
+
+        private final long startEpochSecond;
+        private final QuantileSketch sketch;
+        private long count;
+        private double mean;
+        private double m2; // the sum of squared differences from the mean
+        private double minimum = Double.POSITIVE_INFINITY;
+        private double maximum = Double.NEGATIVE_INFINITY;
+        private double sum;
+
+        // the total of the current day, if statistics are computed over daily totals
+        private boolean dayOpen;
+        private long dayStartEpochSecond;
+        private double dayTotal;
+
+        Window(long startEpochSecond) {
+
+            this.startEpochSecond = startEpochSecond;
+            this.sketch = statistics.contains(MEDIAN) ? new QuantileSketch(medianRelativeAccuracy) : null;
+        }
+
+        void add(@Nullable String userId, long epochSecond, double value) {
+
+            sum += value;
+
+            if (!dailyTotalAggregated) {
+                addStatisticValue(value);
+                return;
+            }
+
+            long valueDayStartEpochSecond = floor(epochSecond, SECONDS_PER_DAY);
+
+            if (dayOpen && valueDayStartEpochSecond != dayStartEpochSecond) {
+                checkArgument(valueDayStartEpochSecond > dayStartEpochSecond,
+                        "The measures of user '%s' haven't been added in time order.", userId);
+
+                closeDay();
+            }
+
+            dayOpen = true;
+            dayStartEpochSecond = valueDayStartEpochSecond;
+            dayTotal += value;
+        }
+
+        void closeDay() {
+
+            if (dayOpen) {
+                addStatisticValue(dayTotal);
+
+                dayOpen = false;
+                dayTotal = 0;
+            }
+        }
+
+        private void addStatisticValue(double value) {
+
+            // Welford's algorithm, which is numerically stable
+            count++;
+
+            double delta = value - mean;
+            mean += delta / count;
+            m2 += delta * (value - mean);
+
+            minimum = Math.min(minimum, value);
+            maximum = Math.max(maximum, value);
+
+            if (sketch != null) {
+                sketch.add(value);
+            }
+        }
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.processing;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+
+/**
+ * A sketch that estimates the quantiles of a stream of values, such as their median, using bounded memory. The sketch
+ * counts values in buckets whose bounds grow geometrically, as described in
+ * <a href="https://arxiv.org/abs/1908.10693">DDSketch</a>, so that an estimated quantile is within the configured
+ * relative accuracy of the value of that rank. Sketches with the same relative accuracy can be merged, e.g. to
+ * combine sketches built in parallel, and the result is the same as that of a single sketch of all values.
+ * <p>
+ * The number of buckets is bounded, so the memory used by a sketch doesn't depend on the number of values. If the
+ * values span more buckets than the bound, which takes over eight orders of magnitude at the default accuracy, the
+ * buckets of the smallest magnitudes are collapsed and lose their accuracy.
+ * <p>
+ * This class isn't thread-safe.
+ *
+ * @author agent
+ */
+public class QuantileSketch {
+
+    public static final double DEFAULT_RELATIVE_ACCURACY = 0.005;
+    public static final int DEFAULT_MAXIMUM_BUCKET_COUNT = 2048;
+
+    // values closer to zero than this are counted as zero, so that bucket indexes stay in range
+    private static final double MINIMUM_INDEXED_VALUE = Double.MIN_NORMAL;
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+    private final BucketStore positiveValueBuckets;
+    private final BucketStore negativeValueBuckets;
+    private long zeroCount;
+    private long count;
+
+
+    public QuantileSketch() {
+        this(DEFAULT_RELATIVE_ACCURACY);
+    }
+
+    /**
+     * @param relativeAccuracy the maximum relative error of estimated quantiles, e.g. 0.01 for 1%
+     */
+    public QuantileSketch(double relativeAccuracy) {
+        this(relativeAccuracy, DEFAULT_MAXIMUM_BUCKET_COUNT);
+    }
+
+    /**
+     * @param relativeAccuracy the maximum relative error of estimated quantiles, e.g. 0.01 for 1%
+     * @param maximumBucketCount the maximum number of buckets used to count positive values, and negative values
+     */
+    public QuantileSketch(double relativeAccuracy, int maximumBucketCount) {
+
+        checkArgument(relativeAccuracy > 0 && relativeAccuracy < 1,
+                "A relative accuracy outside of (0, 1) has been specified.");
+        checkArgument(maximumBucketCount > 0, "A non-positive maximum bucket count has been specified.");
+
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+        this.positiveValueBuckets = new BucketStore(maximumBucketCount);
+        this.negativeValueBuckets = new BucketStore(maximumBucketCount);
+    }
+
+    public double getRelativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    /**
+     * @return the number of values added to the sketch
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @param value a finite value
+     */
+    public void add(double value) {
+
+        checkArgument(Double.isFinite(value), "A non-finite value has been specified.");
+
+        if (value >= MINIMUM_INDEXED_VALUE) {
+            positiveValueBuckets.add(getBucketIndex(value), 1);
+        }
+        else if (value <= -MINIMUM_INDEXED_VALUE) {
+            negativeValueBuckets.add(getBucketIndex(-value), 1);
+        }
+        else {
+            zeroCount++;
+        }
+
+        count++;
+    }
+
+    /**
+     * Adds the values counted by another sketch to this sketch.
+     *
+     * @param sketch a sketch with the same relative accuracy
+     */
+    public void merge(QuantileSketch sketch) {
+
+        checkNotNull(sketch, "A sketch hasn't been specified.");
+        checkArgument(sketch.relativeAccuracy == relativeAccuracy,
+                "A sketch with a different relative accuracy has been specified.");
+
+        positiveValueBuckets.merge(sketch.positiveValueBuckets);
+        negativeValueBuckets.merge(sketch.negativeValueBuckets);
+        zeroCount += sketch.zeroCount;
+        count += sketch.count;
+    }
+
+    /**
+     * @return the estimated median of the values
+     * @throws IllegalStateException if no values have been added
+     */
+    public double getMedian() {
+        return getQuantile(0.5);
+    }
+
+    /**
+     * @param quantile a quantile in [0, 1], e.g. 0.5 for the median
+     * @return the estimated value of the given quantile, i.e. of the value of rank {@code quantile * (count - 1)}
+     * @throws IllegalStateException if no values have been added
+     */
+    public double getQuantile(double quantile) {
+
+        checkArgument(quantile >= 0 && quantile <= 1, "A quantile outside of [0, 1] has been specified.");
+        checkState(count > 0, "The quantile of an empty sketch can't be estimated.");
+
+        long rank = (long) Math.floor(quantile * (count - 1));
+
+        // negative values are ordered by decreasing magnitude
+        long negativeCount = negativeValueBuckets.getCount();
+
+        if (rank < negativeCount) {
+            return -getBucketValue(negativeValueBuckets.getIndexOfRank(negativeCount - 1 - rank));
+        }
+
+        rank -= negativeCount;
+
+        if (rank < zeroCount) {
+            return 0;
+        }
+
+        return getBucketValue(positiveValueBuckets.getIndexOfRank(rank - zeroCount));
+    }
+
+    private int getBucketIndex(double magnitude) {
+        return (int) Math.ceil(Math.log(magnitude) / logGamma);
+    }
+
+    /**
+     * @return the value that's within the relative accuracy of every value counted by a bucket
+     */
+    private double getBucketValue(int index) {
+        return 2 * Math.pow(gamma, index) / (gamma + 1);
+    }
+
+
+    /**
+     * The counts of a contiguous range of buckets, which is only allocated when the first value is counted.
+     */
+    private static final class BucketStore {
+
+        private static final int INITIAL_LENGTH = 64;
+
+        private final int maximumBucketCount;
+        private long[] counts;
+        private int offset; // the bucket index of the first count
+        private int lowestIndex; // the lowest bucket index that may have a count
+        private int highestIndex; // the highest bucket index that may have a count
+        private long count;
+
+        BucketStore(int maximumBucketCount) {
+            this.maximumBucketCount = maximumBucketCount;
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        void add(int index, long bucketCount) {
+
+            if (counts == null) {
+                counts = new long[Math.min(INITIAL_LENGTH, maximumBucketCount)];
+                offset = index - counts.length / 2;
+                lowestIndex = index;
+                highestIndex = index;
+            }
+
+            int newLowestIndex = Math.min(lowestIndex, index);
+            int newHighestIndex = Math.max(highestIndex, index);
+            long collapsedCount = 0;
+
+            if ((long) newHighestIndex - newLowestIndex >= maximumBucketCount) {
+
+                // the buckets of the smallest magnitudes are collapsed into the lowest bucket that's kept
+                newLowestIndex = newHighestIndex - maximumBucketCount + 1;
+
+                for (int i = lowestIndex; i < newLowestIndex && i <= highestIndex; i++) {
+                    collapsedCount += counts[i - offset];
+                    counts[i - offset] = 0;
+                }
+
+                index = Math.max(index, newLowestIndex);
+            }
+
+            if (newLowestIndex < offset || newHighestIndex >= offset + counts.length) {
+                resize(newLowestIndex, newHighestIndex);
+            }
+
+            lowestIndex = newLowestIndex;
+            highestIndex = newHighestIndex;
+
+            counts[newLowestIndex - offset] += collapsedCount;
+            counts[index - offset] += bucketCount;
+            count += bucketCount;
+        }
+
+        private void resize(int newLowestIndex, int newHighestIndex) {
+
+            int usedLength = newHighestIndex - newLowestIndex + 1;
+            int length = Math.min(Math.max(counts.length * 2, usedLength), maximumBucketCount);
+            long[] newCounts = new long[length];
+            int newOffset = newLowestIndex - (length - usedLength) / 2;
+
+            // buckets below the new lowest index have been collapsed, so only the remaining ones are copied
+            for (int i = Math.max(lowestIndex, newLowestIndex); i <= highestIndex; i++) {
+                newCounts[i - newOffset] = counts[i - offset];
+            }
+
+            counts = newCounts;
+            offset = newOffset;
+        }
+
+        void merge(BucketStore store) {
+
+            if (store.counts == null) {
+                return;
+            }
+
+            for (int i = store.lowestIndex; i <= store.highestIndex; i++) {
+                long bucketCount = store.counts[i - store.offset];
+
+                if (bucketCount > 0) {
+                    add(i, bucketCount);
+                }
+            }
+        }
+
+        /**
+         * @param rank the zero-based rank of a value in ascending order of magnitude
+         * @return the index of the bucket that counts the value of the given rank
+         */
+        int getIndexOfRank(long rank) {
+
+            long cumulativeCount = 0;
+
+            for (int i = lowestIndex; i < highestIndex; i++) {
+                cumulativeCount += counts[i - offset];
+
+                if (cumulativeCount > rank) {
+                    return i;
+                }
+            }
+
+            return highestIndex;
+        }
+    }
+}
@@ -0,0 +1,550 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.processing;
+
+import org.openmhealth.schema.domain.omh.CaloriesBurned2;
+import org.openmhealth.schema.domain.omh.DataPoint;
+import org.openmhealth.schema.domain.omh.DataPointAcquisitionProvenance;
+import org.openmhealth.schema.domain.omh.EpochRange;
+import org.openmhealth.schema.domain.omh.KcalUnitValue;
+import org.openmhealth.schema.domain.omh.Measure;
+import org.openmhealth.schema.domain.omh.StepCount2;
+import org.openmhealth.schema.domain.omh.TimeFrame;
+import org.openmhealth.schema.domain.omh.TimeInterval;
+
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+
+/**
+ * A merger that resolves the overlaps between data points of the same user that come from different sources, e.g.
+ * the step counts recorded by both a phone and a watch, by preferring the sources with a higher priority. The source
+ * of a data point is the source name in its acquisition provenance.
+ * <p>
+ * Measures are either additive, like step counts and calories burned, or episodic, like physical activities and sleep
+ * episodes. A merger of additive measures has a {@link Splitter}. It sweeps over the boundaries of the effective time
+ * frames of the data points in time order, and assigns each stretch of time to the source with the highest priority
+ * that has a data point in it. A data point that's only partly assigned to its source is split into a data point for
+ * each stretch, whose value is the share of the original value in proportion to the length of the stretch. A merger
+ * of episodic measures keeps the data points of each source, in order of priority, that don't overlap the data points
+ * already kept from sources with a higher priority, and drops the others.
+ * <p>
+ * Data points of the same source never displace each other. Sources that aren't in the priority list have a lower
+ * priority than the listed sources, and are ordered by name between themselves. Data points without a source have the
+ * lowest priority. A time frame that's a point in time is treated as lasting a nanosecond.
+ * <p>
+ * Merging the data points of a user takes O(n log n) time. This class is thread-safe.
+ *
+ * @param <M> the measure type
+ * @author agent
+ */
+public final class SourcePriorityMerger<M extends Measure> {
+
+    /**
+     * Splits step counts, keeping their descriptive statistics, denominators and user notes.
+     */
+    public static final Splitter<StepCount2> STEP_COUNT_SPLITTER = (stepCount, partNanos, nanos, timeInterval) ->
+            new StepCount2.Builder(prorate(stepCount.getStepCount(), partNanos, nanos), timeInterval)
+                    .setDescriptiveStatistic(stepCount.getDescriptiveStatistic())
+                    .setDescriptiveStatisticDenominator(stepCount.getDescriptiveStatisticDenominator())
+                    .setUserNotes(stepCount.getUserNotes())
+                    .build();
+
+    /**
+     * Splits calories burned, keeping their activity names, descriptive statistics, denominators and user notes.
+     */
+    public static final Splitter<CaloriesBurned2> CALORIES_BURNED_SPLITTER =
+            (caloriesBurned, partNanos, nanos, timeInterval) -> new CaloriesBurned2.Builder(
+                    new KcalUnitValue(caloriesBurned.getKcalBurned().getTypedUnit(),
+                            prorate(caloriesBurned.getKcalBurned().getValue(), partNanos, nanos)),
+                    timeInterval)
+                    .setActivityName(caloriesBurned.getActivityName())
+                    .setDescriptiveStatistic(caloriesBurned.getDescriptiveStatistic())
+                    .setDescriptiveStatisticDenominator(caloriesBurned.getDescriptiveStatisticDenominator())
+                    .setUserNotes(caloriesBurned.getUserNotes())
+                    .build();
+
+    private final Map<String, Integer> priorityBySourceName;
+    private final Splitter<M> splitter;
+
+
+    /**
+     * Splits an additive measure into a share of it over part of its effective time interval.
+     *
+     * @param <M> the measure type
+     */
+    @FunctionalInterface
+    public interface Splitter<M extends Measure> {
+
+        /**
+         * @param measure the measure to split
+         * @param partNanos the length of the part, in nanoseconds
+         * @param nanos the length of the effective time frame of the measure, in nanoseconds
+         * @param partTimeInterval the part of the effective time frame of the measure
+         * @return a measure that holds the share of the given measure over the part
+         * @see SourcePriorityMerger#prorate(BigDecimal, long, long)
+         */
+        M split(M measure, long partNanos, long nanos, TimeInterval partTimeInterval);
+    }
+
+
+    public static class Builder<M extends Measure> {
+
+        private final List<String> sourceNames;
+        private Splitter<M> splitter;
+
+        /**
+         * @param sourceNames the names of the sources, in decreasing order of priority
+         */
+        public Builder(List<String> sourceNames) {
+
+            checkNotNull(sourceNames, "Source names haven't been specified.");
+            checkArgument(!sourceNames.contains(null), "An undefined source name has been specified.");
+            checkArgument(sourceNames.stream().distinct().count() == sourceNames.size(),
+                    "A source name has been specified more than once.");
+
+            this.sourceNames = new ArrayList<>(sourceNames);
+        }
+
+        /**
+         * @param splitter the splitter of additive measures, which makes overlaps be resolved by splitting measures
+         * pro rata instead of dropping them
+         * @return this builder
+         */
+        public Builder<M> setSplitter(Splitter<M> splitter) {
+
+            checkNotNull(splitter, "A splitter hasn't been specified.");
+
+            this.splitter = splitter;
+            return this;
+        }
+
+        public SourcePriorityMerger<M> build() {
+            return new SourcePriorityMerger<>(this);
+        }
+    }
+
+    private SourcePriorityMerger(Builder<M> builder) {
+
+        Map<String, Integer> priorityBySourceName = new HashMap<>();
+
+        for (String sourceName : builder.sourceNames) {
+            priorityBySourceName.put(sourceName, priorityBySourceName.size());
+        }
+
+        this.priorityBySourceName = priorityBySourceName;
+        this.splitter = builder.splitter;
+    }
+
+    /**
+     * @return true if the measures are additive and split pro rata, or false if they're episodic and dropped
+     */
+    public boolean isSplitting() {
+        return splitter != null;
+    }
+
+    /**
+     * Merges data points, resolving overlaps between the sources of each user.
+     *
+     * @param dataPoints data points whose bodies have effective time frames, in any order
+     * @return the merged data points of each user in the order the users first appear, and in order of the start of
+     * their effective time frames for each user
+     * @throws IllegalArgumentException if the effective time frame of a data point can't be resolved
+     */
+    public List<DataPoint<M>> merge(Collection<? extends DataPoint<M>> dataPoints) {
+
+        checkNotNull(dataPoints, "Data points haven't been specified.");
+
+        Map<String, List<DataPoint<M>>> dataPointsByUserId = new LinkedHashMap<>();
+
+        for (DataPoint<M> dataPoint : dataPoints) {
+            checkNotNull(dataPoint, "An undefined data point has been specified.");
+
+            dataPointsByUserId.computeIfAbsent(dataPoint.getHeader().getUserId(), userId -> new ArrayList<>())
+                    .add(dataPoint);
+        }
+
+        List<DataPoint<M>> mergedDataPoints = new ArrayList<>(dataPoints.size());
+
+        for (List<DataPoint<M>> userDataPoints : dataPointsByUserId.values()) {
+            UserDataPoints user = new UserDataPoints(userDataPoints);
+            List<DataPoint<M>> mergedUserDataPoints = new ArrayList<>(userDataPoints.size());
+
+            if (splitter != null) {
+                user.split(mergedUserDataPoints);
+            }
+            else {
+                user.select(mergedUserDataPoints);
+            }
+
+            // stable, and cheap since the ranges of the data points have been resolved
+            mergedUserDataPoints.sort(Comparator.comparingLong(dataPoint ->
+                    getEpochRange(dataPoint).getStartEpochNano()));
+
+            mergedDataPoints.addAll(mergedUserDataPoints);
+        }
+
+        return mergedDataPoints;
+    }
+
+    /**
+     * @return the share of a value over part of its time frame, in proportion to the length of the part
+     */
+    public static BigDecimal prorate(BigDecimal value, long partNanos, long nanos) {
+
+        checkNotNull(value, "A value hasn't been specified.");
+        checkArgument(partNanos >= 0 && partNanos <= nanos && nanos > 0, "An invalid part has been specified.");
+
+        // dividing last keeps shares that are whole numbers exact
+        return value.multiply(BigDecimal.valueOf(partNanos)).divide(BigDecimal.valueOf(nanos), MathContext.DECIMAL64);
+    }
+
+    /**
+     * @return the end of the range, where a point in time lasts a nanosecond
+     */
+    private static long getEndEpochNano(EpochRange range) {
+        return range.isPointInTime() ? range.getStartEpochNano() + 1 : range.getEndEpochNano();
+    }
+
+    private static EpochRange getEpochRange(DataPoint<?> dataPoint) {
+
+        TimeFrame timeFrame = ((Measure) dataPoint.getBody()).getEffectiveTimeFrame();
+
+        checkArgument(timeFrame != null, "A data point without an effective time frame has been specified.");
+
+        try {
+            return timeFrame.toEpochRange();
+        }
+        catch (IllegalStateException e) {
+            throw new IllegalArgumentException("A data point whose effective time frame can't be resolved has been "
+                    + "specified.", e);
+        }
+    }
+
+    private static ZoneOffset getZoneOffset(TimeFrame timeFrame) {
+
+        if (timeFrame.getTimeInterval() == null) {
+            return timeFrame.getDateTime().getOffset();
+        }
+
+        TimeInterval timeInterval = timeFrame.getTimeInterval();
+
+        return (timeInterval.getStartDateTime() != null ? timeInterval.getStartDateTime()
+                : timeInterval.getEndDateTime()).getOffset();
+    }
+
+    private static OffsetDateTime toOffsetDateTime(long epochNano, ZoneOffset zoneOffset) {
+        return OffsetDateTime.ofInstant(Instant.ofEpochSecond(0, epochNano), zoneOffset);
+    }
+
+
+    /**
+     * The data points of a user, along with their priorities and ranges.
+     */
+    private final class UserDataPoints {
+
+        private final List<DataPoint<M>> dataPoints;
+        private final int[] priorities;
+        private final long[] startEpochNanos;
+        private final long[] endEpochNanos;
+        private final Integer[] indicesByStart;
+
+        UserDataPoints(List<DataPoint<M>> dataPoints) {
+
+            int size = dataPoints.size();
+
+            this.dataPoints = dataPoints;
+            this.priorities = new int[size];
+            this.startEpochNanos = new long[size];
+            this.endEpochNanos = new long[size];
+            this.indicesByStart = new Integer[size];
+
+            // unlisted sources are ordered by name after the listed ones, followed by data points without a source
+            TreeMap<String, Integer> unlistedSourcePriorities = new TreeMap<>();
+
+            for (DataPoint<M> dataPoint : dataPoints) {
+                String sourceName = getSourceName(dataPoint);
+
+                if (sourceName != null && !priorityBySourceName.containsKey(sourceName)) {
+                    unlistedSourcePriorities.put(sourceName, 0);
+                }
+            }
+
+            int priority = priorityBySourceName.size();
+
+            for (Entry<String, Integer> entry : unlistedSourcePriorities.entrySet()) {
+                entry.setValue(priority++);
+            }
+
+            for (int i = 0; i < size; i++) {
+                DataPoint<M> dataPoint = dataPoints.get(i);
+                String sourceName = getSourceName(dataPoint);
+                EpochRange range = getEpochRange(dataPoint);
+
+                if (sourceName == null) {
+                    priorities[i] = priority;
+                }
+                else {
+                    priorities[i] = priorityBySourceName.getOrDefault(sourceName,
+                            unlistedSourcePriorities.get(sourceName));
+                }
+
+                startEpochNanos[i] = range.getStartEpochNano();
+                endEpochNanos[i] = getEndEpochNano(range);
+                indicesByStart[i] = i;
+            }
+
+            // stable, so data points with the same start keep their order
+            Arrays.sort(indicesByStart, Comparator.comparingLong(i -> startEpochNanos[i]));
+        }
+
+        @Nullable
+        private String getSourceName(DataPoint<M> dataPoint) {
+
+            DataPointAcquisitionProvenance provenance = dataPoint.getHeader().getAcquisitionProvenance();
+
+            return provenance == null ? null : provenance.getSourceName();
+        }
+
+        /**
+         * Keeps the data points that don't overlap the data points kept from sources with a higher priority.
+         */
+        void select(List<DataPoint<M>> mergedDataPoints) {
+
+            Integer[] indicesByPriority = indicesByStart.clone();
+            Arrays.sort(indicesByPriority, Comparator.comparingInt(i -> priorities[i]));
+
+            // the union of the ranges of the data points kept from sources with a higher priority
+            TreeMap<Long, Long> endsByStart = new TreeMap<>();
+            boolean[] kept = new boolean[dataPoints.size()];
+
+            for (int from = 0; from < indicesByPriority.length; ) {
+                int priority = priorities[indicesByPriority[from]];
+                int to = from;
+
+                for (; to < indicesByPriority.length && priorities[indicesByPriority[to]] == priority; to++) {
+                    int i = indicesByPriority[to];
+
+                    kept[i] = !overlaps(endsByStart, startEpochNanos[i], endEpochNanos[i]);
+                }
+
+                // the data points of a source are added to the union once they've all been checked
+                for (int j = from; j < to; j++) {
+                    int i = indicesByPriority[j];
+
+                    if (kept[i]) {
+                        add(endsByStart, startEpochNanos[i], endEpochNanos[i]);
+                    }
+                }
+
+                from = to;
+            }
+
+            for (int i : indicesByStart) {
+                if (kept[i]) {
+                    mergedDataPoints.add(dataPoints.get(i));
+                }
+            }
+        }
+
+        private boolean overlaps(TreeMap<Long, Long> endsByStart, long startEpochNano, long endEpochNano) {
+
+            Entry<Long, Long> floorEntry = endsByStart.floorEntry(startEpochNano);
+
+            if (floorEntry != null && floorEntry.getValue() > startEpochNano) {
+                return true;
+            }
+
+            Long higherStartEpochNano = endsByStart.higherKey(startEpochNano);
+
+            return higherStartEpochNano != null && higherStartEpochNano < endEpochNano;
+        }
+
+        private void add(TreeMap<Long, Long> endsByStart, long startEpochNano, long endEpochNano) {
+
+            Entry<Long, Long> floorEntry = endsByStart.floorEntry(startEpochNano);
+
+            if (floorEntry != null && floorEntry.getValue() >= startEpochNano) {
+                startEpochNano = floorEntry.getKey();
+                endEpochNano = Math.max(endEpochNano, floorEntry.getValue());
+            }
+
+            Entry<Long, Long> ceilingEntry;
+
+            while ((ceilingEntry = endsByStart.ceilingEntry(startEpochNano)) != null
+                    && ceilingEntry.getKey() <= endEpochNano) {
+
+                endEpochNano = Math.max(endEpochNano, ceilingEntry.getValue());
+                endsByStart.remove(ceilingEntry.getKey());
+            }
+
+            endsByStart.put(startEpochNano, endEpochNano);
+        }
+
+        /**
+         * Sweeps over the boundaries of the data points, assigning each stretch of time to the source with the highest
+         * priority that has a data point in it, and splits the data points that are only partly assigned.
+         */
+        void split(List<DataPoint<M>> mergedDataPoints) {
+
+            Integer[] indicesByEnd = indicesByStart.clone();
+            Arrays.sort(indicesByEnd, Comparator.comparingLong(i -> endEpochNanos[i]));
+
+            // the counts of data points that overlap the sweep line, by priority
+            int[] openCounts = new int[dataPoints.size() + priorityBySourceName.size() + 1];
+            TreeSet<Integer> openPriorities = new TreeSet<>();
+
+            // the stretches of time assigned to each priority, in time order
+            Map<Integer, List<long[]>> stretchesByPriority = new HashMap<>();
+
+            int nextStart = 0;
+            int nextEnd = 0;
+
+            while (nextEnd < indicesByEnd.length) {
+                long epochNano = endEpochNanos[indicesByEnd[nextEnd]];
+
+                if (nextStart < indicesByStart.length) {
+                    epochNano = Math.min(epochNano, startEpochNanos[indicesByStart[nextStart]]);
+                }
+
+                for (; nextEnd < indicesByEnd.length && endEpochNanos[indicesByEnd[nextEnd]] == epochNano; nextEnd++) {
+                    int priority = priorities[indicesByEnd[nextEnd]];
+
+                    if (--openCounts[priority] == 0) {
+                        openPriorities.remove(priority);
+                    }
+                }
+
+                for (; nextStart < indicesByStart.length && startEpochNanos[indicesByStart[nextStart]] == epochNano;
+                        nextStart++) {
+
+                    int priority = priorities[indicesByStart[nextStart]];
+
+                    if (openCounts[priority]++ == 0) {
+                        openPriorities.add(priority);
+                    }
+                }
+
+                if (openPriorities.isEmpty()) {
+                    continue;
+                }
+
+                // the sweep line stops at the next boundary, and there's always an end to come
+                long nextEpochNano = endEpochNanos[indicesByEnd[nextEnd]];
+
+                if (nextStart < indicesByStart.length) {
+                    nextEpochNano = Math.min(nextEpochNano, startEpochNanos[indicesByStart[nextStart]]);
+                }
+
+                List<long[]> stretches =
+                        stretchesByPriority.computeIfAbsent(openPriorities.first(), priority -> new ArrayList<>());
+
+                long[] lastStretch = stretches.isEmpty() ? null : stretches.get(stretches.size() - 1);
+
+                if (lastStretch != null && lastStretch[1] == epochNano) {
+                    lastStretch[1] = nextEpochNano;
+                }
+                else {
+                    stretches.add(new long[] {epochNano, nextEpochNano});
+                }
+            }
+
+            for (int i : indicesByStart) {
+                List<long[]> stretches = stretchesByPriority.get(priorities[i]);
+
+                if (stretches != null) {
+                    addAssignedParts(i, stretches, mergedDataPoints);
+                }
+            }
+        }
+
+        private void addAssignedParts(int index, List<long[]> stretches, List<DataPoint<M>> mergedDataPoints) {
+
+            long startEpochNano = startEpochNanos[index];
+            long endEpochNano = endEpochNanos[index];
+
+            // find the first stretch that ends after the start of the data point
+            int low = 0;
+            int high = stretches.size();
+
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+
+                if (stretches.get(middle)[1] <= startEpochNano) {
+                    low = middle + 1;
+                }
+                else {
+                    high = middle;
+                }
+            }
+
+            DataPoint<M> dataPoint = dataPoints.get(index);
+
+            for (int i = low; i < stretches.size() && stretches.get(i)[0] < endEpochNano; i++) {
+                long partStartEpochNano = Math.max(startEpochNano, stretches.get(i)[0]);
+                long partEndEpochNano = Math.min(endEpochNano, stretches.get(i)[1]);
+
+                if (partStartEpochNano == startEpochNano && partEndEpochNano == endEpochNano) {
+                    mergedDataPoints.add(dataPoint);
+                }
+                else {
+                    mergedDataPoints.add(newPart(dataPoint, partStartEpochNano, partEndEpochNano,
+                            endEpochNano - startEpochNano));
+                }
+            }
+        }
+
+        private DataPoint<M> newPart(DataPoint<M> dataPoint, long startEpochNano, long endEpochNano,
+                long durationNanos) {
+
+            M measure = dataPoint.getBody();
+            ZoneOffset zoneOffset = getZoneOffset(measure.getEffectiveTimeFrame());
+
+            TimeInterval timeInterval = TimeInterval.ofStartDateTimeAndEndDateTime(
+                    toOffsetDateTime(startEpochNano, zoneOffset), toOffsetDateTime(endEpochNano, zoneOffset));
+
+            // the identifier is derived from the original, so that merging the same data points again is idempotent
+            String name = String.join("\u0000", dataPoint.getHeader().getId(), Long.toString(startEpochNano),
+                    Long.toString(endEpochNano));
+
+            return new DataPoint<>(
+                    dataPoint.getHeader().withId(UUID.nameUUIDFromBytes(name.getBytes(UTF_8)).toString()),
+                    splitter.split(measure, endEpochNano - startEpochNano, durationNanos, timeInterval));
+        }
+    }
+}
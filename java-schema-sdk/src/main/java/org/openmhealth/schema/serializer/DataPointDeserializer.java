@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.openmhealth.schema.domain.omh.BodyTypeRegistry;
+import org.openmhealth.schema.domain.omh.DataPoint;
+import org.openmhealth.schema.domain.omh.DataPointHeader;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+
+/**
+ * This class deserializes {@link DataPoint}s whose body types aren't known up front. The header is read first, and
+ * the body is then deserialized directly as the class registered for the body schema identifier in a
+ * {@link BodyTypeRegistry}. This avoids reading the data point into a tree and binding the tree in a second pass.
+ * <p>
+ * A body is only buffered in the unusual case where it precedes the header in the document. If the requested data
+ * point type specifies a body type, e.g. {@code DataPoint<HeartRate>}, that type is used and the registry isn't
+ * consulted.
+ *
+ * @author agent
+ */
+public class DataPointDeserializer extends StdDeserializer<DataPoint<?>> implements ContextualDeserializer {
+
+    private final BodyTypeRegistry bodyTypeRegistry;
+    private final JavaType fallbackBodyType;
+    private final JavaType bodyType;
+
+
+    /**
+     * @param bodyTypeRegistry the registry used to resolve body types
+     * @param fallbackBodyType the type to deserialize bodies as if their body types can't be resolved
+     */
+    public DataPointDeserializer(BodyTypeRegistry bodyTypeRegistry, JavaType fallbackBodyType) {
+        this(bodyTypeRegistry, fallbackBodyType, null);
+    }
+
+    protected DataPointDeserializer(BodyTypeRegistry bodyTypeRegistry, JavaType fallbackBodyType,
+            @Nullable JavaType bodyType) {
+        super(DataPoint.class);
+
+        checkNotNull(bodyTypeRegistry, "A body type registry hasn't been specified.");
+        checkNotNull(fallbackBodyType, "A fallback body type hasn't been specified.");
+
+        this.bodyTypeRegistry = bodyTypeRegistry;
+        this.fallbackBodyType = fallbackBodyType;
+        this.bodyType = bodyType;
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext context, BeanProperty property) {
+
+        JavaType dataPointType = context.getContextualType();
+
+        if (dataPointType == null || dataPointType.containedTypeCount() != 1) {
+            return this;
+        }
+
+        JavaType requestedBodyType = dataPointType.containedType(0);
+
+        if (requestedBodyType.hasRawClass(Object.class)) {
+            return this;
+        }
+
+        return new DataPointDeserializer(bodyTypeRegistry, fallbackBodyType, requestedBodyType);
+    }
+
+    @Override
+    public DataPoint<?> deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+
+        JsonToken token = parser.getCurrentToken();
+
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        }
+        else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            throw JsonMappingException.from(parser, "A data point is expected to be a JSON object.");
+        }
+
+        DataPointHeader header = null;
+        Object body = null;
+        TokenBuffer bufferedBody = null;
+        Map<String, Object> additionalProperties = null;
+
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+
+            String name = parser.getCurrentName();
+            parser.nextToken();
+
+            switch (name) {
+                case "header":
+                    header = context.readValue(parser, DataPointHeader.class);
+                    break;
+
+                case "body":
+                    if (header != null) {
+                        body = readBody(parser, context, header);
+                    }
+                    else {
+                        bufferedBody = new TokenBuffer(parser, context);
+                        bufferedBody.copyCurrentStructure(parser);
+                    }
+                    break;
+
+                default:
+                    if (additionalProperties == null) {
+                        additionalProperties = new LinkedHashMap<>();
+                    }
+                    additionalProperties.put(name, context.readValue(parser, Object.class));
+            }
+        }
+
+        if (header == null) {
+            throw JsonMappingException.from(parser, "A data point without a header has been read.");
+        }
+
+        if (bufferedBody != null) {
+            JsonParser bodyParser = bufferedBody.asParser(parser.getCodec());
+            bodyParser.nextToken();
+            body = readBody(bodyParser, context, header);
+        }
+
+        if (body == null) {
+            throw JsonMappingException.from(parser, "A data point without a body has been read.");
+        }
+
+        DataPoint<?> dataPoint = new DataPoint<>(header, body);
+
+        if (additionalProperties != null) {
+            additionalProperties.forEach(dataPoint::setAdditionalProperty);
+        }
+
+        return dataPoint;
+    }
+
+    private Object readBody(JsonParser parser, DeserializationContext context, DataPointHeader header)
+            throws IOException {
+
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        return context.readValue(parser, resolveBodyType(parser, context, header));
+    }
+
+    private JavaType resolveBodyType(JsonParser parser, DeserializationContext context, DataPointHeader header)
+            throws JsonMappingException {
+
+        if (bodyType != null) {
+            return bodyType;
+        }
+
+        if (header.getBodySchemaId() == null) {
+            throw JsonMappingException.from(parser, "A data point without a body schema identifier has been read.");
+        }
+
+        Class<?> registeredBodyType = bodyTypeRegistry.findBodyType(header.getBodySchemaId());
+
+        return registeredBodyType == null ? fallbackBodyType : context.constructType(registeredBodyType);
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.openmhealth.schema.domain.omh.BodyTypeRegistry;
+import org.openmhealth.schema.domain.omh.DataPoint;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+
+/**
+ * A reader that lazily deserializes data points from a stream of JSON documents. The stream can either be a sequence
+ * of data points separated by whitespace, as in newline-delimited JSON, or a single array of data points. Only one
+ * data point is held in memory at a time, so the size of the stream is unbounded.
+ * <p>
+ * The type of each data point body is resolved from the body schema identifier in its header using a
+ * {@link BodyTypeRegistry}, which means that a stream can contain data points conforming to different schemas. Each
+ * data point is deserialized in a single pass by a {@link DataPointDeserializer}. Bodies whose schema identifiers
+ * can't be resolved are deserialized as {@link JsonNode}s.
+ *
+ * @author agent
+ */
+public class DataPointStreamReader {
+
+    private final ObjectMapper objectMapper;
+
+
+    /**
+     * @param objectMapper the object mapper to deserialize data points with, which is copied and left unchanged
+     * @param bodyTypeRegistry the registry used to resolve the body types of data points
+     */
+    public DataPointStreamReader(ObjectMapper objectMapper, BodyTypeRegistry bodyTypeRegistry) {
+
+        checkNotNull(objectMapper, "An object mapper hasn't been specified.");
+        checkNotNull(bodyTypeRegistry, "A body type registry hasn't been specified.");
+
+        SimpleModule dataPointModule = new SimpleModule("dataPointStreamReaderModule");
+        dataPointModule.addDeserializer(DataPoint.class,
+                new DataPointDeserializer(bodyTypeRegistry, objectMapper.constructType(JsonNode.class)));
+
+        this.objectMapper = objectMapper.copy();
+        this.objectMapper.registerModule(dataPointModule);
+    }
+
+    /**
+     * @param inputStream the stream to read data points from, which is closed when the returned iterator is closed
+     * @return an iterator over the data points in the stream
+     * @throws IOException if the stream can't be read
+     */
+    public DataPointIterator read(InputStream inputStream) throws IOException {
+
+        checkNotNull(inputStream, "An input stream hasn't been specified.");
+
+        return new DataPointIterator(objectMapper.getFactory().createParser(inputStream));
+    }
+
+    /**
+     * @param path the file to read data points from
+     * @return an iterator over the data points in the file, which must be closed to release the file
+     * @throws IOException if the file can't be read
+     */
+    public DataPointIterator read(Path path) throws IOException {
+
+        checkNotNull(path, "A path hasn't been specified.");
+
+        return read(Files.newInputStream(path));
+    }
+
+    /**
+     * @param path the file to read data points from
+     * @return a stream of the data points in the file, which must be closed to release the file
+     * @throws IOException if the file can't be read
+     */
+    public Stream<DataPoint<?>> stream(Path path) throws IOException {
+
+        DataPointIterator iterator = read(path);
+
+        Spliterator<DataPoint<?>> spliterator =
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL);
+
+        return StreamSupport.stream(spliterator, false).onClose(iterator::closeUnchecked);
+    }
+
+    /**
+     * An iterator over the data points in a stream. Since the underlying stream is only read on demand, I/O errors are
+     * rethrown as {@link UncheckedIOException}s.
+     */
+    public class DataPointIterator implements Iterator<DataPoint<?>>, Closeable {
+
+        private final JsonParser parser;
+        private boolean array;
+        private boolean started;
+        private boolean finished;
+
+
+        private DataPointIterator(JsonParser parser) {
+            this.parser = parser;
+        }
+
+        @Override
+        public boolean hasNext() {
+
+            if (finished) {
+                return false;
+            }
+
+            try {
+                // the parser is left on the last token of the previous data point, unless it's already been advanced
+                JsonToken token = parser.getCurrentToken() == JsonToken.START_OBJECT ? JsonToken.START_OBJECT
+                        : advance();
+
+                if (token == JsonToken.START_OBJECT) {
+                    return true;
+                }
+
+                if (token == null || (array && token == JsonToken.END_ARRAY)) {
+                    finished = true;
+                    return false;
+                }
+
+                throw JsonMappingException.from(parser, "A data point is expected to be a JSON object.");
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private JsonToken advance() throws IOException {
+
+            JsonToken token = parser.nextToken();
+
+            if (!started) {
+                started = true;
+
+                if (token == JsonToken.START_ARRAY) {
+                    array = true;
+                    token = parser.nextToken();
+                }
+            }
+
+            return token;
+        }
+
+        @Override
+        public DataPoint<?> next() {
+
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            try {
+                return objectMapper.readValue(parser, DataPoint.class);
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+
+            finished = true;
+            parser.close();
+        }
+
+        private void closeUnchecked() {
+
+            try {
+                close();
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
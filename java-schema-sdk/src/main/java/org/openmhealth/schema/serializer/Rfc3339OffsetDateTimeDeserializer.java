@@ -0,0 +1,236 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.InstantDeserializer;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static com.fasterxml.jackson.databind.DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE;
+
+
+/**
+ * This class deserializes {@link OffsetDateTime} values from {@link String}s in the <a
+ * href="https://www.ietf.org/rfc/rfc3339.txt">RFC 3339</a> date time format, e.g. {@code 2013-02-05T07:25:00Z} or
+ * {@code 2013-02-05T07:25:00.123-08:00}. These strings are parsed directly from the parser's text buffer, since
+ * parsing them using a {@link java.time.format.DateTimeFormatter} is expensive when deserializing large numbers of
+ * data points.
+ * <p>
+ * Anything else, including date times without seconds, offsets with seconds, numeric timestamps, and properties with
+ * format overrides, is delegated to the JSR-310 {@link InstantDeserializer}, so the set of accepted values doesn't
+ * change.
+ *
+ * @author agent
+ */
+public class Rfc3339OffsetDateTimeDeserializer extends StdDeserializer<OffsetDateTime>
+        implements ContextualDeserializer {
+
+    private static final int MAXIMUM_OFFSET_MINUTES = 18 * 60;
+    private static final int[] FRACTION_MULTIPLIERS =
+            {0, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1000, 100, 10, 1};
+
+    // zone offsets are immutable, so racing to populate this cache is harmless
+    private static final ZoneOffset[] offsetsByTotalMinutes = new ZoneOffset[MAXIMUM_OFFSET_MINUTES * 2 + 1];
+
+    private final JsonDeserializer<OffsetDateTime> delegate;
+
+
+    public Rfc3339OffsetDateTimeDeserializer(Class<OffsetDateTime> t) {
+        this(t, InstantDeserializer.OFFSET_DATE_TIME);
+    }
+
+    protected Rfc3339OffsetDateTimeDeserializer(Class<OffsetDateTime> t, JsonDeserializer<OffsetDateTime> delegate) {
+        super(t);
+
+        this.delegate = delegate;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public JsonDeserializer<?> createContextual(DeserializationContext context, BeanProperty property)
+            throws JsonMappingException {
+
+        if (!(delegate instanceof ContextualDeserializer)) {
+            return this;
+        }
+
+        JsonDeserializer<?> contextualDelegate = ((ContextualDeserializer) delegate).createContextual(context, property);
+
+        // the delegate only changes if the property has format overrides, which we leave to it
+        return contextualDelegate == delegate ? this : contextualDelegate;
+    }
+
+    /**
+     * @return true, since this deserializer has no state that depends on the context, which lets Jackson cache it
+     * instead of creating it each time it's looked up by type
+     */
+    @Override
+    public boolean isCachable() {
+        return true;
+    }
+
+    @Override
+    public OffsetDateTime deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+
+        if (parser.getCurrentToken() == JsonToken.VALUE_STRING && !context.isEnabled(
+                ADJUST_DATES_TO_CONTEXT_TIME_ZONE)) {
+
+            OffsetDateTime dateTime =
+                    parse(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+
+            if (dateTime != null) {
+                return dateTime;
+            }
+        }
+
+        return delegate.deserialize(parser, context);
+    }
+
+    /**
+     * Parses an RFC 3339 date time with seconds, at most nine fractional digits, and an offset in hours and minutes.
+     *
+     * @param text the buffer containing the text to parse
+     * @param offset the offset of the text in the buffer
+     * @param length the length of the text
+     * @return the date time, or null if the text is in a different format or isn't a valid date time
+     */
+    @Nullable
+    public static OffsetDateTime parse(char[] text, int offset, int length) {
+
+        // the shortest supported format is "yyyy-MM-ddTHH:mm:ssZ"
+        if (length < 20) {
+            return null;
+        }
+
+        int end = offset + length;
+
+        int year = parseDigits(text, offset, 4);
+        int month = parseDigits(text, offset + 5, 2);
+        int day = parseDigits(text, offset + 8, 2);
+        int hour = parseDigits(text, offset + 11, 2);
+        int minute = parseDigits(text, offset + 14, 2);
+        int second = parseDigits(text, offset + 17, 2);
+
+        if (year < 0 || month < 0 || day < 0 || hour < 0 || minute < 0 || second < 0
+                || text[offset + 4] != '-' || text[offset + 7] != '-'
+                || (text[offset + 10] != 'T' && text[offset + 10] != 't')
+                || text[offset + 13] != ':' || text[offset + 16] != ':') {
+            return null;
+        }
+
+        int position = offset + 19;
+        int nano = 0;
+
+        if (text[position] == '.') {
+            int fractionStart = ++position;
+
+            while (position < end && position - fractionStart < 9 && isDigit(text[position])) {
+                nano = nano * 10 + (text[position++] - '0');
+            }
+
+            int fractionDigits = position - fractionStart;
+
+            if (fractionDigits == 0 || (position < end && isDigit(text[position]))) {
+                return null;
+            }
+
+            nano *= FRACTION_MULTIPLIERS[fractionDigits];
+        }
+
+        ZoneOffset zoneOffset = parseZoneOffset(text, position, end);
+
+        if (zoneOffset == null) {
+            return null;
+        }
+
+        try {
+            return OffsetDateTime.of(year, month, day, hour, minute, second, nano, zoneOffset);
+        }
+        catch (DateTimeException e) {
+            // let the delegate report invalid dates and times
+            return null;
+        }
+    }
+
+    @Nullable
+    private static ZoneOffset parseZoneOffset(char[] text, int start, int end) {
+
+        if (end - start == 1 && (text[start] == 'Z' || text[start] == 'z')) {
+            return ZoneOffset.UTC;
+        }
+
+        if (end - start != 6 || (text[start] != '+' && text[start] != '-') || text[start + 3] != ':') {
+            return null;
+        }
+
+        int hours = parseDigits(text, start + 1, 2);
+        int minutes = parseDigits(text, start + 4, 2);
+
+        if (hours < 0 || minutes < 0 || minutes > 59) {
+            return null;
+        }
+
+        int totalMinutes = (hours * 60 + minutes) * (text[start] == '-' ? -1 : 1);
+
+        if (Math.abs(totalMinutes) > MAXIMUM_OFFSET_MINUTES) {
+            return null;
+        }
+
+        ZoneOffset zoneOffset = offsetsByTotalMinutes[totalMinutes + MAXIMUM_OFFSET_MINUTES];
+
+        if (zoneOffset == null) {
+            zoneOffset = ZoneOffset.ofTotalSeconds(totalMinutes * 60);
+            offsetsByTotalMinutes[totalMinutes + MAXIMUM_OFFSET_MINUTES] = zoneOffset;
+        }
+
+        return zoneOffset;
+    }
+
+    /**
+     * @return the number represented by a fixed number of ASCII digits, or -1 if any of the characters isn't a digit
+     */
+    private static int parseDigits(char[] text, int start, int digits) {
+
+        int number = 0;
+
+        for (int i = start; i < start + digits; i++) {
+            if (!isDigit(text[i])) {
+                return -1;
+            }
+
+            number = number * 10 + (text[i] - '0');
+        }
+
+        return number;
+    }
+
+    private static boolean isDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+}
@@ -29,11 +29,21 @@ import java.time.OffsetDateTime;
  * This class serializes {@link OffsetDateTime} values to {@link String}s according to <a
  * href="https://www.ietf.org/rfc/rfc3339.txt">RFC 3339</a>. The default {@link OffsetDateTimeSerializer} is not
  * sufficient because it truncates zero second fields.
+ * <p>
+ * The output is identical to that of {@link OffsetDateTime#toString()} with zero second fields restored. Since data
+ * points contain several timestamps, the common case of a four digit year is formatted directly into a reusable
+ * per-thread buffer instead of allocating intermediate strings.
  *
  * @author Emerson Farrugia
  */
 public class Rfc3339OffsetDateTimeSerializer extends StdSerializer<OffsetDateTime> {
 
+    // large enough for "yyyy-MM-ddTHH:mm:ss.nnnnnnnnn+hh:mm:ss"
+    private static final int MAXIMUM_FORMATTED_LENGTH = 38;
+
+    private static final ThreadLocal<char[]> buffers =
+            ThreadLocal.withInitial(() -> new char[MAXIMUM_FORMATTED_LENGTH]);
+
     public Rfc3339OffsetDateTimeSerializer(Class<OffsetDateTime> t) {
         super(t);
     }
@@ -42,6 +52,81 @@ public class Rfc3339OffsetDateTimeSerializer extends StdSerializer<OffsetDateTim
     public void serialize(OffsetDateTime instant, JsonGenerator generator, SerializerProvider provider)
             throws IOException {
 
+        if (instant.getYear() < 0 || instant.getYear() > 9999) {
+            generator.writeString(format(instant));
+            return;
+        }
+
+        char[] buffer = buffers.get();
+
+        generator.writeString(buffer, 0, format(instant, buffer));
+    }
+
+    /**
+     * Formats a date time with a year between 0 and 9999 inclusive.
+     *
+     * @return the length of the formatted date time
+     */
+    private static int format(OffsetDateTime instant, char[] buffer) {
+
+        int position = writeDigits(buffer, 0, instant.getYear(), 4);
+        buffer[position++] = '-';
+        position = writeDigits(buffer, position, instant.getMonthValue(), 2);
+        buffer[position++] = '-';
+        position = writeDigits(buffer, position, instant.getDayOfMonth(), 2);
+        buffer[position++] = 'T';
+        position = writeDigits(buffer, position, instant.getHour(), 2);
+        buffer[position++] = ':';
+        position = writeDigits(buffer, position, instant.getMinute(), 2);
+
+        // unlike LocalTime, we always write seconds
+        buffer[position++] = ':';
+        position = writeDigits(buffer, position, instant.getSecond(), 2);
+
+        int nano = instant.getNano();
+
+        // this matches the fraction precision of LocalTime
+        if (nano > 0) {
+            buffer[position++] = '.';
+
+            if (nano % 1_000_000 == 0) {
+                position = writeDigits(buffer, position, nano / 1_000_000, 3);
+            }
+            else if (nano % 1000 == 0) {
+                position = writeDigits(buffer, position, nano / 1000, 6);
+            }
+            else {
+                position = writeDigits(buffer, position, nano, 9);
+            }
+        }
+
+        // zone offset identifiers are cached by ZoneOffset, so this doesn't allocate
+        String offsetId = instant.getOffset().getId();
+        offsetId.getChars(0, offsetId.length(), buffer, position);
+
+        return position + offsetId.length();
+    }
+
+    /**
+     * Writes a non-negative number as a fixed number of digits, padded with leading zeros.
+     *
+     * @return the position following the digits
+     */
+    private static int writeDigits(char[] buffer, int position, int value, int digits) {
+
+        for (int i = position + digits - 1; i >= position; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+
+        return position + digits;
+    }
+
+    /**
+     * Formats a date time of any year, at the cost of allocating intermediate strings.
+     */
+    private static String format(OffsetDateTime instant) {
+
         StringBuilder builder = new StringBuilder();
 
         builder.append(instant.toLocalDateTime().toString());
@@ -52,6 +137,6 @@ public class Rfc3339OffsetDateTimeSerializer extends StdSerializer<OffsetDateTim
 
         builder.append(instant.getOffset().toString());
 
-        generator.writeString(builder.toString());
+        return builder.toString();
     }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.openmhealth.schema.domain.omh.AmbientTemperature;
+import org.openmhealth.schema.domain.omh.TemperatureUnitValue;
+
+import java.io.IOException;
+
+import static org.openmhealth.schema.serializer.omh.UnitValueDeserializers.TEMPERATURE_UNIT_VALUE;
+
+
+/**
+ * This class deserializes {@link AmbientTemperature} measures using their builder.
+ *
+ * @author agent
+ */
+public class AmbientTemperatureDeserializer extends MeasureDeserializer<AmbientTemperature> {
+
+    public AmbientTemperatureDeserializer() {
+        super(AmbientTemperature.class);
+    }
+
+    @Override
+    protected Properties<AmbientTemperature> newProperties() {
+        return new AmbientTemperatureProperties();
+    }
+
+    private static class AmbientTemperatureProperties extends MeasureProperties<AmbientTemperature> {
+
+        private TemperatureUnitValue ambientTemperature;
+
+        @Override
+        protected boolean readMeasureProperty(String name, JsonParser parser, DeserializationContext context)
+                throws IOException {
+
+            switch (name) {
+                case "ambient_temperature":
+                    ambientTemperature = readValue(parser, context, TEMPERATURE_UNIT_VALUE);
+                    return true;
+
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected AmbientTemperature build(JsonParser parser) throws JsonMappingException {
+
+            AmbientTemperature.Builder builder = new AmbientTemperature.Builder(
+                    checkProperty(parser, ambientTemperature, "ambient_temperature"));
+
+            return buildMeasure(builder);
+        }
+    }
+}
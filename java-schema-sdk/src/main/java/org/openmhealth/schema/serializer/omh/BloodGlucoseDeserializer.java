@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.openmhealth.schema.domain.omh.BloodGlucose;
+import org.openmhealth.schema.domain.omh.BloodGlucoseUnit;
+import org.openmhealth.schema.domain.omh.BloodSpecimenType;
+import org.openmhealth.schema.domain.omh.TemporalRelationshipToMeal;
+import org.openmhealth.schema.domain.omh.TemporalRelationshipToSleep;
+import org.openmhealth.schema.domain.omh.TypedUnitValue;
+
+import java.io.IOException;
+
+
+/**
+ * This class deserializes {@link BloodGlucose} measures using their builder.
+ *
+ * @author agent
+ */
+public class BloodGlucoseDeserializer extends MeasureDeserializer<BloodGlucose> {
+
+    private static final UnitValueDeserializer<TypedUnitValue<BloodGlucoseUnit>> BLOOD_GLUCOSE_DESERIALIZER =
+            TypedUnitValueDeserializer.forUnitType(BloodGlucoseUnit.class);
+    private static final SchemaEnumValueDeserializer<BloodSpecimenType> BLOOD_SPECIMEN_TYPE_DESERIALIZER =
+            new SchemaEnumValueDeserializer<>(BloodSpecimenType.class);
+    private static final SchemaEnumValueDeserializer<TemporalRelationshipToMeal>
+            TEMPORAL_RELATIONSHIP_TO_MEAL_DESERIALIZER =
+            new SchemaEnumValueDeserializer<>(TemporalRelationshipToMeal.class);
+    private static final SchemaEnumValueDeserializer<TemporalRelationshipToSleep>
+            TEMPORAL_RELATIONSHIP_TO_SLEEP_DESERIALIZER =
+            new SchemaEnumValueDeserializer<>(TemporalRelationshipToSleep.class);
+
+    public BloodGlucoseDeserializer() {
+        super(BloodGlucose.class);
+    }
+
+    @Override
+    protected Properties<BloodGlucose> newProperties() {
+        return new BloodGlucoseProperties();
+    }
+
+    private static class BloodGlucoseProperties extends MeasureProperties<BloodGlucose> {
+
+        private TypedUnitValue<BloodGlucoseUnit> bloodGlucose;
+        private BloodSpecimenType bloodSpecimenType;
+        private TemporalRelationshipToMeal temporalRelationshipToMeal;
+        private TemporalRelationshipToSleep temporalRelationshipToSleep;
+
+        @Override
+        protected boolean readMeasureProperty(String name, JsonParser parser, DeserializationContext context)
+                throws IOException {
+
+            switch (name) {
+                case "blood_glucose":
+                    bloodGlucose = readValue(parser, context, BLOOD_GLUCOSE_DESERIALIZER);
+                    return true;
+
+                case "blood_specimen_type":
+                    bloodSpecimenType = readValue(parser, context, BLOOD_SPECIMEN_TYPE_DESERIALIZER);
+                    return true;
+
+                case "temporal_relationship_to_meal":
+                    temporalRelationshipToMeal = readValue(parser, context, TEMPORAL_RELATIONSHIP_TO_MEAL_DESERIALIZER);
+                    return true;
+
+                case "temporal_relationship_to_sleep":
+                    temporalRelationshipToSleep = readValue(parser, context,
+                            TEMPORAL_RELATIONSHIP_TO_SLEEP_DESERIALIZER);
+                    return true;
+
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected BloodGlucose build(JsonParser parser) throws JsonMappingException {
+
+            BloodGlucose.Builder builder = new BloodGlucose.Builder(
+                    checkProperty(parser, bloodGlucose, "blood_glucose"));
+
+            builder
+                    .setBloodSpecimenType(bloodSpecimenType)
+                    .setTemporalRelationshipToMeal(temporalRelationshipToMeal)
+                    .setTemporalRelationshipToSleep(temporalRelationshipToSleep);
+
+            return buildMeasure(builder);
+        }
+    }
+}
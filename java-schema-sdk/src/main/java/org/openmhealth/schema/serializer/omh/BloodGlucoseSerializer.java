@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.openmhealth.schema.domain.omh.BloodGlucose;
+
+import java.io.IOException;
+
+
+/**
+ * This class serializes {@link BloodGlucose} measures.
+ *
+ * @author agent
+ */
+public class BloodGlucoseSerializer extends MeasureSerializer<BloodGlucose> {
+
+    private static final SerializedString BLOOD_GLUCOSE_PROPERTY = new SerializedString("blood_glucose");
+    private static final SerializedString BLOOD_SPECIMEN_TYPE_PROPERTY = new SerializedString("blood_specimen_type");
+    private static final SerializedString TEMPORAL_RELATIONSHIP_TO_MEAL_PROPERTY =
+            new SerializedString("temporal_relationship_to_meal");
+    private static final SerializedString TEMPORAL_RELATIONSHIP_TO_SLEEP_PROPERTY =
+            new SerializedString("temporal_relationship_to_sleep");
+
+    public BloodGlucoseSerializer() {
+        super(BloodGlucose.class);
+    }
+
+    @Override
+    protected void serializeMeasureProperties(BloodGlucose measure, JsonGenerator generator,
+            SerializerProvider provider) throws IOException {
+
+        writeObjectField(generator, BLOOD_GLUCOSE_PROPERTY, measure.getBloodGlucose(), UNIT_VALUE_SERIALIZER, provider);
+        writeEnumField(generator, BLOOD_SPECIMEN_TYPE_PROPERTY, measure.getBloodSpecimenType());
+        writeEnumField(generator, TEMPORAL_RELATIONSHIP_TO_MEAL_PROPERTY, measure.getTemporalRelationshipToMeal());
+        writeEnumField(generator, TEMPORAL_RELATIONSHIP_TO_SLEEP_PROPERTY, measure.getTemporalRelationshipToSleep());
+    }
+}
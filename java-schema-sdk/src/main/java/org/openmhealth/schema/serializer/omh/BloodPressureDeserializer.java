@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.openmhealth.schema.domain.omh.BloodPressure;
+import org.openmhealth.schema.domain.omh.DiastolicBloodPressure;
+import org.openmhealth.schema.domain.omh.PositionDuringMeasurement;
+import org.openmhealth.schema.domain.omh.SystolicBloodPressure;
+
+import java.io.IOException;
+
+import static org.openmhealth.schema.serializer.omh.UnitValueDeserializers.DIASTOLIC_BLOOD_PRESSURE;
+import static org.openmhealth.schema.serializer.omh.UnitValueDeserializers.SYSTOLIC_BLOOD_PRESSURE;
+
+
+/**
+ * This class deserializes {@link BloodPressure} measures using their builder.
+ *
+ * @author agent
+ */
+public class BloodPressureDeserializer extends MeasureDeserializer<BloodPressure> {
+
+    private static final SchemaEnumValueDeserializer<PositionDuringMeasurement>
+            POSITION_DURING_MEASUREMENT_DESERIALIZER =
+            new SchemaEnumValueDeserializer<>(PositionDuringMeasurement.class);
+
+    public BloodPressureDeserializer() {
+        super(BloodPressure.class);
+    }
+
+    @Override
+    protected Properties<BloodPressure> newProperties() {
+        return new BloodPressureProperties();
+    }
+
+    private static class BloodPressureProperties extends MeasureProperties<BloodPressure> {
+
+        private SystolicBloodPressure systolicBloodPressure;
+        private DiastolicBloodPressure diastolicBloodPressure;
+        private PositionDuringMeasurement positionDuringMeasurement;
+
+        @Override
+        protected boolean readMeasureProperty(String name, JsonParser parser, DeserializationContext context)
+                throws IOException {
+
+            switch (name) {
+                case "systolic_blood_pressure":
+                    systolicBloodPressure = readValue(parser, context, SYSTOLIC_BLOOD_PRESSURE);
+                    return true;
+
+                case "diastolic_blood_pressure":
+                    diastolicBloodPressure = readValue(parser, context, DIASTOLIC_BLOOD_PRESSURE);
+                    return true;
+
+                case "position_during_measurement":
+                    positionDuringMeasurement = readValue(parser, context, POSITION_DURING_MEASUREMENT_DESERIALIZER);
+                    return true;
+
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected BloodPressure build(JsonParser parser) throws JsonMappingException {
+
+            BloodPressure.Builder builder = new BloodPressure.Builder(
+                    checkProperty(parser, systolicBloodPressure, "systolic_blood_pressure"),
+                    checkProperty(parser, diastolicBloodPressure, "diastolic_blood_pressure"));
+
+            builder
+                    .setPositionDuringMeasurement(positionDuringMeasurement);
+
+            return buildMeasure(builder);
+        }
+    }
+}
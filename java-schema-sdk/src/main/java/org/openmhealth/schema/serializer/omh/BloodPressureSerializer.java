@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.openmhealth.schema.domain.omh.BloodPressure;
+
+import java.io.IOException;
+
+
+/**
+ * This class serializes {@link BloodPressure} measures.
+ *
+ * @author agent
+ */
+public class BloodPressureSerializer extends MeasureSerializer<BloodPressure> {
+
+    private static final SerializedString SYSTOLIC_BLOOD_PRESSURE_PROPERTY =
+            new SerializedString("systolic_blood_pressure");
+    private static final SerializedString DIASTOLIC_BLOOD_PRESSURE_PROPERTY =
+            new SerializedString("diastolic_blood_pressure");
+    private static final SerializedString POSITION_DURING_MEASUREMENT_PROPERTY =
+            new SerializedString("position_during_measurement");
+
+    public BloodPressureSerializer() {
+        super(BloodPressure.class);
+    }
+
+    @Override
+    protected void serializeMeasureProperties(BloodPressure measure, JsonGenerator generator,
+            SerializerProvider provider) throws IOException {
+
+        writeObjectField(generator, SYSTOLIC_BLOOD_PRESSURE_PROPERTY, measure.getSystolicBloodPressure(),
+                UNIT_VALUE_SERIALIZER, provider);
+        writeObjectField(generator, DIASTOLIC_BLOOD_PRESSURE_PROPERTY, measure.getDiastolicBloodPressure(),
+                UNIT_VALUE_SERIALIZER, provider);
+        writeEnumField(generator, POSITION_DURING_MEASUREMENT_PROPERTY, measure.getPositionDuringMeasurement());
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.openmhealth.schema.domain.omh.BodyFatPercentage;
+import org.openmhealth.schema.domain.omh.PercentUnit;
+import org.openmhealth.schema.domain.omh.TypedUnitValue;
+
+import java.io.IOException;
+
+
+/**
+ * This class deserializes {@link BodyFatPercentage} measures using their builder.
+ *
+ * @author agent
+ */
+public class BodyFatPercentageDeserializer extends MeasureDeserializer<BodyFatPercentage> {
+
+    private static final UnitValueDeserializer<TypedUnitValue<PercentUnit>> BODY_FAT_PERCENTAGE_DESERIALIZER =
+            TypedUnitValueDeserializer.forUnitType(PercentUnit.class);
+
+    public BodyFatPercentageDeserializer() {
+        super(BodyFatPercentage.class);
+    }
+
+    @Override
+    protected Properties<BodyFatPercentage> newProperties() {
+        return new BodyFatPercentageProperties();
+    }
+
+    private static class BodyFatPercentageProperties extends MeasureProperties<BodyFatPercentage> {
+
+        private TypedUnitValue<PercentUnit> bodyFatPercentage;
+
+        @Override
+        protected boolean readMeasureProperty(String name, JsonParser parser, DeserializationContext context)
+                throws IOException {
+
+            switch (name) {
+                case "body_fat_percentage":
+                    bodyFatPercentage = readValue(parser, context, BODY_FAT_PERCENTAGE_DESERIALIZER);
+                    return true;
+
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected BodyFatPercentage build(JsonParser parser) throws JsonMappingException {
+
+            BodyFatPercentage.Builder builder = new BodyFatPercentage.Builder(
+                    checkProperty(parser, bodyFatPercentage, "body_fat_percentage"));
+
+            return buildMeasure(builder);
+        }
+    }
+}
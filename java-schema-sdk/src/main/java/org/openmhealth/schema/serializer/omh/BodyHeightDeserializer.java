@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.openmhealth.schema.domain.omh.BodyHeight;
+import org.openmhealth.schema.domain.omh.LengthUnitValue;
+
+import java.io.IOException;
+
+import static org.openmhealth.schema.serializer.omh.UnitValueDeserializers.LENGTH_UNIT_VALUE;
+
+
+/**
+ * This class deserializes {@link BodyHeight} measures using their builder.
+ *
+ * @author agent
+ */
+public class BodyHeightDeserializer extends MeasureDeserializer<BodyHeight> {
+
+    public BodyHeightDeserializer() {
+        super(BodyHeight.class);
+    }
+
+    @Override
+    protected Properties<BodyHeight> newProperties() {
+        return new BodyHeightProperties();
+    }
+
+    private static class BodyHeightProperties extends MeasureProperties<BodyHeight> {
+
+        private LengthUnitValue bodyHeight;
+
+        @Override
+        protected boolean readMeasureProperty(String name, JsonParser parser, DeserializationContext context)
+                throws IOException {
+
+            switch (name) {
+                case "body_height":
+                    bodyHeight = readValue(parser, context, LENGTH_UNIT_VALUE);
+                    return true;
+
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected BodyHeight build(JsonParser parser) throws JsonMappingException {
+
+            BodyHeight.Builder builder = new BodyHeight.Builder(checkProperty(parser, bodyHeight, "body_height"));
+
+            return buildMeasure(builder);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.openmhealth.schema.domain.omh.BodyHeight;
+
+import java.io.IOException;
+
+
+/**
+ * This class serializes {@link BodyHeight} measures.
+ *
+ * @author agent
+ */
+public class BodyHeightSerializer extends MeasureSerializer<BodyHeight> {
+
+    private static final SerializedString BODY_HEIGHT_PROPERTY = new SerializedString("body_height");
+
+    public BodyHeightSerializer() {
+        super(BodyHeight.class);
+    }
+
+    @Override
+    protected void serializeMeasureProperties(BodyHeight measure, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+
+        writeObjectField(generator, BODY_HEIGHT_PROPERTY, measure.getBodyHeight(), UNIT_VALUE_SERIALIZER, provider);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.openmhealth.schema.domain.omh.BodyMassIndex1;
+import org.openmhealth.schema.domain.omh.BodyMassIndexUnit1;
+import org.openmhealth.schema.domain.omh.TypedUnitValue;
+
+import java.io.IOException;
+
+
+/**
+ * This class deserializes {@link BodyMassIndex1} measures using their builder.
+ *
+ * @author agent
+ */
+public class BodyMassIndex1Deserializer extends MeasureDeserializer<BodyMassIndex1> {
+
+    private static final UnitValueDeserializer<TypedUnitValue<BodyMassIndexUnit1>> BODY_MASS_INDEX_DESERIALIZER =
+            TypedUnitValueDeserializer.forUnitType(BodyMassIndexUnit1.class);
+
+    public BodyMassIndex1Deserializer() {
+        super(BodyMassIndex1.class);
+    }
+
+    @Override
+    protected Properties<BodyMassIndex1> newProperties() {
+        return new BodyMassIndex1Properties();
+    }
+
+    private static class BodyMassIndex1Properties extends MeasureProperties<BodyMassIndex1> {
+
+        private TypedUnitValue<BodyMassIndexUnit1> bodyMassIndex;
+
+        @Override
+        protected boolean readMeasureProperty(String name, JsonParser parser, DeserializationContext context)
+                throws IOException {
+
+            switch (name) {
+                case "body_mass_index":
+                    bodyMassIndex = readValue(parser, context, BODY_MASS_INDEX_DESERIALIZER);
+                    return true;
+
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected BodyMassIndex1 build(JsonParser parser) throws JsonMappingException {
+
+            BodyMassIndex1.Builder builder = new BodyMassIndex1.Builder(
+                    checkProperty(parser, bodyMassIndex, "body_mass_index"));
+
+            return buildMeasure(builder);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.openmhealth.schema.domain.omh.BodyMassIndex2;
+import org.openmhealth.schema.domain.omh.BodyMassIndexUnit2;
+import org.openmhealth.schema.domain.omh.TypedUnitValue;
+
+import java.io.IOException;
+
+
+/**
+ * This class deserializes {@link BodyMassIndex2} measures using their builder.
+ *
+ * @author agent
+ */
+public class BodyMassIndex2Deserializer extends MeasureDeserializer<BodyMassIndex2> {
+
+    private static final UnitValueDeserializer<TypedUnitValue<BodyMassIndexUnit2>> BODY_MASS_INDEX_DESERIALIZER =
+            TypedUnitValueDeserializer.forUnitType(BodyMassIndexUnit2.class);
+
+    public BodyMassIndex2Deserializer() {
+        super(BodyMassIndex2.class);
+    }
+
+    @Override
+    protected Properties<BodyMassIndex2> newProperties() {
+        return new BodyMassIndex2Properties();
+    }
+
+    private static class BodyMassIndex2Properties extends MeasureProperties<BodyMassIndex2> {
+
+        private TypedUnitValue<BodyMassIndexUnit2> bodyMassIndex;
+
+        @Override
+        protected boolean readMeasureProperty(String name, JsonParser parser, DeserializationContext context)
+                throws IOException {
+
+            switch (name) {
+                case "body_mass_index":
+                    bodyMassIndex = readValue(parser, context, BODY_MASS_INDEX_DESERIALIZER);
+                    return true;
+
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected BodyMassIndex2 build(JsonParser parser) throws JsonMappingException {
+
+            BodyMassIndex2.Builder builder = new BodyMassIndex2.Builder(
+                    checkProperty(parser, bodyMassIndex, "body_mass_index"),
+                    checkEffectiveTimeFrame(parser));
+
+            return buildMeasure(builder);
+        }
+    }
+}
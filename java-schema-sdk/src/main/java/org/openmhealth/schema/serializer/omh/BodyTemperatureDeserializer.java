@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.openmhealth.schema.domain.omh.BodyTemperature;
+import org.openmhealth.schema.domain.omh.BodyTemperature.MeasurementLocation;
+import org.openmhealth.schema.domain.omh.TemperatureUnitValue;
+
+import java.io.IOException;
+
+import static org.openmhealth.schema.serializer.omh.UnitValueDeserializers.TEMPERATURE_UNIT_VALUE;
+
+
+/**
+ * This class deserializes {@link BodyTemperature} measures using their builder.
+ *
+ * @author agent
+ */
+public class BodyTemperatureDeserializer extends MeasureDeserializer<BodyTemperature> {
+
+    private static final SchemaEnumValueDeserializer<MeasurementLocation> MEASUREMENT_LOCATION_DESERIALIZER =
+            new SchemaEnumValueDeserializer<>(MeasurementLocation.class);
+
+    public BodyTemperatureDeserializer() {
+        super(BodyTemperature.class);
+    }
+
+    @Override
+    protected Properties<BodyTemperature> newProperties() {
+        return new BodyTemperatureProperties();
+    }
+
+    private static class BodyTemperatureProperties extends MeasureProperties<BodyTemperature> {
+
+        private TemperatureUnitValue bodyTemperature;
+        private MeasurementLocation measurementLocation;
+
+        @Override
+        protected boolean readMeasureProperty(String name, JsonParser parser, DeserializationContext context)
+                throws IOException {
+
+            switch (name) {
+                case "body_temperature":
+                    bodyTemperature = readValue(parser, context, TEMPERATURE_UNIT_VALUE);
+                    return true;
+
+                case "measurement_location":
+                    measurementLocation = readValue(parser, context, MEASUREMENT_LOCATION_DESERIALIZER);
+                    return true;
+
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected BodyTemperature build(JsonParser parser) throws JsonMappingException {
+
+            BodyTemperature.Builder builder = new BodyTemperature.Builder(
+                    checkProperty(parser, bodyTemperature, "body_temperature"));
+
+            builder
+                    .setMeasurementLocation(measurementLocation);
+
+            return buildMeasure(builder);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.openmhealth.schema.domain.omh.BodyWeight;
+import org.openmhealth.schema.domain.omh.MassUnitValue;
+
+import java.io.IOException;
+
+import static org.openmhealth.schema.serializer.omh.UnitValueDeserializers.MASS_UNIT_VALUE;
+
+
+/**
+ * This class deserializes {@link BodyWeight} measures using their builder.
+ *
+ * @author agent
+ */
+public class BodyWeightDeserializer extends MeasureDeserializer<BodyWeight> {
+
+    public BodyWeightDeserializer() {
+        super(BodyWeight.class);
+    }
+
+    @Override
+    protected Properties<BodyWeight> newProperties() {
+        return new BodyWeightProperties();
+    }
+
+    private static class BodyWeightProperties extends MeasureProperties<BodyWeight> {
+
+        private MassUnitValue bodyWeight;
+
+        @Override
+        protected boolean readMeasureProperty(String name, JsonParser parser, DeserializationContext context)
+                throws IOException {
+
+            switch (name) {
+                case "body_weight":
+                    bodyWeight = readValue(parser, context, MASS_UNIT_VALUE);
+                    return true;
+
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected BodyWeight build(JsonParser parser) throws JsonMappingException {
+
+            BodyWeight.Builder builder = new BodyWeight.Builder(checkProperty(parser, bodyWeight, "body_weight"));
+
+            return buildMeasure(builder);
+        }
+    }
+}
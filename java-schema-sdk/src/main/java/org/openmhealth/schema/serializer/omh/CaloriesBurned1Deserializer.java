@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.openmhealth.schema.domain.omh.CaloriesBurned1;
+import org.openmhealth.schema.domain.omh.KcalUnitValue;
+
+import java.io.IOException;
+
+import static org.openmhealth.schema.serializer.omh.UnitValueDeserializers.KCAL_UNIT_VALUE;
+
+
+/**
+ * This class deserializes {@link CaloriesBurned1} measures using their builder.
+ *
+ * @author agent
+ */
+public class CaloriesBurned1Deserializer extends MeasureDeserializer<CaloriesBurned1> {
+
+    public CaloriesBurned1Deserializer() {
+        super(CaloriesBurned1.class);
+    }
+
+    @Override
+    protected Properties<CaloriesBurned1> newProperties() {
+        return new CaloriesBurned1Properties();
+    }
+
+    private static class CaloriesBurned1Properties extends MeasureProperties<CaloriesBurned1> {
+
+        private KcalUnitValue kcalBurned;
+        private String activityName;
+
+        @Override
+        protected boolean readMeasureProperty(String name, JsonParser parser, DeserializationContext context)
+                throws IOException {
+
+            switch (name) {
+                case "kcal_burned":
+                    kcalBurned = readValue(parser, context, KCAL_UNIT_VALUE);
+                    return true;
+
+                case "activity_name":
+                    activityName = readString(parser, context);
+                    return true;
+
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected CaloriesBurned1 build(JsonParser parser) throws JsonMappingException {
+
+            CaloriesBurned1.Builder builder = new CaloriesBurned1.Builder(
+                    checkProperty(parser, kcalBurned, "kcal_burned"));
+
+            builder
+                    .setActivityName(activityName);
+
+            return buildMeasure(builder);
+        }
+    }
+}
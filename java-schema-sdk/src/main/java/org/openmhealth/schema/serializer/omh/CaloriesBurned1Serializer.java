@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.openmhealth.schema.domain.omh.CaloriesBurned1;
+
+import java.io.IOException;
+
+
+/**
+ * This class serializes {@link CaloriesBurned1} measures.
+ *
+ * @author agent
+ */
+public class CaloriesBurned1Serializer extends MeasureSerializer<CaloriesBurned1> {
+
+    private static final SerializedString KCAL_BURNED_PROPERTY = new SerializedString("kcal_burned");
+    private static final SerializedString ACTIVITY_NAME_PROPERTY = new SerializedString("activity_name");
+
+    public CaloriesBurned1Serializer() {
+        super(CaloriesBurned1.class);
+    }
+
+    @Override
+    protected void serializeMeasureProperties(CaloriesBurned1 measure, JsonGenerator generator,
+            SerializerProvider provider) throws IOException {
+
+        writeObjectField(generator, KCAL_BURNED_PROPERTY, measure.getKcalBurned(), UNIT_VALUE_SERIALIZER, provider);
+        writeStringField(generator, ACTIVITY_NAME_PROPERTY, measure.getActivityName());
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.openmhealth.schema.domain.omh.CaloriesBurned2;
+import org.openmhealth.schema.domain.omh.DescriptiveStatisticDenominator;
+import org.openmhealth.schema.domain.omh.KcalUnitValue;
+
+import java.io.IOException;
+
+import static org.openmhealth.schema.serializer.omh.UnitValueDeserializers.KCAL_UNIT_VALUE;
+
+
+/**
+ * This class deserializes {@link CaloriesBurned2} measures using their builder.
+ *
+ * @author agent
+ */
+public class CaloriesBurned2Deserializer extends MeasureDeserializer<CaloriesBurned2> {
+
+    private static final SchemaEnumValueDeserializer<DescriptiveStatisticDenominator>
+            DESCRIPTIVE_STATISTIC_DENOMINATOR_DESERIALIZER =
+            new SchemaEnumValueDeserializer<>(DescriptiveStatisticDenominator.class);
+
+    public CaloriesBurned2Deserializer() {
+        super(CaloriesBurned2.class);
+    }
+
+    @Override
+    protected Properties<CaloriesBurned2> newProperties() {
+        return new CaloriesBurned2Properties();
+    }
+
+    private static class CaloriesBurned2Properties extends MeasureProperties<CaloriesBurned2> {
+
+        private KcalUnitValue kcalBurned;
+        private String activityName;
+        private DescriptiveStatisticDenominator descriptiveStatisticDenominator;
+
+        @Override
+        protected boolean readMeasureProperty(String name, JsonParser parser, DeserializationContext context)
+                throws IOException {
+
+            switch (name) {
+                case "kcal_burned":
+                    kcalBurned = readValue(parser, context, KCAL_UNIT_VALUE);
+                    return true;
+
+                case "activity_name":
+                    activityName = readString(parser, context);
+                    return true;
+
+                case "descriptive_statistic_denominator":
+                    descriptiveStatisticDenominator = readValue(parser, context,
+                            DESCRIPTIVE_STATISTIC_DENOMINATOR_DESERIALIZER);
+                    return true;
+
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected CaloriesBurned2 build(JsonParser parser) throws JsonMappingException {
+
+            CaloriesBurned2.Builder builder = new CaloriesBurned2.Builder(
+                    checkProperty(parser, kcalBurned, "kcal_burned"),
+                    checkEffectiveTimeFrame(parser));
+
+            builder
+                    .setActivityName(activityName)
+                    .setDescriptiveStatisticDenominator(descriptiveStatisticDenominator);
+
+            return buildMeasure(builder);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.openmhealth.schema.domain.omh.DataPointAcquisitionProvenance;
+import org.openmhealth.schema.domain.omh.DataPointModality;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+
+
+/**
+ * This class deserializes {@link DataPointAcquisitionProvenance}s using their builder.
+ *
+ * @author agent
+ */
+public class DataPointAcquisitionProvenanceDeserializer
+        extends SchemaObjectDeserializer<DataPointAcquisitionProvenance> {
+
+    private static final SchemaEnumValueDeserializer<DataPointModality> MODALITY_DESERIALIZER =
+            new SchemaEnumValueDeserializer<>(DataPointModality.class);
+
+    public DataPointAcquisitionProvenanceDeserializer() {
+        super(DataPointAcquisitionProvenance.class);
+    }
+
+    @Override
+    protected Properties<DataPointAcquisitionProvenance> newProperties() {
+        return new ProvenanceProperties();
+    }
+
+    private static class ProvenanceProperties extends Properties<DataPointAcquisitionProvenance> {
+
+        private String sourceName;
+        private OffsetDateTime sourceCreationDateTime;
+        private DataPointModality modality;
+
+        @Override
+        protected boolean read(String name, JsonParser parser, DeserializationContext context) throws IOException {
+
+            switch (name) {
+                case "source_name":
+                    sourceName = readString(parser, context);
+                    return true;
+
+                case "source_creation_date_time":
+                    sourceCreationDateTime = readValue(parser, context, OffsetDateTime.class);
+                    return true;
+
+                case "modality":
+                    modality = readValue(parser, context, MODALITY_DESERIALIZER);
+                    return true;
+
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected DataPointAcquisitionProvenance build(JsonParser parser) throws JsonMappingException {
+
+            return new DataPointAcquisitionProvenance.Builder(checkProperty(parser, sourceName, "source_name"))
+                    .setSourceCreationDateTime(sourceCreationDateTime)
+                    .setModality(modality)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.openmhealth.schema.domain.omh.DataPointAcquisitionProvenance;
+
+import java.io.IOException;
+
+
+/**
+ * This class serializes {@link DataPointAcquisitionProvenance}s.
+ *
+ * @author agent
+ */
+public class DataPointAcquisitionProvenanceSerializer extends SchemaObjectSerializer<DataPointAcquisitionProvenance> {
+
+    private static final SerializedString SOURCE_NAME_PROPERTY = new SerializedString("source_name");
+    private static final SerializedString SOURCE_CREATION_DATE_TIME_PROPERTY =
+            new SerializedString("source_creation_date_time");
+    private static final SerializedString MODALITY_PROPERTY = new SerializedString("modality");
+
+    public DataPointAcquisitionProvenanceSerializer() {
+        super(DataPointAcquisitionProvenance.class);
+    }
+
+    @Override
+    protected void serializeProperties(DataPointAcquisitionProvenance provenance, JsonGenerator generator,
+            SerializerProvider provider) throws IOException {
+
+        writeStringField(generator, SOURCE_NAME_PROPERTY, provenance.getSourceName());
+        writeObjectField(generator, SOURCE_CREATION_DATE_TIME_PROPERTY, provenance.getSourceCreationDateTime(),
+                provider);
+        writeEnumField(generator, MODALITY_PROPERTY, provenance.getModality());
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.openmhealth.schema.domain.omh.DataPointAcquisitionProvenance;
+import org.openmhealth.schema.domain.omh.DataPointHeader;
+import org.openmhealth.schema.domain.omh.SchemaId;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+
+
+/**
+ * This class deserializes {@link DataPointHeader}s using their builder.
+ *
+ * @author agent
+ */
+public class DataPointHeaderDeserializer extends SchemaObjectDeserializer<DataPointHeader> {
+
+    private static final DataPointAcquisitionProvenanceDeserializer PROVENANCE_DESERIALIZER =
+            new DataPointAcquisitionProvenanceDeserializer();
+    private static final SchemaIdDeserializer SCHEMA_ID_DESERIALIZER = new SchemaIdDeserializer();
+
+    public DataPointHeaderDeserializer() {
+        super(DataPointHeader.class);
+    }
+
+    @Override
+    protected Properties<DataPointHeader> newProperties() {
+        return new HeaderProperties();
+    }
+
+    private static class HeaderProperties extends Properties<DataPointHeader> {
+
+        private String id;
+        private OffsetDateTime creationDateTime;
+        private DataPointAcquisitionProvenance acquisitionProvenance;
+        private String userId;
+        private SchemaId bodySchemaId;
+
+        @Override
+        protected boolean read(String name, JsonParser parser, DeserializationContext context) throws IOException {
+
+            switch (name) {
+                case "id":
+                    id = readString(parser, context);
+                    return true;
+
+                case "creation_date_time":
+                    creationDateTime = readValue(parser, context, OffsetDateTime.class);
+                    return true;
+
+                case "acquisition_provenance":
+                    acquisitionProvenance = readValue(parser, context, PROVENANCE_DESERIALIZER);
+                    return true;
+
+                case "user_id":
+                    userId = readString(parser, context);
+                    return true;
+
+                case "schema_id":
+                    bodySchemaId = readValue(parser, context, SCHEMA_ID_DESERIALIZER);
+                    return true;
+
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected DataPointHeader build(JsonParser parser) throws JsonMappingException {
+
+            return new DataPointHeader.Builder(
+                    checkProperty(parser, id, "id"),
+                    checkProperty(parser, bodySchemaId, "schema_id"),
+                    checkProperty(parser, creationDateTime, "creation_date_time"))
+                    .setAcquisitionProvenance(acquisitionProvenance)
+                    .setUserId(userId)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.openmhealth.schema.domain.omh.DataPointHeader;
+
+import java.io.IOException;
+
+
+/**
+ * This class serializes {@link DataPointHeader}s.
+ *
+ * @author agent
+ */
+public class DataPointHeaderSerializer extends SchemaObjectSerializer<DataPointHeader> {
+
+    private static final SerializedString ID_PROPERTY = new SerializedString("id");
+    private static final SerializedString CREATION_DATE_TIME_PROPERTY = new SerializedString("creation_date_time");
+    private static final SerializedString ACQUISITION_PROVENANCE_PROPERTY =
+            new SerializedString("acquisition_provenance");
+    private static final SerializedString USER_ID_PROPERTY = new SerializedString("user_id");
+    private static final SerializedString SCHEMA_ID_PROPERTY = new SerializedString("schema_id");
+
+    private static final DataPointAcquisitionProvenanceSerializer PROVENANCE_SERIALIZER =
+            new DataPointAcquisitionProvenanceSerializer();
+    private static final SchemaIdSerializer SCHEMA_ID_SERIALIZER = new SchemaIdSerializer();
+
+    public DataPointHeaderSerializer() {
+        super(DataPointHeader.class);
+    }
+
+    @Override
+    protected void serializeProperties(DataPointHeader header, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+
+        writeStringField(generator, ID_PROPERTY, header.getId());
+        writeObjectField(generator, CREATION_DATE_TIME_PROPERTY, header.getCreationDateTime(), provider);
+        writeObjectField(generator, ACQUISITION_PROVENANCE_PROPERTY, header.getAcquisitionProvenance(),
+                PROVENANCE_SERIALIZER, provider);
+        writeStringField(generator, USER_ID_PROPERTY, header.getUserId());
+
+        if (header.getBodySchemaId() != null) {
+            generator.writeFieldName(SCHEMA_ID_PROPERTY);
+            SCHEMA_ID_SERIALIZER.serialize(header.getBodySchemaId(), generator, provider);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.openmhealth.schema.domain.omh.DataPoint;
+
+import java.io.IOException;
+
+
+/**
+ * This class serializes {@link DataPoint}s. Their bodies are written using the serializers the provider has for
+ * their runtime types.
+ *
+ * @author agent
+ */
+@SuppressWarnings("rawtypes")
+public class DataPointSerializer extends SchemaObjectSerializer<DataPoint> {
+
+    private static final SerializedString HEADER_PROPERTY = new SerializedString("header");
+    private static final SerializedString BODY_PROPERTY = new SerializedString("body");
+
+    private static final DataPointHeaderSerializer HEADER_SERIALIZER = new DataPointHeaderSerializer();
+
+    public DataPointSerializer() {
+        super(DataPoint.class);
+    }
+
+    @Override
+    protected void serializeProperties(DataPoint dataPoint, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+
+        writeObjectField(generator, HEADER_PROPERTY, dataPoint.getHeader(), HEADER_SERIALIZER, provider);
+        writeObjectField(generator, BODY_PROPERTY, dataPoint.getBody(), provider);
+    }
+}
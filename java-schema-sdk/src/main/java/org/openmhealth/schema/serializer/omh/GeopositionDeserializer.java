@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.openmhealth.schema.domain.omh.Geoposition;
+import org.openmhealth.schema.domain.omh.LengthUnitValue;
+import org.openmhealth.schema.domain.omh.PlaneAngleUnitValue;
+import org.openmhealth.schema.domain.omh.PositioningSystem;
+import org.openmhealth.schema.domain.omh.SignalToNoiseRatioUnit;
+import org.openmhealth.schema.domain.omh.TypedUnitValue;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.openmhealth.schema.serializer.omh.UnitValueDeserializers.LENGTH_UNIT_VALUE;
+import static org.openmhealth.schema.serializer.omh.UnitValueDeserializers.PLANE_ANGLE_UNIT_VALUE;
+
+
+/**
+ * This class deserializes {@link Geoposition} measures using their builder.
+ *
+ * @author agent
+ */
+public class GeopositionDeserializer extends MeasureDeserializer<Geoposition> {
+
+    private static final UnitValueDeserializer<TypedUnitValue<SignalToNoiseRatioUnit>>
+            SATELLITE_SIGNAL_STRENGTH_DESERIALIZER =
+            TypedUnitValueDeserializer.forUnitType(SignalToNoiseRatioUnit.class);
+    private static final SchemaEnumValueDeserializer<PositioningSystem> POSITIONING_SYSTEM_DESERIALIZER =
+            new SchemaEnumValueDeserializer<>(PositioningSystem.class);
+
+    public GeopositionDeserializer() {
+        super(Geoposition.class);
+    }
+
+    @Override
+    protected Properties<Geoposition> newProperties() {
+        return new GeopositionProperties();
+    }
+
+    private static class GeopositionProperties extends MeasureProperties<Geoposition> {
+
+        private PlaneAngleUnitValue latitude;
+        private PlaneAngleUnitValue longitude;
+        private LengthUnitValue elevation;
+        private Integer numberOfSatellitesInView;
+        private Integer numberOfSatellitesInFix;
+        private List<TypedUnitValue<SignalToNoiseRatioUnit>> satelliteSignalStrengths;
+        private PositioningSystem positioningSystem;
+
+        @Override
+        protected boolean readMeasureProperty(String name, JsonParser parser, DeserializationContext context)
+                throws IOException {
+
+            switch (name) {
+                case "latitude":
+                    latitude = readValue(parser, context, PLANE_ANGLE_UNIT_VALUE);
+                    return true;
+
+                case "longitude":
+                    longitude = readValue(parser, context, PLANE_ANGLE_UNIT_VALUE);
+                    return true;
+
+                case "elevation":
+                    elevation = readValue(parser, context, LENGTH_UNIT_VALUE);
+                    return true;
+
+                case "number_of_satellites_in_view":
+                    numberOfSatellitesInView = readInteger(parser, context);
+                    return true;
+
+                case "number_of_satellites_in_fix":
+                    numberOfSatellitesInFix = readInteger(parser, context);
+                    return true;
+
+                case "satellite_signal_strengths":
+                    satelliteSignalStrengths = readList(parser, context, SATELLITE_SIGNAL_STRENGTH_DESERIALIZER);
+                    return true;
+
+                case "positioning_system":
+                    positioningSystem = readValue(parser, context, POSITIONING_SYSTEM_DESERIALIZER);
+                    return true;
+
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected Geoposition build(JsonParser parser) throws JsonMappingException {
+
+            Geoposition.Builder builder = new Geoposition.Builder(
+                    checkProperty(parser, latitude, "latitude"),
+                    checkProperty(parser, longitude, "longitude"),
+                    checkEffectiveTimeFrame(parser));
+
+            builder
+                    .setSatelliteSignalStrengths(satelliteSignalStrengths)
+                    .setPositioningSystem(positioningSystem);
+
+            if (elevation != null) {
+                builder.setElevation(elevation);
+            }
+
+            if (numberOfSatellitesInView != null) {
+                builder.setNumberOfSatellitesInView(numberOfSatellitesInView);
+            }
+
+            if (numberOfSatellitesInFix != null) {
+                builder.setNumberOfSatellitesInFix(numberOfSatellitesInFix);
+            }
+
+            return buildMeasure(builder);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.openmhealth.schema.domain.omh.Geoposition;
+import org.openmhealth.schema.domain.omh.SignalToNoiseRatioUnit;
+import org.openmhealth.schema.domain.omh.TypedUnitValue;
+
+import java.io.IOException;
+import java.util.List;
+
+
+/**
+ * This class serializes {@link Geoposition} measures.
+ *
+ * @author agent
+ */
+public class GeopositionSerializer extends MeasureSerializer<Geoposition> {
+
+    private static final SerializedString LATITUDE_PROPERTY = new SerializedString("latitude");
+    private static final SerializedString LONGITUDE_PROPERTY = new SerializedString("longitude");
+    private static final SerializedString ELEVATION_PROPERTY = new SerializedString("elevation");
+    private static final SerializedString NUMBER_OF_SATELLITES_IN_VIEW_PROPERTY =
+            new SerializedString("number_of_satellites_in_view");
+    private static final SerializedString NUMBER_OF_SATELLITES_IN_FIX_PROPERTY =
+            new SerializedString("number_of_satellites_in_fix");
+    private static final SerializedString SATELLITE_SIGNAL_STRENGTHS_PROPERTY =
+            new SerializedString("satellite_signal_strengths");
+    private static final SerializedString POSITIONING_SYSTEM_PROPERTY = new SerializedString("positioning_system");
+
+    public GeopositionSerializer() {
+        super(Geoposition.class);
+    }
+
+    @Override
+    protected void serializeMeasureProperties(Geoposition measure, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+
+        writeObjectField(generator, LATITUDE_PROPERTY, measure.getLatitude(), UNIT_VALUE_SERIALIZER, provider);
+        writeObjectField(generator, LONGITUDE_PROPERTY, measure.getLongitude(), UNIT_VALUE_SERIALIZER, provider);
+        writeObjectField(generator, ELEVATION_PROPERTY, measure.getElevation(), UNIT_VALUE_SERIALIZER, provider);
+        writeNumberField(generator, NUMBER_OF_SATELLITES_IN_VIEW_PROPERTY, measure.getNumberOfSatellitesInView());
+        writeNumberField(generator, NUMBER_OF_SATELLITES_IN_FIX_PROPERTY, measure.getNumberOfSatellitesInFix());
+        List<TypedUnitValue<SignalToNoiseRatioUnit>> satelliteSignalStrengths = measure.getSatelliteSignalStrengths();
+
+        if (satelliteSignalStrengths != null) {
+            generator.writeFieldName(SATELLITE_SIGNAL_STRENGTHS_PROPERTY);
+            generator.writeStartArray(satelliteSignalStrengths.size());
+
+            for (TypedUnitValue<SignalToNoiseRatioUnit> satelliteSignalStrength : satelliteSignalStrengths) {
+                if (satelliteSignalStrength == null) {
+                    generator.writeNull();
+                }
+                else if (UNIT_VALUE_SERIALIZER.handlesExactly(satelliteSignalStrength.getClass())) {
+                    UNIT_VALUE_SERIALIZER.serialize(satelliteSignalStrength, generator, provider);
+                }
+                else {
+                    provider.defaultSerializeValue(satelliteSignalStrength, generator);
+                }
+            }
+
+            generator.writeEndArray();
+        }
+        writeEnumField(generator, POSITIONING_SYSTEM_PROPERTY, measure.getPositioningSystem());
+    }
+}
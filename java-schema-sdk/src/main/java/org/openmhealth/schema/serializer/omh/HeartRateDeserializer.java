@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.openmhealth.schema.domain.omh.HeartRate;
+import org.openmhealth.schema.domain.omh.HeartRateUnit;
+import org.openmhealth.schema.domain.omh.TemporalRelationshipToPhysicalActivity;
+import org.openmhealth.schema.domain.omh.TemporalRelationshipToSleep;
+import org.openmhealth.schema.domain.omh.TypedUnitValue;
+
+import java.io.IOException;
+
+
+/**
+ * This class deserializes {@link HeartRate} measures using their builder.
+ *
+ * @author agent
+ */
+public class HeartRateDeserializer extends MeasureDeserializer<HeartRate> {
+
+    private static final UnitValueDeserializer<TypedUnitValue<HeartRateUnit>> HEART_RATE_DESERIALIZER =
+            TypedUnitValueDeserializer.forUnitType(HeartRateUnit.class);
+    private static final SchemaEnumValueDeserializer<TemporalRelationshipToPhysicalActivity>
+            TEMPORAL_RELATIONSHIP_TO_PHYSICAL_ACTIVITY_DESERIALIZER =
+            new SchemaEnumValueDeserializer<>(TemporalRelationshipToPhysicalActivity.class);
+    private static final SchemaEnumValueDeserializer<TemporalRelationshipToSleep>
+            TEMPORAL_RELATIONSHIP_TO_SLEEP_DESERIALIZER =
+            new SchemaEnumValueDeserializer<>(TemporalRelationshipToSleep.class);
+
+    public HeartRateDeserializer() {
+        super(HeartRate.class);
+    }
+
+    @Override
+    protected Properties<HeartRate> newProperties() {
+        return new HeartRateProperties();
+    }
+
+    private static class HeartRateProperties extends MeasureProperties<HeartRate> {
+
+        private TypedUnitValue<HeartRateUnit> heartRate;
+        private TemporalRelationshipToPhysicalActivity temporalRelationshipToPhysicalActivity;
+        private TemporalRelationshipToSleep temporalRelationshipToSleep;
+
+        @Override
+        protected boolean readMeasureProperty(String name, JsonParser parser, DeserializationContext context)
+                throws IOException {
+
+            switch (name) {
+                case "heart_rate":
+                    heartRate = readValue(parser, context, HEART_RATE_DESERIALIZER);
+                    return true;
+
+                case "temporal_relationship_to_physical_activity":
+                    temporalRelationshipToPhysicalActivity = readValue(parser, context,
+                            TEMPORAL_RELATIONSHIP_TO_PHYSICAL_ACTIVITY_DESERIALIZER);
+                    return true;
+
+                case "temporal_relationship_to_sleep":
+                    temporalRelationshipToSleep = readValue(parser, context,
+                            TEMPORAL_RELATIONSHIP_TO_SLEEP_DESERIALIZER);
+                    return true;
+
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected HeartRate build(JsonParser parser) throws JsonMappingException {
+
+            HeartRate.Builder builder = new HeartRate.Builder(checkProperty(parser, heartRate, "heart_rate"));
+
+            builder
+                    .setTemporalRelationshipToPhysicalActivity(temporalRelationshipToPhysicalActivity)
+                    .setTemporalRelationshipToSleep(temporalRelationshipToSleep);
+
+            return buildMeasure(builder);
+        }
+    }
+}
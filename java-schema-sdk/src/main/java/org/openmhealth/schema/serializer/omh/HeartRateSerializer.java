@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.openmhealth.schema.domain.omh.HeartRate;
+
+import java.io.IOException;
+
+
+/**
+ * This class serializes {@link HeartRate} measures.
+ *
+ * @author agent
+ */
+public class HeartRateSerializer extends MeasureSerializer<HeartRate> {
+
+    private static final SerializedString HEART_RATE_PROPERTY = new SerializedString("heart_rate");
+    private static final SerializedString TEMPORAL_RELATIONSHIP_TO_PHYSICAL_ACTIVITY_PROPERTY =
+            new SerializedString("temporal_relationship_to_physical_activity");
+    private static final SerializedString TEMPORAL_RELATIONSHIP_TO_SLEEP_PROPERTY =
+            new SerializedString("temporal_relationship_to_sleep");
+
+    public HeartRateSerializer() {
+        super(HeartRate.class);
+    }
+
+    @Override
+    protected void serializeMeasureProperties(HeartRate measure, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+
+        writeObjectField(generator, HEART_RATE_PROPERTY, measure.getHeartRate(), UNIT_VALUE_SERIALIZER, provider);
+        writeEnumField(generator, TEMPORAL_RELATIONSHIP_TO_PHYSICAL_ACTIVITY_PROPERTY,
+                measure.getTemporalRelationshipToPhysicalActivity());
+        writeEnumField(generator, TEMPORAL_RELATIONSHIP_TO_SLEEP_PROPERTY, measure.getTemporalRelationshipToSleep());
+    }
+}
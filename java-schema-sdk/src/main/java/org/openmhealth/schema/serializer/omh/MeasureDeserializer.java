@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.openmhealth.schema.domain.omh.DescriptiveStatistic;
+import org.openmhealth.schema.domain.omh.Measure;
+import org.openmhealth.schema.domain.omh.TimeFrame;
+
+import java.io.IOException;
+
+
+/**
+ * A base class for deserializers of {@link Measure} subclasses. The properties of subclasses read the properties
+ * common to all measures using this class, and build their measure using one of the {@code buildMeasure} methods,
+ * depending on the kind of builder the measure has.
+ *
+ * @author agent
+ */
+public abstract class MeasureDeserializer<M extends Measure> extends SchemaObjectDeserializer<M> {
+
+    private static final TimeFrameDeserializer TIME_FRAME_DESERIALIZER = new TimeFrameDeserializer();
+    private static final SchemaEnumValueDeserializer<DescriptiveStatistic> DESCRIPTIVE_STATISTIC_DESERIALIZER =
+            new SchemaEnumValueDeserializer<>(DescriptiveStatistic.class);
+
+    protected MeasureDeserializer(Class<M> type) {
+        super(type);
+    }
+
+    /**
+     * The properties of a measure that is being read.
+     */
+    protected abstract static class MeasureProperties<M extends Measure> extends Properties<M> {
+
+        protected TimeFrame effectiveTimeFrame;
+        protected DescriptiveStatistic descriptiveStatistic;
+        protected String userNotes;
+
+        @Override
+        protected boolean read(String name, JsonParser parser, DeserializationContext context) throws IOException {
+
+            switch (name) {
+                case "effective_time_frame":
+                    effectiveTimeFrame = readValue(parser, context, TIME_FRAME_DESERIALIZER);
+                    return true;
+
+                case "descriptive_statistic":
+                    descriptiveStatistic = readValue(parser, context, DESCRIPTIVE_STATISTIC_DESERIALIZER);
+                    return true;
+
+                case "user_notes":
+                    userNotes = readString(parser, context);
+                    return true;
+
+                default:
+                    return readMeasureProperty(name, parser, context);
+            }
+        }
+
+        /**
+         * Reads a property specific to the measure, with the parser positioned at its value.
+         *
+         * @return true if the property has been read, or false if it's an additional property
+         */
+        protected abstract boolean readMeasureProperty(String name, JsonParser parser, DeserializationContext context)
+                throws IOException;
+
+        /**
+         * @return the effective time frame, for builders that require one
+         */
+        protected TimeFrame checkEffectiveTimeFrame(JsonParser parser) throws JsonMappingException {
+            return checkProperty(parser, effectiveTimeFrame, "effective_time_frame");
+        }
+
+        /*
+         * The following methods set the common properties that have been read on a builder and build the measure.
+         * Properties that haven't been read aren't set, since some builders don't support all of them.
+         */
+
+        protected <B extends Measure.Builder<M, B>> M buildMeasure(B builder) {
+
+            if (effectiveTimeFrame != null) {
+                builder.setEffectiveTimeFrame(effectiveTimeFrame);
+            }
+
+            if (descriptiveStatistic != null) {
+                builder.setDescriptiveStatistic(descriptiveStatistic);
+            }
+
+            if (userNotes != null) {
+                builder.setUserNotes(userNotes);
+            }
+
+            return builder.build();
+        }
+
+        protected <B extends Measure.EffectiveTimeFrameBuilder<M, B>> M buildMeasure(B builder) {
+
+            if (descriptiveStatistic != null) {
+                builder.setDescriptiveStatistic(descriptiveStatistic);
+            }
+
+            if (userNotes != null) {
+                builder.setUserNotes(userNotes);
+            }
+
+            return builder.build();
+        }
+
+        protected <B extends Measure.DateTimeEffectiveTimeFrameBuilder<M, B>> M buildMeasure(B builder) {
+
+            if (descriptiveStatistic != null) {
+                builder.setDescriptiveStatistic(descriptiveStatistic);
+            }
+
+            if (userNotes != null) {
+                builder.setUserNotes(userNotes);
+            }
+
+            return builder.build();
+        }
+
+        protected <B extends Measure.TimeIntervalEffectiveTimeFrameBuilder<M, B>> M buildMeasure(B builder) {
+
+            if (descriptiveStatistic != null) {
+                builder.setDescriptiveStatistic(descriptiveStatistic);
+            }
+
+            if (userNotes != null) {
+                builder.setUserNotes(userNotes);
+            }
+
+            return builder.build();
+        }
+    }
+}
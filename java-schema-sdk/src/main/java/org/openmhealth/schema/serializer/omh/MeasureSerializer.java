@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.openmhealth.schema.domain.omh.Measure;
+
+import java.io.IOException;
+
+
+/**
+ * A base class for serializers of {@link Measure} subclasses. This class writes the properties common to all
+ * measures, and subclasses write the properties of their measure after them.
+ *
+ * @author agent
+ */
+public abstract class MeasureSerializer<M extends Measure> extends SchemaObjectSerializer<M> {
+
+    private static final SerializedString EFFECTIVE_TIME_FRAME_PROPERTY = new SerializedString("effective_time_frame");
+    private static final SerializedString DESCRIPTIVE_STATISTIC_PROPERTY =
+            new SerializedString("descriptive_statistic");
+    private static final SerializedString USER_NOTES_PROPERTY = new SerializedString("user_notes");
+
+    private static final TimeFrameSerializer TIME_FRAME_SERIALIZER = new TimeFrameSerializer();
+
+    protected static final UnitValueSerializer UNIT_VALUE_SERIALIZER = new UnitValueSerializer();
+
+    protected MeasureSerializer(Class<M> type) {
+        super(type);
+    }
+
+    @Override
+    protected void serializeProperties(M measure, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+
+        writeObjectField(generator, EFFECTIVE_TIME_FRAME_PROPERTY, measure.getEffectiveTimeFrame(),
+                TIME_FRAME_SERIALIZER, provider);
+        writeEnumField(generator, DESCRIPTIVE_STATISTIC_PROPERTY, measure.getDescriptiveStatistic());
+        writeStringField(generator, USER_NOTES_PROPERTY, measure.getUserNotes());
+
+        serializeMeasureProperties(measure, generator, provider);
+    }
+
+    /**
+     * Writes the properties specific to a measure.
+     */
+    protected abstract void serializeMeasureProperties(M measure, JsonGenerator generator, SerializerProvider provider)
+            throws IOException;
+}
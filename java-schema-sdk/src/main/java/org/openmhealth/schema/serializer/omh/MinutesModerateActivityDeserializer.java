@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.openmhealth.schema.domain.omh.DurationUnitValue;
+import org.openmhealth.schema.domain.omh.MinutesModerateActivity;
+
+import java.io.IOException;
+
+import static org.openmhealth.schema.serializer.omh.UnitValueDeserializers.DURATION_UNIT_VALUE;
+
+
+/**
+ * This class deserializes {@link MinutesModerateActivity} measures using their builder.
+ *
+ * @author agent
+ */
+public class MinutesModerateActivityDeserializer extends MeasureDeserializer<MinutesModerateActivity> {
+
+    public MinutesModerateActivityDeserializer() {
+        super(MinutesModerateActivity.class);
+    }
+
+    @Override
+    protected Properties<MinutesModerateActivity> newProperties() {
+        return new MinutesModerateActivityProperties();
+    }
+
+    private static class MinutesModerateActivityProperties extends MeasureProperties<MinutesModerateActivity> {
+
+        private DurationUnitValue minutesModerateActivity;
+
+        @Override
+        protected boolean readMeasureProperty(String name, JsonParser parser, DeserializationContext context)
+                throws IOException {
+
+            switch (name) {
+                case "minutes_moderate_activity":
+                    minutesModerateActivity = readValue(parser, context, DURATION_UNIT_VALUE);
+                    return true;
+
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected MinutesModerateActivity build(JsonParser parser) throws JsonMappingException {
+
+            MinutesModerateActivity.Builder builder = new MinutesModerateActivity.Builder(
+                    checkProperty(parser, minutesModerateActivity, "minutes_moderate_activity"));
+
+            return buildMeasure(builder);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.Serializers;
+import org.openmhealth.schema.domain.omh.AmbientTemperature;
+import org.openmhealth.schema.domain.omh.AreaUnitValue;
+import org.openmhealth.schema.domain.omh.BloodGlucose;
+import org.openmhealth.schema.domain.omh.BloodPressure;
+import org.openmhealth.schema.domain.omh.BodyFatPercentage;
+import org.openmhealth.schema.domain.omh.BodyHeight;
+import org.openmhealth.schema.domain.omh.BodyMassIndex1;
+import org.openmhealth.schema.domain.omh.BodyMassIndex2;
+import org.openmhealth.schema.domain.omh.BodyTemperature;
+import org.openmhealth.schema.domain.omh.BodyWeight;
+import org.openmhealth.schema.domain.omh.CaloriesBurned1;
+import org.openmhealth.schema.domain.omh.CaloriesBurned2;
+import org.openmhealth.schema.domain.omh.DataPointAcquisitionProvenance;
+import org.openmhealth.schema.domain.omh.DataPointHeader;
+import org.openmhealth.schema.domain.omh.DiastolicBloodPressure;
+import org.openmhealth.schema.domain.omh.DurationUnitValue;
+import org.openmhealth.schema.domain.omh.Geoposition;
+import org.openmhealth.schema.domain.omh.HeartRate;
+import org.openmhealth.schema.domain.omh.KcalUnitValue;
+import org.openmhealth.schema.domain.omh.LengthUnitValue;
+import org.openmhealth.schema.domain.omh.MassUnitValue;
+import org.openmhealth.schema.domain.omh.MinutesModerateActivity;
+import org.openmhealth.schema.domain.omh.OxygenSaturation;
+import org.openmhealth.schema.domain.omh.PhysicalActivity;
+import org.openmhealth.schema.domain.omh.PlaneAngleUnitValue;
+import org.openmhealth.schema.domain.omh.RespiratoryRate;
+import org.openmhealth.schema.domain.omh.SchemaId;
+import org.openmhealth.schema.domain.omh.SleepDuration1;
+import org.openmhealth.schema.domain.omh.SleepDuration2;
+import org.openmhealth.schema.domain.omh.SleepEpisode;
+import org.openmhealth.schema.domain.omh.Speed;
+import org.openmhealth.schema.domain.omh.SpeedUnitValue;
+import org.openmhealth.schema.domain.omh.StepCount1;
+import org.openmhealth.schema.domain.omh.StepCount2;
+import org.openmhealth.schema.domain.omh.SystolicBloodPressure;
+import org.openmhealth.schema.domain.omh.TemperatureUnitValue;
+import org.openmhealth.schema.domain.omh.TimeFrame;
+import org.openmhealth.schema.domain.omh.TimeInterval;
+import org.openmhealth.schema.domain.omh.UnitValue;
+import org.openmhealth.schema.domain.omh.VolumeUnitValue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.openmhealth.schema.serializer.omh.UnitValueDeserializers.AREA_UNIT_VALUE;
+import static org.openmhealth.schema.serializer.omh.UnitValueDeserializers.DIASTOLIC_BLOOD_PRESSURE;
+import static org.openmhealth.schema.serializer.omh.UnitValueDeserializers.DURATION_UNIT_VALUE;
+import static org.openmhealth.schema.serializer.omh.UnitValueDeserializers.KCAL_UNIT_VALUE;
+import static org.openmhealth.schema.serializer.omh.UnitValueDeserializers.LENGTH_UNIT_VALUE;
+import static org.openmhealth.schema.serializer.omh.UnitValueDeserializers.MASS_UNIT_VALUE;
+import static org.openmhealth.schema.serializer.omh.UnitValueDeserializers.PLANE_ANGLE_UNIT_VALUE;
+import static org.openmhealth.schema.serializer.omh.UnitValueDeserializers.SPEED_UNIT_VALUE;
+import static org.openmhealth.schema.serializer.omh.UnitValueDeserializers.SYSTOLIC_BLOOD_PRESSURE;
+import static org.openmhealth.schema.serializer.omh.UnitValueDeserializers.TEMPERATURE_UNIT_VALUE;
+import static org.openmhealth.schema.serializer.omh.UnitValueDeserializers.UNIT_VALUE;
+import static org.openmhealth.schema.serializer.omh.UnitValueDeserializers.VOLUME_UNIT_VALUE;
+
+
+/**
+ * A Jackson module that serializes and deserializes the data point, header, time frame, unit value and measure
+ * classes of this package using hand-written serializers and deserializers instead of the bean serializers and
+ * deserializers Jackson builds using reflection. The serializers write pre-encoded property names and produce the
+ * same documents as the bean serializers. The deserializers read documents the bean deserializers accept, but build
+ * objects using the public constructors and builders of the classes, so they fail on documents that are missing
+ * required properties or contain unknown enumeration values, instead of creating incomplete objects.
+ * <p>
+ * Serializers are only used for the exact classes they're written for, so that user subclasses keep their own
+ * properties. {@link org.openmhealth.schema.domain.omh.FreeFormMeasure free-form measures} and data points are only
+ * serialized, since their types can't be determined from a document.
+ * <p>
+ * The module is not registered by the object mappers created by
+ * {@link org.openmhealth.schema.configuration.JacksonConfiguration}, and should be registered after the modules
+ * they register, e.g.
+ * <pre>{@code
+ * ObjectMapper objectMapper = JacksonConfiguration.newObjectMapper().registerModule(new OmhSchemaModule());
+ * }</pre>
+ *
+ * @author agent
+ */
+public class OmhSchemaModule extends SimpleModule {
+
+    private final Map<Class<?>, JsonSerializer<?>> exactSerializers = new HashMap<>();
+
+
+    public OmhSchemaModule() {
+        super("omhSchemaModule");
+
+        addExactSerializer(new DataPointSerializer());
+        addExactSerializer(new DataPointHeaderSerializer());
+        addExactSerializer(new DataPointAcquisitionProvenanceSerializer());
+        addExactSerializer(new SchemaIdSerializer());
+        addExactSerializer(new TimeFrameSerializer());
+        addExactSerializer(new TimeIntervalSerializer());
+        addExactSerializer(new AmbientTemperatureSerializer());
+        addExactSerializer(new BloodGlucoseSerializer());
+        addExactSerializer(new BloodPressureSerializer());
+        addExactSerializer(new BodyFatPercentageSerializer());
+        addExactSerializer(new BodyHeightSerializer());
+        addExactSerializer(new BodyMassIndex1Serializer());
+        addExactSerializer(new BodyMassIndex2Serializer());
+        addExactSerializer(new BodyTemperatureSerializer());
+        addExactSerializer(new BodyWeightSerializer());
+        addExactSerializer(new CaloriesBurned1Serializer());
+        addExactSerializer(new CaloriesBurned2Serializer());
+        addExactSerializer(new FreeFormMeasureSerializer());
+        addExactSerializer(new GeopositionSerializer());
+        addExactSerializer(new HeartRateSerializer());
+        addExactSerializer(new MinutesModerateActivitySerializer());
+        addExactSerializer(new OxygenSaturationSerializer());
+        addExactSerializer(new PhysicalActivitySerializer());
+        addExactSerializer(new RespiratoryRateSerializer());
+        addExactSerializer(new SleepDuration1Serializer());
+        addExactSerializer(new SleepDuration2Serializer());
+        addExactSerializer(new SleepEpisodeSerializer());
+        addExactSerializer(new SpeedSerializer());
+        addExactSerializer(new StepCount1Serializer());
+        addExactSerializer(new StepCount2Serializer());
+
+        UnitValueSerializer unitValueSerializer = new UnitValueSerializer();
+
+        for (Class<? extends UnitValue> unitValueType : UnitValueSerializer.SERIALIZABLE_TYPES) {
+            exactSerializers.put(unitValueType, unitValueSerializer);
+        }
+
+        addDeserializer(DataPointHeader.class, new DataPointHeaderDeserializer());
+        addDeserializer(DataPointAcquisitionProvenance.class, new DataPointAcquisitionProvenanceDeserializer());
+        addDeserializer(SchemaId.class, new SchemaIdDeserializer());
+        addDeserializer(TimeFrame.class, new TimeFrameDeserializer());
+        addDeserializer(TimeInterval.class, new TimeIntervalDeserializer());
+        addDeserializer(AmbientTemperature.class, new AmbientTemperatureDeserializer());
+        addDeserializer(BloodGlucose.class, new BloodGlucoseDeserializer());
+        addDeserializer(BloodPressure.class, new BloodPressureDeserializer());
+        addDeserializer(BodyFatPercentage.class, new BodyFatPercentageDeserializer());
+        addDeserializer(BodyHeight.class, new BodyHeightDeserializer());
+        addDeserializer(BodyMassIndex1.class, new BodyMassIndex1Deserializer());
+        addDeserializer(BodyMassIndex2.class, new BodyMassIndex2Deserializer());
+        addDeserializer(BodyTemperature.class, new BodyTemperatureDeserializer());
+        addDeserializer(BodyWeight.class, new BodyWeightDeserializer());
+        addDeserializer(CaloriesBurned1.class, new CaloriesBurned1Deserializer());
+        addDeserializer(CaloriesBurned2.class, new CaloriesBurned2Deserializer());
+        addDeserializer(Geoposition.class, new GeopositionDeserializer());
+        addDeserializer(HeartRate.class, new HeartRateDeserializer());
+        addDeserializer(MinutesModerateActivity.class, new MinutesModerateActivityDeserializer());
+        addDeserializer(OxygenSaturation.class, new OxygenSaturationDeserializer());
+        addDeserializer(PhysicalActivity.class, new PhysicalActivityDeserializer());
+        addDeserializer(RespiratoryRate.class, new RespiratoryRateDeserializer());
+        addDeserializer(SleepDuration1.class, new SleepDuration1Deserializer());
+        addDeserializer(SleepDuration2.class, new SleepDuration2Deserializer());
+        addDeserializer(SleepEpisode.class, new SleepEpisodeDeserializer());
+        addDeserializer(Speed.class, new SpeedDeserializer());
+        addDeserializer(StepCount1.class, new StepCount1Deserializer());
+        addDeserializer(StepCount2.class, new StepCount2Deserializer());
+
+        addDeserializer(UnitValue.class, UNIT_VALUE);
+        addDeserializer(AreaUnitValue.class, AREA_UNIT_VALUE);
+        addDeserializer(DiastolicBloodPressure.class, DIASTOLIC_BLOOD_PRESSURE);
+        addDeserializer(DurationUnitValue.class, DURATION_UNIT_VALUE);
+        addDeserializer(KcalUnitValue.class, KCAL_UNIT_VALUE);
+        addDeserializer(LengthUnitValue.class, LENGTH_UNIT_VALUE);
+        addDeserializer(MassUnitValue.class, MASS_UNIT_VALUE);
+        addDeserializer(PlaneAngleUnitValue.class, PLANE_ANGLE_UNIT_VALUE);
+        addDeserializer(SpeedUnitValue.class, SPEED_UNIT_VALUE);
+        addDeserializer(SystolicBloodPressure.class, SYSTOLIC_BLOOD_PRESSURE);
+        addDeserializer(TemperatureUnitValue.class, TEMPERATURE_UNIT_VALUE);
+        addDeserializer(VolumeUnitValue.class, VOLUME_UNIT_VALUE);
+    }
+
+    private void addExactSerializer(JsonSerializer<?> serializer) {
+        exactSerializers.put(serializer.handledType(), serializer);
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+
+        context.addSerializers(new ExactTypeSerializers(exactSerializers));
+    }
+
+
+    /**
+     * Serializers that are only found for the exact types they are registered for, unlike
+     * {@link com.fasterxml.jackson.databind.module.SimpleSerializers}, which would also use them for subclasses.
+     */
+    private static class ExactTypeSerializers extends Serializers.Base {
+
+        private final Map<Class<?>, JsonSerializer<?>> serializers;
+
+        ExactTypeSerializers(Map<Class<?>, JsonSerializer<?>> serializers) {
+            this.serializers = new HashMap<>(serializers);
+        }
+
+        @Override
+        public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type,
+                BeanDescription beanDescription) {
+
+            return serializers.get(type.getRawClass());
+        }
+    }
+}
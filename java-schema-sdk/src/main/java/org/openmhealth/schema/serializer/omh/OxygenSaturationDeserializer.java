@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.openmhealth.schema.domain.omh.OxygenFlowRateUnit;
+import org.openmhealth.schema.domain.omh.OxygenSaturation;
+import org.openmhealth.schema.domain.omh.OxygenSaturation.MeasurementMethod;
+import org.openmhealth.schema.domain.omh.OxygenSaturation.MeasurementSystem;
+import org.openmhealth.schema.domain.omh.OxygenSaturation.SupplementalOxygenAdministrationMode;
+import org.openmhealth.schema.domain.omh.PercentUnit;
+import org.openmhealth.schema.domain.omh.TypedUnitValue;
+
+import java.io.IOException;
+
+
+/**
+ * This class deserializes {@link OxygenSaturation} measures using their builder.
+ *
+ * @author agent
+ */
+public class OxygenSaturationDeserializer extends MeasureDeserializer<OxygenSaturation> {
+
+    private static final UnitValueDeserializer<TypedUnitValue<PercentUnit>> OXYGEN_SATURATION_DESERIALIZER =
+            TypedUnitValueDeserializer.forUnitType(PercentUnit.class);
+    private static final SchemaEnumValueDeserializer<MeasurementSystem> SYSTEM_DESERIALIZER =
+            new SchemaEnumValueDeserializer<>(MeasurementSystem.class);
+    private static final SchemaEnumValueDeserializer<MeasurementMethod> MEASUREMENT_METHOD_DESERIALIZER =
+            new SchemaEnumValueDeserializer<>(MeasurementMethod.class);
+    private static final UnitValueDeserializer<TypedUnitValue<OxygenFlowRateUnit>>
+            SUPPLEMENTAL_OXYGEN_FLOW_RATE_DESERIALIZER =
+            TypedUnitValueDeserializer.forUnitType(OxygenFlowRateUnit.class);
+    private static final SchemaEnumValueDeserializer<SupplementalOxygenAdministrationMode>
+            OXYGEN_THERAPY_MODE_OF_ADMINISTRATION_DESERIALIZER =
+            new SchemaEnumValueDeserializer<>(SupplementalOxygenAdministrationMode.class);
+
+    public OxygenSaturationDeserializer() {
+        super(OxygenSaturation.class);
+    }
+
+    @Override
+    protected Properties<OxygenSaturation> newProperties() {
+        return new OxygenSaturationProperties();
+    }
+
+    private static class OxygenSaturationProperties extends MeasureProperties<OxygenSaturation> {
+
+        private TypedUnitValue<PercentUnit> oxygenSaturation;
+        private MeasurementSystem measurementSystem;
+        private MeasurementMethod measurementMethod;
+        private TypedUnitValue<OxygenFlowRateUnit> supplementalOxygenFlowRate;
+        private SupplementalOxygenAdministrationMode supplementalOxygenAdministrationMode;
+
+        @Override
+        protected boolean readMeasureProperty(String name, JsonParser parser, DeserializationContext context)
+                throws IOException {
+
+            switch (name) {
+                case "oxygen_saturation":
+                    oxygenSaturation = readValue(parser, context, OXYGEN_SATURATION_DESERIALIZER);
+                    return true;
+
+                case "system":
+                    measurementSystem = readValue(parser, context, SYSTEM_DESERIALIZER);
+                    return true;
+
+                case "measurement_method":
+                    measurementMethod = readValue(parser, context, MEASUREMENT_METHOD_DESERIALIZER);
+                    return true;
+
+                case "supplemental_oxygen_flow_rate":
+                    supplementalOxygenFlowRate = readValue(parser, context, SUPPLEMENTAL_OXYGEN_FLOW_RATE_DESERIALIZER);
+                    return true;
+
+                case "oxygen_therapy_mode_of_administration":
+                    supplementalOxygenAdministrationMode = readValue(parser, context,
+                            OXYGEN_THERAPY_MODE_OF_ADMINISTRATION_DESERIALIZER);
+                    return true;
+
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected OxygenSaturation build(JsonParser parser) throws JsonMappingException {
+
+            OxygenSaturation.Builder builder = new OxygenSaturation.Builder(
+                    checkProperty(parser, oxygenSaturation, "oxygen_saturation"));
+
+            builder
+                    .setMeasurementSystem(measurementSystem)
+                    .setMeasurementMethod(measurementMethod)
+                    .setSupplementalOxygenFlowRate(supplementalOxygenFlowRate)
+                    .setSupplementalOxygenAdministrationMode(supplementalOxygenAdministrationMode);
+
+            return buildMeasure(builder);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.openmhealth.schema.domain.omh.OxygenSaturation;
+
+import java.io.IOException;
+
+
+/**
+ * This class serializes {@link OxygenSaturation} measures.
+ *
+ * @author agent
+ */
+public class OxygenSaturationSerializer extends MeasureSerializer<OxygenSaturation> {
+
+    private static final SerializedString OXYGEN_SATURATION_PROPERTY = new SerializedString("oxygen_saturation");
+    private static final SerializedString MEASUREMENT_METHOD_PROPERTY = new SerializedString("measurement_method");
+    private static final SerializedString SUPPLEMENTAL_OXYGEN_FLOW_RATE_PROPERTY =
+            new SerializedString("supplemental_oxygen_flow_rate");
+    private static final SerializedString SYSTEM_PROPERTY = new SerializedString("system");
+    private static final SerializedString OXYGEN_THERAPY_MODE_OF_ADMINISTRATION_PROPERTY =
+            new SerializedString("oxygen_therapy_mode_of_administration");
+
+    public OxygenSaturationSerializer() {
+        super(OxygenSaturation.class);
+    }
+
+    @Override
+    protected void serializeMeasureProperties(OxygenSaturation measure, JsonGenerator generator,
+            SerializerProvider provider) throws IOException {
+
+        writeObjectField(generator, OXYGEN_SATURATION_PROPERTY, measure.getOxygenSaturation(), UNIT_VALUE_SERIALIZER,
+                provider);
+        writeEnumField(generator, MEASUREMENT_METHOD_PROPERTY, measure.getMeasurementMethod());
+        writeObjectField(generator, SUPPLEMENTAL_OXYGEN_FLOW_RATE_PROPERTY, measure.getSupplementalOxygenFlowRate(),
+                UNIT_VALUE_SERIALIZER, provider);
+        writeEnumField(generator, SYSTEM_PROPERTY, measure.getMeasurementSystem());
+        writeEnumField(generator, OXYGEN_THERAPY_MODE_OF_ADMINISTRATION_PROPERTY,
+                measure.getSupplementalOxygenAdministrationMode());
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.openmhealth.schema.domain.omh.KcalUnitValue;
+import org.openmhealth.schema.domain.omh.LengthUnitValue;
+import org.openmhealth.schema.domain.omh.PhysicalActivity;
+import org.openmhealth.schema.domain.omh.PhysicalActivity.SelfReportedIntensity;
+
+import java.io.IOException;
+
+import static org.openmhealth.schema.serializer.omh.UnitValueDeserializers.KCAL_UNIT_VALUE;
+import static org.openmhealth.schema.serializer.omh.UnitValueDeserializers.LENGTH_UNIT_VALUE;
+
+
+/**
+ * This class deserializes {@link PhysicalActivity} measures using their builder.
+ *
+ * @author agent
+ */
+public class PhysicalActivityDeserializer extends MeasureDeserializer<PhysicalActivity> {
+
+    private static final SchemaEnumValueDeserializer<SelfReportedIntensity> REPORTED_ACTIVITY_INTENSITY_DESERIALIZER =
+            new SchemaEnumValueDeserializer<>(SelfReportedIntensity.class);
+
+    public PhysicalActivityDeserializer() {
+        super(PhysicalActivity.class);
+    }
+
+    @Override
+    protected Properties<PhysicalActivity> newProperties() {
+        return new PhysicalActivityProperties();
+    }
+
+    private static class PhysicalActivityProperties extends MeasureProperties<PhysicalActivity> {
+
+        private String activityName;
+        private LengthUnitValue distance;
+        private SelfReportedIntensity reportedActivityIntensity;
+        private KcalUnitValue caloriesBurned;
+
+        @Override
+        protected boolean readMeasureProperty(String name, JsonParser parser, DeserializationContext context)
+                throws IOException {
+
+            switch (name) {
+                case "activity_name":
+                    activityName = readString(parser, context);
+                    return true;
+
+                case "distance":
+                    distance = readValue(parser, context, LENGTH_UNIT_VALUE);
+                    return true;
+
+                case "reported_activity_intensity":
+                    reportedActivityIntensity = readValue(parser, context, REPORTED_ACTIVITY_INTENSITY_DESERIALIZER);
+                    return true;
+
+                case "kcal_burned":
+                    caloriesBurned = readValue(parser, context, KCAL_UNIT_VALUE);
+                    return true;
+
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected PhysicalActivity build(JsonParser parser) throws JsonMappingException {
+
+            PhysicalActivity.Builder builder = new PhysicalActivity.Builder(
+                    checkProperty(parser, activityName, "activity_name"));
+
+            builder
+                    .setDistance(distance)
+                    .setReportedActivityIntensity(reportedActivityIntensity)
+                    .setCaloriesBurned(caloriesBurned);
+
+            return buildMeasure(builder);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.openmhealth.schema.domain.omh.PhysicalActivity;
+
+import java.io.IOException;
+
+
+/**
+ * This class serializes {@link PhysicalActivity} measures.
+ *
+ * @author agent
+ */
+public class PhysicalActivitySerializer extends MeasureSerializer<PhysicalActivity> {
+
+    private static final SerializedString ACTIVITY_NAME_PROPERTY = new SerializedString("activity_name");
+    private static final SerializedString DISTANCE_PROPERTY = new SerializedString("distance");
+    private static final SerializedString REPORTED_ACTIVITY_INTENSITY_PROPERTY =
+            new SerializedString("reported_activity_intensity");
+    private static final SerializedString KCAL_BURNED_PROPERTY = new SerializedString("kcal_burned");
+
+    public PhysicalActivitySerializer() {
+        super(PhysicalActivity.class);
+    }
+
+    @Override
+    protected void serializeMeasureProperties(PhysicalActivity measure, JsonGenerator generator,
+            SerializerProvider provider) throws IOException {
+
+        writeStringField(generator, ACTIVITY_NAME_PROPERTY, measure.getActivityName());
+        writeObjectField(generator, DISTANCE_PROPERTY, measure.getDistance(), UNIT_VALUE_SERIALIZER, provider);
+        writeEnumField(generator, REPORTED_ACTIVITY_INTENSITY_PROPERTY, measure.getReportedActivityIntensity());
+        writeObjectField(generator, KCAL_BURNED_PROPERTY, measure.getCaloriesBurned(), UNIT_VALUE_SERIALIZER, provider);
+    }
+}
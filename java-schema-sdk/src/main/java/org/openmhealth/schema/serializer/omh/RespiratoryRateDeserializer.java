@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.openmhealth.schema.domain.omh.RespiratoryRate;
+import org.openmhealth.schema.domain.omh.RespiratoryRate.RespirationUnit;
+import org.openmhealth.schema.domain.omh.TemporalRelationshipToPhysicalActivity;
+import org.openmhealth.schema.domain.omh.TypedUnitValue;
+
+import java.io.IOException;
+
+
+/**
+ * This class deserializes {@link RespiratoryRate} measures using their builder.
+ *
+ * @author agent
+ */
+public class RespiratoryRateDeserializer extends MeasureDeserializer<RespiratoryRate> {
+
+    private static final UnitValueDeserializer<TypedUnitValue<RespirationUnit>> RESPIRATORY_RATE_DESERIALIZER =
+            TypedUnitValueDeserializer.forUnitType(RespirationUnit.class);
+    private static final SchemaEnumValueDeserializer<TemporalRelationshipToPhysicalActivity>
+            TEMPORAL_RELATIONSHIP_TO_PHYSICAL_ACTIVITY_DESERIALIZER =
+            new SchemaEnumValueDeserializer<>(TemporalRelationshipToPhysicalActivity.class);
+
+    public RespiratoryRateDeserializer() {
+        super(RespiratoryRate.class);
+    }
+
+    @Override
+    protected Properties<RespiratoryRate> newProperties() {
+        return new RespiratoryRateProperties();
+    }
+
+    private static class RespiratoryRateProperties extends MeasureProperties<RespiratoryRate> {
+
+        private TypedUnitValue<RespirationUnit> respiratoryRate;
+        private TemporalRelationshipToPhysicalActivity temporalRelationshipToPhysicalActivity;
+
+        @Override
+        protected boolean readMeasureProperty(String name, JsonParser parser, DeserializationContext context)
+                throws IOException {
+
+            switch (name) {
+                case "respiratory_rate":
+                    respiratoryRate = readValue(parser, context, RESPIRATORY_RATE_DESERIALIZER);
+                    return true;
+
+                case "temporal_relationship_to_physical_activity":
+                    temporalRelationshipToPhysicalActivity = readValue(parser, context,
+                            TEMPORAL_RELATIONSHIP_TO_PHYSICAL_ACTIVITY_DESERIALIZER);
+                    return true;
+
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected RespiratoryRate build(JsonParser parser) throws JsonMappingException {
+
+            RespiratoryRate.Builder builder = new RespiratoryRate.Builder(
+                    checkProperty(parser, respiratoryRate, "respiratory_rate"));
+
+            builder
+                    .setTemporalRelationshipToPhysicalActivity(temporalRelationshipToPhysicalActivity);
+
+            return buildMeasure(builder);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.openmhealth.schema.domain.omh.SchemaEnumValue;
+
+
+/**
+ * A Jackson module that deserializes every {@link SchemaEnumValue schema enumeration} using a
+ * {@link SchemaEnumValueDeserializer} instead of the factory method of the enumeration, so that enumeration values
+ * are matched on the text buffer of the parser without creating strings. Like the factory methods, the deserializers
+ * deserialize values that don't match a constant as null.
+ *
+ * @author agent
+ */
+public class SchemaEnumModule extends SimpleModule {
+
+    public SchemaEnumModule() {
+        super("schemaEnumModule");
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+
+        context.addDeserializers(new SchemaEnumValueDeserializers());
+    }
+
+
+    private static class SchemaEnumValueDeserializers extends Deserializers.Base {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public JsonDeserializer<?> findEnumDeserializer(Class<?> type, DeserializationConfig config,
+                BeanDescription beanDescription) {
+
+            if (!SchemaEnumValue.class.isAssignableFrom(type)) {
+                return null;
+            }
+
+            return new SchemaEnumValueDeserializer(type, true);
+        }
+    }
+}
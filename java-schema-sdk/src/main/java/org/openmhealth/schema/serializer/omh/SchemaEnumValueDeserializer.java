@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import org.openmhealth.schema.domain.omh.SchemaEnumLookup;
+import org.openmhealth.schema.domain.omh.SchemaEnumValue;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+
+/**
+ * This class deserializes enumerations from their schema values. Unlike the factory methods of the enumerations,
+ * which return null, it fails on values that don't match a constant, unless it's created to allow unknown values. It
+ * matches values on the text buffer of the parser using a {@link SchemaEnumLookup}, so it doesn't create a string for
+ * each value it deserializes.
+ *
+ * @author agent
+ */
+public class SchemaEnumValueDeserializer<E extends Enum<E> & SchemaEnumValue> extends StdDeserializer<E> {
+
+    private final SchemaEnumLookup<E> constantsBySchemaValue;
+    private final boolean unknownValueAllowed;
+
+
+    public SchemaEnumValueDeserializer(Class<E> enumType) {
+        this(enumType, false);
+    }
+
+    /**
+     * @param enumType the enumeration type
+     * @param unknownValueAllowed true if values that don't match a constant should be deserialized as null, like the
+     * factory methods of the enumerations do, false if they should fail
+     */
+    public SchemaEnumValueDeserializer(Class<E> enumType, boolean unknownValueAllowed) {
+        super(enumType);
+
+        checkNotNull(enumType, "An enumeration type hasn't been specified.");
+
+        this.constantsBySchemaValue = SchemaEnumLookup.forType(enumType);
+        this.unknownValueAllowed = unknownValueAllowed;
+    }
+
+    /**
+     * @return the constant with the given schema value, or null if there isn't one
+     */
+    @Nullable
+    public E findBySchemaValue(String schemaValue) {
+        return constantsBySchemaValue.get(schemaValue);
+    }
+
+    @Override
+    public boolean isCachable() {
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+
+        if (!parser.hasToken(JsonToken.VALUE_STRING)) {
+            if (unknownValueAllowed) {
+                // like Jackson, pass the factory method the text of a scalar, and null after skipping a structure
+                String schemaValue = parser.hasToken(JsonToken.FIELD_NAME)
+                        ? parser.getCurrentName()
+                        : parser.getValueAsString();
+
+                parser.skipChildren();
+
+                return constantsBySchemaValue.get(schemaValue);
+            }
+
+            return (E) context.handleUnexpectedToken(handledType(), parser);
+        }
+
+        E constant = constantsBySchemaValue.get(parser.getTextCharacters(), parser.getTextOffset(),
+                parser.getTextLength());
+
+        if (constant == null && !unknownValueAllowed) {
+            return (E) context.handleWeirdStringValue(handledType(), parser.getText(), "value not one of %s",
+                    constantsBySchemaValue.getSchemaValues());
+        }
+
+        return constant;
+    }
+}
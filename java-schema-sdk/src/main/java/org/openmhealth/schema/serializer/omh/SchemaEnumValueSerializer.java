@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.openmhealth.schema.domain.omh.SchemaEnumValue;
+
+import java.io.IOException;
+
+
+/**
+ * This class serializes enumerations as their schema values.
+ *
+ * @author agent
+ */
+public class SchemaEnumValueSerializer extends StdSerializer<SchemaEnumValue> {
+
+    public SchemaEnumValueSerializer() {
+        super(SchemaEnumValue.class);
+    }
+
+    @Override
+    public void serialize(SchemaEnumValue value, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+
+        generator.writeString(value.getSchemaValue());
+    }
+}
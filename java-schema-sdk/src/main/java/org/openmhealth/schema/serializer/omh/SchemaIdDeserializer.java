@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import org.openmhealth.schema.domain.omh.SchemaId;
+
+import java.io.IOException;
+
+
+/**
+ * This class deserializes {@link SchemaId}s using {@link SchemaId#of(String, String, String)}, which interns them.
+ *
+ * @author agent
+ */
+public class SchemaIdDeserializer extends StdDeserializer<SchemaId> {
+
+    public SchemaIdDeserializer() {
+        super(SchemaId.class);
+    }
+
+    @Override
+    public boolean isCachable() {
+        return true;
+    }
+
+    @Override
+    public SchemaId deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+
+        JsonToken token = parser.getCurrentToken();
+
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        }
+        else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return (SchemaId) context.handleUnexpectedToken(SchemaId.class, parser);
+        }
+
+        String namespace = null;
+        String name = null;
+        String version = null;
+
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+
+            String propertyName = parser.getCurrentName();
+            parser.nextToken();
+
+            switch (propertyName) {
+                case "namespace":
+                    namespace = _parseString(parser, context);
+                    break;
+
+                case "name":
+                    name = _parseString(parser, context);
+                    break;
+
+                case "version":
+                    version = _parseString(parser, context);
+                    break;
+
+                default:
+                    context.handleUnknownProperty(parser, this, SchemaId.class, propertyName);
+            }
+        }
+
+        try {
+            return SchemaId.of(namespace, name, version);
+        }
+        catch (NullPointerException | IllegalArgumentException e) {
+            throw JsonMappingException.from(parser, "A schema identifier can't be built.", e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.openmhealth.schema.domain.omh.SchemaId;
+
+import java.io.IOException;
+
+
+/**
+ * This class serializes {@link SchemaId}s.
+ *
+ * @author agent
+ */
+public class SchemaIdSerializer extends StdSerializer<SchemaId> {
+
+    private static final SerializedString NAMESPACE_PROPERTY = new SerializedString("namespace");
+    private static final SerializedString NAME_PROPERTY = new SerializedString("name");
+    private static final SerializedString VERSION_PROPERTY = new SerializedString("version");
+
+    public SchemaIdSerializer() {
+        super(SchemaId.class);
+    }
+
+    @Override
+    public void serialize(SchemaId schemaId, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+
+        generator.writeStartObject(schemaId);
+
+        generator.writeFieldName(NAMESPACE_PROPERTY);
+        generator.writeString(schemaId.getNamespace());
+        generator.writeFieldName(NAME_PROPERTY);
+        generator.writeString(schemaId.getName());
+        generator.writeFieldName(VERSION_PROPERTY);
+        generator.writeString(schemaId.getVersion().toString());
+
+        generator.writeEndObject();
+    }
+}
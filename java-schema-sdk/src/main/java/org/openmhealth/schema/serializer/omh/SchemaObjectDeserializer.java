@@ -0,0 +1,275 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import org.openmhealth.schema.domain.omh.AdditionalPropertySupport;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * A base class for deserializers of schema classes. This class reads the properties of an object one token at a
+ * time, hands the properties it knows about to a {@link Properties} instance created for the object, and sets the
+ * remaining properties as additional properties once the object has been built, the same way as the bean
+ * deserializer would.
+ * <p>
+ * Objects are built using the public constructors and builders of the schema classes, so a document that doesn't
+ * satisfy their preconditions, e.g. one that is missing a required property, fails with a
+ * {@link JsonMappingException}.
+ *
+ * @author agent
+ */
+public abstract class SchemaObjectDeserializer<T extends AdditionalPropertySupport> extends StdDeserializer<T> {
+
+    protected SchemaObjectDeserializer(Class<?> type) {
+        super(type);
+    }
+
+    /**
+     * The properties of an object that is being read.
+     */
+    protected abstract static class Properties<T> {
+
+        /**
+         * Reads a property, with the parser positioned at its value.
+         *
+         * @return true if the property has been read, or false if it's an additional property
+         */
+        protected abstract boolean read(String name, JsonParser parser, DeserializationContext context)
+                throws IOException;
+
+        /**
+         * @return the object with the properties that have been read
+         */
+        protected abstract T build(JsonParser parser) throws JsonMappingException;
+    }
+
+    /**
+     * @return the properties of a new object
+     */
+    protected abstract Properties<T> newProperties();
+
+    @Override
+    public boolean isCachable() {
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+
+        JsonToken token = parser.getCurrentToken();
+
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        }
+        else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return (T) context.handleUnexpectedToken(handledType(), parser);
+        }
+
+        Properties<T> properties = newProperties();
+        List<String> additionalPropertyNames = null;
+        List<Object> additionalPropertyValues = null;
+
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+
+            String name = parser.getCurrentName();
+            parser.nextToken();
+
+            if (!properties.read(name, parser, context)) {
+                if (additionalPropertyNames == null) {
+                    additionalPropertyNames = new ArrayList<>();
+                    additionalPropertyValues = new ArrayList<>();
+                }
+
+                additionalPropertyNames.add(name);
+                additionalPropertyValues.add(readValue(parser, context, Object.class));
+            }
+        }
+
+        T object;
+
+        try {
+            object = properties.build(parser);
+        }
+        catch (NullPointerException | IllegalArgumentException | UnsupportedOperationException e) {
+            throw JsonMappingException.from(parser, "A " + handledType().getSimpleName() + " can't be built.", e);
+        }
+
+        if (additionalPropertyNames != null) {
+            for (int i = 0; i < additionalPropertyNames.size(); i++) {
+                object.setAdditionalProperty(additionalPropertyNames.get(i), additionalPropertyValues.get(i));
+            }
+        }
+
+        return object;
+    }
+
+    /**
+     * @return the value of a required property
+     * @throws JsonMappingException if the property hasn't been read
+     */
+    protected static <V> V checkProperty(JsonParser parser, @Nullable V value, String name)
+            throws JsonMappingException {
+
+        if (value == null) {
+            throw JsonMappingException.from(parser, "The required property '" + name + "' hasn't been read.");
+        }
+
+        return value;
+    }
+
+    /*
+     * The following methods read the common token types directly, and leave anything else to the deserializers
+     * configured in the context so that coercions work the same way as they do for beans.
+     */
+
+    @Nullable
+    protected static String readString(JsonParser parser, DeserializationContext context) throws IOException {
+
+        if (parser.hasToken(JsonToken.VALUE_STRING)) {
+            return parser.getText();
+        }
+
+        return readValue(parser, context, String.class);
+    }
+
+    @Nullable
+    protected static BigDecimal readDecimal(JsonParser parser, DeserializationContext context) throws IOException {
+
+        if (parser.hasToken(JsonToken.VALUE_NUMBER_INT) || parser.hasToken(JsonToken.VALUE_NUMBER_FLOAT)) {
+            return parser.getDecimalValue();
+        }
+
+        return readValue(parser, context, BigDecimal.class);
+    }
+
+    @Nullable
+    protected static Integer readInteger(JsonParser parser, DeserializationContext context) throws IOException {
+
+        if (parser.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+            return parser.getIntValue();
+        }
+
+        return readValue(parser, context, Integer.class);
+    }
+
+    @Nullable
+    protected static Boolean readBoolean(JsonParser parser, DeserializationContext context) throws IOException {
+
+        if (parser.hasToken(JsonToken.VALUE_TRUE)) {
+            return Boolean.TRUE;
+        }
+
+        if (parser.hasToken(JsonToken.VALUE_FALSE)) {
+            return Boolean.FALSE;
+        }
+
+        return readValue(parser, context, Boolean.class);
+    }
+
+    /**
+     * Reads a number the same way as a property of type {@link Number} is read, i.e. integers as integers, longs or
+     * big integers depending on their size, and decimals as big decimals or doubles depending on
+     * {@link DeserializationFeature#USE_BIG_DECIMAL_FOR_FLOATS}.
+     */
+    @Nullable
+    protected static Number readNumber(JsonParser parser, DeserializationContext context) throws IOException {
+
+        if (parser.hasToken(JsonToken.VALUE_NUMBER_INT)
+                && !context.isEnabled(DeserializationFeature.USE_BIG_INTEGER_FOR_INTS)
+                && !context.isEnabled(DeserializationFeature.USE_LONG_FOR_INTS)) {
+            return parser.getNumberValue();
+        }
+
+        if (parser.hasToken(JsonToken.VALUE_NUMBER_FLOAT)) {
+            return context.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                    ? parser.getDecimalValue()
+                    : parser.getNumberValue();
+        }
+
+        return readValue(parser, context, Number.class);
+    }
+
+    /**
+     * Reads a value using a known deserializer, which skips the deserializer lookup.
+     */
+    @Nullable
+    protected static <V> V readValue(JsonParser parser, DeserializationContext context,
+            JsonDeserializer<V> deserializer) throws IOException {
+
+        if (parser.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+
+        return deserializer.deserialize(parser, context);
+    }
+
+    /**
+     * Reads a value using the deserializer the context has for its type. Unlike
+     * {@link DeserializationContext#readValue(JsonParser, Class)}, this method doesn't look for a type deserializer,
+     * which is expensive to do for each value.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    protected static <V> V readValue(JsonParser parser, DeserializationContext context, Class<V> type)
+            throws IOException {
+
+        if (parser.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+
+        return (V) context.findContextualValueDeserializer(context.constructType(type), null)
+                .deserialize(parser, context);
+    }
+
+    /**
+     * Reads an array using a known deserializer for its elements.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    protected static <V> List<V> readList(JsonParser parser, DeserializationContext context,
+            JsonDeserializer<V> elementDeserializer) throws IOException {
+
+        if (parser.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+
+        if (!parser.isExpectedStartArrayToken()) {
+            return (List<V>) context.handleUnexpectedToken(List.class, parser);
+        }
+
+        List<V> list = new ArrayList<>();
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readValue(parser, context, elementDeserializer));
+        }
+
+        return list;
+    }
+}
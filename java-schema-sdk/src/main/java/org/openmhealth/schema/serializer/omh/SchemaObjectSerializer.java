@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.openmhealth.schema.domain.omh.AdditionalPropertySupport;
+import org.openmhealth.schema.domain.omh.SchemaEnumValue;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Map;
+
+
+/**
+ * A base class for serializers of schema classes. Subclasses write the properties of a value using pre-encoded
+ * property names, and this class writes the additional properties of the value after them, the same way as the
+ * bean serializer would. Properties with null values are omitted.
+ *
+ * @author agent
+ */
+public abstract class SchemaObjectSerializer<T extends AdditionalPropertySupport> extends StdSerializer<T> {
+
+    protected SchemaObjectSerializer(Class<T> type) {
+        super(type);
+    }
+
+    @Override
+    public void serialize(T value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+
+        generator.writeStartObject(value);
+
+        serializeProperties(value, generator, provider);
+
+        for (Map.Entry<String, Object> additionalProperty : value.peekAdditionalProperties().entrySet()) {
+            generator.writeFieldName(additionalProperty.getKey());
+            provider.defaultSerializeValue(additionalProperty.getValue(), generator);
+        }
+
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes the properties of a value, excluding its additional properties.
+     */
+    protected abstract void serializeProperties(T value, JsonGenerator generator, SerializerProvider provider)
+            throws IOException;
+
+    protected static void writeStringField(JsonGenerator generator, SerializableString name, @Nullable String value)
+            throws IOException {
+
+        if (value != null) {
+            generator.writeFieldName(name);
+            generator.writeString(value);
+        }
+    }
+
+    protected static void writeNumberField(JsonGenerator generator, SerializableString name,
+            @Nullable BigDecimal value) throws IOException {
+
+        if (value != null) {
+            generator.writeFieldName(name);
+            generator.writeNumber(value);
+        }
+    }
+
+    protected static void writeNumberField(JsonGenerator generator, SerializableString name, @Nullable Integer value)
+            throws IOException {
+
+        if (value != null) {
+            generator.writeFieldName(name);
+            generator.writeNumber(value);
+        }
+    }
+
+    protected static void writeBooleanField(JsonGenerator generator, SerializableString name, @Nullable Boolean value)
+            throws IOException {
+
+        if (value != null) {
+            generator.writeFieldName(name);
+            generator.writeBoolean(value);
+        }
+    }
+
+    protected static void writeEnumField(JsonGenerator generator, SerializableString name,
+            @Nullable SchemaEnumValue value) throws IOException {
+
+        if (value != null) {
+            generator.writeFieldName(name);
+            generator.writeString(value.getSchemaValue());
+        }
+    }
+
+    /**
+     * Writes a property using the serializer the provider has for the runtime type of its value.
+     */
+    protected static void writeObjectField(JsonGenerator generator, SerializableString name, @Nullable Object value,
+            SerializerProvider provider) throws IOException {
+
+        if (value != null) {
+            generator.writeFieldName(name);
+            provider.defaultSerializeValue(value, generator);
+        }
+    }
+
+    /**
+     * Writes a property using a known serializer, which skips the serializer lookup. Values of types the serializer
+     * doesn't handle exactly, e.g. of user subclasses, are written using the serializer the provider has for them.
+     */
+    protected static <V> void writeObjectField(JsonGenerator generator, SerializableString name, @Nullable V value,
+            SchemaObjectSerializer<? super V> serializer, SerializerProvider provider) throws IOException {
+
+        if (value != null) {
+            generator.writeFieldName(name);
+
+            if (serializer.handlesExactly(value.getClass())) {
+                serializer.serialize(value, generator, provider);
+            }
+            else {
+                provider.defaultSerializeValue(value, generator);
+            }
+        }
+    }
+
+    /**
+     * @return true if this serializer writes all the properties of the given type, false otherwise
+     */
+    public boolean handlesExactly(Class<?> type) {
+        return type == handledType();
+    }
+}
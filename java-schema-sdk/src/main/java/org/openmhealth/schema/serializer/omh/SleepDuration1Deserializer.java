@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.openmhealth.schema.domain.omh.DurationUnitValue;
+import org.openmhealth.schema.domain.omh.SleepDuration1;
+
+import java.io.IOException;
+
+import static org.openmhealth.schema.serializer.omh.UnitValueDeserializers.DURATION_UNIT_VALUE;
+
+
+/**
+ * This class deserializes {@link SleepDuration1} measures using their builder.
+ *
+ * @author agent
+ */
+public class SleepDuration1Deserializer extends MeasureDeserializer<SleepDuration1> {
+
+    public SleepDuration1Deserializer() {
+        super(SleepDuration1.class);
+    }
+
+    @Override
+    protected Properties<SleepDuration1> newProperties() {
+        return new SleepDuration1Properties();
+    }
+
+    private static class SleepDuration1Properties extends MeasureProperties<SleepDuration1> {
+
+        private DurationUnitValue sleepDuration;
+
+        @Override
+        protected boolean readMeasureProperty(String name, JsonParser parser, DeserializationContext context)
+                throws IOException {
+
+            switch (name) {
+                case "sleep_duration":
+                    sleepDuration = readValue(parser, context, DURATION_UNIT_VALUE);
+                    return true;
+
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected SleepDuration1 build(JsonParser parser) throws JsonMappingException {
+
+            SleepDuration1.Builder builder = new SleepDuration1.Builder(
+                    checkProperty(parser, sleepDuration, "sleep_duration"));
+
+            return buildMeasure(builder);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.openmhealth.schema.domain.omh.DescriptiveStatisticDenominator;
+import org.openmhealth.schema.domain.omh.DurationUnitValue;
+import org.openmhealth.schema.domain.omh.SleepDuration2;
+
+import java.io.IOException;
+
+import static org.openmhealth.schema.serializer.omh.UnitValueDeserializers.DURATION_UNIT_VALUE;
+
+
+/**
+ * This class deserializes {@link SleepDuration2} measures using their builder.
+ *
+ * @author agent
+ */
+public class SleepDuration2Deserializer extends MeasureDeserializer<SleepDuration2> {
+
+    private static final SchemaEnumValueDeserializer<DescriptiveStatisticDenominator>
+            DESCRIPTIVE_STATISTIC_DENOMINATOR_DESERIALIZER =
+            new SchemaEnumValueDeserializer<>(DescriptiveStatisticDenominator.class);
+
+    public SleepDuration2Deserializer() {
+        super(SleepDuration2.class);
+    }
+
+    @Override
+    protected Properties<SleepDuration2> newProperties() {
+        return new SleepDuration2Properties();
+    }
+
+    private static class SleepDuration2Properties extends MeasureProperties<SleepDuration2> {
+
+        private DurationUnitValue sleepDuration;
+        private DescriptiveStatisticDenominator descriptiveStatisticDenominator;
+
+        @Override
+        protected boolean readMeasureProperty(String name, JsonParser parser, DeserializationContext context)
+                throws IOException {
+
+            switch (name) {
+                case "sleep_duration":
+                    sleepDuration = readValue(parser, context, DURATION_UNIT_VALUE);
+                    return true;
+
+                case "descriptive_statistic_denominator":
+                    descriptiveStatisticDenominator = readValue(parser, context,
+                            DESCRIPTIVE_STATISTIC_DENOMINATOR_DESERIALIZER);
+                    return true;
+
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected SleepDuration2 build(JsonParser parser) throws JsonMappingException {
+
+            SleepDuration2.Builder builder = new SleepDuration2.Builder(
+                    checkProperty(parser, sleepDuration, "sleep_duration"),
+                    checkEffectiveTimeFrame(parser));
+
+            builder
+                    .setDescriptiveStatisticDenominator(descriptiveStatisticDenominator);
+
+            return buildMeasure(builder);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.openmhealth.schema.domain.omh.DurationUnitValue;
+import org.openmhealth.schema.domain.omh.PercentUnit;
+import org.openmhealth.schema.domain.omh.SleepEpisode;
+import org.openmhealth.schema.domain.omh.TypedUnitValue;
+
+import java.io.IOException;
+
+import static org.openmhealth.schema.serializer.omh.UnitValueDeserializers.DURATION_UNIT_VALUE;
+
+
+/**
+ * This class deserializes {@link SleepEpisode} measures using their builder.
+ *
+ * @author agent
+ */
+public class SleepEpisodeDeserializer extends MeasureDeserializer<SleepEpisode> {
+
+    private static final UnitValueDeserializer<TypedUnitValue<PercentUnit>>
+            SLEEP_MAINTENANCE_EFFICIENCY_PERCENTAGE_DESERIALIZER =
+            TypedUnitValueDeserializer.forUnitType(PercentUnit.class);
+
+    public SleepEpisodeDeserializer() {
+        super(SleepEpisode.class);
+    }
+
+    @Override
+    protected Properties<SleepEpisode> newProperties() {
+        return new SleepEpisodeProperties();
+    }
+
+    private static class SleepEpisodeProperties extends MeasureProperties<SleepEpisode> {
+
+        private DurationUnitValue latencyToSleepOnset;
+        private DurationUnitValue latencyToArising;
+        private DurationUnitValue totalSleepTime;
+        private Integer numberOfAwakenings;
+        private Boolean mainSleep;
+        private TypedUnitValue<PercentUnit> sleepMaintenanceEfficiencyPercentage;
+
+        @Override
+        protected boolean readMeasureProperty(String name, JsonParser parser, DeserializationContext context)
+                throws IOException {
+
+            switch (name) {
+                case "latency_to_sleep_onset":
+                    latencyToSleepOnset = readValue(parser, context, DURATION_UNIT_VALUE);
+                    return true;
+
+                case "latency_to_arising":
+                    latencyToArising = readValue(parser, context, DURATION_UNIT_VALUE);
+                    return true;
+
+                case "total_sleep_time":
+                    totalSleepTime = readValue(parser, context, DURATION_UNIT_VALUE);
+                    return true;
+
+                case "number_of_awakenings":
+                    numberOfAwakenings = readInteger(parser, context);
+                    return true;
+
+                case "is_main_sleep":
+                    mainSleep = readBoolean(parser, context);
+                    return true;
+
+                case "sleep_maintenance_efficiency_percentage":
+                    sleepMaintenanceEfficiencyPercentage = readValue(parser, context,
+                            SLEEP_MAINTENANCE_EFFICIENCY_PERCENTAGE_DESERIALIZER);
+                    return true;
+
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected SleepEpisode build(JsonParser parser) throws JsonMappingException {
+
+            SleepEpisode.Builder builder = new SleepEpisode.Builder(checkEffectiveTimeFrame(parser));
+
+            builder
+                    .setLatencyToSleepOnset(latencyToSleepOnset)
+                    .setLatencyToArising(latencyToArising)
+                    .setTotalSleepTime(totalSleepTime)
+                    .setNumberOfAwakenings(numberOfAwakenings)
+                    .setMainSleep(mainSleep)
+                    .setSleepMaintenanceEfficiencyPercentage(sleepMaintenanceEfficiencyPercentage);
+
+            return buildMeasure(builder);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.openmhealth.schema.domain.omh.SleepEpisode;
+
+import java.io.IOException;
+
+
+/**
+ * This class serializes {@link SleepEpisode} measures.
+ *
+ * @author agent
+ */
+public class SleepEpisodeSerializer extends MeasureSerializer<SleepEpisode> {
+
+    private static final SerializedString LATENCY_TO_SLEEP_ONSET_PROPERTY =
+            new SerializedString("latency_to_sleep_onset");
+    private static final SerializedString LATENCY_TO_ARISING_PROPERTY = new SerializedString("latency_to_arising");
+    private static final SerializedString TOTAL_SLEEP_TIME_PROPERTY = new SerializedString("total_sleep_time");
+    private static final SerializedString NUMBER_OF_AWAKENINGS_PROPERTY = new SerializedString("number_of_awakenings");
+    private static final SerializedString SLEEP_MAINTENANCE_EFFICIENCY_PERCENTAGE_PROPERTY =
+            new SerializedString("sleep_maintenance_efficiency_percentage");
+    private static final SerializedString IS_MAIN_SLEEP_PROPERTY = new SerializedString("is_main_sleep");
+
+    public SleepEpisodeSerializer() {
+        super(SleepEpisode.class);
+    }
+
+    @Override
+    protected void serializeMeasureProperties(SleepEpisode measure, JsonGenerator generator,
+            SerializerProvider provider) throws IOException {
+
+        writeObjectField(generator, LATENCY_TO_SLEEP_ONSET_PROPERTY, measure.getLatencyToSleepOnset(),
+                UNIT_VALUE_SERIALIZER, provider);
+        writeObjectField(generator, LATENCY_TO_ARISING_PROPERTY, measure.getLatencyToArising(), UNIT_VALUE_SERIALIZER,
+                provider);
+        writeObjectField(generator, TOTAL_SLEEP_TIME_PROPERTY, measure.getTotalSleepTime(), UNIT_VALUE_SERIALIZER,
+                provider);
+        writeNumberField(generator, NUMBER_OF_AWAKENINGS_PROPERTY, measure.getNumberOfAwakenings());
+        writeObjectField(generator, SLEEP_MAINTENANCE_EFFICIENCY_PERCENTAGE_PROPERTY,
+                measure.getSleepMaintenanceEfficiencyPercentage(), UNIT_VALUE_SERIALIZER, provider);
+        writeBooleanField(generator, IS_MAIN_SLEEP_PROPERTY, measure.getMainSleep());
+    }
+}
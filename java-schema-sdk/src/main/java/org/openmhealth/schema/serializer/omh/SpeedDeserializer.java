@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.openmhealth.schema.domain.omh.Speed;
+import org.openmhealth.schema.domain.omh.SpeedUnitValue;
+
+import java.io.IOException;
+
+import static org.openmhealth.schema.serializer.omh.UnitValueDeserializers.SPEED_UNIT_VALUE;
+
+
+/**
+ * This class deserializes {@link Speed} measures using their builder.
+ *
+ * @author agent
+ */
+public class SpeedDeserializer extends MeasureDeserializer<Speed> {
+
+    public SpeedDeserializer() {
+        super(Speed.class);
+    }
+
+    @Override
+    protected Properties<Speed> newProperties() {
+        return new SpeedProperties();
+    }
+
+    private static class SpeedProperties extends MeasureProperties<Speed> {
+
+        private SpeedUnitValue speed;
+
+        @Override
+        protected boolean readMeasureProperty(String name, JsonParser parser, DeserializationContext context)
+                throws IOException {
+
+            switch (name) {
+                case "speed":
+                    speed = readValue(parser, context, SPEED_UNIT_VALUE);
+                    return true;
+
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected Speed build(JsonParser parser) throws JsonMappingException {
+
+            Speed.Builder builder = new Speed.Builder(
+                    checkProperty(parser, speed, "speed"),
+                    checkEffectiveTimeFrame(parser));
+
+            return buildMeasure(builder);
+        }
+    }
+}
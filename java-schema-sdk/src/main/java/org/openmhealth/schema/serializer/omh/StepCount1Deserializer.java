@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.openmhealth.schema.domain.omh.StepCount1;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+
+/**
+ * This class deserializes {@link StepCount1} measures using their builder.
+ *
+ * @author agent
+ */
+public class StepCount1Deserializer extends MeasureDeserializer<StepCount1> {
+
+    public StepCount1Deserializer() {
+        super(StepCount1.class);
+    }
+
+    @Override
+    protected Properties<StepCount1> newProperties() {
+        return new StepCount1Properties();
+    }
+
+    private static class StepCount1Properties extends MeasureProperties<StepCount1> {
+
+        private BigDecimal stepCount;
+
+        @Override
+        protected boolean readMeasureProperty(String name, JsonParser parser, DeserializationContext context)
+                throws IOException {
+
+            switch (name) {
+                case "step_count":
+                    stepCount = readDecimal(parser, context);
+                    return true;
+
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected StepCount1 build(JsonParser parser) throws JsonMappingException {
+
+            StepCount1.Builder builder = new StepCount1.Builder(checkProperty(parser, stepCount, "step_count"));
+
+            return buildMeasure(builder);
+        }
+    }
+}
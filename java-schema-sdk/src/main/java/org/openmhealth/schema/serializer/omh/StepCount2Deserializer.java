@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.openmhealth.schema.domain.omh.DescriptiveStatisticDenominator;
+import org.openmhealth.schema.domain.omh.StepCount2;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+
+/**
+ * This class deserializes {@link StepCount2} measures using their builder.
+ *
+ * @author agent
+ */
+public class StepCount2Deserializer extends MeasureDeserializer<StepCount2> {
+
+    private static final SchemaEnumValueDeserializer<DescriptiveStatisticDenominator>
+            DESCRIPTIVE_STATISTIC_DENOMINATOR_DESERIALIZER =
+            new SchemaEnumValueDeserializer<>(DescriptiveStatisticDenominator.class);
+
+    public StepCount2Deserializer() {
+        super(StepCount2.class);
+    }
+
+    @Override
+    protected Properties<StepCount2> newProperties() {
+        return new StepCount2Properties();
+    }
+
+    private static class StepCount2Properties extends MeasureProperties<StepCount2> {
+
+        private BigDecimal stepCount;
+        private DescriptiveStatisticDenominator descriptiveStatisticDenominator;
+
+        @Override
+        protected boolean readMeasureProperty(String name, JsonParser parser, DeserializationContext context)
+                throws IOException {
+
+            switch (name) {
+                case "step_count":
+                    stepCount = readDecimal(parser, context);
+                    return true;
+
+                case "descriptive_statistic_denominator":
+                    descriptiveStatisticDenominator = readValue(parser, context,
+                            DESCRIPTIVE_STATISTIC_DENOMINATOR_DESERIALIZER);
+                    return true;
+
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected StepCount2 build(JsonParser parser) throws JsonMappingException {
+
+            StepCount2.Builder builder = new StepCount2.Builder(
+                    checkProperty(parser, stepCount, "step_count"),
+                    checkEffectiveTimeFrame(parser));
+
+            builder
+                    .setDescriptiveStatisticDenominator(descriptiveStatisticDenominator);
+
+            return buildMeasure(builder);
+        }
+    }
+}
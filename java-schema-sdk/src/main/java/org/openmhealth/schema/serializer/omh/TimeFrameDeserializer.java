@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.openmhealth.schema.domain.omh.TimeFrame;
+import org.openmhealth.schema.domain.omh.TimeInterval;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+
+
+/**
+ * This class deserializes {@link TimeFrame}s. A time frame must have a time interval, a date time, or both.
+ *
+ * @author agent
+ */
+public class TimeFrameDeserializer extends SchemaObjectDeserializer<TimeFrame> {
+
+    private static final TimeIntervalDeserializer TIME_INTERVAL_DESERIALIZER = new TimeIntervalDeserializer();
+
+    public TimeFrameDeserializer() {
+        super(TimeFrame.class);
+    }
+
+    @Override
+    protected Properties<TimeFrame> newProperties() {
+        return new TimeFrameProperties();
+    }
+
+    private static class TimeFrameProperties extends Properties<TimeFrame> {
+
+        private TimeInterval timeInterval;
+        private OffsetDateTime dateTime;
+
+        @Override
+        protected boolean read(String name, JsonParser parser, DeserializationContext context) throws IOException {
+
+            switch (name) {
+                case "time_interval":
+                    timeInterval = readValue(parser, context, TIME_INTERVAL_DESERIALIZER);
+                    return true;
+
+                case "date_time":
+                    dateTime = readValue(parser, context, OffsetDateTime.class);
+                    return true;
+
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected TimeFrame build(JsonParser parser) throws JsonMappingException {
+
+            if (timeInterval == null) {
+                return new TimeFrame(checkProperty(parser, dateTime, "date_time"));
+            }
+
+            TimeFrame timeFrame = new TimeFrame(timeInterval);
+            timeFrame.setDateTime(dateTime);
+
+            return timeFrame;
+        }
+    }
+}
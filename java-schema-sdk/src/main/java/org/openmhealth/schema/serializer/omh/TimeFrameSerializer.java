@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.openmhealth.schema.domain.omh.TimeFrame;
+
+import java.io.IOException;
+
+
+/**
+ * This class serializes {@link TimeFrame}s.
+ *
+ * @author agent
+ */
+public class TimeFrameSerializer extends SchemaObjectSerializer<TimeFrame> {
+
+    private static final SerializedString TIME_INTERVAL_PROPERTY = new SerializedString("time_interval");
+    private static final SerializedString DATE_TIME_PROPERTY = new SerializedString("date_time");
+
+    private static final TimeIntervalSerializer TIME_INTERVAL_SERIALIZER = new TimeIntervalSerializer();
+
+    public TimeFrameSerializer() {
+        super(TimeFrame.class);
+    }
+
+    @Override
+    protected void serializeProperties(TimeFrame timeFrame, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+
+        writeObjectField(generator, TIME_INTERVAL_PROPERTY, timeFrame.getTimeInterval(), TIME_INTERVAL_SERIALIZER,
+                provider);
+        writeObjectField(generator, DATE_TIME_PROPERTY, timeFrame.getDateTime(), provider);
+    }
+}
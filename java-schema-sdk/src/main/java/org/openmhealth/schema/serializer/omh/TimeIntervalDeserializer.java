@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.openmhealth.schema.domain.omh.DurationUnitValue;
+import org.openmhealth.schema.domain.omh.PartOfDay;
+import org.openmhealth.schema.domain.omh.TimeInterval;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+import static org.openmhealth.schema.serializer.omh.UnitValueDeserializers.DURATION_UNIT_VALUE;
+
+
+/**
+ * This class deserializes {@link TimeInterval}s using their factory methods. A time interval must consist of
+ * exactly one of the pairs of properties those methods accept.
+ *
+ * @author agent
+ */
+public class TimeIntervalDeserializer extends SchemaObjectDeserializer<TimeInterval> {
+
+    private static final SchemaEnumValueDeserializer<PartOfDay> PART_OF_DAY_DESERIALIZER =
+            new SchemaEnumValueDeserializer<>(PartOfDay.class);
+
+    public TimeIntervalDeserializer() {
+        super(TimeInterval.class);
+    }
+
+    @Override
+    protected Properties<TimeInterval> newProperties() {
+        return new TimeIntervalProperties();
+    }
+
+    private static class TimeIntervalProperties extends Properties<TimeInterval> {
+
+        private OffsetDateTime startDateTime;
+        private OffsetDateTime endDateTime;
+        private DurationUnitValue duration;
+        private LocalDate date;
+        private PartOfDay partOfDay;
+
+        @Override
+        protected boolean read(String name, JsonParser parser, DeserializationContext context) throws IOException {
+
+            switch (name) {
+                case "start_date_time":
+                    startDateTime = readValue(parser, context, OffsetDateTime.class);
+                    return true;
+
+                case "end_date_time":
+                    endDateTime = readValue(parser, context, OffsetDateTime.class);
+                    return true;
+
+                case "duration":
+                    duration = readValue(parser, context, DURATION_UNIT_VALUE);
+                    return true;
+
+                case "date":
+                    date = readValue(parser, context, LocalDate.class);
+                    return true;
+
+                case "part_of_day":
+                    partOfDay = readValue(parser, context, PART_OF_DAY_DESERIALIZER);
+                    return true;
+
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected TimeInterval build(JsonParser parser) throws JsonMappingException {
+
+            if (date == null && partOfDay == null) {
+                if (duration == null) {
+                    if (startDateTime != null && endDateTime != null) {
+                        return TimeInterval.ofStartDateTimeAndEndDateTime(startDateTime, endDateTime);
+                    }
+                }
+                else if (startDateTime != null && endDateTime == null) {
+                    return TimeInterval.ofStartDateTimeAndDuration(startDateTime, duration);
+                }
+                else if (startDateTime == null && endDateTime != null) {
+                    return TimeInterval.ofEndDateTimeAndDuration(endDateTime, duration);
+                }
+            }
+            else if (date != null && partOfDay != null && startDateTime == null && endDateTime == null
+                    && duration == null) {
+                return TimeInterval.ofDateAndPartOfDay(date, partOfDay);
+            }
+
+            throw JsonMappingException.from(parser, "A time interval must consist of a start and end date time, "
+                    + "a start date time and duration, an end date time and duration, or a date and part of day.");
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.openmhealth.schema.domain.omh.TimeInterval;
+
+import java.io.IOException;
+
+
+/**
+ * This class serializes {@link TimeInterval}s.
+ *
+ * @author agent
+ */
+public class TimeIntervalSerializer extends SchemaObjectSerializer<TimeInterval> {
+
+    private static final SerializedString START_DATE_TIME_PROPERTY = new SerializedString("start_date_time");
+    private static final SerializedString END_DATE_TIME_PROPERTY = new SerializedString("end_date_time");
+    private static final SerializedString DURATION_PROPERTY = new SerializedString("duration");
+    private static final SerializedString DATE_PROPERTY = new SerializedString("date");
+    private static final SerializedString PART_OF_DAY_PROPERTY = new SerializedString("part_of_day");
+
+    private static final UnitValueSerializer UNIT_VALUE_SERIALIZER = new UnitValueSerializer();
+
+    public TimeIntervalSerializer() {
+        super(TimeInterval.class);
+    }
+
+    @Override
+    protected void serializeProperties(TimeInterval timeInterval, JsonGenerator generator,
+            SerializerProvider provider) throws IOException {
+
+        writeObjectField(generator, START_DATE_TIME_PROPERTY, timeInterval.getStartDateTime(), provider);
+        writeObjectField(generator, END_DATE_TIME_PROPERTY, timeInterval.getEndDateTime(), provider);
+        writeObjectField(generator, DURATION_PROPERTY, timeInterval.getDuration(), UNIT_VALUE_SERIALIZER, provider);
+        writeObjectField(generator, DATE_PROPERTY, timeInterval.getDate(), provider);
+        writeEnumField(generator, PART_OF_DAY_PROPERTY, timeInterval.getPartOfDay());
+    }
+}
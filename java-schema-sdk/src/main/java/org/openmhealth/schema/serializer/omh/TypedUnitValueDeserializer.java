@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import org.openmhealth.schema.domain.omh.TypedUnitValue;
+import org.openmhealth.schema.domain.omh.Unit;
+
+import java.util.function.BiFunction;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+
+/**
+ * This class deserializes {@link TypedUnitValue}s and their subclasses, resolving units to the constants of a
+ * {@link Unit} enumeration.
+ *
+ * @author agent
+ */
+public class TypedUnitValueDeserializer<U extends Enum<U> & Unit, V extends TypedUnitValue<U>>
+        extends UnitValueDeserializer<V> {
+
+    /**
+     * @param type the type of the unit values
+     * @param unitType the type of their units
+     * @param constructor the constructor of the unit values
+     */
+    public TypedUnitValueDeserializer(Class<V> type, Class<U> unitType, BiFunction<U, Number, V> constructor) {
+        this(type, new SchemaEnumValueDeserializer<>(unitType), constructor);
+    }
+
+    private TypedUnitValueDeserializer(Class<V> type, SchemaEnumValueDeserializer<U> unitDeserializer,
+            BiFunction<U, Number, V> constructor) {
+
+        super(type, (unit, value) -> {
+            U typedUnit = unitDeserializer.findBySchemaValue(unit);
+            return typedUnit == null ? null : constructor.apply(typedUnit, value);
+        });
+
+        checkNotNull(constructor, "A constructor hasn't been specified.");
+    }
+
+    /**
+     * @return a deserializer of {@link TypedUnitValue}s with the given unit type, for use by deserializers of classes
+     * with properties of that type
+     */
+    @SuppressWarnings("unchecked")
+    public static <U extends Enum<U> & Unit> TypedUnitValueDeserializer<U, TypedUnitValue<U>> forUnitType(
+            Class<U> unitType) {
+
+        return new TypedUnitValueDeserializer<>((Class<TypedUnitValue<U>>) (Class<?>) TypedUnitValue.class,
+                unitType, TypedUnitValue::new);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.openmhealth.schema.domain.omh.UnitValue;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+
+/**
+ * This class deserializes {@link UnitValue}s and their subclasses using their constructors.
+ *
+ * @author agent
+ */
+public class UnitValueDeserializer<V extends UnitValue> extends SchemaObjectDeserializer<V> {
+
+    /**
+     * A function that creates a unit value.
+     */
+    public interface UnitValueFactory<V extends UnitValue> {
+
+        /**
+         * @return the unit value, or null if the unit isn't supported
+         */
+        @Nullable
+        V newUnitValue(String unit, Number value);
+    }
+
+
+    private final UnitValueFactory<V> unitValueFactory;
+
+    public UnitValueDeserializer(Class<V> type, UnitValueFactory<V> unitValueFactory) {
+        super(type);
+
+        checkNotNull(unitValueFactory, "A unit value factory hasn't been specified.");
+
+        this.unitValueFactory = unitValueFactory;
+    }
+
+    /**
+     * @return a deserializer of {@link UnitValue}s with arbitrary units
+     */
+    public static UnitValueDeserializer<UnitValue> newUnitValueDeserializer() {
+        return new UnitValueDeserializer<>(UnitValue.class, UnitValue::new);
+    }
+
+    @Override
+    protected Properties<V> newProperties() {
+        return new UnitValueProperties();
+    }
+
+    private class UnitValueProperties extends Properties<V> {
+
+        private String unit;
+        private Number value;
+
+        @Override
+        protected boolean read(String name, JsonParser parser, DeserializationContext context) throws IOException {
+
+            switch (name) {
+                case "unit":
+                    unit = readString(parser, context);
+                    return true;
+
+                case "value":
+                    value = readNumber(parser, context);
+                    return true;
+
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected V build(JsonParser parser) throws JsonMappingException {
+
+            V unitValue = unitValueFactory.newUnitValue(checkProperty(parser, unit, "unit"),
+                    checkProperty(parser, value, "value"));
+
+            if (unitValue == null) {
+                throw JsonMappingException.from(parser,
+                        "The unit '" + unit + "' isn't supported by " + handledType().getSimpleName() + ".");
+            }
+
+            return unitValue;
+        }
+    }
+}
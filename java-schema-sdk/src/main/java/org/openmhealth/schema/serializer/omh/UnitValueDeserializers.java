@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import org.openmhealth.schema.domain.omh.AreaUnit;
+import org.openmhealth.schema.domain.omh.AreaUnitValue;
+import org.openmhealth.schema.domain.omh.BloodPressureUnit;
+import org.openmhealth.schema.domain.omh.DiastolicBloodPressure;
+import org.openmhealth.schema.domain.omh.DurationUnit;
+import org.openmhealth.schema.domain.omh.DurationUnitValue;
+import org.openmhealth.schema.domain.omh.KcalUnit;
+import org.openmhealth.schema.domain.omh.KcalUnitValue;
+import org.openmhealth.schema.domain.omh.LengthUnit;
+import org.openmhealth.schema.domain.omh.LengthUnitValue;
+import org.openmhealth.schema.domain.omh.MassUnit;
+import org.openmhealth.schema.domain.omh.MassUnitValue;
+import org.openmhealth.schema.domain.omh.PlaneAngleUnit;
+import org.openmhealth.schema.domain.omh.PlaneAngleUnitValue;
+import org.openmhealth.schema.domain.omh.SpeedUnit;
+import org.openmhealth.schema.domain.omh.SpeedUnitValue;
+import org.openmhealth.schema.domain.omh.SystolicBloodPressure;
+import org.openmhealth.schema.domain.omh.TemperatureUnit;
+import org.openmhealth.schema.domain.omh.TemperatureUnitValue;
+import org.openmhealth.schema.domain.omh.UnitValue;
+import org.openmhealth.schema.domain.omh.VolumeUnit;
+import org.openmhealth.schema.domain.omh.VolumeUnitValue;
+
+
+/**
+ * The deserializers of the unit value classes, which are shared by the deserializers of the classes that have unit
+ * value properties.
+ *
+ * @author agent
+ */
+final class UnitValueDeserializers {
+
+    static final UnitValueDeserializer<UnitValue> UNIT_VALUE =
+            UnitValueDeserializer.newUnitValueDeserializer();
+
+    static final TypedUnitValueDeserializer<AreaUnit, AreaUnitValue> AREA_UNIT_VALUE =
+            new TypedUnitValueDeserializer<>(AreaUnitValue.class, AreaUnit.class, AreaUnitValue::new);
+
+    static final TypedUnitValueDeserializer<BloodPressureUnit, DiastolicBloodPressure> DIASTOLIC_BLOOD_PRESSURE =
+            new TypedUnitValueDeserializer<>(DiastolicBloodPressure.class, BloodPressureUnit.class,
+                    DiastolicBloodPressure::new);
+
+    static final TypedUnitValueDeserializer<DurationUnit, DurationUnitValue> DURATION_UNIT_VALUE =
+            new TypedUnitValueDeserializer<>(DurationUnitValue.class, DurationUnit.class, DurationUnitValue::new);
+
+    static final TypedUnitValueDeserializer<KcalUnit, KcalUnitValue> KCAL_UNIT_VALUE =
+            new TypedUnitValueDeserializer<>(KcalUnitValue.class, KcalUnit.class, KcalUnitValue::new);
+
+    static final TypedUnitValueDeserializer<LengthUnit, LengthUnitValue> LENGTH_UNIT_VALUE =
+            new TypedUnitValueDeserializer<>(LengthUnitValue.class, LengthUnit.class, LengthUnitValue::new);
+
+    static final TypedUnitValueDeserializer<MassUnit, MassUnitValue> MASS_UNIT_VALUE =
+            new TypedUnitValueDeserializer<>(MassUnitValue.class, MassUnit.class, MassUnitValue::new);
+
+    static final TypedUnitValueDeserializer<PlaneAngleUnit, PlaneAngleUnitValue> PLANE_ANGLE_UNIT_VALUE =
+            new TypedUnitValueDeserializer<>(PlaneAngleUnitValue.class, PlaneAngleUnit.class,
+                    PlaneAngleUnitValue::new);
+
+    static final TypedUnitValueDeserializer<SpeedUnit, SpeedUnitValue> SPEED_UNIT_VALUE =
+            new TypedUnitValueDeserializer<>(SpeedUnitValue.class, SpeedUnit.class, SpeedUnitValue::new);
+
+    static final TypedUnitValueDeserializer<BloodPressureUnit, SystolicBloodPressure> SYSTOLIC_BLOOD_PRESSURE =
+            new TypedUnitValueDeserializer<>(SystolicBloodPressure.class, BloodPressureUnit.class,
+                    SystolicBloodPressure::new);
+
+    static final TypedUnitValueDeserializer<TemperatureUnit, TemperatureUnitValue> TEMPERATURE_UNIT_VALUE =
+            new TypedUnitValueDeserializer<>(TemperatureUnitValue.class, TemperatureUnit.class,
+                    TemperatureUnitValue::new);
+
+    static final TypedUnitValueDeserializer<VolumeUnit, VolumeUnitValue> VOLUME_UNIT_VALUE =
+            new TypedUnitValueDeserializer<>(VolumeUnitValue.class, VolumeUnit.class, VolumeUnitValue::new);
+
+
+    private UnitValueDeserializers() {
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.google.common.collect.ImmutableSet;
+import org.openmhealth.schema.domain.omh.AreaUnitValue;
+import org.openmhealth.schema.domain.omh.DiastolicBloodPressure;
+import org.openmhealth.schema.domain.omh.DurationUnitValue;
+import org.openmhealth.schema.domain.omh.KcalUnitValue;
+import org.openmhealth.schema.domain.omh.LengthUnitValue;
+import org.openmhealth.schema.domain.omh.MassUnitValue;
+import org.openmhealth.schema.domain.omh.PlaneAngleUnitValue;
+import org.openmhealth.schema.domain.omh.SpeedUnitValue;
+import org.openmhealth.schema.domain.omh.SystolicBloodPressure;
+import org.openmhealth.schema.domain.omh.TemperatureUnitValue;
+import org.openmhealth.schema.domain.omh.TypedUnitValue;
+import org.openmhealth.schema.domain.omh.UnitValue;
+import org.openmhealth.schema.domain.omh.VolumeUnitValue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Set;
+
+
+/**
+ * This class serializes {@link UnitValue}s and their subclasses. Values held as primitives are written without
+ * boxing them into {@link BigDecimal}s.
+ *
+ * @author agent
+ */
+public class UnitValueSerializer extends SchemaObjectSerializer<UnitValue> {
+
+    private static final SerializedString UNIT_PROPERTY = new SerializedString("unit");
+    private static final SerializedString VALUE_PROPERTY = new SerializedString("value");
+
+    /**
+     * The unit value classes whose properties are all written by this serializer.
+     */
+    public static final Set<Class<? extends UnitValue>> SERIALIZABLE_TYPES = ImmutableSet.of(
+            UnitValue.class,
+            TypedUnitValue.class,
+            AreaUnitValue.class,
+            DiastolicBloodPressure.class,
+            DurationUnitValue.class,
+            KcalUnitValue.class,
+            LengthUnitValue.class,
+            MassUnitValue.class,
+            PlaneAngleUnitValue.class,
+            SpeedUnitValue.class,
+            SystolicBloodPressure.class,
+            TemperatureUnitValue.class,
+            VolumeUnitValue.class);
+
+    public UnitValueSerializer() {
+        super(UnitValue.class);
+    }
+
+    @Override
+    public boolean handlesExactly(Class<?> type) {
+        return SERIALIZABLE_TYPES.contains(type);
+    }
+
+    @Override
+    protected void serializeProperties(UnitValue unitValue, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+
+        writeStringField(generator, UNIT_PROPERTY, unitValue.getUnit());
+
+        generator.writeFieldName(VALUE_PROPERTY);
+
+        Number value = unitValue.getSerializableValue();
+
+        if (value instanceof Long) {
+            generator.writeNumber(value.longValue());
+        }
+        else if (value instanceof Double) {
+            generator.writeNumber(value.doubleValue());
+        }
+        else {
+            generator.writeNumber((BigDecimal) value);
+        }
+    }
+}
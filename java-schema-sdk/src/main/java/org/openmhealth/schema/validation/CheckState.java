@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.validation;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+
+
+/**
+ * The state of a {@link SchemaCheck} of an object or array read from a token stream. A state is fed the values the
+ * object or array contains by a {@link TokenStreamChecker}, which asks the state for the state of each value before
+ * feeding it in turn.
+ * <p>
+ * The {@link #VALID} and {@link #INVALID} states are terminal, i.e. the check of the value has already been decided,
+ * and the values they contain aren't fed to them. A state accounts for the terminal states of its values when they're
+ * started, and for other states when they're ended.
+ *
+ * @author agent
+ */
+interface CheckState {
+
+    CheckState VALID = new TerminalCheckState(true);
+    CheckState INVALID = new TerminalCheckState(false);
+
+    /**
+     * Starts checking the value of a property of an object.
+     *
+     * @param name the name of the property
+     * @param parser the parser, positioned on the first token of the value
+     * @return the state of the check of the value
+     */
+    CheckState startProperty(String name, JsonParser parser) throws IOException;
+
+    /**
+     * Starts checking an item of an array.
+     *
+     * @param index the index of the item
+     * @param parser the parser, positioned on the first token of the item
+     * @return the state of the check of the item
+     */
+    CheckState startItem(int index, JsonParser parser) throws IOException;
+
+    /**
+     * Ends checking a value that isn't terminal, once all of its tokens have been fed.
+     *
+     * @param valueState a state returned by {@link #startProperty(String, JsonParser)} or
+     * {@link #startItem(int, JsonParser)}
+     */
+    void endValue(CheckState valueState);
+
+    /**
+     * Ends the check, recording any errors that can only be detected once all of the values have been fed.
+     *
+     * @return true if the object or array is valid
+     */
+    boolean end();
+
+    /**
+     * @return true if the state is {@link #VALID} or {@link #INVALID}
+     */
+    static boolean isTerminal(CheckState state) {
+        return state instanceof TerminalCheckState;
+    }
+
+    /**
+     * @return the terminal state of a check that's already been decided
+     */
+    static CheckState of(boolean valid) {
+        return valid ? VALID : INVALID;
+    }
+
+
+    final class TerminalCheckState implements CheckState {
+
+        private final boolean valid;
+
+        private TerminalCheckState(boolean valid) {
+            this.valid = valid;
+        }
+
+        @Override
+        public CheckState startProperty(String name, JsonParser parser) {
+            return VALID;
+        }
+
+        @Override
+        public CheckState startItem(int index, JsonParser parser) {
+            return VALID;
+        }
+
+        @Override
+        public void endValue(CheckState valueState) {
+        }
+
+        @Override
+        public boolean end() {
+            return valid;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.validation;
+
+import javax.annotation.Nullable;
+
+
+/**
+ * The location of a value in a document being validated. Paths are only created when errors are being collected.
+ *
+ * @author agent
+ */
+final class InstancePath {
+
+    static final InstancePath ROOT = new InstancePath(null, null, -1);
+
+    private final InstancePath parent;
+    private final String propertyName;
+    private final int index;
+
+
+    private InstancePath(@Nullable InstancePath parent, @Nullable String propertyName, int index) {
+
+        this.parent = parent;
+        this.propertyName = propertyName;
+        this.index = index;
+    }
+
+    @Nullable
+    static InstancePath child(@Nullable InstancePath parent, String propertyName) {
+        return parent == null ? null : new InstancePath(parent, propertyName, -1);
+    }
+
+    @Nullable
+    static InstancePath child(@Nullable InstancePath parent, int index) {
+        return parent == null ? null : new InstancePath(parent, null, index);
+    }
+
+    /**
+     * @return this path as a JSON pointer
+     */
+    String toPointer() {
+
+        if (parent == null) {
+            return "";
+        }
+
+        StringBuilder builder = new StringBuilder();
+        appendTo(builder);
+
+        return builder.toString();
+    }
+
+    private void appendTo(StringBuilder builder) {
+
+        if (parent == null) {
+            return;
+        }
+
+        parent.appendTo(builder);
+        builder.append('/');
+
+        if (propertyName == null) {
+            builder.append(index);
+            return;
+        }
+
+        for (int i = 0; i < propertyName.length(); i++) {
+            char character = propertyName.charAt(i);
+
+            if (character == '~') {
+                builder.append("~0");
+            }
+            else if (character == '/') {
+                builder.append("~1");
+            }
+            else {
+                builder.append(character);
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.validation;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * An exception thrown when a data point that doesn't conform to its schemas is read.
+ *
+ * @author agent
+ */
+public class InvalidDataPointException extends JsonMappingException {
+
+    private final List<SchemaValidationError> errors;
+
+
+    public InvalidDataPointException(JsonParser parser, List<SchemaValidationError> errors) {
+        super(parser, "The data point isn't valid: " + errors);
+
+        this.errors = Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * @return the errors in the data point
+     */
+    public List<SchemaValidationError> getErrors() {
+        return errors;
+    }
+}
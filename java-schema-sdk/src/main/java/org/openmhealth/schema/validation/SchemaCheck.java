@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.validation;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.List;
+
+
+/**
+ * A precompiled check of one or more schema keywords. A check can be applied either to a tree or to a value read from
+ * a token stream, in which case it's a state machine that's fed the tokens of the value by a
+ * {@link TokenStreamChecker}.
+ *
+ * @author agent
+ */
+interface SchemaCheck {
+
+    /**
+     * Checks a value.
+     *
+     * @param instance the value to check
+     * @param path the path of the value, or null if errors aren't being collected
+     * @param errors the list to add errors to, or null if the check can stop at the first error
+     * @return true if the value is valid
+     */
+    boolean check(JsonNode instance, @Nullable InstancePath path, @Nullable List<SchemaValidationError> errors);
+
+    /**
+     * Starts checking a value read from a token stream. Scalar values are checked immediately.
+     *
+     * @param parser the parser, positioned on the first token of the value, which must not be advanced
+     * @param path the path of the value, or null if errors aren't being collected
+     * @param errors the list to add errors to, or null if the check can stop at the first error
+     * @return the state of the check, which is {@link CheckState#isTerminal(CheckState) terminal} if the check has
+     * already been decided
+     */
+    CheckState start(JsonParser parser, @Nullable InstancePath path, @Nullable List<SchemaValidationError> errors)
+            throws IOException;
+
+    /**
+     * Records an error if errors are being collected.
+     *
+     * @return false, for convenience
+     */
+    static boolean fail(@Nullable InstancePath path, @Nullable List<SchemaValidationError> errors, String keyword,
+            String message) {
+
+        if (errors != null) {
+            errors.add(new SchemaValidationError(path == null ? "" : path.toPointer(), keyword, message));
+        }
+
+        return false;
+    }
+}
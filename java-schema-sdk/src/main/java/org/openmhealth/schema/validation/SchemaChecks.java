@@ -0,0 +1,1447 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.validation;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openmhealth.schema.serializer.Rfc3339OffsetDateTimeDeserializer;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.openmhealth.schema.validation.CheckState.INVALID;
+import static org.openmhealth.schema.validation.CheckState.VALID;
+import static org.openmhealth.schema.validation.CheckState.isTerminal;
+import static org.openmhealth.schema.validation.SchemaCheck.fail;
+
+
+/**
+ * The checks that schema keywords compile to. Checks of keywords that only apply to certain types, e.g.
+ * {@code minLength}, accept values of other types. When a value is read from a token stream, checks of scalar values
+ * are decided on its first token, and checks of objects and arrays return a {@link CheckState}.
+ *
+ * @author agent
+ */
+final class SchemaChecks {
+
+    static final int NULL_TYPE = 1;
+    static final int BOOLEAN_TYPE = 1 << 1;
+    static final int OBJECT_TYPE = 1 << 2;
+    static final int ARRAY_TYPE = 1 << 3;
+    static final int NUMBER_TYPE = 1 << 4;
+    static final int INTEGER_TYPE = 1 << 5;
+    static final int STRING_TYPE = 1 << 6;
+
+    static final SchemaCheck ALWAYS_VALID = new SchemaCheck() {
+
+        @Override
+        public boolean check(JsonNode instance, InstancePath path, List<SchemaValidationError> errors) {
+            return true;
+        }
+
+        @Override
+        public CheckState start(JsonParser parser, InstancePath path, List<SchemaValidationError> errors) {
+            return VALID;
+        }
+    };
+
+    static final SchemaCheck ALWAYS_INVALID = new SchemaCheck() {
+
+        @Override
+        public boolean check(JsonNode instance, InstancePath path, List<SchemaValidationError> errors) {
+            return fail(path, errors, "false", "No value is allowed by the schema.");
+        }
+
+        @Override
+        public CheckState start(JsonParser parser, InstancePath path, List<SchemaValidationError> errors) {
+            return CheckState.of(check(null, path, errors));
+        }
+    };
+
+
+    private SchemaChecks() {
+    }
+
+    /**
+     * @return the type of a value, where integral numbers are both {@link #NUMBER_TYPE numbers} and
+     * {@link #INTEGER_TYPE integers}
+     */
+    static int getType(JsonNode instance) {
+
+        switch (instance.getNodeType()) {
+            case OBJECT:
+                return OBJECT_TYPE;
+            case ARRAY:
+                return ARRAY_TYPE;
+            case STRING:
+                return STRING_TYPE;
+            case BOOLEAN:
+                return BOOLEAN_TYPE;
+            case NUMBER:
+                return isIntegral(instance) ? NUMBER_TYPE | INTEGER_TYPE : NUMBER_TYPE;
+            default:
+                return NULL_TYPE;
+        }
+    }
+
+    private static boolean isIntegral(JsonNode number) {
+
+        if (number.isIntegralNumber()) {
+            return true;
+        }
+
+        if (number.isBigDecimal()) {
+            return isIntegral(number.decimalValue());
+        }
+
+        double value = number.doubleValue();
+        return value == Math.rint(value) && !Double.isInfinite(value);
+    }
+
+    private static boolean isIntegral(BigDecimal value) {
+        return value.signum() == 0 || value.scale() <= 0 || value.stripTrailingZeros().scale() <= 0;
+    }
+
+    /**
+     * @return the type of the value the parser is positioned on, where numbers with fractional parts, e.g. "1.0", are
+     * only {@link #NUMBER_TYPE numbers} to avoid parsing them
+     */
+    static int getType(JsonParser parser) {
+
+        switch (parser.getCurrentToken()) {
+            case START_OBJECT:
+                return OBJECT_TYPE;
+            case START_ARRAY:
+                return ARRAY_TYPE;
+            case VALUE_STRING:
+                return STRING_TYPE;
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                return BOOLEAN_TYPE;
+            case VALUE_NUMBER_INT:
+                return NUMBER_TYPE | INTEGER_TYPE;
+            case VALUE_NUMBER_FLOAT:
+                return NUMBER_TYPE;
+            default:
+                return NULL_TYPE;
+        }
+    }
+
+    static boolean isContainer(JsonParser parser) {
+        return parser.isExpectedStartObjectToken() || parser.isExpectedStartArrayToken();
+    }
+
+    static boolean isNumber(JsonParser parser) {
+
+        JsonToken token = parser.getCurrentToken();
+        return token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT;
+    }
+
+    /**
+     * @return the scalar value the parser is positioned on, or an empty object or array
+     */
+    static JsonNode newNode(JsonParser parser) throws IOException {
+
+        JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+
+        switch (parser.getCurrentToken()) {
+            case START_OBJECT:
+                return nodeFactory.objectNode();
+            case START_ARRAY:
+                return nodeFactory.arrayNode();
+            case VALUE_STRING:
+                return nodeFactory.textNode(parser.getText());
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                return nodeFactory.booleanNode(parser.getBooleanValue());
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return nodeFactory.numberNode(parser.getDecimalValue());
+            default:
+                return nodeFactory.nullNode();
+        }
+    }
+
+    /**
+     * @return true if two values are equal, where numbers are compared by value
+     */
+    static boolean areEqual(JsonNode first, JsonNode second) {
+
+        if (first.isNumber() && second.isNumber()) {
+            return first.decimalValue().compareTo(second.decimalValue()) == 0;
+        }
+
+        if (first.isObject() && second.isObject()) {
+
+            if (first.size() != second.size()) {
+                return false;
+            }
+
+            for (Iterator<Map.Entry<String, JsonNode>> fields = first.fields(); fields.hasNext(); ) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                JsonNode secondValue = second.get(field.getKey());
+
+                if (secondValue == null || !areEqual(field.getValue(), secondValue)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        if (first.isArray() && second.isArray()) {
+
+            if (first.size() != second.size()) {
+                return false;
+            }
+
+            for (int i = 0; i < first.size(); i++) {
+                if (!areEqual(first.get(i), second.get(i))) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        return first.equals(second);
+    }
+
+
+    /**
+     * The base class of the states of checks of objects and arrays, which are valid unless one of their values isn't.
+     */
+    abstract static class ContainerState implements CheckState {
+
+        protected final InstancePath path;
+        protected final List<SchemaValidationError> errors;
+        protected boolean valid = true;
+
+        ContainerState(@Nullable InstancePath path, @Nullable List<SchemaValidationError> errors) {
+
+            this.path = path;
+            this.errors = errors;
+        }
+
+        /**
+         * Accounts for the state of a value if it's already been decided.
+         *
+         * @return the state
+         */
+        protected CheckState track(CheckState valueState) {
+
+            if (isTerminal(valueState)) {
+                valid &= valueState.end();
+            }
+
+            return valueState;
+        }
+
+        @Override
+        public CheckState startProperty(String name, JsonParser parser) throws IOException {
+            return VALID;
+        }
+
+        @Override
+        public CheckState startItem(int index, JsonParser parser) throws IOException {
+            return VALID;
+        }
+
+        @Override
+        public void endValue(CheckState valueState) {
+            valid &= valueState.end();
+        }
+
+        @Override
+        public boolean end() {
+            return valid;
+        }
+    }
+
+
+    /**
+     * The states of several checks of the same value, which are fed the same values. A group is valid if all of its
+     * states are. The states of the values that a group contains are grouped in turn, and are ended by the state that
+     * started them.
+     */
+    static class CheckStateGroup implements CheckState {
+
+        protected final CheckState[] states;
+        private CheckStateGroup valueGroup;
+
+        CheckStateGroup(CheckState[] states) {
+            this.states = states;
+        }
+
+        /**
+         * @param errors the list errors are being added to, or null if the check can stop at the first error
+         * @return a state that's valid if all of the states are
+         */
+        static CheckState allOf(CheckState[] states, @Nullable List<SchemaValidationError> errors) {
+
+            int undecidedCount = 0;
+            boolean valid = true;
+
+            for (CheckState state : states) {
+                if (isTerminal(state)) {
+                    valid &= state.end();
+                }
+                else {
+                    undecidedCount++;
+                }
+            }
+
+            if (!valid && errors == null) {
+                return INVALID;
+            }
+
+            if (undecidedCount == 0) {
+                return CheckState.of(valid);
+            }
+
+            // if the decided states are valid, they needn't be fed
+            if (!valid) {
+                return new CheckStateGroup(states);
+            }
+
+            if (undecidedCount == states.length) {
+                return undecidedCount == 1 ? states[0] : new CheckStateGroup(states);
+            }
+
+            CheckState[] undecidedStates = new CheckState[undecidedCount];
+
+            for (int i = 0, j = 0; i < states.length; i++) {
+                if (!isTerminal(states[i])) {
+                    undecidedStates[j++] = states[i];
+                }
+            }
+
+            return undecidedCount == 1 ? undecidedStates[0] : new CheckStateGroup(undecidedStates);
+        }
+
+        @Override
+        public CheckState startProperty(String name, JsonParser parser) throws IOException {
+
+            CheckStateGroup valueGroup = getValueGroup();
+            boolean terminal = true;
+
+            for (int i = 0; i < states.length; i++) {
+                valueGroup.states[i] = states[i].startProperty(name, parser);
+                terminal &= isTerminal(valueGroup.states[i]);
+            }
+
+            // the states of the group have already accounted for terminal value states
+            return terminal ? VALID : valueGroup;
+        }
+
+        @Override
+        public CheckState startItem(int index, JsonParser parser) throws IOException {
+
+            CheckStateGroup valueGroup = getValueGroup();
+            boolean terminal = true;
+
+            for (int i = 0; i < states.length; i++) {
+                valueGroup.states[i] = states[i].startItem(index, parser);
+                terminal &= isTerminal(valueGroup.states[i]);
+            }
+
+            return terminal ? VALID : valueGroup;
+        }
+
+        /**
+         * @return the group of the states of the next value, which is reused since values are fed one at a time
+         */
+        private CheckStateGroup getValueGroup() {
+
+            if (valueGroup == null) {
+                valueGroup = new CheckStateGroup(new CheckState[states.length]);
+            }
+
+            return valueGroup;
+        }
+
+        @Override
+        public void endValue(CheckState valueState) {
+
+            CheckState[] valueStates = ((CheckStateGroup) valueState).states;
+
+            for (int i = 0; i < states.length; i++) {
+                if (!isTerminal(valueStates[i])) {
+                    states[i].endValue(valueStates[i]);
+                }
+            }
+        }
+
+        @Override
+        public boolean end() {
+
+            boolean valid = true;
+
+            for (CheckState state : states) {
+                valid &= state.end();
+            }
+
+            return valid;
+        }
+    }
+
+
+    /**
+     * The state of a check that needs to see an object or array as a whole, which builds a tree of it as it's fed.
+     * This is only used for the rare keywords that compare objects or arrays.
+     */
+    static class TreeState implements CheckState {
+
+        private final SchemaCheck check;
+        private final InstancePath path;
+        private final List<SchemaValidationError> errors;
+        private final JsonNode node;
+
+        /**
+         * @param check the check to apply to the tree, or null if the tree is part of a larger one
+         */
+        TreeState(@Nullable SchemaCheck check, JsonNode node, @Nullable InstancePath path,
+                @Nullable List<SchemaValidationError> errors) {
+
+            this.check = check;
+            this.node = node;
+            this.path = path;
+            this.errors = errors;
+        }
+
+        @Override
+        public CheckState startProperty(String name, JsonParser parser) throws IOException {
+
+            JsonNode value = newNode(parser);
+            ((ObjectNode) node).set(name, value);
+
+            return value.isContainerNode() ? new TreeState(null, value, null, null) : VALID;
+        }
+
+        @Override
+        public CheckState startItem(int index, JsonParser parser) throws IOException {
+
+            JsonNode value = newNode(parser);
+            ((ArrayNode) node).add(value);
+
+            return value.isContainerNode() ? new TreeState(null, value, null, null) : VALID;
+        }
+
+        @Override
+        public void endValue(CheckState valueState) {
+        }
+
+        @Override
+        public boolean end() {
+            return check.check(node, path, errors);
+        }
+    }
+
+
+    /**
+     * A check that passes if all of its checks pass, used both for {@code allOf} and for the keywords of a schema.
+     */
+    static class AllOfCheck implements SchemaCheck {
+
+        private final SchemaCheck[] checks;
+
+        AllOfCheck(Collection<SchemaCheck> checks) {
+            this.checks = checks.toArray(new SchemaCheck[0]);
+        }
+
+        @Override
+        public boolean check(JsonNode instance, InstancePath path, List<SchemaValidationError> errors) {
+
+            boolean valid = true;
+
+            for (SchemaCheck check : checks) {
+                if (!check.check(instance, path, errors)) {
+                    if (errors == null) {
+                        return false;
+                    }
+
+                    valid = false;
+                }
+            }
+
+            return valid;
+        }
+
+        @Override
+        public CheckState start(JsonParser parser, InstancePath path, List<SchemaValidationError> errors)
+                throws IOException {
+
+            if (!isContainer(parser)) {
+                boolean valid = true;
+
+                for (SchemaCheck check : checks) {
+                    if (!check.start(parser, path, errors).end()) {
+                        if (errors == null) {
+                            return INVALID;
+                        }
+
+                        valid = false;
+                    }
+                }
+
+                return CheckState.of(valid);
+            }
+
+            CheckState[] states = new CheckState[checks.length];
+
+            for (int i = 0; i < checks.length; i++) {
+                states[i] = checks[i].start(parser, path, errors);
+            }
+
+            return CheckStateGroup.allOf(states, errors);
+        }
+    }
+
+
+    static class AnyOfCheck implements SchemaCheck {
+
+        private final SchemaCheck[] checks;
+
+        AnyOfCheck(Collection<SchemaCheck> checks) {
+            this.checks = checks.toArray(new SchemaCheck[0]);
+        }
+
+        @Override
+        public boolean check(JsonNode instance, InstancePath path, List<SchemaValidationError> errors) {
+
+            for (SchemaCheck check : checks) {
+                if (check.check(instance, null, null)) {
+                    return true;
+                }
+            }
+
+            return failNoMatch(path, errors);
+        }
+
+        @Override
+        public CheckState start(JsonParser parser, InstancePath path, List<SchemaValidationError> errors)
+                throws IOException {
+
+            CheckState[] states = isContainer(parser) ? new CheckState[checks.length] : null;
+            boolean decided = true;
+
+            for (int i = 0; i < checks.length; i++) {
+                CheckState state = checks[i].start(parser, null, null);
+
+                if (state == VALID) {
+                    return VALID;
+                }
+
+                if (states != null) {
+                    states[i] = state;
+                    decided &= isTerminal(state);
+                }
+            }
+
+            return decided ? CheckState.of(failNoMatch(path, errors)) : new AnyOfState(states, path, errors);
+        }
+
+        private static boolean failNoMatch(InstancePath path, List<SchemaValidationError> errors) {
+            return fail(path, errors, "anyOf", "The value doesn't match any of the allowed schemas.");
+        }
+
+        private static class AnyOfState extends CheckStateGroup {
+
+            private final InstancePath path;
+            private final List<SchemaValidationError> errors;
+
+            AnyOfState(CheckState[] states, InstancePath path, List<SchemaValidationError> errors) {
+                super(states);
+
+                this.path = path;
+                this.errors = errors;
+            }
+
+            @Override
+            public boolean end() {
+
+                for (CheckState state : states) {
+                    if (state.end()) {
+                        return true;
+                    }
+                }
+
+                return failNoMatch(path, errors);
+            }
+        }
+    }
+
+
+    static class OneOfCheck implements SchemaCheck {
+
+        private final SchemaCheck[] checks;
+
+        OneOfCheck(Collection<SchemaCheck> checks) {
+            this.checks = checks.toArray(new SchemaCheck[0]);
+        }
+
+        @Override
+        public boolean check(JsonNode instance, InstancePath path, List<SchemaValidationError> errors) {
+
+            int matchCount = 0;
+
+            for (SchemaCheck check : checks) {
+                if (check.check(instance, null, null) && ++matchCount > 1) {
+                    break;
+                }
+            }
+
+            return checkMatchCount(matchCount, path, errors);
+        }
+
+        @Override
+        public CheckState start(JsonParser parser, InstancePath path, List<SchemaValidationError> errors)
+                throws IOException {
+
+            CheckState[] states = isContainer(parser) ? new CheckState[checks.length] : null;
+            boolean decided = true;
+            int matchCount = 0;
+
+            for (int i = 0; i < checks.length; i++) {
+                CheckState state = checks[i].start(parser, null, null);
+
+                if (state == VALID && ++matchCount > 1) {
+                    break;
+                }
+
+                if (states != null) {
+                    states[i] = state;
+                    decided &= isTerminal(state);
+                }
+            }
+
+            if (decided || matchCount > 1) {
+                return CheckState.of(checkMatchCount(matchCount, path, errors));
+            }
+
+            return new OneOfState(states, path, errors);
+        }
+
+        private static boolean checkMatchCount(int matchCount, InstancePath path,
+                List<SchemaValidationError> errors) {
+
+            if (matchCount > 1) {
+                return fail(path, errors, "oneOf", "The value matches more than one of the allowed schemas.");
+            }
+
+            return matchCount == 1
+                    || fail(path, errors, "oneOf", "The value doesn't match any of the allowed schemas.");
+        }
+
+        private static class OneOfState extends CheckStateGroup {
+
+            private final InstancePath path;
+            private final List<SchemaValidationError> errors;
+
+            OneOfState(CheckState[] states, InstancePath path, List<SchemaValidationError> errors) {
+                super(states);
+
+                this.path = path;
+                this.errors = errors;
+            }
+
+            @Override
+            public boolean end() {
+
+                int matchCount = 0;
+
+                for (CheckState state : states) {
+                    if (state.end() && ++matchCount > 1) {
+                        break;
+                    }
+                }
+
+                return checkMatchCount(matchCount, path, errors);
+            }
+        }
+    }
+
+
+    static class NotCheck implements SchemaCheck {
+
+        private final SchemaCheck check;
+
+        NotCheck(SchemaCheck check) {
+            this.check = check;
+        }
+
+        @Override
+        public boolean check(JsonNode instance, InstancePath path, List<SchemaValidationError> errors) {
+
+            return checkMatch(check.check(instance, null, null), path, errors);
+        }
+
+        @Override
+        public CheckState start(JsonParser parser, InstancePath path, List<SchemaValidationError> errors)
+                throws IOException {
+
+            CheckState state = check.start(parser, null, null);
+
+            if (isTerminal(state)) {
+                return CheckState.of(checkMatch(state.end(), path, errors));
+            }
+
+            return new CheckStateGroup(new CheckState[] {state}) {
+
+                @Override
+                public boolean end() {
+                    return checkMatch(super.end(), path, errors);
+                }
+            };
+        }
+
+        private static boolean checkMatch(boolean matched, InstancePath path, List<SchemaValidationError> errors) {
+            return !matched || fail(path, errors, "not", "The value matches a disallowed schema.");
+        }
+    }
+
+
+    static class TypeCheck implements SchemaCheck {
+
+        private final int allowedTypes;
+        private final String allowedTypeNames;
+
+        TypeCheck(int allowedTypes, String allowedTypeNames) {
+
+            this.allowedTypes = allowedTypes;
+            this.allowedTypeNames = allowedTypeNames;
+        }
+
+        @Override
+        public boolean check(JsonNode instance, InstancePath path, List<SchemaValidationError> errors) {
+
+            return (getType(instance) & allowedTypes) != 0 || failType(path, errors);
+        }
+
+        @Override
+        public CheckState start(JsonParser parser, InstancePath path, List<SchemaValidationError> errors)
+                throws IOException {
+
+            if ((getType(parser) & allowedTypes) != 0) {
+                return VALID;
+            }
+
+            // a number with a fractional part is only parsed if it needs to be an integer
+            boolean valid = (allowedTypes & INTEGER_TYPE) != 0
+                    && parser.getCurrentToken() == JsonToken.VALUE_NUMBER_FLOAT
+                    && isIntegral(parser.getDecimalValue());
+
+            return CheckState.of(valid || failType(path, errors));
+        }
+
+        private boolean failType(InstancePath path, List<SchemaValidationError> errors) {
+            return fail(path, errors, "type", "The value isn't of type " + allowedTypeNames + ".");
+        }
+    }
+
+
+    /**
+     * A check for {@code enum} and {@code const}, which uses a hash set for string values.
+     */
+    static class EnumCheck implements SchemaCheck {
+
+        private final String keyword;
+        private final Set<String> allowedStrings = new HashSet<>();
+        private final List<JsonNode> allowedValues = new ArrayList<>();
+        private final boolean allowsContainers;
+        private final String allowedValueList;
+
+        EnumCheck(String keyword, Iterable<JsonNode> allowedValues) {
+
+            this.keyword = keyword;
+
+            for (JsonNode allowedValue : allowedValues) {
+                if (allowedValue.isTextual()) {
+                    allowedStrings.add(allowedValue.textValue());
+                }
+                else {
+                    this.allowedValues.add(allowedValue);
+                }
+            }
+
+            this.allowsContainers = this.allowedValues.stream().anyMatch(JsonNode::isContainerNode);
+
+            List<String> allowedValueStrings = new ArrayList<>();
+            allowedValues.forEach(value -> allowedValueStrings.add(value.toString()));
+            this.allowedValueList = allowedValueStrings.stream().collect(Collectors.joining(", ", "[", "]"));
+        }
+
+        @Override
+        public boolean check(JsonNode instance, InstancePath path, List<SchemaValidationError> errors) {
+
+            if (instance.isTextual()) {
+                if (allowedStrings.contains(instance.textValue())) {
+                    return true;
+                }
+            }
+            else {
+                for (JsonNode allowedValue : allowedValues) {
+                    if (areEqual(instance, allowedValue)) {
+                        return true;
+                    }
+                }
+            }
+
+            return failNoMatch(path, errors);
+        }
+
+        @Override
+        public CheckState start(JsonParser parser, InstancePath path, List<SchemaValidationError> errors)
+                throws IOException {
+
+            if (parser.getCurrentToken() == JsonToken.VALUE_STRING) {
+                return CheckState.of(allowedStrings.contains(parser.getText()) || failNoMatch(path, errors));
+            }
+
+            if (isContainer(parser)) {
+                return allowsContainers
+                        ? new TreeState(this, newNode(parser), path, errors)
+                        : CheckState.of(failNoMatch(path, errors));
+            }
+
+            return CheckState.of(check(newNode(parser), path, errors));
+        }
+
+        private boolean failNoMatch(InstancePath path, List<SchemaValidationError> errors) {
+            return fail(path, errors, keyword, "The value isn't one of " + allowedValueList + ".");
+        }
+    }
+
+
+    /**
+     * A check for {@code required}, {@code properties}, {@code patternProperties} and {@code additionalProperties},
+     * which are checked together so that an object is only visited once.
+     */
+    static class PropertiesCheck implements SchemaCheck {
+
+        private final String[] requiredPropertyNames;
+        private final Map<String, SchemaCheck> propertyChecks;
+        private final Map<Pattern, SchemaCheck> patternPropertyChecks;
+        private final SchemaCheck additionalPropertyCheck;
+
+        /**
+         * @param additionalPropertyCheck the check of properties that aren't matched by name or pattern, or null if
+         * they're always valid
+         */
+        PropertiesCheck(List<String> requiredPropertyNames, Map<String, SchemaCheck> propertyChecks,
+                Map<Pattern, SchemaCheck> patternPropertyChecks, @Nullable SchemaCheck additionalPropertyCheck) {
+
+            this.requiredPropertyNames = requiredPropertyNames.toArray(new String[0]);
+            this.propertyChecks = propertyChecks;
+            this.patternPropertyChecks = patternPropertyChecks;
+            this.additionalPropertyCheck = additionalPropertyCheck;
+        }
+
+        @Override
+        public boolean check(JsonNode instance, InstancePath path, List<SchemaValidationError> errors) {
+
+            if (!instance.isObject()) {
+                return true;
+            }
+
+            boolean valid = true;
+
+            for (String propertyName : requiredPropertyNames) {
+                if (!instance.has(propertyName)) {
+                    if (errors == null) {
+                        return false;
+                    }
+
+                    valid = failMissing(propertyName, path, errors);
+                }
+            }
+
+            return checkProperties(instance, path, errors) && valid;
+        }
+
+        private static boolean failMissing(String propertyName, InstancePath path,
+                List<SchemaValidationError> errors) {
+
+            return fail(path, errors, "required", "The property '" + propertyName + "' is missing.");
+        }
+
+        private boolean checkProperties(JsonNode instance, InstancePath path, List<SchemaValidationError> errors) {
+
+            // when every property is valid unless it's declared, only the declared properties need to be visited
+            if (patternPropertyChecks.isEmpty() && additionalPropertyCheck == null) {
+                return checkDeclaredProperties(instance, path, errors);
+            }
+
+            boolean valid = true;
+
+            for (Iterator<Map.Entry<String, JsonNode>> fields = instance.fields(); fields.hasNext(); ) {
+                Map.Entry<String, JsonNode> field = fields.next();
+
+                if (!checkProperty(field.getKey(), field.getValue(), path, errors)) {
+                    if (errors == null) {
+                        return false;
+                    }
+
+                    valid = false;
+                }
+            }
+
+            return valid;
+        }
+
+        private boolean checkDeclaredProperties(JsonNode instance, InstancePath path,
+                List<SchemaValidationError> errors) {
+
+            boolean valid = true;
+
+            for (Map.Entry<String, SchemaCheck> propertyCheck : propertyChecks.entrySet()) {
+                JsonNode value = instance.get(propertyCheck.getKey());
+
+                if (value != null && !propertyCheck.getValue()
+                        .check(value, InstancePath.child(path, propertyCheck.getKey()), errors)) {
+
+                    if (errors == null) {
+                        return false;
+                    }
+
+                    valid = false;
+                }
+            }
+
+            return valid;
+        }
+
+        private boolean checkProperty(String name, JsonNode value, InstancePath path,
+                List<SchemaValidationError> errors) {
+
+            InstancePath propertyPath = InstancePath.child(path, name);
+            boolean matched = false;
+            boolean valid = true;
+
+            SchemaCheck propertyCheck = propertyChecks.get(name);
+
+            if (propertyCheck != null) {
+                matched = true;
+                valid = propertyCheck.check(value, propertyPath, errors);
+            }
+
+            for (Map.Entry<Pattern, SchemaCheck> patternPropertyCheck : patternPropertyChecks.entrySet()) {
+                if (patternPropertyCheck.getKey().matcher(name).find()) {
+                    matched = true;
+                    valid &= patternPropertyCheck.getValue().check(value, propertyPath, errors);
+                }
+            }
+
+            if (!matched && additionalPropertyCheck != null) {
+                if (additionalPropertyCheck == ALWAYS_INVALID) {
+                    return failAdditionalProperty(name, propertyPath, errors);
+                }
+
+                valid = additionalPropertyCheck.check(value, propertyPath, errors);
+            }
+
+            return valid;
+        }
+
+        private static boolean failAdditionalProperty(String name, InstancePath propertyPath,
+                List<SchemaValidationError> errors) {
+
+            return fail(propertyPath, errors, "additionalProperties", "The property '" + name + "' isn't allowed.");
+        }
+
+        @Override
+        public CheckState start(JsonParser parser, InstancePath path, List<SchemaValidationError> errors) {
+
+            if (!parser.isExpectedStartObjectToken()) {
+                return VALID;
+            }
+
+            return new ContainerState(path, errors) {
+
+                private final boolean[] found = new boolean[requiredPropertyNames.length];
+
+                @Override
+                public CheckState startProperty(String name, JsonParser parser) throws IOException {
+
+                    for (int i = 0; i < requiredPropertyNames.length; i++) {
+                        if (requiredPropertyNames[i].equals(name)) {
+                            found[i] = true;
+                        }
+                    }
+
+                    return track(startPropertyCheck(name, parser, InstancePath.child(path, name), errors));
+                }
+
+                @Override
+                public boolean end() {
+
+                    for (int i = 0; i < requiredPropertyNames.length; i++) {
+                        if (!found[i]) {
+                            if (errors == null) {
+                                return false;
+                            }
+
+                            valid = failMissing(requiredPropertyNames[i], path, errors);
+                        }
+                    }
+
+                    return valid;
+                }
+            };
+        }
+
+        private CheckState startPropertyCheck(String name, JsonParser parser, InstancePath propertyPath,
+                List<SchemaValidationError> errors) throws IOException {
+
+            SchemaCheck propertyCheck = propertyChecks.get(name);
+
+            if (patternPropertyChecks.isEmpty()) {
+                if (propertyCheck != null) {
+                    return propertyCheck.start(parser, propertyPath, errors);
+                }
+
+                return additionalPropertyCheck == null
+                        ? VALID
+                        : startAdditionalPropertyCheck(name, parser, propertyPath, errors);
+            }
+
+            List<CheckState> states = new ArrayList<>();
+
+            if (propertyCheck != null) {
+                states.add(propertyCheck.start(parser, propertyPath, errors));
+            }
+
+            for (Map.Entry<Pattern, SchemaCheck> patternPropertyCheck : patternPropertyChecks.entrySet()) {
+                if (patternPropertyCheck.getKey().matcher(name).find()) {
+                    states.add(patternPropertyCheck.getValue().start(parser, propertyPath, errors));
+                }
+            }
+
+            if (states.isEmpty()) {
+                return additionalPropertyCheck == null
+                        ? VALID
+                        : startAdditionalPropertyCheck(name, parser, propertyPath, errors);
+            }
+
+            return states.size() == 1
+                    ? states.get(0)
+                    : CheckStateGroup.allOf(states.toArray(new CheckState[0]), errors);
+        }
+
+        private CheckState startAdditionalPropertyCheck(String name, JsonParser parser, InstancePath propertyPath,
+                List<SchemaValidationError> errors) throws IOException {
+
+            if (additionalPropertyCheck == ALWAYS_INVALID) {
+                return CheckState.of(failAdditionalProperty(name, propertyPath, errors));
+            }
+
+            return additionalPropertyCheck.start(parser, propertyPath, errors);
+        }
+    }
+
+
+    /**
+     * A check for {@code items} and {@code additionalItems}.
+     */
+    static class ItemsCheck implements SchemaCheck {
+
+        private final SchemaCheck itemCheck;
+        private final SchemaCheck[] tupleItemChecks;
+        private final SchemaCheck additionalItemCheck;
+
+        /**
+         * @param itemCheck the check of all items, or null if items are checked by position
+         * @param tupleItemChecks the checks of items by position, or null if all items are checked the same way
+         * @param additionalItemCheck the check of items beyond the positional checks, or null if they're valid
+         */
+        ItemsCheck(@Nullable SchemaCheck itemCheck, @Nullable List<SchemaCheck> tupleItemChecks,
+                @Nullable SchemaCheck additionalItemCheck) {
+
+            this.itemCheck = itemCheck;
+            this.tupleItemChecks = tupleItemChecks == null ? null : tupleItemChecks.toArray(new SchemaCheck[0]);
+            this.additionalItemCheck = additionalItemCheck;
+        }
+
+        @Override
+        public boolean check(JsonNode instance, InstancePath path, List<SchemaValidationError> errors) {
+
+            if (!instance.isArray()) {
+                return true;
+            }
+
+            boolean valid = true;
+
+            for (int i = 0; i < instance.size(); i++) {
+                SchemaCheck check = getItemCheck(i);
+
+                if (check != null && !check.check(instance.get(i), InstancePath.child(path, i), errors)) {
+                    if (errors == null) {
+                        return false;
+                    }
+
+                    valid = false;
+                }
+            }
+
+            return valid;
+        }
+
+        @Override
+        public CheckState start(JsonParser parser, InstancePath path, List<SchemaValidationError> errors) {
+
+            if (!parser.isExpectedStartArrayToken()) {
+                return VALID;
+            }
+
+            return new ContainerState(path, errors) {
+
+                @Override
+                public CheckState startItem(int index, JsonParser parser) throws IOException {
+
+                    SchemaCheck check = getItemCheck(index);
+
+                    return check == null ? VALID : track(check.start(parser, InstancePath.child(path, index), errors));
+                }
+            };
+        }
+
+        @Nullable
+        private SchemaCheck getItemCheck(int index) {
+
+            if (itemCheck != null) {
+                return itemCheck;
+            }
+
+            return index < tupleItemChecks.length ? tupleItemChecks[index] : additionalItemCheck;
+        }
+    }
+
+
+    /**
+     * A check for {@code minItems}, {@code maxItems}, {@code minLength}, {@code maxLength}, {@code minProperties} and
+     * {@code maxProperties}.
+     */
+    static class SizeCheck implements SchemaCheck {
+
+        private final String keyword;
+        private final int type;
+        private final long minimum;
+        private final long maximum;
+
+        SizeCheck(String keyword, int type, long minimum, long maximum) {
+
+            this.keyword = keyword;
+            this.type = type;
+            this.minimum = minimum;
+            this.maximum = maximum;
+        }
+
+        @Override
+        public boolean check(JsonNode instance, InstancePath path, List<SchemaValidationError> errors) {
+
+            if ((getType(instance) & type) == 0) {
+                return true;
+            }
+
+            long size = type == STRING_TYPE
+                    ? instance.textValue().codePointCount(0, instance.textValue().length())
+                    : instance.size();
+
+            return checkSize(size, path, errors);
+        }
+
+        @Override
+        public CheckState start(JsonParser parser, InstancePath path, List<SchemaValidationError> errors)
+                throws IOException {
+
+            if ((getType(parser) & type) == 0) {
+                return VALID;
+            }
+
+            if (type == STRING_TYPE) {
+                int size = Character.codePointCount(parser.getTextCharacters(), parser.getTextOffset(),
+                        parser.getTextLength());
+
+                return CheckState.of(checkSize(size, path, errors));
+            }
+
+            return new ContainerState(path, errors) {
+
+                private long size;
+
+                @Override
+                public CheckState startProperty(String name, JsonParser parser) {
+
+                    size++;
+                    return VALID;
+                }
+
+                @Override
+                public CheckState startItem(int index, JsonParser parser) {
+
+                    size++;
+                    return VALID;
+                }
+
+                @Override
+                public boolean end() {
+                    return checkSize(size, path, errors);
+                }
+            };
+        }
+
+        private boolean checkSize(long size, InstancePath path, List<SchemaValidationError> errors) {
+
+            if (size < minimum) {
+                return fail(path, errors, keyword, "The size " + size + " is less than " + minimum + ".");
+            }
+
+            if (size > maximum) {
+                return fail(path, errors, keyword, "The size " + size + " is greater than " + maximum + ".");
+            }
+
+            return true;
+        }
+    }
+
+
+    /**
+     * A check for {@code minimum} and {@code maximum} in their draft 4 and draft 6+ forms.
+     */
+    static class RangeCheck implements SchemaCheck {
+
+        private final String keyword;
+        private final BigDecimal limit;
+        private final boolean isMinimum;
+        private final boolean isExclusive;
+
+        RangeCheck(String keyword, BigDecimal limit, boolean isMinimum, boolean isExclusive) {
+
+            this.keyword = keyword;
+            this.limit = limit;
+            this.isMinimum = isMinimum;
+            this.isExclusive = isExclusive;
+        }
+
+        @Override
+        public boolean check(JsonNode instance, InstancePath path, List<SchemaValidationError> errors) {
+
+            if (!instance.isNumber()) {
+                return true;
+            }
+
+            return checkLimit(instance.decimalValue(), path, errors);
+        }
+
+        @Override
+        public CheckState start(JsonParser parser, InstancePath path, List<SchemaValidationError> errors)
+                throws IOException {
+
+            return !isNumber(parser) ? VALID : CheckState.of(checkLimit(parser.getDecimalValue(), path, errors));
+        }
+
+        private boolean checkLimit(BigDecimal value, InstancePath path, List<SchemaValidationError> errors) {
+
+            int comparison = value.compareTo(limit) * (isMinimum ? 1 : -1);
+
+            if (comparison > 0 || (comparison == 0 && !isExclusive)) {
+                return true;
+            }
+
+            return fail(path, errors, keyword, "The value must be " + (isMinimum ? "greater" : "less") + " than "
+                    + (isExclusive ? "" : "or equal to ") + limit.toPlainString() + ".");
+        }
+    }
+
+
+    static class MultipleOfCheck implements SchemaCheck {
+
+        private final BigDecimal divisor;
+
+        MultipleOfCheck(BigDecimal divisor) {
+            this.divisor = divisor;
+        }
+
+        @Override
+        public boolean check(JsonNode instance, InstancePath path, List<SchemaValidationError> errors) {
+
+            return !instance.isNumber() || checkMultiple(instance.decimalValue(), path, errors);
+        }
+
+        @Override
+        public CheckState start(JsonParser parser, InstancePath path, List<SchemaValidationError> errors)
+                throws IOException {
+
+            return !isNumber(parser) ? VALID : CheckState.of(checkMultiple(parser.getDecimalValue(), path, errors));
+        }
+
+        private boolean checkMultiple(BigDecimal value, InstancePath path, List<SchemaValidationError> errors) {
+
+            return value.remainder(divisor).signum() == 0 || fail(path, errors, "multipleOf",
+                    "The value isn't a multiple of " + divisor.toPlainString() + ".");
+        }
+    }
+
+
+    static class PatternCheck implements SchemaCheck {
+
+        private final Pattern pattern;
+
+        PatternCheck(Pattern pattern) {
+            this.pattern = pattern;
+        }
+
+        @Override
+        public boolean check(JsonNode instance, InstancePath path, List<SchemaValidationError> errors) {
+
+            return !instance.isTextual() || checkMatch(instance.textValue(), path, errors);
+        }
+
+        @Override
+        public CheckState start(JsonParser parser, InstancePath path, List<SchemaValidationError> errors)
+                throws IOException {
+
+            return parser.getCurrentToken() != JsonToken.VALUE_STRING
+                    ? VALID
+                    : CheckState.of(checkMatch(parser.getText(), path, errors));
+        }
+
+        private boolean checkMatch(String value, InstancePath path, List<SchemaValidationError> errors) {
+
+            return pattern.matcher(value).find()
+                    || fail(path, errors, "pattern", "The value doesn't match the pattern '" + pattern + "'.");
+        }
+    }
+
+
+    static class DateTimeFormatCheck implements SchemaCheck {
+
+        @Override
+        public boolean check(JsonNode instance, InstancePath path, List<SchemaValidationError> errors) {
+
+            if (!instance.isTextual()) {
+                return true;
+            }
+
+            char[] text = instance.textValue().toCharArray();
+
+            return checkFormat(text, 0, text.length, path, errors);
+        }
+
+        @Override
+        public CheckState start(JsonParser parser, InstancePath path, List<SchemaValidationError> errors)
+                throws IOException {
+
+            if (parser.getCurrentToken() != JsonToken.VALUE_STRING) {
+                return VALID;
+            }
+
+            // the date time is parsed straight from the buffer of the parser
+            return CheckState.of(checkFormat(parser.getTextCharacters(), parser.getTextOffset(),
+                    parser.getTextLength(), path, errors));
+        }
+
+        private static boolean checkFormat(char[] text, int offset, int length, InstancePath path,
+                List<SchemaValidationError> errors) {
+
+            return Rfc3339OffsetDateTimeDeserializer.parse(text, offset, length) != null
+                    || isDateTimeWithLongFraction(text, offset, length)
+                    || fail(path, errors, "format", "The value isn't an RFC 3339 date time.");
+        }
+
+        /**
+         * @return true if the text is an RFC 3339 date time with more than nine fractional digits, which the parser
+         * leaves to the JSR-310 deserializer, false otherwise. The digits beyond nanoseconds don't affect whether a
+         * date time is valid, so they're dropped before parsing it again.
+         */
+        private static boolean isDateTimeWithLongFraction(char[] text, int offset, int length) {
+
+            int fractionStart = offset + 20;
+            int end = offset + length;
+
+            if (length <= 29 || text[fractionStart - 1] != '.') {
+                return false;
+            }
+
+            int fractionEnd = fractionStart;
+
+            while (fractionEnd < end && text[fractionEnd] >= '0' && text[fractionEnd] <= '9') {
+                fractionEnd++;
+            }
+
+            if (fractionEnd - fractionStart <= 9) {
+                return false;
+            }
+
+            char[] truncatedText = new char[length - (fractionEnd - fractionStart - 9)];
+
+            System.arraycopy(text, offset, truncatedText, 0, 29);
+            System.arraycopy(text, fractionEnd, truncatedText, 29, end - fractionEnd);
+
+            return Rfc3339OffsetDateTimeDeserializer.parse(truncatedText, 0, truncatedText.length) != null;
+        }
+    }
+
+
+    static class UriFormatCheck implements SchemaCheck {
+
+        @Override
+        public boolean check(JsonNode instance, InstancePath path, List<SchemaValidationError> errors) {
+
+            return !instance.isTextual() || checkFormat(instance.textValue(), path, errors);
+        }
+
+        @Override
+        public CheckState start(JsonParser parser, InstancePath path, List<SchemaValidationError> errors)
+                throws IOException {
+
+            return parser.getCurrentToken() != JsonToken.VALUE_STRING
+                    ? VALID
+                    : CheckState.of(checkFormat(parser.getText(), path, errors));
+        }
+
+        private static boolean checkFormat(String value, InstancePath path, List<SchemaValidationError> errors) {
+
+            try {
+                if (new URI(value).isAbsolute()) {
+                    return true;
+                }
+            }
+            catch (URISyntaxException e) {
+                // fall through
+            }
+
+            return fail(path, errors, "format", "The value isn't an absolute URI.");
+        }
+    }
+}
@@ -0,0 +1,460 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.validation;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static org.openmhealth.schema.validation.SchemaCheck.fail;
+import static org.openmhealth.schema.validation.SchemaChecks.*;
+
+
+/**
+ * A compiler of JSON schema documents into trees of {@link SchemaCheck checks}. Each schema location is compiled
+ * once, and references between locations are linked once all reachable locations have been compiled, so cyclic
+ * references are supported.
+ * <p>
+ * The compiler supports the validation keywords of JSON Schema draft 4 through draft 7 that apply to single values,
+ * i.e. everything except {@code dependencies}, {@code uniqueItems}, {@code contains}, {@code propertyNames} and the
+ * conditional keywords. Unsupported keywords and unknown formats are ignored.
+ *
+ * @author agent
+ */
+final class SchemaCompiler {
+
+    private final Map<URI, SchemaDocument> documentsByUri;
+    private final Map<URI, SchemaCheck> checksByLocation = new HashMap<>();
+    private final Map<URI, Set<URI>> referencesByLocation = new HashMap<>();
+    private final List<ReferenceCheck> referenceChecks = new ArrayList<>();
+    private final Deque<URI> pendingLocations = new ArrayDeque<>();
+
+
+    /**
+     * A schema document and the base URI that references in it are resolved against.
+     */
+    static final class SchemaDocument {
+
+        private final JsonNode root;
+        private final URI baseUri;
+
+        SchemaDocument(JsonNode root, URI baseUri) {
+
+            this.root = root;
+            this.baseUri = baseUri;
+        }
+    }
+
+
+    /**
+     * A check that delegates to the check of another location.
+     */
+    static final class ReferenceCheck implements SchemaCheck {
+
+        private final URI location;
+        private SchemaCheck target;
+
+        ReferenceCheck(URI location) {
+            this.location = location;
+        }
+
+        @Override
+        public boolean check(JsonNode instance, InstancePath path, List<SchemaValidationError> errors) {
+
+            if (target == null) {
+                return failUnresolved(path, errors);
+            }
+
+            return target.check(instance, path, errors);
+        }
+
+        @Override
+        public CheckState start(JsonParser parser, InstancePath path, List<SchemaValidationError> errors)
+                throws IOException {
+
+            if (target == null) {
+                return CheckState.of(failUnresolved(path, errors));
+            }
+
+            return target.start(parser, path, errors);
+        }
+
+        private boolean failUnresolved(InstancePath path, List<SchemaValidationError> errors) {
+            return fail(path, errors, "$ref", "The schema reference '" + location + "' can't be resolved.");
+        }
+    }
+
+
+    /**
+     * @param documentsByUri the schema documents, keyed by every URI they can be referenced by, without fragments
+     */
+    SchemaCompiler(Map<URI, SchemaDocument> documentsByUri) {
+        this.documentsByUri = documentsByUri;
+    }
+
+    /**
+     * Compiles the schema at a location and everything it references. The returned check can only be used once
+     * {@link #link()} has been called.
+     *
+     * @param location the location of the schema, optionally with a JSON pointer fragment
+     * @return the check of the schema
+     */
+    SchemaCheck compile(URI location) {
+
+        location = normalize(location);
+
+        pendingLocations.add(location);
+
+        while (!pendingLocations.isEmpty()) {
+            compileLocation(pendingLocations.remove());
+        }
+
+        SchemaCheck check = checksByLocation.get(location);
+
+        if (check != null) {
+            return check;
+        }
+
+        ReferenceCheck referenceCheck = new ReferenceCheck(location);
+        referenceChecks.add(referenceCheck);
+
+        return referenceCheck;
+    }
+
+    /**
+     * Links the references in the compiled schemas to the checks of the locations they refer to.
+     */
+    void link() {
+
+        for (ReferenceCheck referenceCheck : referenceChecks) {
+            referenceCheck.target = checksByLocation.get(referenceCheck.location);
+        }
+    }
+
+    /**
+     * @param location a location that has been compiled
+     * @return the locations reachable from the location that can't be resolved
+     */
+    Set<URI> findUnresolvableLocations(URI location) {
+
+        Set<URI> unresolvableLocations = new HashSet<>();
+        Set<URI> visitedLocations = new HashSet<>();
+        Deque<URI> locations = new ArrayDeque<>();
+
+        locations.add(normalize(location));
+
+        while (!locations.isEmpty()) {
+            URI currentLocation = locations.remove();
+
+            if (!visitedLocations.add(currentLocation)) {
+                continue;
+            }
+
+            if (!checksByLocation.containsKey(currentLocation)) {
+                unresolvableLocations.add(currentLocation);
+                continue;
+            }
+
+            locations.addAll(referencesByLocation.getOrDefault(currentLocation, Collections.emptySet()));
+        }
+
+        return unresolvableLocations;
+    }
+
+    private void compileLocation(URI location) {
+
+        if (checksByLocation.containsKey(location) || referencesByLocation.containsKey(location)) {
+            return;
+        }
+
+        Set<URI> references = new HashSet<>();
+        referencesByLocation.put(location, references);
+
+        SchemaDocument document = documentsByUri.get(withoutFragment(location));
+
+        if (document == null || !location.getFragment().isEmpty() && !location.getFragment().startsWith("/")) {
+            return;
+        }
+
+        JsonNode schema = document.root.at(location.getFragment());
+
+        if (schema.isMissingNode()) {
+            return;
+        }
+
+        checksByLocation.put(location, compileSchema(schema, document.baseUri, references));
+    }
+
+    private SchemaCheck compileSchema(JsonNode schema, URI baseUri, Set<URI> references) {
+
+        if (schema.isBoolean()) {
+            return schema.booleanValue() ? ALWAYS_VALID : ALWAYS_INVALID;
+        }
+
+        checkArgument(schema.isObject(), "The schema '%s' in '%s' isn't an object.", schema, baseUri);
+
+        // other keywords are ignored in the presence of a reference
+        if (schema.path("$ref").isTextual()) {
+            URI location = normalize(baseUri.resolve(schema.get("$ref").textValue()));
+
+            references.add(location);
+            pendingLocations.add(location);
+
+            ReferenceCheck referenceCheck = new ReferenceCheck(location);
+            referenceChecks.add(referenceCheck);
+
+            return referenceCheck;
+        }
+
+        List<SchemaCheck> checks = new ArrayList<>();
+
+        if (schema.has("type")) {
+            checks.add(compileType(schema.get("type")));
+        }
+
+        if (schema.has("enum")) {
+            checks.add(new EnumCheck("enum", schema.get("enum")));
+        }
+
+        if (schema.has("const")) {
+            checks.add(new EnumCheck("const", Collections.singletonList(schema.get("const"))));
+        }
+
+        if (schema.path("required").size() > 0 || schema.has("properties") || schema.has("patternProperties")
+                || schema.has("additionalProperties")) {
+            checks.add(compileProperties(schema, baseUri, references));
+        }
+
+        if (schema.has("items")) {
+            checks.add(compileItems(schema, baseUri, references));
+        }
+
+        addSizeCheck(checks, schema, "minItems", "maxItems", ARRAY_TYPE);
+        addSizeCheck(checks, schema, "minLength", "maxLength", STRING_TYPE);
+        addSizeCheck(checks, schema, "minProperties", "maxProperties", OBJECT_TYPE);
+
+        addRangeCheck(checks, schema, "minimum", "exclusiveMinimum", true);
+        addRangeCheck(checks, schema, "maximum", "exclusiveMaximum", false);
+
+        if (schema.has("multipleOf")) {
+            checks.add(new MultipleOfCheck(schema.get("multipleOf").decimalValue()));
+        }
+
+        if (schema.has("pattern")) {
+            checks.add(new PatternCheck(Pattern.compile(schema.get("pattern").textValue())));
+        }
+
+        if (schema.has("format")) {
+            switch (schema.get("format").asText()) {
+                case "date-time":
+                    checks.add(new DateTimeFormatCheck());
+                    break;
+                case "uri":
+                    checks.add(new UriFormatCheck());
+                    break;
+            }
+        }
+
+        if (schema.has("allOf")) {
+            checks.add(new AllOfCheck(compileSchemas(schema.get("allOf"), baseUri, references)));
+        }
+
+        if (schema.has("anyOf")) {
+            checks.add(new AnyOfCheck(compileSchemas(schema.get("anyOf"), baseUri, references)));
+        }
+
+        if (schema.has("oneOf")) {
+            checks.add(new OneOfCheck(compileSchemas(schema.get("oneOf"), baseUri, references)));
+        }
+
+        if (schema.has("not")) {
+            checks.add(new NotCheck(compileSchema(schema.get("not"), baseUri, references)));
+        }
+
+        if (checks.isEmpty()) {
+            return ALWAYS_VALID;
+        }
+
+        return checks.size() == 1 ? checks.get(0) : new AllOfCheck(checks);
+    }
+
+    private List<SchemaCheck> compileSchemas(JsonNode schemas, URI baseUri, Set<URI> references) {
+
+        List<SchemaCheck> checks = new ArrayList<>();
+
+        for (JsonNode schema : schemas) {
+            checks.add(compileSchema(schema, baseUri, references));
+        }
+
+        return checks;
+    }
+
+    private SchemaCheck compileType(JsonNode type) {
+
+        int allowedTypes = 0;
+
+        for (JsonNode typeName : type.isArray() ? type : Collections.singletonList(type)) {
+            allowedTypes |= getTypeMask(typeName.asText());
+        }
+
+        return new TypeCheck(allowedTypes, type.isArray() ? type.toString() : type.asText());
+    }
+
+    private static int getTypeMask(String typeName) {
+
+        switch (typeName) {
+            case "null":
+                return NULL_TYPE;
+            case "boolean":
+                return BOOLEAN_TYPE;
+            case "object":
+                return OBJECT_TYPE;
+            case "array":
+                return ARRAY_TYPE;
+            case "number":
+                return NUMBER_TYPE;
+            case "integer":
+                return INTEGER_TYPE;
+            case "string":
+                return STRING_TYPE;
+            default:
+                throw new IllegalArgumentException("The type '" + typeName + "' isn't supported.");
+        }
+    }
+
+    private SchemaCheck compileProperties(JsonNode schema, URI baseUri, Set<URI> references) {
+
+        List<String> requiredPropertyNames = new ArrayList<>();
+        schema.path("required").forEach(propertyName -> requiredPropertyNames.add(propertyName.asText()));
+
+        Map<String, SchemaCheck> propertyChecks = new LinkedHashMap<>();
+        Map<Pattern, SchemaCheck> patternPropertyChecks = new LinkedHashMap<>();
+        SchemaCheck additionalPropertyCheck = null;
+
+        for (Iterator<Map.Entry<String, JsonNode>> properties = schema.path("properties").fields();
+             properties.hasNext(); ) {
+
+            Map.Entry<String, JsonNode> property = properties.next();
+            propertyChecks.put(property.getKey(), compileSchema(property.getValue(), baseUri, references));
+        }
+
+        for (Iterator<Map.Entry<String, JsonNode>> properties = schema.path("patternProperties").fields();
+             properties.hasNext(); ) {
+
+            Map.Entry<String, JsonNode> property = properties.next();
+            patternPropertyChecks.put(Pattern.compile(property.getKey()),
+                    compileSchema(property.getValue(), baseUri, references));
+        }
+
+        if (schema.has("additionalProperties")) {
+            SchemaCheck check = compileSchema(schema.get("additionalProperties"), baseUri, references);
+
+            additionalPropertyCheck = check == ALWAYS_VALID ? null : check;
+        }
+
+        return new PropertiesCheck(requiredPropertyNames, propertyChecks, patternPropertyChecks,
+                additionalPropertyCheck);
+    }
+
+    private SchemaCheck compileItems(JsonNode schema, URI baseUri, Set<URI> references) {
+
+        JsonNode items = schema.get("items");
+
+        if (!items.isArray()) {
+            return new ItemsCheck(compileSchema(items, baseUri, references), null, null);
+        }
+
+        SchemaCheck additionalItemCheck = schema.has("additionalItems")
+                ? compileSchema(schema.get("additionalItems"), baseUri, references)
+                : null;
+
+        return new ItemsCheck(null, compileSchemas(items, baseUri, references), additionalItemCheck);
+    }
+
+    private static void addSizeCheck(List<SchemaCheck> checks, JsonNode schema, String minimumKeyword,
+            String maximumKeyword, int type) {
+
+        if (schema.has(minimumKeyword)) {
+            checks.add(new SizeCheck(minimumKeyword, type, schema.get(minimumKeyword).asLong(), Long.MAX_VALUE));
+        }
+
+        if (schema.has(maximumKeyword)) {
+            checks.add(new SizeCheck(maximumKeyword, type, 0, schema.get(maximumKeyword).asLong()));
+        }
+    }
+
+    private static void addRangeCheck(List<SchemaCheck> checks, JsonNode schema, String keyword,
+            String exclusiveKeyword, boolean isMinimum) {
+
+        JsonNode exclusiveLimit = schema.get(exclusiveKeyword);
+
+        if (schema.has(keyword)) {
+            // in draft 4, the exclusive keyword is a boolean that modifies the inclusive one
+            boolean isExclusive = exclusiveLimit != null && exclusiveLimit.asBoolean(false);
+
+            checks.add(new RangeCheck(keyword, schema.get(keyword).decimalValue(), isMinimum, isExclusive));
+        }
+
+        if (exclusiveLimit != null && exclusiveLimit.isNumber()) {
+            checks.add(new RangeCheck(exclusiveKeyword, exclusiveLimit.decimalValue(), isMinimum, true));
+        }
+    }
+
+    /**
+     * @return the location with an empty fragment if it doesn't have one, so that equivalent locations are equal
+     */
+    static URI normalize(URI location) {
+
+        if (location.getFragment() != null) {
+            return location;
+        }
+
+        return withFragment(location, "");
+    }
+
+    static URI withoutFragment(URI location) {
+        return withFragment(location, null);
+    }
+
+    private static URI withFragment(URI location, @Nullable String fragment) {
+
+        try {
+            return new URI(location.getScheme(), location.getSchemeSpecificPart(), fragment);
+        }
+        catch (URISyntaxException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.validation;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+
+/**
+ * An error found while validating a document against a schema.
+ *
+ * @author agent
+ */
+public class SchemaValidationError {
+
+    private final String instancePointer;
+    private final String keyword;
+    private final String message;
+
+
+    public SchemaValidationError(String instancePointer, String keyword, String message) {
+
+        checkNotNull(instancePointer, "An instance pointer hasn't been specified.");
+        checkNotNull(keyword, "A keyword hasn't been specified.");
+        checkNotNull(message, "A message hasn't been specified.");
+
+        this.instancePointer = instancePointer;
+        this.keyword = keyword;
+        this.message = message;
+    }
+
+    /**
+     * @return a JSON pointer to the invalid value in the document, e.g. "/heart_rate/unit", or the empty string if
+     * the document itself is invalid
+     */
+    public String getInstancePointer() {
+        return instancePointer;
+    }
+
+    /**
+     * @return the schema keyword that the value violates, e.g. "required" or "enum"
+     */
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+
+        if (this == object) {
+            return true;
+        }
+        if (object == null || getClass() != object.getClass()) {
+            return false;
+        }
+
+        SchemaValidationError that = (SchemaValidationError) object;
+
+        return instancePointer.equals(that.instancePointer)
+                && keyword.equals(that.keyword)
+                && message.equals(that.message);
+    }
+
+    @Override
+    public int hashCode() {
+
+        int result = instancePointer.hashCode();
+        result = 31 * result + keyword.hashCode();
+        result = 31 * result + message.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return (instancePointer.isEmpty() ? "/" : instancePointer) + ": " + message;
+    }
+}
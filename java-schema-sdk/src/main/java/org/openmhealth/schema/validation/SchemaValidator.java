@@ -0,0 +1,288 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.validation;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openmhealth.schema.domain.omh.SchemaCatalog;
+import org.openmhealth.schema.domain.omh.SchemaId;
+import org.openmhealth.schema.validation.SchemaCompiler.SchemaDocument;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.openmhealth.schema.configuration.JacksonConfiguration.newObjectMapper;
+
+
+/**
+ * A validator of documents against the schemas in this repository. The schemas are loaded and compiled once, with
+ * their references resolved, into trees of checks that don't allocate while validating valid documents. References
+ * to schemas that aren't loaded, e.g. IEEE 1752 schemas, can't be resolved, and documents that reach them are
+ * reported as invalid with a "$ref" error.
+ * <p>
+ * Documents can either be validated as trees, or read from a {@link JsonParser} and validated token by token without
+ * building a tree. To validate data points before binding them, use a {@link ValidatingDataPointReader}.
+ * <p>
+ * Instances of this class are immutable and thread-safe.
+ *
+ * @author agent
+ */
+public class SchemaValidator {
+
+    /**
+     * The URI that schema files are published under, which relative references are resolved against.
+     */
+    public static final URI DEFAULT_BASE_URI = URI.create("https://w3id.org/openmhealth/schemas/");
+
+    private static final String SCHEMA_FILE_EXTENSION = ".json";
+
+    private final Map<SchemaId, SchemaCheck> checksBySchemaId = new HashMap<>();
+    private final Map<SchemaId, Set<URI>> unresolvableReferencesBySchemaId = new HashMap<>();
+
+
+    /**
+     * @param schemaUris the URIs of the schemas to compile, keyed by schema identifier
+     * @param documentsByUri the schema documents, keyed by every URI they can be referenced by
+     */
+    SchemaValidator(Map<SchemaId, URI> schemaUris, Map<URI, SchemaDocument> documentsByUri) {
+
+        SchemaCompiler compiler = new SchemaCompiler(documentsByUri);
+
+        for (Map.Entry<SchemaId, URI> schemaUri : schemaUris.entrySet()) {
+            checksBySchemaId.put(schemaUri.getKey(), compiler.compile(schemaUri.getValue()));
+        }
+
+        compiler.link();
+
+        for (Map.Entry<SchemaId, URI> schemaUri : schemaUris.entrySet()) {
+            Set<URI> unresolvableReferences = compiler.findUnresolvableLocations(schemaUri.getValue());
+
+            if (!unresolvableReferences.isEmpty()) {
+                unresolvableReferencesBySchemaId
+                        .put(schemaUri.getKey(), Collections.unmodifiableSet(unresolvableReferences));
+            }
+        }
+    }
+
+    /**
+     * Creates a validator of the schemas in a directory that contains a subdirectory per namespace, like the
+     * "schema" directory of this repository. Schema files are named after their schema identifiers, e.g.
+     * "omh/heart-rate-1.0.json". Files like "omh/heart-rate-1.x.json" are loaded so that they can be referenced, but
+     * can't be validated against directly.
+     *
+     * @param schemaDirectory the directory to load schemas from
+     * @return the validator
+     * @throws IOException if the schemas can't be read
+     */
+    public static SchemaValidator fromDirectory(Path schemaDirectory) throws IOException {
+
+        checkNotNull(schemaDirectory, "A schema directory hasn't been specified.");
+        checkArgument(Files.isDirectory(schemaDirectory), "The path '%s' isn't a directory.", schemaDirectory);
+
+        ObjectMapper objectMapper = newObjectMapper();
+        Map<SchemaId, URI> schemaUris = new HashMap<>();
+        Map<URI, SchemaDocument> documentsByUri = new HashMap<>();
+
+        for (Path namespaceDirectory : listDirectory(schemaDirectory)) {
+            if (!Files.isDirectory(namespaceDirectory)) {
+                continue;
+            }
+
+            String namespace = namespaceDirectory.getFileName().toString();
+
+            for (Path file : listDirectory(namespaceDirectory)) {
+                String filename = file.getFileName().toString();
+
+                if (!filename.endsWith(SCHEMA_FILE_EXTENSION)) {
+                    continue;
+                }
+
+                URI uri = DEFAULT_BASE_URI.resolve(namespace + "/" + filename);
+                JsonNode root = objectMapper.readTree(file.toFile());
+                URI id = getId(root);
+
+                SchemaDocument document = new SchemaDocument(root, id != null ? id : uri);
+
+                documentsByUri.put(uri, document);
+
+                if (id != null) {
+                    documentsByUri.put(SchemaCompiler.withoutFragment(id), document);
+                }
+
+                SchemaId schemaId = SchemaCatalog.getSchemaId(namespace, filename);
+
+                if (schemaId != null) {
+                    schemaUris.put(schemaId, uri);
+                }
+            }
+        }
+
+        return new SchemaValidator(schemaUris, documentsByUri);
+    }
+
+    private static List<Path> listDirectory(Path directory) throws IOException {
+
+        List<Path> paths = new ArrayList<>();
+
+        try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(directory)) {
+            directoryStream.forEach(paths::add);
+        }
+
+        return paths;
+    }
+
+    private static URI getId(JsonNode root) {
+
+        // the identifier keyword was renamed in draft 6
+        JsonNode id = root.has("$id") ? root.get("$id") : root.get("id");
+
+        return id != null && id.isTextual() ? URI.create(id.textValue()) : null;
+    }
+
+    /**
+     * @return the identifiers of the schemas that documents can be validated against
+     */
+    public Set<SchemaId> getSchemaIds() {
+        return Collections.unmodifiableSet(checksBySchemaId.keySet());
+    }
+
+    /**
+     * @param schemaId a schema identifier
+     * @return the references reachable from the schema that can't be resolved
+     */
+    public Set<URI> getUnresolvableReferences(SchemaId schemaId) {
+
+        checkSchemaId(schemaId);
+
+        return unresolvableReferencesBySchemaId.getOrDefault(schemaId, Collections.emptySet());
+    }
+
+    /**
+     * Validates a document.
+     *
+     * @param schemaId the identifier of the schema to validate the document against
+     * @param document the document to validate
+     * @return the errors in the document, which are empty if the document is valid
+     */
+    public List<SchemaValidationError> validate(SchemaId schemaId, JsonNode document) {
+
+        checkSchemaId(schemaId);
+        checkNotNull(document, "A document hasn't been specified.");
+
+        List<SchemaValidationError> errors = new ArrayList<>();
+
+        checksBySchemaId.get(schemaId).check(document, InstancePath.ROOT, errors);
+
+        return errors;
+    }
+
+    /**
+     * Checks if a document is valid, which is faster than {@link #validate(SchemaId, JsonNode)} since it stops at the
+     * first error.
+     *
+     * @param schemaId the identifier of the schema to validate the document against
+     * @param document the document to validate
+     * @return true if the document is valid
+     */
+    public boolean isValid(SchemaId schemaId, JsonNode document) {
+
+        checkSchemaId(schemaId);
+        checkNotNull(document, "A document hasn't been specified.");
+
+        return checksBySchemaId.get(schemaId).check(document, null, null);
+    }
+
+    /**
+     * Validates a document read from a token stream, without building a tree of it.
+     *
+     * @param schemaId the identifier of the schema to validate the document against
+     * @param parser the parser to read the document from, positioned on or before its first token, which is left on
+     * its last token
+     * @return the errors in the document, which are empty if the document is valid
+     * @throws IOException if the document can't be read
+     */
+    public List<SchemaValidationError> validate(SchemaId schemaId, JsonParser parser) throws IOException {
+
+        checkSchemaId(schemaId);
+        checkNotNull(parser, "A parser hasn't been specified.");
+
+        List<SchemaValidationError> errors = new ArrayList<>();
+
+        TokenStreamChecker.check(checksBySchemaId.get(schemaId), startDocument(parser), InstancePath.ROOT, errors,
+                null);
+
+        return errors;
+    }
+
+    /**
+     * Checks if a document read from a token stream is valid, without building a tree of it. Once the document is
+     * known to be invalid, the rest of it is skipped.
+     *
+     * @param schemaId the identifier of the schema to validate the document against
+     * @param parser the parser to read the document from, positioned on or before its first token, which is left on
+     * its last token
+     * @return true if the document is valid
+     * @throws IOException if the document can't be read
+     */
+    public boolean isValid(SchemaId schemaId, JsonParser parser) throws IOException {
+
+        checkSchemaId(schemaId);
+        checkNotNull(parser, "A parser hasn't been specified.");
+
+        return TokenStreamChecker.check(checksBySchemaId.get(schemaId), startDocument(parser), null, null, null);
+    }
+
+    /**
+     * @return the parser, positioned on the first token of a document
+     */
+    static JsonParser startDocument(JsonParser parser) throws IOException {
+
+        if (parser.getCurrentToken() == null && parser.nextToken() == null) {
+            throw new JsonParseException(parser, "The input doesn't contain a document.");
+        }
+
+        return parser;
+    }
+
+    /**
+     * @return the check of a schema, or null if the schema hasn't been loaded
+     */
+    @Nullable
+    SchemaCheck getCheck(SchemaId schemaId) {
+        return checksBySchemaId.get(schemaId);
+    }
+
+    private void checkSchemaId(SchemaId schemaId) {
+
+        checkNotNull(schemaId, "A schema identifier hasn't been specified.");
+        checkArgument(checksBySchemaId.containsKey(schemaId), "The schema '%s' hasn't been loaded.", schemaId);
+    }
+}
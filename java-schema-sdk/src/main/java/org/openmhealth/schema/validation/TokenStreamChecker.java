@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.validation;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.List;
+
+
+/**
+ * A driver that checks a value read from a token stream against a {@link SchemaCheck}, without building a tree.
+ * The tokens can be copied to a generator as they're read, typically a
+ * {@link com.fasterxml.jackson.databind.util.TokenBuffer} that the value is bound from once it's known to be valid.
+ *
+ * @author agent
+ */
+final class TokenStreamChecker {
+
+    private TokenStreamChecker() {
+    }
+
+    /**
+     * Checks a value.
+     *
+     * @param check the check to apply
+     * @param parser the parser, positioned on the first token of the value, which is left on its last token
+     * @param path the path of the value, or null if errors aren't being collected
+     * @param errors the list to add errors to, or null if the check can stop at the first error
+     * @param copy the generator to copy the tokens of the value to, or null if they don't need to be kept
+     * @return true if the value is valid
+     */
+    static boolean check(SchemaCheck check, JsonParser parser, @Nullable InstancePath path,
+            @Nullable List<SchemaValidationError> errors, @Nullable JsonGenerator copy) throws IOException {
+
+        CheckState state = check.start(parser, path, errors);
+
+        feed(parser, state, copy);
+
+        return state.end();
+    }
+
+    /**
+     * Feeds the values contained in the current object or array to a state.
+     */
+    static void feed(JsonParser parser, CheckState state, @Nullable JsonGenerator copy) throws IOException {
+
+        // the contents of a value that's already been decided don't need to be looked at
+        if (CheckState.isTerminal(state)) {
+            if (copy != null) {
+                copy.copyCurrentStructure(parser);
+            }
+            else {
+                parser.skipChildren();
+            }
+
+            return;
+        }
+
+        if (copy != null) {
+            copy.copyCurrentEvent(parser);
+        }
+
+        if (parser.getCurrentToken() == JsonToken.START_OBJECT) {
+            while (nextToken(parser) == JsonToken.FIELD_NAME) {
+                if (copy != null) {
+                    copy.copyCurrentEvent(parser);
+                }
+
+                String name = parser.getCurrentName();
+                nextToken(parser);
+
+                feedValue(parser, state, state.startProperty(name, parser), copy);
+            }
+        }
+        else if (parser.getCurrentToken() == JsonToken.START_ARRAY) {
+            for (int index = 0; nextToken(parser) != JsonToken.END_ARRAY; index++) {
+                feedValue(parser, state, state.startItem(index, parser), copy);
+            }
+        }
+        else {
+            return;
+        }
+
+        if (copy != null) {
+            copy.copyCurrentEvent(parser);
+        }
+    }
+
+    /**
+     * Feeds a value contained in an object or array to its state, and ends it.
+     *
+     * @param state the state of the object or array
+     * @param valueState the state of the value
+     */
+    static void feedValue(JsonParser parser, CheckState state, CheckState valueState, @Nullable JsonGenerator copy)
+            throws IOException {
+
+        feed(parser, valueState, copy);
+
+        if (!CheckState.isTerminal(valueState)) {
+            state.endValue(valueState);
+        }
+    }
+
+    private static JsonToken nextToken(JsonParser parser) throws IOException {
+
+        JsonToken token = parser.nextToken();
+
+        if (token == null) {
+            throw new JsonParseException(parser, "The input ended before the value did.");
+        }
+
+        return token;
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.validation;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.openmhealth.schema.domain.omh.BodyTypeRegistry;
+import org.openmhealth.schema.domain.omh.DataPoint;
+import org.openmhealth.schema.domain.omh.SchemaId;
+import org.openmhealth.schema.serializer.DataPointDeserializer;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.fasterxml.jackson.databind.DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.openmhealth.schema.validation.CheckState.isTerminal;
+
+
+/**
+ * A reader that validates data points before binding them. Each data point is read in a single pass, in which its
+ * tokens are checked against the data point schema, its body is checked against the schema identified by its header,
+ * and the tokens are copied to a {@link TokenBuffer}. The data point is only bound from the buffer once it's known to
+ * be valid, so no domain objects are created for invalid data points and no tree is built for valid ones.
+ * <p>
+ * The header is expected to precede the body, which is the case for data points written by this SDK. If it doesn't,
+ * the body is buffered separately and checked once the header has been read.
+ *
+ * @author agent
+ */
+public class ValidatingDataPointReader {
+
+    private static final String HEADER_PROPERTY = "header";
+    private static final String BODY_PROPERTY = "body";
+    private static final String BODY_SCHEMA_ID_PROPERTY = "schema_id";
+
+    private final SchemaValidator schemaValidator;
+    private final SchemaCheck dataPointCheck;
+    private final ObjectMapper objectMapper;
+
+
+    /**
+     * @param schemaValidator the validator containing the data point schema and the schemas of the bodies to read
+     * @param objectMapper the object mapper to bind data points with, which is copied and left unchanged
+     * @param bodyTypeRegistry the registry used to resolve the body types of data points
+     */
+    public ValidatingDataPointReader(SchemaValidator schemaValidator, ObjectMapper objectMapper,
+            BodyTypeRegistry bodyTypeRegistry) {
+
+        checkNotNull(schemaValidator, "A schema validator hasn't been specified.");
+        checkNotNull(objectMapper, "An object mapper hasn't been specified.");
+        checkNotNull(bodyTypeRegistry, "A body type registry hasn't been specified.");
+
+        this.schemaValidator = schemaValidator;
+        this.dataPointCheck = schemaValidator.getCheck(DataPoint.SCHEMA_ID);
+
+        checkArgument(dataPointCheck != null, "The schema '%s' hasn't been loaded.", DataPoint.SCHEMA_ID);
+
+        SimpleModule dataPointModule = new SimpleModule("validatingDataPointReaderModule");
+        dataPointModule.addDeserializer(DataPoint.class,
+                new DataPointDeserializer(bodyTypeRegistry, objectMapper.constructType(JsonNode.class)));
+
+        this.objectMapper = objectMapper.copy();
+        this.objectMapper.registerModule(dataPointModule);
+    }
+
+    /**
+     * Reads a data point.
+     *
+     * @param parser the parser to read the data point from, positioned on or before its first token, which is left on
+     * its last token whether or not the data point is valid
+     * @return the data point
+     * @throws InvalidDataPointException if the data point isn't valid
+     * @throws IOException if the data point can't be read
+     */
+    public DataPoint<?> read(JsonParser parser) throws IOException {
+
+        checkNotNull(parser, "A parser hasn't been specified.");
+
+        SchemaValidator.startDocument(parser);
+
+        List<SchemaValidationError> errors = new ArrayList<>();
+        CheckState state = dataPointCheck.start(parser, InstancePath.ROOT, errors);
+
+        if (!parser.isExpectedStartObjectToken()) {
+            TokenStreamChecker.feed(parser, state, null);
+            throw new InvalidDataPointException(parser, errors);
+        }
+
+        TokenBuffer buffer = newBuffer(parser);
+        buffer.writeStartObject();
+
+        boolean headerRead = false;
+        SchemaId bodySchemaId = null;
+        TokenBuffer bodyBuffer = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            parser.nextToken();
+
+            CheckState valueState = state.startProperty(name, parser);
+
+            switch (name) {
+                case HEADER_PROPERTY:
+                    TokenBuffer headerBuffer = newBuffer(parser);
+                    TokenStreamChecker.feedValue(parser, state, valueState, headerBuffer);
+
+                    headerRead = true;
+                    bodySchemaId = readBodySchemaId(headerBuffer);
+
+                    buffer.writeFieldName(name);
+                    headerBuffer.serialize(buffer);
+                    break;
+
+                case BODY_PROPERTY:
+                    if (headerRead) {
+                        buffer.writeFieldName(name);
+                        feedBody(parser, state, valueState, bodySchemaId, buffer, errors);
+                    }
+                    else {
+                        bodyBuffer = newBuffer(parser);
+                        TokenStreamChecker.feedValue(parser, state, valueState, bodyBuffer);
+                    }
+                    break;
+
+                default:
+                    buffer.writeFieldName(name);
+                    TokenStreamChecker.feedValue(parser, state, valueState, buffer);
+            }
+        }
+
+        if (bodyBuffer != null) {
+            JsonParser bodyParser = bodyBuffer.asParser(parser.getCodec());
+            bodyParser.nextToken();
+
+            buffer.writeFieldName(BODY_PROPERTY);
+            feedBody(bodyParser, null, CheckState.VALID, bodySchemaId, buffer, errors);
+        }
+
+        state.end();
+
+        if (!errors.isEmpty()) {
+            throw new InvalidDataPointException(parser, errors);
+        }
+
+        buffer.writeEndObject();
+
+        return objectMapper.readValue(buffer.asParser(objectMapper), DataPoint.class);
+    }
+
+    private TokenBuffer newBuffer(JsonParser parser) {
+
+        TokenBuffer buffer = new TokenBuffer(parser);
+
+        // numbers are otherwise buffered as doubles, and bound differently than by the object mapper
+        buffer.forceUseOfBigDecimal(objectMapper.isEnabled(USE_BIG_DECIMAL_FOR_FLOATS));
+
+        return buffer;
+    }
+
+    /**
+     * Feeds a body both to the state of the data point check and to the check of the schema of the body.
+     *
+     * @param state the state of the data point check, or null if the body has already been fed to it
+     * @param valueState the state of the body in the data point check
+     */
+    private void feedBody(JsonParser parser, @Nullable CheckState state, CheckState valueState,
+            @Nullable SchemaId bodySchemaId, TokenBuffer buffer, List<SchemaValidationError> errors)
+            throws IOException {
+
+        InstancePath bodyPath = InstancePath.child(InstancePath.ROOT, BODY_PROPERTY);
+        SchemaCheck bodyCheck = bodySchemaId == null ? null : schemaValidator.getCheck(bodySchemaId);
+
+        // a missing body schema identifier is reported by the header schema
+        if (bodyCheck == null && bodySchemaId != null) {
+            errors.add(new SchemaValidationError(bodyPath.toPointer(), "$ref",
+                    "The schema '" + bodySchemaId + "' hasn't been loaded."));
+        }
+
+        CheckState bodyState = bodyCheck == null ? CheckState.VALID : bodyCheck.start(parser, bodyPath, errors);
+
+        if (state == null || isTerminal(valueState)) {
+            TokenStreamChecker.feed(parser, bodyState, buffer);
+        }
+        else if (isTerminal(bodyState)) {
+            TokenStreamChecker.feedValue(parser, state, valueState, buffer);
+        }
+        else {
+            TokenStreamChecker.feed(parser, new SchemaChecks.CheckStateGroup(new CheckState[] {valueState, bodyState}),
+                    buffer);
+            state.endValue(valueState);
+        }
+
+        bodyState.end();
+    }
+
+    /**
+     * @return the body schema identifier in a header, or null if it can't be read
+     */
+    @Nullable
+    private SchemaId readBodySchemaId(TokenBuffer headerBuffer) throws IOException {
+
+        JsonParser headerParser = headerBuffer.asParser(objectMapper);
+
+        if (headerParser.nextToken() != JsonToken.START_OBJECT) {
+            return null;
+        }
+
+        while (headerParser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = headerParser.getCurrentName();
+            headerParser.nextToken();
+
+            if (name.equals(BODY_SCHEMA_ID_PROPERTY)) {
+                try {
+                    return headerParser.readValueAs(SchemaId.class);
+                }
+                catch (JsonProcessingException e) {
+                    return null;
+                }
+            }
+
+            headerParser.skipChildren();
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.configuration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openmhealth.schema.configuration.JacksonConfiguration.Options;
+import org.openmhealth.schema.configuration.JacksonConfiguration.Options.PropertyAccess;
+import org.openmhealth.schema.domain.omh.BodyTypeRegistry;
+import org.openmhealth.schema.domain.omh.HeartRate;
+import org.openmhealth.schema.domain.omh.SchemaId;
+import org.openmhealth.schema.domain.omh.SchemaSupport;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.openmhealth.schema.configuration.JacksonConfiguration.newCborObjectMapper;
+import static org.openmhealth.schema.configuration.JacksonConfiguration.newObjectMapper;
+import static org.openmhealth.schema.configuration.JacksonConfiguration.newSmileObjectMapper;
+import static org.openmhealth.schema.domain.omh.SchemaSupport.OMH_NAMESPACE;
+
+
+/**
+ * A suite of unit tests that round trip the Open mHealth test data through the binary and Afterburner object
+ * mappers.
+ *
+ * @author agent
+ */
+public class JacksonConfigurationUnitTests {
+
+    public static final Path TEST_DATA_DIRECTORY = Paths.get("test-data", OMH_NAMESPACE);
+
+    private static final ObjectMapper jsonObjectMapper = newObjectMapper();
+    private static final ObjectMapper afterburnerObjectMapper =
+            newObjectMapper(new Options.Builder().setPropertyAccess(PropertyAccess.AFTERBURNER).build());
+    private static final BodyTypeRegistry bodyTypeRegistry = BodyTypeRegistry.newDefaultRegistry();
+
+
+    private static List<Path> findTestDataFiles() throws IOException {
+
+        List<Path> files;
+
+        try (Stream<Path> paths = Files.walk(TEST_DATA_DIRECTORY)) {
+            files = paths
+                    .filter(path -> path.toString().endsWith(".json"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+
+        assertThat(files.size(), greaterThan(0));
+
+        return files;
+    }
+
+    /**
+     * @return the test data files that should pass validation and belong to a schema with a body type
+     */
+    private List<Path> findMeasureFiles() throws IOException {
+
+        List<Path> files = findTestDataFiles().stream()
+                .filter(file -> file.getParent().getFileName().toString().equals("shouldPass"))
+                .filter(file -> findBodyType(file) != null)
+                .collect(Collectors.toList());
+
+        assertThat(files.size(), greaterThan(0));
+
+        return files;
+    }
+
+    @DataProvider(name = "testDataFiles")
+    public Object[][] newTestDataFiles() throws IOException {
+
+        return findTestDataFiles().stream()
+                .flatMap(file -> Stream.of(
+                        new Object[] {"smile", newSmileObjectMapper(), file},
+                        new Object[] {"cbor", newCborObjectMapper(), file}))
+                .toArray(Object[][]::new);
+    }
+
+    @DataProvider(name = "measureFiles")
+    public Object[][] newMeasureFiles() throws IOException {
+
+        return findMeasureFiles().stream()
+                .flatMap(file -> Stream.of(
+                        new Object[] {"smile", newSmileObjectMapper(), file, findBodyType(file)},
+                        new Object[] {"cbor", newCborObjectMapper(), file, findBodyType(file)}))
+                .toArray(Object[][]::new);
+    }
+
+    @DataProvider(name = "afterburnerMeasureFiles")
+    public Object[][] newAfterburnerMeasureFiles() throws IOException {
+
+        return findMeasureFiles().stream()
+                .map(file -> new Object[] {file, findBodyType(file)})
+                .toArray(Object[][]::new);
+    }
+
+    @Test(dataProvider = "testDataFiles")
+    public void documentsShouldSurviveRoundTrip(String format, ObjectMapper binaryObjectMapper, Path file)
+            throws IOException {
+
+        JsonNode document = jsonObjectMapper.readTree(file.toFile());
+
+        byte[] bytes = binaryObjectMapper.writeValueAsBytes(document);
+
+        assertThat(binaryObjectMapper.readTree(bytes), equalTo(document));
+    }
+
+    @Test(dataProvider = "measureFiles")
+    public void measuresShouldSurviveRoundTrip(String format, ObjectMapper binaryObjectMapper, Path file,
+            Class<? extends SchemaSupport> bodyType) throws IOException {
+
+        SchemaSupport measure = jsonObjectMapper.readValue(file.toFile(), bodyType);
+
+        byte[] bytes = binaryObjectMapper.writeValueAsBytes(measure);
+        SchemaSupport binaryMeasure = binaryObjectMapper.readValue(bytes, bodyType);
+
+        assertThat(binaryMeasure, equalTo(measure));
+        assertThat(jsonObjectMapper.writeValueAsString(binaryMeasure),
+                equalTo(jsonObjectMapper.writeValueAsString(measure)));
+    }
+
+    @Test(dataProvider = "afterburnerMeasureFiles")
+    public void measuresShouldBeMappedTheSameWayWithAfterburner(Path file, Class<? extends SchemaSupport> bodyType)
+            throws IOException {
+
+        SchemaSupport measure = jsonObjectMapper.readValue(file.toFile(), bodyType);
+        SchemaSupport afterburnerMeasure = afterburnerObjectMapper.readValue(file.toFile(), bodyType);
+
+        assertThat(afterburnerMeasure, equalTo(measure));
+        assertThat(afterburnerObjectMapper.writeValueAsString(afterburnerMeasure),
+                equalTo(jsonObjectMapper.writeValueAsString(measure)));
+    }
+
+    @Test
+    public void afterburnerShouldSetAdditionalProperties() throws IOException {
+
+        String document = "{\"heart_rate\":{\"unit\":\"beats/min\",\"value\":60},\"status\":{\"valid\":true}}";
+
+        HeartRate heartRate = afterburnerObjectMapper.readValue(document, HeartRate.class);
+
+        assertThat(heartRate.getAdditionalProperties().containsKey("status"), equalTo(true));
+        assertThat(heartRate, equalTo(jsonObjectMapper.readValue(document, HeartRate.class)));
+        assertThat(afterburnerObjectMapper.writeValueAsString(heartRate), equalTo(document));
+    }
+
+    @Test
+    public void optionsShouldDefaultToReflection() {
+
+        Options options = new Options.Builder().build();
+
+        assertThat(options.getPropertyAccess(), equalTo(PropertyAccess.REFLECTION));
+        assertThat(options.isOmhSchemaModuleRegistered(), equalTo(false));
+    }
+
+    @Test
+    public void binaryFormatsShouldBeSmallerThanJson() throws IOException {
+
+        long jsonSize = 0;
+        long smileSize = 0;
+        long cborSize = 0;
+
+        ObjectMapper smileObjectMapper = newSmileObjectMapper();
+        ObjectMapper cborObjectMapper = newCborObjectMapper();
+
+        // individual documents can be too small to benefit, e.g. because of the Smile header, so we compare totals
+        for (Path file : findTestDataFiles()) {
+            JsonNode document = jsonObjectMapper.readTree(file.toFile());
+
+            jsonSize += jsonObjectMapper.writeValueAsBytes(document).length;
+            smileSize += smileObjectMapper.writeValueAsBytes(document).length;
+            cborSize += cborObjectMapper.writeValueAsBytes(document).length;
+        }
+
+        assertThat(smileSize, lessThan(jsonSize));
+        assertThat(cborSize, lessThan(jsonSize));
+    }
+
+    /**
+     * @return the body type of the schema a test data file belongs to, which is inferred from a path like
+     * "test-data/omh/heart-rate/1.0/shouldPass/foo.json"
+     */
+    private Class<? extends SchemaSupport> findBodyType(Path file) {
+
+        Path versionDirectory = file.getParent().getParent();
+        String name = versionDirectory.getParent().getFileName().toString();
+        String version = versionDirectory.getFileName().toString();
+
+        return bodyTypeRegistry.findBodyType(SchemaId.of(OMH_NAMESPACE, name, version));
+    }
+}
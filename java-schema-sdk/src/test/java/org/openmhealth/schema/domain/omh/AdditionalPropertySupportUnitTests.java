@@ -19,11 +19,13 @@ package org.openmhealth.schema.domain.omh;
 import org.testng.annotations.BeforeTest;
 import org.testng.annotations.Test;
 
+import java.time.OffsetDateTime;
 import java.util.Map;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 
@@ -150,6 +152,27 @@ public class AdditionalPropertySupportUnitTests extends SerializationUnitTests {
         assertThat(unitValue.getAdditionalProperties(), notNullValue());
     }
 
+    @Test
+    public void getAdditionalPropertiesShouldReturnModifiableMap() {
+
+        UnitValue unitValue = new UnitValue("cups", 3);
+
+        unitValue.getAdditionalProperties().put("foo", "bar");
+
+        assertThat(unitValue.getAdditionalProperty("foo"), equalTo(Optional.of("bar")));
+        assertThat(unitValue.peekAdditionalProperties().get("foo"), equalTo("bar"));
+    }
+
+    @Test
+    public void peekAdditionalPropertiesShouldShareEmptyMap() {
+
+        Map<String, Object> additionalProperties = new UnitValue("cups", 3).peekAdditionalProperties();
+
+        assertThat(additionalProperties.isEmpty(), equalTo(true));
+        assertThat(new DataPointHeader.Builder("foo", HeartRate.SCHEMA_ID, OffsetDateTime.now()).build()
+                .peekAdditionalProperties(), sameInstance(additionalProperties));
+    }
+
     @Test
     public void additionalPropertiesShouldSerializeCorrectly() throws Exception {
 
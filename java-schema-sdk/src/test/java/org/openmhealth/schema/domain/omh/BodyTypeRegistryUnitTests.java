@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.domain.omh;
+
+import org.testng.annotations.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.openmhealth.schema.domain.omh.BodyTypeRegistry.newDefaultRegistry;
+import static org.openmhealth.schema.domain.omh.SchemaSupport.OMH_NAMESPACE;
+
+
+/**
+ * @author agent
+ */
+public class BodyTypeRegistryUnitTests {
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void registerShouldThrowExceptionOnUndefinedSchemaId() {
+
+        new BodyTypeRegistry().register(null, HeartRate.class);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void registerShouldThrowExceptionOnUndefinedBodyType() {
+
+        new BodyTypeRegistry().register(HeartRate.SCHEMA_ID, null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void findBodyTypeShouldThrowExceptionOnUndefinedSchemaId() {
+
+        new BodyTypeRegistry().findBodyType(null);
+    }
+
+    @Test
+    public void defaultRegistryShouldContainMeasures() {
+
+        BodyTypeRegistry registry = newDefaultRegistry();
+
+        assertThat(registry.findBodyType(HeartRate.SCHEMA_ID), equalTo(HeartRate.class));
+        assertThat(registry.findBodyType(StepCount1.SCHEMA_ID), equalTo(StepCount1.class));
+        assertThat(registry.findBodyType(StepCount2.SCHEMA_ID), equalTo(StepCount2.class));
+        assertThat(registry.findBodyType(BodyTemperature.SCHEMA_ID), equalTo(BodyTemperature.class));
+    }
+
+    @Test
+    public void findBodyTypeShouldReturnNullOnUnregisteredSchemaId() {
+
+        BodyTypeRegistry registry = newDefaultRegistry();
+
+        assertThat(registry.findBodyType(new SchemaId("acme", "heart-rate", "1.1")), nullValue());
+        assertThat(registry.findBodyType(new SchemaId(OMH_NAMESPACE, "heart-rate", "2.0")), nullValue());
+    }
+
+    @Test
+    public void findBodyTypeShouldFallBackToLatestMinorVersion() {
+
+        BodyTypeRegistry registry = new BodyTypeRegistry();
+
+        registry.register(new SchemaId(OMH_NAMESPACE, "heart-rate", "1.1"), HeartRate.class);
+        registry.register(new SchemaId(OMH_NAMESPACE, "heart-rate", "1.0"), FreeFormMeasure.class);
+        registry.register(new SchemaId(OMH_NAMESPACE, "heart-rate", "2.0"), BodyWeight.class);
+
+        assertThat(registry.findBodyType(new SchemaId(OMH_NAMESPACE, "heart-rate", "1.0")),
+                equalTo(FreeFormMeasure.class));
+        assertThat(registry.findBodyType(new SchemaId(OMH_NAMESPACE, "heart-rate", "1.2")), equalTo(HeartRate.class));
+        assertThat(registry.findBodyType(new SchemaId(OMH_NAMESPACE, "heart-rate", "2.3")), equalTo(BodyWeight.class));
+    }
+
+    @Test
+    public void registerShouldReplaceExistingBodyType() {
+
+        BodyTypeRegistry registry = newDefaultRegistry();
+
+        registry.register(HeartRate.SCHEMA_ID, FreeFormMeasure.class);
+
+        assertThat(registry.findBodyType(HeartRate.SCHEMA_ID), equalTo(FreeFormMeasure.class));
+    }
+}
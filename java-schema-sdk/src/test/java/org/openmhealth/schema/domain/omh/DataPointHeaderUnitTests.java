@@ -107,6 +107,57 @@ public class DataPointHeaderUnitTests extends SerializationUnitTests {
         return SCHEMA_FILENAME;
     }
 
+    @Test
+    public void withUserIdShouldCreateImmutableCopy() {
+
+        DataPointHeader header = new DataPointHeader.Builder(id, bodySchemaId, creationDateTime)
+                .setAcquisitionProvenance(new DataPointAcquisitionProvenance.Builder("RunKeeper").build())
+                .build();
+
+        DataPointHeader copy = header.withUserId("someUser");
+
+        assertThat(copy.getUserId(), equalTo("someUser"));
+        assertThat(copy.getAcquisitionProvenance(), equalTo(header.getAcquisitionProvenance()));
+        assertThat(header.getUserId(), nullValue());
+        assertThat(copy.withUserId("otherUser").getAcquisitionProvenance(),
+                sameInstance(copy.getAcquisitionProvenance()));
+    }
+
+    @Test
+    public void withIdShouldCreateImmutableCopy() {
+
+        DataPointHeader header = new DataPointHeader.Builder(id, bodySchemaId, creationDateTime)
+                .setUserId("someUser")
+                .build();
+
+        DataPointHeader copy = header.withId("otherId");
+
+        assertThat(copy.getId(), equalTo("otherId"));
+        assertThat(copy.getUserId(), equalTo("someUser"));
+        assertThat(copy.getCreationDateTime(), equalTo(creationDateTime));
+        assertThat(header.getId(), equalTo(id));
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void withAdditionalPropertyShouldCreateImmutableCopy() {
+
+        DataPointHeader header = new DataPointHeader.Builder(id, bodySchemaId, creationDateTime).build()
+                .withAdditionalProperty("foo", "bar");
+
+        assertThat(header.getAdditionalProperty("foo").isPresent(), equalTo(true));
+
+        header.setAdditionalProperty("baz", "cafe");
+    }
+
+    @Test
+    public void toImmutableShouldNotCreateAdditionalPropertiesWhenRead() {
+
+        DataPointHeader header = new DataPointHeader.Builder(id, bodySchemaId, creationDateTime).build().toImmutable();
+
+        assertThat(header.getAdditionalProperties(), sameInstance(header.peekAdditionalProperties()));
+        assertThat(header.getAdditionalProperties().isEmpty(), equalTo(true));
+    }
+
     @Test
     public void objectHavingRequiredPropertiesShouldSerializeCorrectly() throws Exception {
 
@@ -24,10 +24,15 @@ import java.time.OffsetDateTime;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 import static java.time.ZoneOffset.UTC;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.openmhealth.schema.domain.omh.LengthUnit.MILE;
 import static org.openmhealth.schema.domain.omh.PhysicalActivity.SelfReportedIntensity.MODERATE;
@@ -85,6 +90,131 @@ public class DataPointUnitTests extends SerializationUnitTests {
         assertThat(dataPoint.getBody(), equalTo(body));
     }
 
+    @Test
+    public void toSnapshotShouldCreateEqualDataPoint() {
+
+        DataPoint<Map<String, String>> dataPoint = new DataPoint<>(header, singletonMap("key", "value"));
+        dataPoint.setAdditionalProperty("foo.bar", "baz");
+
+        DataPoint<Map<String, String>> snapshot = dataPoint.toSnapshot();
+
+        assertThat(snapshot, equalTo(dataPoint));
+        assertThat(snapshot.getBody(), sameInstance(dataPoint.getBody()));
+        assertThat(snapshot.getAdditionalProperties(), equalTo(dataPoint.getAdditionalProperties()));
+        assertThat(snapshot.toSnapshot(), sameInstance(snapshot));
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void toSnapshotShouldPreventSettingAdditionalProperties() {
+
+        new DataPoint<>(header, emptyMap()).toSnapshot().setAdditionalProperty("foo", "bar");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void toSnapshotShouldPreventModifyingNestedAdditionalProperties() {
+
+        DataPoint<Object> dataPoint = new DataPoint<>(header, emptyMap());
+        dataPoint.setAdditionalProperty("foo", new HashMap<>(singletonMap("bar", "baz")));
+
+        Map<String, Object> foo = (Map<String, Object>) dataPoint.toSnapshot().getAdditionalProperty("foo").get();
+
+        foo.put("bar", "cafe");
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void toSnapshotShouldPreventSettingHeaderAdditionalProperties() {
+
+        new DataPoint<>(header, emptyMap()).toSnapshot().getHeader().getAcquisitionProvenance()
+                .setAdditionalProperty("foo", "bar");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void withAdditionalPropertyShouldShareUnchangedProperties() {
+
+        DataPoint<Object> dataPoint = new DataPoint<Object>(header, emptyMap())
+                .withAdditionalProperty("foo.bar", "baz")
+                .withAdditionalProperty("cafe", "ideal");
+
+        DataPoint<Object> copy = dataPoint.withAdditionalProperty("cafe", "closed");
+
+        assertThat(copy.getAdditionalProperty("cafe"), equalTo(Optional.of("closed")));
+        assertThat(dataPoint.getAdditionalProperty("cafe"), equalTo(Optional.of("ideal")));
+        assertThat(copy.getAdditionalProperty("foo").get(), sameInstance(dataPoint.getAdditionalProperty("foo").get()));
+        assertThat(((Map<String, Object>) copy.getAdditionalProperty("foo").get()).get("bar"), equalTo("baz"));
+        assertThat(copy.getHeader(), sameInstance(dataPoint.getHeader()));
+    }
+
+    @Test
+    public void withBodyShouldShareHeader() {
+
+        DataPoint<Object> dataPoint = new DataPoint<Object>(header, emptyMap()).toSnapshot();
+
+        DataPoint<String> copy = dataPoint.withBody("foo");
+
+        assertThat(copy.getBody(), equalTo("foo"));
+        assertThat(copy.getHeader(), sameInstance(dataPoint.getHeader()));
+    }
+
+    @Test
+    public void withHeaderShouldNotModifyDataPoint() {
+
+        DataPoint<Object> dataPoint = new DataPoint<>(header, emptyMap());
+        DataPointHeader otherHeader = new DataPointHeader.Builder("foo", header.getBodySchemaId()).build();
+
+        DataPoint<Object> copy = dataPoint.withHeader(otherHeader);
+
+        assertThat(copy.getHeader(), equalTo(otherHeader));
+        assertThat(dataPoint.getHeader(), sameInstance(header));
+    }
+
+    @Test
+    public void snapshotShouldHaveSameHashCode() {
+
+        DataPoint<Map<String, String>> dataPoint = new DataPoint<>(header, singletonMap("key", "value"));
+        DataPoint<Map<String, String>> snapshot = dataPoint.toSnapshot();
+
+        assertThat(snapshot.hashCode(), equalTo(dataPoint.hashCode()));
+        assertThat(snapshot.hashCode(), equalTo(dataPoint.hashCode()));
+        assertThat(snapshot.getHeader().hashCode(), equalTo(header.hashCode()));
+    }
+
+    @Test
+    public void snapshotShouldReflectBodyModifications() {
+
+        Map<String, String> body = new HashMap<>(singletonMap("key", "value"));
+        DataPoint<Map<String, String>> snapshot = new DataPoint<>(header, body).toSnapshot();
+        DataPoint<Map<String, String>> otherDataPoint = new DataPoint<>(header, singletonMap("key", "otherValue"));
+
+        int hashCode = snapshot.hashCode();
+        body.put("key", "otherValue");
+
+        assertThat(snapshot.hashCode(), not(equalTo(hashCode)));
+        assertThat(snapshot.hashCode(), equalTo(otherDataPoint.hashCode()));
+        assertThat(snapshot, equalTo(otherDataPoint));
+    }
+
+    @Test
+    public void dedupKeyShouldIgnoreBody() {
+
+        DataPoint<String> dataPoint = new DataPoint<>(header, "foo");
+
+        assertThat(dataPoint.dedupKey(), equalTo(new DataPoint<>(header, "bar").dedupKey()));
+        assertThat(dataPoint.dedupKey().getId(), equalTo(header.getId()));
+        assertThat(dataPoint.dedupKey().getUserId(), equalTo(Optional.empty()));
+    }
+
+    @Test
+    public void dedupKeyShouldDependOnUser() {
+
+        DataPoint<String> dataPoint = new DataPoint<>(header, "foo");
+        DataPoint<String> otherUserDataPoint = dataPoint.withHeader(header.withUserId("someUser"));
+
+        assertThat(otherUserDataPoint.dedupKey(), not(equalTo(dataPoint.dedupKey())));
+        assertThat(otherUserDataPoint.dedupKey(), equalTo(new DataPoint.DedupKey(header.getId(), "someUser")));
+    }
+
     @Override
     protected String getSchemaFilename() {
         return SCHEMA_FILENAME;
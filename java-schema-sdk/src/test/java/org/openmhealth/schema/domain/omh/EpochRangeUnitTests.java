@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.domain.omh;
+
+import org.testng.annotations.Test;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+
+import static java.time.ZoneOffset.UTC;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+/**
+ * @author agent
+ */
+public class EpochRangeUnitTests {
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void constructorShouldThrowExceptionOnReversedRange() {
+
+        new EpochRange(2, 1);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void toEpochNanoShouldThrowExceptionOnUnrepresentableInstant() {
+
+        EpochRange.toEpochNano(Instant.parse("2300-01-01T00:00:00Z"));
+    }
+
+    @Test
+    public void ofShouldResolveInstants() {
+
+        OffsetDateTime startDateTime = OffsetDateTime.of(1969, 12, 31, 23, 59, 59, 500, UTC);
+        EpochRange range = EpochRange.of(startDateTime, startDateTime.plusSeconds(1));
+
+        assertThat(range.getStartEpochNano(), equalTo(-1_000_000_000L + 500));
+        assertThat(range.getDurationNanos(), equalTo(1_000_000_000L));
+        assertThat(range.getStartInstant(), equalTo(startDateTime.toInstant()));
+    }
+
+    @Test
+    public void overlapsShouldExcludeEnd() {
+
+        EpochRange range = new EpochRange(10, 20);
+
+        assertThat(range.overlaps(0, 10), equalTo(false));
+        assertThat(range.overlaps(0, 11), equalTo(true));
+        assertThat(range.overlaps(19, 30), equalTo(true));
+        assertThat(range.overlaps(20, 30), equalTo(false));
+        assertThat(range.overlaps(10, 10), equalTo(true));
+        assertThat(range.overlaps(20, 20), equalTo(false));
+        assertThat(range.overlaps(new EpochRange(10, 10)), equalTo(true));
+        assertThat(range.overlaps(new EpochRange(20, 20)), equalTo(false));
+    }
+
+    @Test
+    public void overlapsShouldIncludePointInTime() {
+
+        EpochRange range = new EpochRange(10, 10);
+
+        assertThat(range.overlaps(10, 11), equalTo(true));
+        assertThat(range.overlaps(9, 10), equalTo(false));
+        assertThat(range.overlaps(10, 10), equalTo(true));
+        assertThat(range.overlaps(11, 11), equalTo(false));
+        assertThat(range.overlaps(new EpochRange(0, 20)), equalTo(true));
+        assertThat(range.overlaps(new EpochRange(10, 10)), equalTo(true));
+    }
+}
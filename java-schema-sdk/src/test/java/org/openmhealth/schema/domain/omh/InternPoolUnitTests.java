@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.domain.omh;
+
+import org.testng.annotations.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+/**
+ * @author agent
+ */
+public class InternPoolUnitTests {
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void constructorShouldThrowExceptionOnNonPositiveMaximumSize() {
+
+        new InternPool<String, String>(0);
+    }
+
+    @Test
+    public void internShouldReturnPooledInstance() {
+
+        InternPool<String, StringBuilder> pool = new InternPool<>(2);
+
+        StringBuilder instance = pool.intern("a", StringBuilder::new);
+
+        assertThat(pool.intern("a", StringBuilder::new), sameInstance(instance));
+        assertThat(pool.size(), equalTo(1));
+    }
+
+    @Test
+    public void internShouldNotPoolInstancesOnceFull() {
+
+        InternPool<String, StringBuilder> pool = new InternPool<>(1);
+
+        StringBuilder pooledInstance = pool.intern("a", StringBuilder::new);
+        StringBuilder unpooledInstance = pool.intern("b", StringBuilder::new);
+
+        assertThat(pool.intern("a", StringBuilder::new), sameInstance(pooledInstance));
+        assertThat(pool.intern("b", StringBuilder::new), not(sameInstance(unpooledInstance)));
+        assertThat(pool.size(), equalTo(1));
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.domain.omh;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static java.time.ZoneOffset.UTC;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.openmhealth.schema.configuration.JacksonConfiguration.newObjectMapper;
+import static org.openmhealth.schema.domain.omh.DescriptiveStatistic.AVERAGE;
+import static org.openmhealth.schema.domain.omh.DescriptiveStatistic.MAXIMUM;
+import static org.openmhealth.schema.domain.omh.DescriptiveStatisticDenominator.DAY;
+import static org.openmhealth.schema.domain.omh.HeartRateUnit.BEATS_PER_MINUTE;
+import static org.openmhealth.schema.domain.omh.MassUnit.KILOGRAM;
+import static org.openmhealth.schema.domain.omh.MassUnit.POUND;
+import static org.openmhealth.schema.domain.omh.MeasureBatch.BODY_WEIGHT_MAPPING;
+import static org.openmhealth.schema.domain.omh.MeasureBatch.HEART_RATE_MAPPING;
+import static org.openmhealth.schema.domain.omh.MeasureBatch.NO_EPOCH_MILLI;
+import static org.openmhealth.schema.domain.omh.MeasureBatch.STEP_COUNT_2_MAPPING;
+import static org.openmhealth.schema.domain.omh.TemporalRelationshipToPhysicalActivity.AT_REST;
+import static org.openmhealth.schema.domain.omh.TimeFrameFactory.FIXED_DAY;
+import static org.openmhealth.schema.domain.omh.TimeFrameFactory.FIXED_MONTH;
+import static org.openmhealth.schema.domain.omh.TimeFrameFactory.FIXED_POINT_IN_TIME;
+
+
+/**
+ * @author agent
+ */
+public class MeasureBatchUnitTests {
+
+    private static final ObjectMapper objectMapper = newObjectMapper();
+
+    private static final OffsetDateTime DATE_TIME =
+            OffsetDateTime.of(2017, 3, 5, 10, 15, 30, 0, ZoneOffset.ofHours(-8));
+
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructorShouldThrowExceptionOnUndefinedMapping() {
+
+        new MeasureBatch<HeartRate>(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void addShouldThrowExceptionOnUndefinedMeasure() {
+
+        new MeasureBatch<>(HEART_RATE_MAPPING).add(null);
+    }
+
+    @Test
+    public void columnsShouldContainMeasureProperties() {
+
+        MeasureBatch<HeartRate> batch = new MeasureBatch<>(HEART_RATE_MAPPING);
+
+        batch.add(new HeartRate.Builder(60).setEffectiveTimeFrame(DATE_TIME).build());
+        batch.add(new HeartRate.Builder(72.5).setEffectiveTimeFrame(FIXED_DAY).setDescriptiveStatistic(MAXIMUM)
+                .build());
+        batch.add(new HeartRate.Builder(80).build());
+
+        assertThat(batch.size(), equalTo(3));
+
+        assertThat(batch.getEpochMilli(0), equalTo(DATE_TIME.toInstant().toEpochMilli()));
+        assertThat(batch.getEndEpochMilli(0), equalTo(NO_EPOCH_MILLI));
+        assertThat(batch.getValue(0), equalTo(60d));
+        assertThat(batch.getUnit(0), equalTo(BEATS_PER_MINUTE.getSchemaValue()));
+        assertThat(batch.getDescriptiveStatistic(0), nullValue());
+
+        assertThat(batch.getEpochMilli(1),
+                equalTo(FIXED_DAY.getTimeInterval().getStartDateTime().toInstant().toEpochMilli()));
+        assertThat(batch.getEndEpochMilli(1),
+                equalTo(FIXED_DAY.getTimeInterval().getEndDateTime().toInstant().toEpochMilli()));
+        assertThat(batch.getValue(1), equalTo(72.5));
+        assertThat(batch.getDescriptiveStatistic(1), equalTo(MAXIMUM));
+
+        assertThat(batch.getEpochMilli(2), equalTo(NO_EPOCH_MILLI));
+        assertThat(batch.getEndEpochMilli(2), equalTo(NO_EPOCH_MILLI));
+    }
+
+    @Test
+    public void getMeasureShouldReturnEqualHeartRates() throws Exception {
+
+        List<HeartRate> heartRates = new ArrayList<>();
+
+        heartRates.add(new HeartRate.Builder(60).build());
+        heartRates.add(new HeartRate.Builder(60.5).setEffectiveTimeFrame(FIXED_POINT_IN_TIME).build());
+        heartRates.add(new HeartRate.Builder(new BigDecimal("70")).setEffectiveTimeFrame(FIXED_MONTH)
+                .setDescriptiveStatistic(AVERAGE).setUserNotes("feeling fine").build());
+        heartRates.add(new HeartRate.Builder(new BigDecimal("70.50")).setEffectiveTimeFrame(DATE_TIME).build());
+        heartRates.add(new HeartRate.Builder(new BigDecimal("12345678901234567890"))
+                .setEffectiveTimeFrame(DATE_TIME).build());
+        heartRates.add(new HeartRate.Builder(55).setEffectiveTimeFrame(DATE_TIME.plusNanos(1000)).build());
+        heartRates.add(new HeartRate.Builder(55).setEffectiveTimeFrame(DATE_TIME)
+                .setTemporalRelationshipToPhysicalActivity(AT_REST).build());
+        heartRates.add(new HeartRate.Builder(new TypedUnitValue<>(BEATS_PER_MINUTE, 65L))
+                .setEffectiveTimeFrame(new TimeFrame(TimeInterval.ofStartDateTimeAndDuration(DATE_TIME,
+                        new DurationUnitValue(DurationUnit.MINUTE, 5))))
+                .build());
+
+        HeartRate heartRateWithAdditionalProperties =
+                new HeartRate.Builder(50).setEffectiveTimeFrame(DATE_TIME).build();
+        heartRateWithAdditionalProperties.setAdditionalProperty("foo.bar", "baz");
+        heartRates.add(heartRateWithAdditionalProperties);
+
+        assertRoundTrip(MeasureBatch.of(HEART_RATE_MAPPING, heartRates), heartRates);
+    }
+
+    @Test
+    public void getMeasureShouldReturnEqualBodyWeights() throws Exception {
+
+        List<BodyWeight> bodyWeights = new ArrayList<>();
+
+        bodyWeights.add(new BodyWeight.Builder(new MassUnitValue(KILOGRAM, 70.2)).setEffectiveTimeFrame(DATE_TIME)
+                .build());
+        bodyWeights.add(new BodyWeight.Builder(new MassUnitValue(POUND, 155)).setEffectiveTimeFrame(DATE_TIME)
+                .build());
+        bodyWeights.add(new BodyWeight.Builder(new MassUnitValue(KILOGRAM, 71)).setEffectiveTimeFrame(FIXED_DAY)
+                .build());
+
+        MeasureBatch<BodyWeight> batch = MeasureBatch.of(BODY_WEIGHT_MAPPING, bodyWeights);
+
+        assertRoundTrip(batch, bodyWeights);
+        assertThat(batch.getMeasure(1).getBodyWeight().getTypedUnit(), equalTo(POUND));
+    }
+
+    @Test
+    public void getMeasureShouldReturnEqualStepCounts() throws Exception {
+
+        List<StepCount2> stepCounts = new ArrayList<>();
+
+        stepCounts.add(new StepCount2.Builder(5000, FIXED_DAY).build());
+        stepCounts.add(new StepCount2.Builder(new BigDecimal("5000.5"), FIXED_DAY).build());
+        stepCounts.add(new StepCount2.Builder(150_000, FIXED_MONTH).setDescriptiveStatistic(AVERAGE)
+                .setDescriptiveStatisticDenominator(DAY).build());
+
+        assertRoundTrip(MeasureBatch.of(STEP_COUNT_2_MAPPING, stepCounts), stepCounts);
+    }
+
+    @Test
+    public void getMeasureShouldReturnEqualRandomHeartRates() throws Exception {
+
+        Random random = new Random(42);
+        ZoneOffset[] offsets = {UTC, ZoneOffset.ofHours(-8), ZoneOffset.ofHoursMinutes(5, 30)};
+        List<HeartRate> heartRates = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+
+            OffsetDateTime dateTime = DATE_TIME.plusSeconds(random.nextInt(1_000_000))
+                    .withOffsetSameInstant(offsets[random.nextInt(offsets.length)]);
+
+            HeartRate.Builder builder = random.nextBoolean()
+                    ? new HeartRate.Builder(40 + random.nextInt(160))
+                    : new HeartRate.Builder(40 + random.nextInt(1600) / 10.0);
+
+            heartRates.add(builder.setEffectiveTimeFrame(dateTime).build());
+        }
+
+        MeasureBatch<HeartRate> batch = MeasureBatch.of(HEART_RATE_MAPPING, heartRates);
+
+        assertRoundTrip(batch, heartRates);
+
+        // these measures fit in the columns, so they shouldn't be kept as they are
+        for (int i = 0; i < heartRates.size(); i++) {
+            assertThat(batch.getMeasure(i), not(sameInstance(heartRates.get(i))));
+        }
+    }
+
+    @Test
+    public void iteratorShouldReuseRows() {
+
+        MeasureBatch<HeartRate> batch = new MeasureBatch<>(HEART_RATE_MAPPING, 1);
+
+        batch.add(new HeartRate.Builder(60).setEffectiveTimeFrame(DATE_TIME).build());
+        batch.add(new HeartRate.Builder(70).setEffectiveTimeFrame(DATE_TIME.plusMinutes(1)).build());
+
+        Iterator<MeasureBatch<HeartRate>.Row> iterator = batch.iterator();
+
+        MeasureBatch<HeartRate>.Row firstRow = iterator.next();
+        assertThat(firstRow.getIndex(), equalTo(0));
+        assertThat(firstRow.getValue(), equalTo(60d));
+
+        MeasureBatch<HeartRate>.Row secondRow = iterator.next();
+        assertThat(secondRow, sameInstance(firstRow));
+        assertThat(secondRow.getIndex(), equalTo(1));
+        assertThat(secondRow.getValue(), equalTo(70d));
+        assertThat(secondRow.getEpochMilli(), equalTo(DATE_TIME.plusMinutes(1).toInstant().toEpochMilli()));
+        assertThat(secondRow.toMeasure(), equalTo(batch.getMeasure(1)));
+
+        assertThat(iterator.hasNext(), equalTo(false));
+    }
+
+    private <M extends Measure> void assertRoundTrip(MeasureBatch<M> batch, List<M> measures) throws Exception {
+
+        assertThat(batch.size(), equalTo(measures.size()));
+
+        List<M> batchMeasures = batch.toMeasures();
+
+        for (int i = 0; i < measures.size(); i++) {
+
+            assertThat(batchMeasures.get(i), equalTo(measures.get(i)));
+            assertThat(objectMapper.writeValueAsString(batchMeasures.get(i)),
+                    equalTo(objectMapper.writeValueAsString(measures.get(i))));
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.domain.omh;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.openmhealth.schema.domain.omh.SchemaSupport.OMH_NAMESPACE;
+
+
+/**
+ * @author agent
+ */
+public class SchemaCatalogUnitTests {
+
+    public static final Path SCHEMA_DIRECTORY = Paths.get("schema");
+
+    private SchemaCatalog catalog;
+
+
+    @BeforeClass
+    public void initializeCatalog() throws IOException {
+        catalog = SchemaCatalog.fromDirectory(SCHEMA_DIRECTORY);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructorShouldThrowExceptionOnUndefinedSchemaIds() {
+
+        new SchemaCatalog(null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void readShouldThrowExceptionOnMalformedEntry() throws IOException {
+
+        SchemaCatalog.read(new StringReader("omh:heart-rate\n"));
+    }
+
+    @Test
+    public void getSchemaIdShouldParseVersionedFilenames() {
+
+        assertThat(SchemaCatalog.getSchemaId(OMH_NAMESPACE, "heart-rate-1.0.json"),
+                equalTo(new SchemaId(OMH_NAMESPACE, "heart-rate", "1.0")));
+        assertThat(SchemaCatalog.getSchemaId(OMH_NAMESPACE, "heart-rate-1.0.RC1.json"),
+                equalTo(new SchemaId(OMH_NAMESPACE, "heart-rate", "1.0.RC1")));
+    }
+
+    @Test
+    public void getSchemaIdShouldReturnNullOnOtherFilenames() {
+
+        assertThat(SchemaCatalog.getSchemaId(OMH_NAMESPACE, "heart-rate-1.x.json"), nullValue());
+        assertThat(SchemaCatalog.getSchemaId(OMH_NAMESPACE, "heart-rate.json"), nullValue());
+        assertThat(SchemaCatalog.getSchemaId(OMH_NAMESPACE, "heart-rate-1.0.txt"), nullValue());
+    }
+
+    @Test
+    public void fromDirectoryShouldSkipWildcardVersions() {
+
+        assertThat(catalog.contains(new SchemaId(OMH_NAMESPACE, "heart-rate", "1.0")), equalTo(true));
+        assertThat(catalog.getVersions(OMH_NAMESPACE, "heart-rate", 1),
+                contains(new SchemaVersion(1, 0), new SchemaVersion(1, 1)));
+    }
+
+    @Test
+    public void getVersionsShouldReturnEmptySetOnUnknownSchema() {
+
+        assertThat(catalog.getVersions("acme", "heart-rate", 1), empty());
+        assertThat(catalog.getVersions(OMH_NAMESPACE, "heart-rate", 99), empty());
+    }
+
+    @Test
+    public void findLatestVersionShouldReturnLatestMinorVersion() {
+
+        SchemaCatalog catalog = new SchemaCatalog(asList(
+                new SchemaId(OMH_NAMESPACE, "heart-rate", "1.0"),
+                new SchemaId(OMH_NAMESPACE, "heart-rate", "1.10"),
+                new SchemaId(OMH_NAMESPACE, "heart-rate", "1.9"),
+                new SchemaId(OMH_NAMESPACE, "heart-rate", "2.0")));
+
+        assertThat(catalog.findLatestVersion(OMH_NAMESPACE, "heart-rate", 1), equalTo(new SchemaVersion(1, 10)));
+        assertThat(catalog.findLatestVersion(OMH_NAMESPACE, "heart-rate", 2), equalTo(new SchemaVersion(2, 0)));
+        assertThat(catalog.findLatestVersion(OMH_NAMESPACE, "heart-rate", 3), nullValue());
+    }
+
+    @Test
+    public void findLatestCompatibleSchemaIdShouldReturnLatestMinorVersion() {
+
+        assertThat(catalog.findLatestCompatibleSchemaId(new SchemaId(OMH_NAMESPACE, "heart-rate", "1.0")),
+                equalTo(new SchemaId(OMH_NAMESPACE, "heart-rate", "1.1")));
+        assertThat(catalog.findLatestCompatibleSchemaId(new SchemaId(OMH_NAMESPACE, "heart-rate", "1.1")),
+                equalTo(new SchemaId(OMH_NAMESPACE, "heart-rate", "1.1")));
+    }
+
+    @Test
+    public void findLatestCompatibleSchemaIdShouldReturnNullOnNewerOrUnknownVersion() {
+
+        assertThat(catalog.findLatestCompatibleSchemaId(new SchemaId(OMH_NAMESPACE, "heart-rate", "1.5")),
+                nullValue());
+        assertThat(catalog.findLatestCompatibleSchemaId(new SchemaId("acme", "heart-rate", "1.0")), nullValue());
+    }
+
+    @Test
+    public void readShouldReadWrittenCatalog() throws IOException {
+
+        StringWriter writer = new StringWriter();
+        catalog.write(writer);
+
+        SchemaCatalog readCatalog = SchemaCatalog.read(new StringReader("# schemas\n\n" + writer.toString()));
+
+        assertThat(readCatalog.getSchemaIds(), equalTo(catalog.getSchemaIds()));
+    }
+
+    @Test
+    public void defaultCatalogShouldMatchSchemaDirectory() {
+
+        assertThat(SchemaCatalog.newDefaultCatalog().getSchemaIds(), equalTo(catalog.getSchemaIds()));
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.domain.omh;
+
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.openmhealth.schema.domain.omh.DurationUnit.*;
+
+
+/**
+ * @author agent
+ */
+public class SchemaEnumLookupUnitTests {
+
+    private static final List<Class<? extends Enum<?>>> SCHEMA_ENUM_TYPES = asList(
+            AreaUnit.class,
+            BloodGlucoseUnit.class,
+            BloodPressureUnit.class,
+            BloodSpecimenType.class,
+            BodyMassIndexUnit1.class,
+            BodyMassIndexUnit2.class,
+            BodyTemperature.MeasurementLocation.class,
+            DataPointModality.class,
+            DescriptiveStatistic.class,
+            DescriptiveStatisticDenominator.class,
+            DurationUnit.class,
+            HeartRateUnit.class,
+            KcalUnit.class,
+            LengthUnit.class,
+            MassUnit.class,
+            OxygenFlowRateUnit.class,
+            OxygenSaturation.MeasurementMethod.class,
+            OxygenSaturation.MeasurementSystem.class,
+            OxygenSaturation.SupplementalOxygenAdministrationMode.class,
+            PartOfDay.class,
+            PercentUnit.class,
+            PhysicalActivity.SelfReportedIntensity.class,
+            PlaneAngleUnit.class,
+            PositionDuringMeasurement.class,
+            PositioningSystem.class,
+            RespiratoryRate.RespirationUnit.class,
+            SignalToNoiseRatioUnit.class,
+            SpecimenSource.class,
+            SpeedUnit.class,
+            TemperatureUnit.class,
+            TemporalRelationshipToMeal.class,
+            TemporalRelationshipToPhysicalActivity.class,
+            TemporalRelationshipToSleep.class,
+            VolumeUnit.class);
+
+    private final SchemaEnumLookup<DurationUnit> lookup = new SchemaEnumLookup<>(DurationUnit.values());
+
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructorShouldThrowExceptionOnUndefinedConstants() {
+
+        new SchemaEnumLookup<DurationUnit>(null);
+    }
+
+    @Test
+    public void getShouldReturnMatchingConstant() {
+
+        for (DurationUnit unit : DurationUnit.values()) {
+            assertThat(lookup.get(unit.getSchemaValue()), equalTo(unit));
+        }
+    }
+
+    @Test
+    public void getShouldReturnNullOnUnrecognizedValue() {
+
+        assertThat(lookup.get((String) null), nullValue());
+        assertThat(lookup.get(""), nullValue());
+        assertThat(lookup.get("hours"), nullValue());
+        assertThat(lookup.get("H"), nullValue());
+        assertThat(lookup.get("se"), nullValue());
+    }
+
+    @Test
+    public void getShouldMatchBufferRegions() {
+
+        char[] buffer = "[\"min\",\"sec\",\"minute\"]".toCharArray();
+
+        assertThat(lookup.get(buffer, 2, 3), equalTo(MINUTE));
+        assertThat(lookup.get(buffer, 8, 3), equalTo(SECOND));
+        assertThat(lookup.get(buffer, 14, 6), nullValue());
+        assertThat(lookup.get(buffer, 14, 3), equalTo(MINUTE));
+        assertThat(lookup.get(buffer, 0, 0), nullValue());
+    }
+
+    @Test
+    public void getSchemaValuesShouldReturnValuesInDeclarationOrder() {
+
+        assertThat(lookup.getSchemaValues(), equalTo(asList("ps", "ns", "us", "ms", "sec", "min", "h", "d", "wk",
+                "Mo", "yr")));
+    }
+
+    @Test
+    public void forTypeShouldReturnSharedLookup() {
+
+        SchemaEnumLookup<DurationUnit> sharedLookup = SchemaEnumLookup.forType(DurationUnit.class);
+
+        assertThat(SchemaEnumLookup.forType(DurationUnit.class), sameInstance(sharedLookup));
+        assertThat(SchemaEnumLookup.forType(DurationUnit.class).get("wk"), equalTo(WEEK));
+    }
+
+    @Test
+    public void lookupShouldHandleStringHashCollisions() {
+
+        // "Aa" and "BB" have the same String hash code
+        SchemaEnumLookup<CollidingValue> collidingLookup = new SchemaEnumLookup<>(CollidingValue.values());
+
+        assertThat(collidingLookup.get("Aa"), equalTo(CollidingValue.AA));
+        assertThat(collidingLookup.get("BB"), equalTo(CollidingValue.BB));
+        assertThat(collidingLookup.get("AaBB"), equalTo(CollidingValue.AA_BB));
+        assertThat(collidingLookup.get("BBAa"), equalTo(CollidingValue.BB_AA));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void constructorShouldThrowExceptionOnDuplicateSchemaValues() {
+
+        new SchemaEnumLookup<>(DuplicateValue.values());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void lookupShouldFindEveryConstantOfEverySchemaEnumeration() {
+
+        for (Class<? extends Enum<?>> enumType : SCHEMA_ENUM_TYPES) {
+            SchemaEnumLookup typeLookup = SchemaEnumLookup.forType((Class) enumType);
+
+            for (Enum<?> constant : enumType.getEnumConstants()) {
+                String schemaValue = ((SchemaEnumValue) constant).getSchemaValue();
+                char[] buffer = ("\"" + schemaValue + "\"").toCharArray();
+
+                assertThat(typeLookup.get(schemaValue), sameInstance(constant));
+                assertThat(typeLookup.get(buffer, 1, schemaValue.length()), sameInstance(constant));
+            }
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void schemaEnumerationsShouldUseSharedLookups() throws Exception {
+
+        for (Class<? extends Enum<?>> enumType : SCHEMA_ENUM_TYPES) {
+            Field lookupField = enumType.getDeclaredField("constantsBySchemaValue");
+            lookupField.setAccessible(true);
+
+            assertThat(lookupField.get(null), sameInstance(SchemaEnumLookup.forType((Class) enumType)));
+        }
+    }
+
+
+    private enum CollidingValue implements SchemaEnumValue {
+
+        AA("Aa"),
+        BB("BB"),
+        AA_BB("AaBB"),
+        BB_AA("BBAa");
+
+        private final String schemaValue;
+
+        CollidingValue(String schemaValue) {
+            this.schemaValue = schemaValue;
+        }
+
+        @Override
+        public String getSchemaValue() {
+            return schemaValue;
+        }
+    }
+
+
+    private enum DuplicateValue implements SchemaEnumValue {
+
+        FIRST,
+        SECOND;
+
+        @Override
+        public String getSchemaValue() {
+            return "value";
+        }
+    }
+}
@@ -19,8 +19,12 @@ package org.openmhealth.schema.domain.omh;
 import org.testng.annotations.Test;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.openmhealth.schema.domain.omh.SchemaId.*;
+import static org.openmhealth.schema.domain.omh.SchemaVersionUnitTests.newCandidateStrings;
 
 
 /**
@@ -75,6 +79,77 @@ public class SchemaIdUnitTests extends SerializationUnitTests {
         assertThat(schemaId.getVersion(), equalTo(new SchemaVersion(1, 3)));
     }
 
+    @Test(expectedExceptions = NullPointerException.class)
+    public void ofShouldThrowExceptionOnUndefinedNamespace() {
+
+        SchemaId.of(null, TEST_NAME, TEST_VERSION);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void ofShouldThrowExceptionOnInvalidName() {
+
+        SchemaId.of(TEST_NAMESPACE, "a:b", TEST_VERSION);
+    }
+
+    @Test
+    public void ofShouldReturnSharedInstance() {
+
+        SchemaId schemaId = SchemaId.of(TEST_NAMESPACE, TEST_NAME, TEST_VERSION);
+
+        assertThat(schemaId, equalTo(new SchemaId(TEST_NAMESPACE, TEST_NAME, TEST_VERSION)));
+        assertThat(SchemaId.of(TEST_NAMESPACE, TEST_NAME, TEST_VERSION), sameInstance(schemaId));
+    }
+
+    @Test
+    public void ofShouldReturnDistinctInstancesForDistinctComponents() {
+
+        SchemaId schemaId = SchemaId.of(TEST_NAMESPACE, TEST_NAME, TEST_VERSION);
+
+        assertThat(SchemaId.of(TEST_NAMESPACE, TEST_NAME, "2.0"), not(sameInstance(schemaId)));
+        assertThat(SchemaId.of(TEST_NAMESPACE, "other", TEST_VERSION).getName(), equalTo("other"));
+        assertThat(SchemaId.of("other", TEST_NAME, TEST_VERSION).getNamespace(), equalTo("other"));
+    }
+
+    @Test
+    public void deserializationShouldReturnSharedInstance() throws Exception {
+
+        String document = "{\"namespace\": \"test\", \"name\": \"test\", \"version\": \"1.3\"}";
+
+        assertThat(objectMapper.readValue(document, SchemaId.class),
+                sameInstance(SchemaId.of(TEST_NAMESPACE, TEST_NAME, TEST_VERSION)));
+    }
+
+    @Test
+    public void hashCodeShouldDependOnAllComponents() {
+
+        SchemaId schemaId = new SchemaId("omh", "heart-rate", "1.0");
+
+        assertThat(schemaId.hashCode(), equalTo(new SchemaId("omh", "heart-rate", "1.0").hashCode()));
+        assertThat(schemaId.hashCode(), not(equalTo(new SchemaId("omh", "heart-rate", "1.1").hashCode())));
+        assertThat(schemaId.hashCode(), not(equalTo(new SchemaId("acme", "heart-rate", "1.0").hashCode())));
+    }
+
+    @Test
+    public void isValidNamespaceShouldMatchNamespacePattern() {
+
+        assertThat(isValidNamespace(null), equalTo(true));
+
+        for (String candidate : newCandidateStrings()) {
+            assertThat(candidate, isValidNamespace(candidate),
+                    equalTo(NAMESPACE_PATTERN.matcher(candidate).matches()));
+        }
+    }
+
+    @Test
+    public void isValidNameShouldMatchNamePattern() {
+
+        assertThat(isValidName(null), equalTo(true));
+
+        for (String candidate : newCandidateStrings()) {
+            assertThat(candidate, isValidName(candidate), equalTo(NAME_PATTERN.matcher(candidate).matches()));
+        }
+    }
+
     @Override
     protected String getSchemaFilename() {
         return SCHEMA_FILENAME;
@@ -19,9 +19,16 @@ package org.openmhealth.schema.domain.omh;
 
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.openmhealth.schema.domain.omh.SchemaVersion.VERSION_PATTERN;
 import static org.openmhealth.schema.domain.omh.SchemaVersion.isValidVersion;
 
 
@@ -30,6 +37,45 @@ import static org.openmhealth.schema.domain.omh.SchemaVersion.isValidVersion;
  */
 public class SchemaVersionUnitTests {
 
+    // includes a non-ASCII digit and letter, since regular expression character classes are easy to get wrong
+    private static final String CANDIDATE_ALPHABET = "019aZ.-%\u0663\u00e9";
+
+    /**
+     * @return strings to compare hand-written parsers to regular expressions with, consisting of every string of up to
+     * four characters in the candidate alphabet, and random longer strings that look like versions and identifiers
+     */
+    static List<String> newCandidateStrings() {
+
+        List<String> candidates = new ArrayList<>();
+
+        candidates.add("");
+
+        for (int i = 0; i < candidates.size(); i++) {
+            String candidate = candidates.get(i);
+
+            if (candidate.length() < 4) {
+                for (char character : CANDIDATE_ALPHABET.toCharArray()) {
+                    candidates.add(candidate + character);
+                }
+            }
+        }
+
+        Random random = new Random(42);
+        String[] fragments = {"0", "1", "12", "99", ".", ".", "-", "RC", "omh", "x1", "%", "\u0663"};
+
+        for (int i = 0; i < 10_000; i++) {
+            StringBuilder candidate = new StringBuilder();
+
+            for (int j = random.nextInt(8); j >= 0; j--) {
+                candidate.append(fragments[random.nextInt(fragments.length)]);
+            }
+
+            candidates.add(candidate.toString());
+        }
+
+        return candidates;
+    }
+
     @Test(expectedExceptions = NullPointerException.class)
     public void stringConstructorShouldThrowExceptionOnUndefinedVersion() {
 
@@ -106,6 +152,27 @@ public class SchemaVersionUnitTests {
         assertThat(schemaVersion.getQualifier().get(), equalTo("RELEASE"));
     }
 
+    @Test(expectedExceptions = NullPointerException.class)
+    public void ofShouldThrowExceptionOnUndefinedVersion() {
+
+        SchemaVersion.of(null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void ofShouldThrowExceptionOnMalformedVersion() {
+
+        SchemaVersion.of("2.a");
+    }
+
+    @Test
+    public void ofShouldReturnSharedInstance() {
+
+        SchemaVersion schemaVersion = SchemaVersion.of("2.1.RELEASE");
+
+        assertThat(schemaVersion, equalTo(new SchemaVersion(2, 1, "RELEASE")));
+        assertThat(SchemaVersion.of("2.1.RELEASE"), sameInstance(schemaVersion));
+    }
+
     @Test(expectedExceptions = IllegalArgumentException.class)
     public void numericConstructorShouldThrowExceptionOnNegativeMajorVersion() {
 
@@ -218,6 +285,47 @@ public class SchemaVersionUnitTests {
         assertThat(isValidVersion("2.1.RELEASE"), equalTo(true));
     }
 
+    @Test
+    public void isValidVersionShouldMatchVersionPattern() {
+
+        for (String candidate : newCandidateStrings()) {
+            assertThat(candidate, isValidVersion(candidate), equalTo(VERSION_PATTERN.matcher(candidate).matches()));
+        }
+    }
+
+    @Test
+    public void stringConstructorShouldParseLikeVersionPattern() {
+
+        for (String candidate : newCandidateStrings()) {
+            Matcher matcher = VERSION_PATTERN.matcher(candidate);
+
+            if (!matcher.matches()) {
+                continue;
+            }
+
+            SchemaVersion schemaVersion = new SchemaVersion(candidate);
+
+            assertThat(candidate, schemaVersion.getMajor(), equalTo(Integer.valueOf(matcher.group(1))));
+            assertThat(candidate, schemaVersion.getMinor(), equalTo(Integer.valueOf(matcher.group(2))));
+            assertThat(candidate, schemaVersion.getQualifier().orElse(null), equalTo(matcher.group(3)));
+        }
+    }
+
+    @Test(expectedExceptions = NumberFormatException.class)
+    public void stringConstructorShouldThrowExceptionOnOverflowingMajorVersion() {
+
+        new SchemaVersion("2147483648.1");
+    }
+
+    @Test
+    public void stringConstructorShouldSupportLargestVersionNumbers() {
+
+        SchemaVersion schemaVersion = new SchemaVersion("2147483647.0002147483647");
+
+        assertThat(schemaVersion.getMajor(), equalTo(Integer.MAX_VALUE));
+        assertThat(schemaVersion.getMinor(), equalTo(Integer.MAX_VALUE));
+    }
+
     @Test
     public void compareToShouldOrderByMajorVersionFirst() {
 
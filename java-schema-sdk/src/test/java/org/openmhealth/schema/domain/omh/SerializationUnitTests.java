@@ -22,6 +22,9 @@ import com.github.fge.jsonschema.core.exceptions.ProcessingException;
 import com.github.fge.jsonschema.core.report.ProcessingReport;
 import com.github.fge.jsonschema.main.JsonSchema;
 import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import com.google.common.collect.ImmutableMap;
+import org.openmhealth.schema.configuration.JacksonConfiguration.Options;
+import org.openmhealth.schema.configuration.JacksonConfiguration.Options.PropertyAccess;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -30,6 +33,8 @@ import javax.annotation.Nullable;
 import java.io.File;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.notNullValue;
@@ -45,11 +50,42 @@ import static org.openmhealth.schema.configuration.JacksonConfiguration.newObjec
 public abstract class SerializationUnitTests {
 
     protected static final ObjectMapper objectMapper = newObjectMapper();
+
+    /**
+     * The object mappers that are expected to behave like {@link #objectMapper}, keyed by a description of their
+     * options.
+     */
+    protected static final Map<String, ObjectMapper> compatibleObjectMappers = newCompatibleObjectMappers();
+
     private static final JsonSchemaFactory jsonSchemaFactory = JsonSchemaFactory.byDefault();
 
     protected static JsonSchema schema;
 
 
+    private static Map<String, ObjectMapper> newCompatibleObjectMappers() {
+
+        Map<String, ObjectMapper> objectMappers = new LinkedHashMap<>();
+
+        for (PropertyAccess propertyAccess : PropertyAccess.values()) {
+            for (boolean omhSchemaModuleRegistered : new boolean[] {false, true}) {
+
+                if (propertyAccess == PropertyAccess.REFLECTION && !omhSchemaModuleRegistered) {
+                    continue; // the default object mapper
+                }
+
+                Options options = new Options.Builder()
+                        .setPropertyAccess(propertyAccess)
+                        .setOmhSchemaModuleRegistered(omhSchemaModuleRegistered)
+                        .build();
+
+                objectMappers.put(propertyAccess + (omhSchemaModuleRegistered ? " with OmhSchemaModule" : ""),
+                        newObjectMapper(options));
+            }
+        }
+
+        return ImmutableMap.copyOf(objectMappers);
+    }
+
     @BeforeClass
     public void loadSchema() throws ProcessingException {
         schema = jsonSchemaFactory.getJsonSchema(getSchemaUri());
@@ -74,7 +110,8 @@ public abstract class SerializationUnitTests {
     }
 
     /**
-     * A parameterized test that checks if objects are serialized correctly.
+     * A parameterized test that checks if objects are serialized correctly, and serialized the same way by each of the
+     * {@link #compatibleObjectMappers}, including the order of their properties.
      */
     @Test(dataProvider = "expectedDocumentProvider")
     public void serializationShouldCreateValidDocument(Object object, String expectedDocument) throws Exception {
@@ -87,6 +124,10 @@ public abstract class SerializationUnitTests {
 
         JsonNode expectedDocumentNode = objectMapper.readTree(expectedDocument);
         assertThat(documentNode, equalTo(expectedDocumentNode));
+
+        for (Map.Entry<String, ObjectMapper> entry : compatibleObjectMappers.entrySet()) {
+            assertThat(entry.getKey(), entry.getValue().writeValueAsString(object), equalTo(documentAsString));
+        }
     }
 
     @DataProvider(name = "expectedDocumentProvider")
@@ -96,7 +137,8 @@ public abstract class SerializationUnitTests {
     }
 
     /**
-     * A parameterized test that checks if objects are deserialized correctly.
+     * A parameterized test that checks if objects are deserialized correctly, both by the default object mapper and by
+     * each of the {@link #compatibleObjectMappers}.
      */
     @Test(dataProvider = "expectedObjectProvider")
     public void deserializationShouldCreateValidObject(String document, Object expectedObject) throws Exception {
@@ -105,6 +147,11 @@ public abstract class SerializationUnitTests {
 
         assertThat(object, notNullValue());
         assertThat(object, equalTo(expectedObject));
+
+        for (Map.Entry<String, ObjectMapper> entry : compatibleObjectMappers.entrySet()) {
+            assertThat(entry.getKey(), entry.getValue().readValue(document, expectedObject.getClass()),
+                    equalTo(expectedObject));
+        }
     }
 
     @DataProvider(name = "expectedObjectProvider")
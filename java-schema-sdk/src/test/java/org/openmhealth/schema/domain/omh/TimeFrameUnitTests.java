@@ -102,4 +102,29 @@ public class TimeFrameUnitTests extends SerializationUnitTests {
         serializationShouldCreateValidDocument(timeFrame, document);
         deserializationShouldCreateValidObject(document, timeFrame);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void toEpochRangeShouldResolvePointInTime() throws Exception {
+
+        OffsetDateTime dateTime = OffsetDateTime.of(2017, 6, 1, 8, 0, 0, 0, UTC);
+
+        TimeFrame timeFrame = new TimeFrame(dateTime);
+
+        assertThat(timeFrame.toEpochRange(), equalTo(EpochRange.ofPointInTime(dateTime)));
+    }
+
+    @Test
+    public void toEpochRangeShouldBeResetWhenTimeFrameChanges() throws Exception {
+
+        OffsetDateTime dateTime = OffsetDateTime.of(2017, 6, 1, 8, 0, 0, 0, UTC);
+        TimeInterval timeInterval = TimeInterval.ofStartDateTimeAndEndDateTime(dateTime, dateTime.plusHours(1));
+
+        TimeFrame timeFrame = new TimeFrame(dateTime);
+        EpochRange epochRange = timeFrame.toEpochRange();
+
+        timeFrame.setTimeInterval(timeInterval);
+
+        assertThat(timeFrame.toEpochRange(), not(equalTo(epochRange)));
+        assertThat(timeFrame.toEpochRange(), equalTo(timeInterval.toEpochRange()));
+    }
+}
@@ -18,6 +18,7 @@ package org.openmhealth.schema.domain.omh;
 
 import org.testng.annotations.Test;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
@@ -289,4 +290,33 @@ public class TimeIntervalUnitTests extends SerializationUnitTests {
         serializationShouldCreateValidDocument(timeInterval, document);
         deserializationShouldCreateValidObject(document, timeInterval);
     }
+
+    @Test
+    public void toEpochRangeShouldResolveStartDateTimeAndDuration() throws Exception {
+
+        OffsetDateTime startDateTime = OffsetDateTime.of(2017, 6, 1, 8, 0, 0, 0, ZoneOffset.ofHours(2));
+        TimeInterval timeInterval = TimeInterval.ofStartDateTimeAndDuration(startDateTime,
+                new DurationUnitValue(HOUR, new BigDecimal("1.5")));
+
+        EpochRange epochRange = timeInterval.toEpochRange();
+
+        assertThat(epochRange, equalTo(EpochRange.of(startDateTime, startDateTime.plusMinutes(90))));
+        assertThat(timeInterval.toEpochRange(), sameInstance(epochRange));
+    }
+
+    @Test
+    public void toEpochRangeShouldResolveEndDateTimeAndDuration() throws Exception {
+
+        OffsetDateTime endDateTime = OffsetDateTime.of(2017, 6, 1, 8, 0, 0, 0, ZoneOffset.UTC);
+        TimeInterval timeInterval =
+                TimeInterval.ofEndDateTimeAndDuration(endDateTime, new DurationUnitValue(HOUR, ONE));
+
+        assertThat(timeInterval.toEpochRange(), equalTo(EpochRange.of(endDateTime.minusHours(1), endDateTime)));
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void toEpochRangeShouldThrowExceptionOnPartOfDay() throws Exception {
+
+        TimeInterval.ofDateAndPartOfDay(LocalDate.now(), MORNING).toEpochRange();
+    }
 }
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.domain.omh;
+
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.comparesEqualTo;
+import static org.openmhealth.schema.domain.omh.BloodGlucoseUnit.MILLIGRAMS_PER_DECILITER;
+import static org.openmhealth.schema.domain.omh.BloodGlucoseUnit.MILLIMOLES_PER_LITER;
+import static org.openmhealth.schema.domain.omh.DurationUnit.HOUR;
+import static org.openmhealth.schema.domain.omh.DurationUnit.SECOND;
+import static org.openmhealth.schema.domain.omh.LengthUnit.*;
+import static org.openmhealth.schema.domain.omh.MassUnit.KILOGRAM;
+import static org.openmhealth.schema.domain.omh.MassUnit.POUND;
+import static org.openmhealth.schema.domain.omh.SpeedUnit.KILOMETERS_PER_HOUR;
+import static org.openmhealth.schema.domain.omh.SpeedUnit.METERS_PER_SECOND;
+import static org.openmhealth.schema.domain.omh.TemperatureUnit.*;
+import static org.openmhealth.schema.domain.omh.UnitConverter.*;
+import static org.openmhealth.schema.domain.omh.VolumeUnit.CUP;
+import static org.openmhealth.schema.domain.omh.VolumeUnit.MILLILITER;
+
+
+/**
+ * @author agent
+ */
+public class UnitConverterUnitTests {
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void forUnitTypeShouldThrowExceptionOnUndefinedUnitType() {
+
+        forUnitType(null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void forUnitTypeShouldThrowExceptionOnUnsupportedUnitType() {
+
+        forUnitType(HeartRateUnit.class);
+    }
+
+    @Test
+    public void forUnitTypeShouldReturnConverter() {
+
+        assertThat(forUnitType(LengthUnit.class), sameInstance(LENGTH));
+        assertThat(forUnitType(TemperatureUnit.class), sameInstance(TEMPERATURE));
+        assertThat(isConvertible(BloodGlucoseUnit.class), equalTo(true));
+        assertThat(isConvertible(HeartRateUnit.class), equalTo(false));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void convertShouldThrowExceptionOnUndefinedUnit() {
+
+        LENGTH.convert(1.0, null, METER);
+    }
+
+    @Test
+    public void convertShouldConvertDoubles() {
+
+        assertThat(LENGTH.convert(1.0, MILE, KILOMETER), closeTo(1.609344, 1e-12));
+        assertThat(LENGTH.convert(12.0, INCH, FOOT), closeTo(1.0, 1e-12));
+        assertThat(MASS.convert(1.0, KILOGRAM, POUND), closeTo(2.2046226218, 1e-9));
+        assertThat(VOLUME.convert(1.0, CUP, MILLILITER), closeTo(236.5882365, 1e-9));
+        assertThat(DURATION.convert(2.5, HOUR, SECOND), closeTo(9000.0, 1e-9));
+        assertThat(SPEED.convert(36.0, KILOMETERS_PER_HOUR, METERS_PER_SECOND), closeTo(10.0, 1e-12));
+        assertThat(BLOOD_GLUCOSE.convert(5.5, MILLIMOLES_PER_LITER, MILLIGRAMS_PER_DECILITER), closeTo(99.0858, 1e-9));
+    }
+
+    @Test
+    public void convertShouldApplyTemperatureOffsets() {
+
+        assertThat(TEMPERATURE.convert(100.0, CELSIUS, FAHRENHEIT), closeTo(212.0, 1e-9));
+        assertThat(TEMPERATURE.convert(-40.0, FAHRENHEIT, CELSIUS), closeTo(-40.0, 1e-9));
+        assertThat(TEMPERATURE.convert(0.0, KELVIN, CELSIUS), closeTo(-273.15, 1e-9));
+        assertThat(TEMPERATURE.convert(98.6, FAHRENHEIT, KELVIN), closeTo(310.15, 1e-9));
+    }
+
+    @Test
+    public void convertShouldReturnSameValueForSameUnit() {
+
+        BigDecimal value = new BigDecimal("1.50");
+
+        assertThat(LENGTH.convert(value, METER, METER), sameInstance(value));
+        assertThat(TEMPERATURE.convert(0.1, CELSIUS, CELSIUS), equalTo(0.1));
+    }
+
+    @Test
+    public void convertShouldConvertBigDecimalsExactly() {
+
+        assertThat(LENGTH.convert(BigDecimal.ONE, INCH, CENTIMETER), comparesEqualTo(new BigDecimal("2.54")));
+        assertThat(LENGTH.convert(new BigDecimal("2.54"), CENTIMETER, INCH), comparesEqualTo(BigDecimal.ONE));
+        assertThat(LENGTH.convert(BigDecimal.ONE, MILE, INCH), comparesEqualTo(new BigDecimal("63360")));
+        assertThat(TEMPERATURE.convert(new BigDecimal("98.6"), FAHRENHEIT, CELSIUS),
+                comparesEqualTo(new BigDecimal("37")));
+        assertThat(TEMPERATURE.convert(new BigDecimal("37"), CELSIUS, KELVIN),
+                comparesEqualTo(new BigDecimal("310.15")));
+    }
+
+    @Test
+    public void convertShouldRoundNonTerminatingBigDecimals() {
+
+        BigDecimal value = SPEED.convert(BigDecimal.ONE, KILOMETERS_PER_HOUR, METERS_PER_SECOND);
+
+        assertThat(value.precision(), equalTo(34));
+        assertThat(value.doubleValue(), equalTo(5.0 / 18.0));
+    }
+
+    @Test
+    public void convertShouldConvertArraysInPlace() {
+
+        double[] values = {0.0, 1.0, 2.5};
+
+        double[] convertedValues = LENGTH.convert(values, METER, CENTIMETER);
+
+        assertThat(convertedValues, sameInstance(values));
+        assertThat(values[0], equalTo(0.0));
+        assertThat(values[1], closeTo(100.0, 1e-12));
+        assertThat(values[2], closeTo(250.0, 1e-12));
+    }
+
+    @Test
+    public void convertShouldConvertArraysLikeSingleValues() {
+
+        double[] values = {-40.0, 0.0, 36.6, 100.0};
+        double[] expectedValues = new double[values.length];
+
+        for (int i = 0; i < values.length; i++) {
+            expectedValues[i] = TEMPERATURE.convert(values[i], CELSIUS, FAHRENHEIT);
+        }
+
+        assertThat(TEMPERATURE.convert(values, CELSIUS, FAHRENHEIT), equalTo(expectedValues));
+    }
+
+    @Test
+    public void convertShouldRoundTripEveryUnitPair() {
+
+        for (LengthUnit from : LengthUnit.values()) {
+            for (LengthUnit to : LengthUnit.values()) {
+                BigDecimal value = new BigDecimal("12.345");
+
+                BigDecimal roundTrippedValue = LENGTH.convert(LENGTH.convert(value, from, to), to, from);
+
+                // conversions to inches, feet, yards and miles can round
+                assertThat(roundTrippedValue.round(new MathContext(30)), comparesEqualTo(value));
+            }
+        }
+    }
+
+    @Test
+    public void doubleFactorsAndOffsetsShouldBeClosestToExactValues() {
+
+        for (UnitConverter<?> converter : asList(AREA, BLOOD_GLUCOSE, DURATION, KCAL, LENGTH, MASS, SPEED, TEMPERATURE,
+                VOLUME)) {
+            assertClosestToExactValues(converter);
+        }
+    }
+
+    private <U extends Unit> void assertClosestToExactValues(UnitConverter<U> converter) {
+
+        for (U from : converter.getUnitType().getEnumConstants()) {
+            for (U to : converter.getUnitType().getEnumConstants()) {
+                assertThat(converter.getDoubleFactor(from, to),
+                        equalTo(toClosestDouble(converter.getExactFactor(from, to))));
+                assertThat(converter.getDoubleOffset(from, to),
+                        equalTo(toClosestDouble(converter.getExactOffset(from, to))));
+            }
+        }
+    }
+
+    private double toClosestDouble(UnitConverter.Rational rational) {
+
+        // far more digits than any table needs to round correctly
+        return new BigDecimal(rational.numerator)
+                .divide(new BigDecimal(rational.denominator), new MathContext(200))
+                .doubleValue();
+    }
+
+    @Test
+    public void convertToShouldReturnSameInstanceForSameUnit() {
+
+        LengthUnitValue unitValue = new LengthUnitValue(METER, 1.5);
+
+        assertThat(unitValue.convertTo(METER), sameInstance(unitValue));
+    }
+
+    @Test
+    public void convertToShouldPreserveDoubleRepresentation() {
+
+        LengthUnitValue unitValue = new LengthUnitValue(KILOMETER, 1.5).convertTo(METER);
+
+        assertThat(unitValue.getTypedUnit(), equalTo(METER));
+        assertThat(unitValue.getUnit(), equalTo("m"));
+        assertThat(unitValue.getSerializableValue(), equalTo(1500.0));
+    }
+
+    @Test
+    public void convertToShouldConvertExactValuesExactly() {
+
+        TemperatureUnitValue unitValue =
+                new TemperatureUnitValue(FAHRENHEIT, new BigDecimal("98.6")).convertTo(CELSIUS);
+
+        assertThat(unitValue, equalTo(new TemperatureUnitValue(CELSIUS, new BigDecimal("37"))));
+
+        LengthUnitValue lengthUnitValue = new LengthUnitValue(FOOT, 6L).convertTo(INCH);
+
+        assertThat(lengthUnitValue.getValue(), comparesEqualTo(new BigDecimal("72")));
+    }
+
+    @Test
+    public void convertToShouldNotCopyAdditionalProperties() {
+
+        LengthUnitValue unitValue = new LengthUnitValue(METER, 1L);
+        unitValue.setAdditionalProperty("foo", "bar");
+
+        assertThat(unitValue.convertTo(CENTIMETER).getAdditionalProperties().isEmpty(), equalTo(true));
+        assertThat(unitValue.getAdditionalProperties().isEmpty(), equalTo(false));
+    }
+
+    @Test
+    public void convertToShouldConvertTypedUnitValues() {
+
+        TypedUnitValue<BloodGlucoseUnit> unitValue = new TypedUnitValue<>(MILLIMOLES_PER_LITER, new BigDecimal("5"));
+
+        assertThat(unitValue.convertTo(MILLIGRAMS_PER_DECILITER),
+                equalTo(new TypedUnitValue<>(MILLIGRAMS_PER_DECILITER, new BigDecimal("90.078"))));
+    }
+}
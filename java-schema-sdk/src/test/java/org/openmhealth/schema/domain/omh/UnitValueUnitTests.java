@@ -16,14 +16,30 @@
 
 package org.openmhealth.schema.domain.omh;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
 import static java.math.BigDecimal.ONE;
 import static java.math.BigDecimal.TEN;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.openmhealth.schema.configuration.JacksonConfiguration.newPrimitiveNumberObjectMapper;
 
 
 /**
@@ -61,6 +77,162 @@ public class UnitValueUnitTests extends DataProvidingSerializationUnitTests {
         assertThat(unitValue.getValue(), equalTo(ONE));
     }
 
+    @Test
+    public void bigDecimalConstructorsShouldBeKeptForBinaryCompatibility() throws Exception {
+
+        assertThat(UnitValue.class.getConstructor(String.class, BigDecimal.class), notNullValue());
+        assertThat(TypedUnitValue.class.getConstructor(Unit.class, BigDecimal.class), notNullValue());
+
+        for (Class<?> unitValueClass : new Class<?>[] {AreaUnitValue.class, DurationUnitValue.class,
+                KcalUnitValue.class, LengthUnitValue.class, MassUnitValue.class, PlaneAngleUnitValue.class,
+                SpeedUnitValue.class, TemperatureUnitValue.class, VolumeUnitValue.class}) {
+
+            // the unit type is taken from the creator constructor
+            Class<?> unitClass = Arrays.stream(unitValueClass.getConstructors())
+                    .map(Constructor::getParameterTypes)
+                    .filter(parameterTypes -> parameterTypes.length == 2 && parameterTypes[1] == Number.class)
+                    .findFirst()
+                    .get()[0];
+
+            assertThat(unitValueClass.getConstructor(unitClass, BigDecimal.class), notNullValue());
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void constructorShouldThrowExceptionOnNonFiniteValue() {
+
+        new UnitValue("g", Double.NaN);
+    }
+
+    @Test
+    public void getValueShouldReturnBigDecimalForPrimitiveValues() {
+
+        assertThat(new UnitValue("g", 10L).getValue(), equalTo(TEN));
+        assertThat(new UnitValue("g", 10).getValue(), equalTo(TEN));
+        assertThat(new UnitValue("g", 2.5).getValue(), equalTo(new BigDecimal("2.5")));
+        assertThat(new UnitValue("g", 2.5f).getValue(), equalTo(new BigDecimal("2.5")));
+        assertThat(new UnitValue("g", BigInteger.TEN).getValue(), equalTo(TEN));
+    }
+
+    @Test
+    public void fieldsShouldBeStoredTheSameWayRegardlessOfRepresentation() throws Exception {
+
+        List<String> storedFieldNames = new ArrayList<>();
+
+        for (Field field : UnitValue.class.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())) {
+                storedFieldNames.add(field.getName());
+            }
+        }
+
+        assertThat(storedFieldNames, contains("unit", "value", "additionalProperties"));
+
+        Field unitField = UnitValue.class.getDeclaredField("unit");
+        Field valueField = UnitValue.class.getDeclaredField("value");
+        unitField.setAccessible(true);
+        valueField.setAccessible(true);
+
+        assertThat(valueField.get(new UnitValue("g", 10L)), equalTo(TEN));
+        assertThat(valueField.get(new UnitValue("g", 2.5)), equalTo(new BigDecimal("2.5")));
+
+        // a unit value read by a field-based mapper
+        UnitValue unitValue = new UnitValue();
+        unitField.set(unitValue, "g");
+        valueField.set(unitValue, TEN);
+
+        assertThat(unitValue, equalTo(new UnitValue("g", 10L)));
+        assertThat(unitValue.doubleValue(), equalTo(10d));
+        assertThat(unitValue.getSerializableValue(), equalTo(TEN));
+    }
+
+    @Test
+    public void doubleValueShouldWork() {
+
+        assertThat(new UnitValue("g", 10L).doubleValue(), equalTo(10d));
+        assertThat(new UnitValue("g", 2.5).doubleValue(), equalTo(2.5));
+        assertThat(new UnitValue("g", new BigDecimal("2.5")).doubleValue(), equalTo(2.5));
+    }
+
+    @Test
+    public void equalsShouldCompareValuesNumerically() {
+
+        UnitValue longValue = new UnitValue("g", 10L);
+        UnitValue doubleValue = new UnitValue("g", 10.0);
+        UnitValue bigDecimalValue = new UnitValue("g", new BigDecimal("10.00"));
+
+        assertThat(longValue, equalTo(doubleValue));
+        assertThat(doubleValue, equalTo(bigDecimalValue));
+        assertThat(bigDecimalValue, equalTo(longValue));
+        assertThat(new UnitValue("g", 0.0), equalTo(new UnitValue("g", -0.0)));
+
+        assertThat(longValue, not(equalTo(new UnitValue("g", 10.5))));
+        assertThat(longValue, not(equalTo(new UnitValue("kg", 10L))));
+    }
+
+    @Test
+    public void hashCodeShouldBeConsistentWithEquals() {
+
+        int hashCode = new UnitValue("g", 10L).hashCode();
+
+        assertThat(new UnitValue("g", 10.0).hashCode(), equalTo(hashCode));
+        assertThat(new UnitValue("g", new BigDecimal("10.00")).hashCode(), equalTo(hashCode));
+        assertThat(new UnitValue("g", 0.0).hashCode(), equalTo(new UnitValue("g", -0.0).hashCode()));
+    }
+
+    @Test
+    public void serializationShouldFormatDoublesLikeBigDecimals() throws IOException {
+
+        Random random = new Random(42);
+
+        for (int i = 0; i < 10_000; i++) {
+
+            // spread values across many orders of magnitude to cover both plain and scientific notation
+            double value = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(30) - 15);
+
+            if (i % 10 == 0) {
+                value = Math.rint(value);
+            }
+
+            String expected = objectMapper.writeValueAsString(new UnitValue("g", BigDecimal.valueOf(value)));
+
+            assertThat(objectMapper.writeValueAsString(new UnitValue("g", value)), equalTo(expected));
+        }
+    }
+
+    @Test
+    public void primitiveNumberObjectMapperShouldDeserializePrimitives() throws IOException {
+
+        ObjectMapper primitiveNumberObjectMapper = newPrimitiveNumberObjectMapper();
+
+        UnitValue integerValue =
+                primitiveNumberObjectMapper.readValue("{\"unit\":\"g\",\"value\":70}", UnitValue.class);
+        UnitValue decimalValue =
+                primitiveNumberObjectMapper.readValue("{\"unit\":\"g\",\"value\":70.5}", UnitValue.class);
+
+        assertThat(integerValue, equalTo(new UnitValue("g", 70L)));
+        assertThat(decimalValue, equalTo(new UnitValue("g", 70.5)));
+        assertThat(decimalValue.getSerializableValue(), instanceOf(Double.class));
+    }
+
+    @Test
+    public void primitiveNumberObjectMapperShouldPreserveSerializedValues() throws IOException {
+
+        ObjectMapper primitiveNumberObjectMapper = newPrimitiveNumberObjectMapper();
+
+        for (String document : new String[] {
+                "{\"unit\":\"g\",\"value\":70}",
+                "{\"unit\":\"g\",\"value\":-70.25}",
+                "{\"unit\":\"g\",\"value\":0.001}",
+                "{\"unit\":\"g\",\"value\":1234567.5}",
+                "{\"unit\":\"g\",\"value\":9223372036854775807}",
+        }) {
+            UnitValue unitValue = primitiveNumberObjectMapper.readValue(document, UnitValue.class);
+
+            assertThat(primitiveNumberObjectMapper.writeValueAsString(unitValue), equalTo(document));
+            assertThat(unitValue, equalTo(objectMapper.readValue(document, UnitValue.class)));
+        }
+    }
+
     @Override
     protected String getSchemaFilename() {
         return SCHEMA_FILENAME;
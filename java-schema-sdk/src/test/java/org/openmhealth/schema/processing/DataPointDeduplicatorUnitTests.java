@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.processing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openmhealth.schema.configuration.JacksonConfiguration;
+import org.openmhealth.schema.domain.omh.DataPoint;
+import org.openmhealth.schema.domain.omh.DataPointAcquisitionProvenance;
+import org.openmhealth.schema.domain.omh.DataPointHeader;
+import org.openmhealth.schema.domain.omh.HeartRate;
+import org.openmhealth.schema.domain.omh.SchemaId;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.time.ZoneOffset.UTC;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.testng.Assert.fail;
+
+
+/**
+ * @author agent
+ */
+public class DataPointDeduplicatorUnitTests {
+
+    private static final OffsetDateTime EFFECTIVE_DATE_TIME = OffsetDateTime.of(2017, 6, 1, 7, 30, 0, 0, UTC);
+
+
+    private DataPoint<HeartRate> newDataPoint(String id, String userId, long heartRate) {
+        return newDataPoint(id, userId,
+                new HeartRate.Builder(heartRate).setEffectiveTimeFrame(EFFECTIVE_DATE_TIME).build());
+    }
+
+    private DataPoint<HeartRate> newDataPoint(String id, String userId, HeartRate heartRate) {
+
+        DataPointHeader header = new DataPointHeader.Builder(id, HeartRate.SCHEMA_ID, OffsetDateTime.now())
+                .setUserId(userId)
+                .setAcquisitionProvenance(new DataPointAcquisitionProvenance.Builder("Fitbit").build())
+                .build();
+
+        return new DataPoint<>(header, heartRate);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void addShouldThrowExceptionOnUndefinedDataPoint() {
+
+        new DataPointDeduplicator.Builder().build().add(null);
+    }
+
+    @Test
+    public void addShouldDetectDuplicateHeaderIdentifiers() {
+
+        DataPointDeduplicator deduplicator = new DataPointDeduplicator.Builder().build();
+
+        assertThat(deduplicator.add(newDataPoint("a", "joe", 60)), equalTo(true));
+        assertThat(deduplicator.add(newDataPoint("a", "joe", 70)), equalTo(false));
+        assertThat(deduplicator.add(newDataPoint("a", "jane", 60)), equalTo(true));
+        assertThat(deduplicator.add(newDataPoint("b", "joe", 60)), equalTo(true));
+        assertThat(deduplicator.getFingerprintCount(), equalTo(3L));
+    }
+
+    @Test
+    public void addShouldDetectDuplicateContentIfEnabled() {
+
+        DataPointDeduplicator deduplicator = new DataPointDeduplicator.Builder()
+                .setContentDeduplicated(true)
+                .build();
+
+        assertThat(deduplicator.add(newDataPoint("a", "joe", 60)), equalTo(true));
+        assertThat(deduplicator.add(newDataPoint("b", "joe", 60)), equalTo(false));
+        assertThat(deduplicator.add(newDataPoint("c", "jane", 60)), equalTo(true));
+        assertThat(deduplicator.add(newDataPoint("d", "joe", 70)), equalTo(true));
+        assertThat(deduplicator.add(newDataPoint("d", "joe", 80)), equalTo(false));
+    }
+
+    @Test
+    public void addShouldNotRecordDataPointWhoseBodyCantBeSerialized() {
+
+        DataPointDeduplicator deduplicator = new DataPointDeduplicator.Builder()
+                .setContentDeduplicated(true)
+                .build();
+
+        DataPointHeader header = newDataPoint("a", "joe", 60).getHeader();
+
+        try {
+            deduplicator.add(new DataPoint<>(header, new UnserializableBody()));
+            fail("The body of the data point has been serialized.");
+        }
+        catch (UncheckedIOException e) {
+            // expected
+        }
+
+        assertThat(deduplicator.getFingerprintCount(), equalTo(0L));
+        assertThat(deduplicator.add(newDataPoint("a", "joe", 60)), equalTo(true));
+    }
+
+    @Test
+    public void deduplicateShouldRemoveDuplicates() {
+
+        DataPointDeduplicator deduplicator = new DataPointDeduplicator.Builder()
+                .setContentDeduplicated(true)
+                .setExpectedDataPointCount(10)
+                .build();
+
+        List<String> ids = deduplicator
+                .deduplicate(Stream.of(
+                        newDataPoint("a", "joe", 60),
+                        newDataPoint("a", "joe", 60),
+                        newDataPoint("b", "joe", 60),
+                        newDataPoint("c", "joe", 65)))
+                .map(dataPoint -> dataPoint.getHeader().getId())
+                .collect(Collectors.toList());
+
+        assertThat(ids, contains("a", "c"));
+    }
+
+    @Test
+    public void addShouldDetectDuplicateContentWithReorderedAndRescaledMapEntries() {
+
+        DataPointDeduplicator deduplicator = new DataPointDeduplicator.Builder()
+                .setContentDeduplicated(true)
+                .build();
+
+        SchemaId schemaId = new SchemaId("acme", "reading", "1.0");
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("level", new BigDecimal("60.0"));
+        body.put("count", 1);
+        body.put("ratio", 0.5);
+
+        Map<String, Object> reorderedBody = new LinkedHashMap<>();
+        reorderedBody.put("ratio", new BigDecimal("0.50"));
+        reorderedBody.put("count", 1L);
+        reorderedBody.put("level", 60L);
+
+        assertThat(deduplicator.add(new DataPoint<>(new DataPointHeader.Builder("a", schemaId).build(), body)),
+                equalTo(true));
+        assertThat(deduplicator.add(new DataPoint<>(new DataPointHeader.Builder("b", schemaId).build(),
+                reorderedBody)), equalTo(false));
+
+        reorderedBody.put("level", 61L);
+
+        assertThat(deduplicator.add(new DataPoint<>(new DataPointHeader.Builder("c", schemaId).build(),
+                reorderedBody)), equalTo(true));
+    }
+
+    @DataProvider(name = "objectMappers")
+    public Object[][] newObjectMappers() {
+
+        return new Object[][] {
+                {JacksonConfiguration.newObjectMapper()},
+                {JacksonConfiguration.newObjectMapper(new JacksonConfiguration.Options.Builder()
+                        .setOmhSchemaModuleRegistered(true)
+                        .build())},
+        };
+    }
+
+    @Test(dataProvider = "objectMappers")
+    public void addShouldDetectDuplicateContentWithReorderedAndRescaledProperties(ObjectMapper objectMapper) {
+
+        DataPointDeduplicator deduplicator = new DataPointDeduplicator.Builder()
+                .setContentDeduplicated(true)
+                .setObjectMapper(objectMapper)
+                .build();
+
+        // "Aa" and "BB" have the same hash code, so hash maps iterate over them in insertion order
+        HeartRate heartRate = new HeartRate.Builder(new BigDecimal("60"))
+                .setEffectiveTimeFrame(EFFECTIVE_DATE_TIME)
+                .build();
+        heartRate.setAdditionalProperty("Aa", 1);
+        heartRate.setAdditionalProperty("BB", 2);
+
+        HeartRate reorderedHeartRate = new HeartRate.Builder(new BigDecimal("60.0"))
+                .setEffectiveTimeFrame(EFFECTIVE_DATE_TIME)
+                .build();
+        reorderedHeartRate.setAdditionalProperty("BB", 2);
+        reorderedHeartRate.setAdditionalProperty("Aa", 1);
+
+        assertThat(deduplicator.add(newDataPoint("a", "joe", heartRate)), equalTo(true));
+        assertThat(deduplicator.add(newDataPoint("b", "joe", reorderedHeartRate)), equalTo(false));
+    }
+
+
+    public static class UnserializableBody {
+
+        public String getValue() {
+            throw new IllegalStateException("The value can't be serialized.");
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.processing;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+
+/**
+ * @author agent
+ */
+public class FingerprintSetUnitTests {
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void constructorShouldThrowExceptionOnNegativeExpectedSize() {
+
+        new FingerprintSet(-1);
+    }
+
+    @Test
+    public void addShouldReturnFalseOnDuplicate() {
+
+        FingerprintSet set = new FingerprintSet(0);
+
+        assertThat(set.add(1, 2), equalTo(true));
+        assertThat(set.add(1, 2), equalTo(false));
+        assertThat(set.add(2, 1), equalTo(true));
+        assertThat(set.size(), equalTo(2L));
+    }
+
+    @Test
+    public void addShouldSupportZeroFingerprint() {
+
+        FingerprintSet set = new FingerprintSet(0);
+
+        assertThat(set.contains(0, 0), equalTo(false));
+        assertThat(set.add(0, 0), equalTo(true));
+        assertThat(set.contains(0, 0), equalTo(true));
+        assertThat(set.add(0, 0), equalTo(false));
+    }
+
+    @Test
+    public void setShouldGrowBeyondExpectedSize() {
+
+        FingerprintSet set = new FingerprintSet(0);
+        long initialAllocatedBytes = set.getAllocatedBytes();
+
+        Random random = new Random(42);
+        long[] fingerprints = new long[200_000];
+
+        for (int i = 0; i < fingerprints.length; i += 2) {
+            fingerprints[i] = random.nextLong();
+            fingerprints[i + 1] = random.nextLong();
+
+            assertThat(set.add(fingerprints[i], fingerprints[i + 1]), equalTo(true));
+        }
+
+        for (int i = 0; i < fingerprints.length; i += 2) {
+            assertThat(set.contains(fingerprints[i], fingerprints[i + 1]), equalTo(true));
+            assertThat(set.contains(fingerprints[i], ~fingerprints[i + 1]), equalTo(false));
+        }
+
+        assertThat(set.size(), equalTo(fingerprints.length / 2L));
+        assertThat(set.getAllocatedBytes(), greaterThan(initialAllocatedBytes));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void constructorShouldThrowExceptionOnTooSmallMaximumAllocatedSize() {
+
+        new FingerprintSet(0, FingerprintSet.MINIMUM_ALLOCATED_BYTES - 1);
+    }
+
+    @Test
+    public void setShouldNotGrowBeyondMaximumAllocatedSize() {
+
+        long maximumAllocatedBytes = FingerprintSet.MINIMUM_ALLOCATED_BYTES * 4;
+        FingerprintSet set = new FingerprintSet(1_000_000, maximumAllocatedBytes);
+
+        Random random = new Random(42);
+
+        try {
+            while (true) {
+                set.add(random.nextLong(), random.nextLong());
+                assertThat(set.getAllocatedBytes(), lessThanOrEqualTo(maximumAllocatedBytes));
+            }
+        }
+        catch (IllegalStateException e) {
+            assertThat(set.size(), greaterThan(0L));
+            assertThat(set.getAllocatedBytes(), lessThanOrEqualTo(maximumAllocatedBytes));
+        }
+    }
+
+    @Test
+    public void addShouldReturnFalseOnDuplicateOnceFull() {
+
+        FingerprintSet set = new FingerprintSet(0, FingerprintSet.MINIMUM_ALLOCATED_BYTES);
+        Random random = new Random(42);
+        List<long[]> fingerprints = new ArrayList<>();
+
+        try {
+            while (true) {
+                long[] fingerprint = {random.nextLong(), random.nextLong()};
+
+                set.add(fingerprint[0], fingerprint[1]);
+                fingerprints.add(fingerprint);
+            }
+        }
+        catch (IllegalStateException e) {
+            for (long[] fingerprint : fingerprints) {
+                assertThat(set.add(fingerprint[0], fingerprint[1]), equalTo(false));
+            }
+        }
+    }
+
+    @Test
+    public void addShouldAddNeitherFingerprintOnceFull() {
+
+        FingerprintSet set = new FingerprintSet(0, FingerprintSet.MINIMUM_ALLOCATED_BYTES);
+        Random random = new Random(42);
+        long[] rejectedFingerprint;
+
+        while (true) {
+            rejectedFingerprint = new long[] {random.nextLong(), random.nextLong()};
+
+            try {
+                set.add(rejectedFingerprint[0], rejectedFingerprint[1]);
+            }
+            catch (IllegalStateException e) {
+                break;
+            }
+        }
+
+        long size = set.size();
+
+        for (int i = 0; i < 100; i++) {
+            long high = random.nextLong();
+            long low = random.nextLong();
+
+            try {
+                set.add(high, low, rejectedFingerprint[0], rejectedFingerprint[1]);
+            }
+            catch (IllegalStateException e) {
+                // expected
+            }
+
+            assertThat(set.contains(high, low), equalTo(false));
+            assertThat(set.size(), equalTo(size));
+        }
+    }
+}
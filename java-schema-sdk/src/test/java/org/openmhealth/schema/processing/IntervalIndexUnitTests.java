@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.processing;
+
+import org.openmhealth.schema.domain.omh.DataPoint;
+import org.openmhealth.schema.domain.omh.DataPointHeader;
+import org.openmhealth.schema.domain.omh.EpochRange;
+import org.openmhealth.schema.domain.omh.HeartRate;
+import org.openmhealth.schema.domain.omh.SleepEpisode;
+import org.openmhealth.schema.domain.omh.TimeInterval;
+import org.testng.annotations.Test;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static java.time.ZoneOffset.UTC;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.openmhealth.schema.domain.omh.PartOfDay.MORNING;
+
+
+/**
+ * @author agent
+ */
+public class IntervalIndexUnitTests {
+
+    private static final OffsetDateTime MIDNIGHT = OffsetDateTime.of(2017, 6, 1, 0, 0, 0, 0, UTC);
+
+
+    private DataPoint<HeartRate> newHeartRateDataPoint(String id, OffsetDateTime effectiveDateTime) {
+
+        return new DataPoint<>(new DataPointHeader.Builder(id, HeartRate.SCHEMA_ID).build(),
+                new HeartRate.Builder(60).setEffectiveTimeFrame(effectiveDateTime).build());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void findOverlappingShouldThrowExceptionOnReversedRange() {
+
+        new IntervalIndex<EpochRange>(emptyList(), range -> range).findOverlapping(1, 0);
+    }
+
+    @Test
+    public void findOverlappingShouldFindEmptyIndex() {
+
+        IntervalIndex<EpochRange> index = new IntervalIndex<>(emptyList(), range -> range);
+
+        assertThat(index.findOverlapping(0, 10).isEmpty(), equalTo(true));
+        assertThat(index.countOverlapping(0, 10), equalTo(0));
+    }
+
+    @Test
+    public void findOverlappingShouldFindRangesStartingAtPointInTime() {
+
+        EpochRange range = new EpochRange(100, 200);
+        EpochRange pointInTime = new EpochRange(100, 100);
+        IntervalIndex<EpochRange> index = new IntervalIndex<>(asList(range, pointInTime), item -> item);
+
+        assertThat(index.findOverlapping(100, 100), contains(range, pointInTime));
+        assertThat(index.countOverlapping(100, 100), equalTo(2));
+    }
+
+    @Test
+    public void findOverlappingShouldNotFindRangesEndingAtPointInTime() {
+
+        EpochRange range = new EpochRange(100, 200);
+        EpochRange pointInTime = new EpochRange(200, 200);
+        IntervalIndex<EpochRange> index = new IntervalIndex<>(asList(range, pointInTime), item -> item);
+
+        assertThat(index.findOverlapping(200, 200), contains(pointInTime));
+        assertThat(index.countOverlapping(200, 200), equalTo(1));
+        assertThat(index.findOverlapping(199, 199), contains(range));
+    }
+
+    @Test
+    public void findOverlappingShouldMatchBruteForceSearch() {
+
+        Random random = new Random(42);
+        List<EpochRange> ranges = new ArrayList<>();
+
+        for (int i = 0; i < 2000; i++) {
+            long start = random.nextInt(100_000);
+            long length = random.nextInt(4) == 0 ? 0 : random.nextInt(random.nextBoolean() ? 100 : 10_000);
+
+            ranges.add(new EpochRange(start, start + length));
+        }
+
+        IntervalIndex<EpochRange> index = new IntervalIndex<>(ranges, range -> range);
+
+        for (int i = 0; i < 500; i++) {
+            long start = random.nextInt(110_000) - 5000;
+            long end = start + random.nextInt(i % 2 == 0 ? 50 : 5000);
+
+            List<EpochRange> expectedRanges = ranges.stream()
+                    .filter(range -> range.overlaps(start, end))
+                    .sorted((first, second) -> Long.compare(first.getStartEpochNano(), second.getStartEpochNano()))
+                    .collect(toList());
+
+            List<EpochRange> overlappingRanges = index.findOverlapping(start, end);
+
+            // ranges with the same start may be found in a different order
+            assertThat(overlappingRanges.size(), equalTo(expectedRanges.size()));
+            assertThat(overlappingRanges.containsAll(expectedRanges), equalTo(true));
+            assertThat(index.countOverlapping(start, end), equalTo(expectedRanges.size()));
+
+            for (int j = 1; j < overlappingRanges.size(); j++) {
+                assertThat(overlappingRanges.get(j - 1).getStartEpochNano()
+                        <= overlappingRanges.get(j).getStartEpochNano(), equalTo(true));
+            }
+        }
+    }
+
+    @Test
+    public void ofDataPointsShouldIndexEffectiveTimeFrames() {
+
+        SleepEpisode sleepEpisode = new SleepEpisode.Builder(
+                TimeInterval.ofStartDateTimeAndEndDateTime(MIDNIGHT.minusHours(1), MIDNIGHT.plusHours(7)))
+                .build();
+
+        DataPoint<SleepEpisode> sleepDataPoint =
+                new DataPoint<>(new DataPointHeader.Builder("sleep", SleepEpisode.SCHEMA_ID).build(), sleepEpisode);
+
+        List<DataPoint<?>> dataPoints = new ArrayList<>();
+
+        dataPoints.add(sleepDataPoint);
+        dataPoints.add(newHeartRateDataPoint("before", MIDNIGHT.minusHours(2)));
+        dataPoints.add(newHeartRateDataPoint("during", MIDNIGHT.plusHours(3)));
+        dataPoints.add(newHeartRateDataPoint("at end", MIDNIGHT.plusHours(7)));
+
+        IntervalIndex<DataPoint<?>> index = IntervalIndex.ofDataPoints(dataPoints);
+
+        List<String> ids = index.findOverlapping(MIDNIGHT, MIDNIGHT.plusHours(7)).stream()
+                .map(dataPoint -> dataPoint.getHeader().getId())
+                .collect(toList());
+
+        assertThat(ids, contains("sleep", "during"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = ".*'breakfast'.*")
+    public void ofDataPointsShouldThrowExceptionNamingDataPointWithPartOfDay() {
+
+        HeartRate heartRate = new HeartRate.Builder(60)
+                .setEffectiveTimeFrame(TimeInterval.ofDateAndPartOfDay(MIDNIGHT.toLocalDate(), MORNING))
+                .build();
+
+        List<DataPoint<?>> dataPoints = new ArrayList<>();
+
+        dataPoints.add(newHeartRateDataPoint("before", MIDNIGHT.minusHours(2)));
+        dataPoints.add(new DataPoint<>(new DataPointHeader.Builder("breakfast", HeartRate.SCHEMA_ID).build(),
+                heartRate));
+
+        IntervalIndex.ofDataPoints(dataPoints);
+    }
+}
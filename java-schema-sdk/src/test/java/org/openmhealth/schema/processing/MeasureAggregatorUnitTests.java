@@ -0,0 +1,330 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.processing;
+
+import org.openmhealth.schema.domain.omh.DataPoint;
+import org.openmhealth.schema.domain.omh.DataPointHeader;
+import org.openmhealth.schema.domain.omh.DescriptiveStatistic;
+import org.openmhealth.schema.domain.omh.DurationUnitValue;
+import org.openmhealth.schema.domain.omh.HeartRate;
+import org.openmhealth.schema.domain.omh.StepCount2;
+import org.openmhealth.schema.domain.omh.TimeInterval;
+import org.testng.annotations.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.time.ZoneOffset.UTC;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.openmhealth.schema.domain.omh.DescriptiveStatistic.*;
+import static org.openmhealth.schema.domain.omh.DescriptiveStatisticDenominator.DAY;
+import static org.openmhealth.schema.domain.omh.DurationUnit.MINUTE;
+import static org.openmhealth.schema.processing.AggregatableMeasure.HEART_RATE;
+import static org.openmhealth.schema.processing.AggregatableMeasure.STEP_COUNT;
+
+
+/**
+ * @author agent
+ */
+public class MeasureAggregatorUnitTests {
+
+    private static final OffsetDateTime MIDNIGHT = OffsetDateTime.of(2017, 6, 1, 0, 0, 0, 0, UTC);
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2017-07-01T00:00:00Z"), UTC);
+
+
+    private DataPoint<HeartRate> newHeartRateDataPoint(String userId, OffsetDateTime effectiveDateTime, long value) {
+
+        DataPointHeader header = new DataPointHeader.Builder(UUID.randomUUID().toString(), HeartRate.SCHEMA_ID)
+                .setUserId(userId)
+                .build();
+
+        return new DataPoint<>(header, new HeartRate.Builder(value).setEffectiveTimeFrame(effectiveDateTime).build());
+    }
+
+    private StepCount2 newStepCount(OffsetDateTime startDateTime, long value) {
+
+        return new StepCount2.Builder(value,
+                TimeInterval.ofStartDateTimeAndDuration(startDateTime, new DurationUnitValue(MINUTE, 30)))
+                .build();
+    }
+
+    private Map<DescriptiveStatistic, Double> getValuesByStatistic(List<DataPoint<HeartRate>> dataPoints) {
+
+        return dataPoints.stream().collect(toMap(
+                dataPoint -> dataPoint.getBody().getDescriptiveStatistic(),
+                dataPoint -> dataPoint.getBody().getHeartRate().doubleValue()));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void builderShouldThrowExceptionOnWindowDurationThatDoesNotAlignWithDays() {
+
+        new MeasureAggregator.Builder<>(HEART_RATE, Duration.ofMinutes(7));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void buildShouldThrowExceptionOnSumOfNonAdditiveMeasures() {
+
+        new MeasureAggregator.Builder<>(HEART_RATE, Duration.ofHours(1)).setStatistics(SUM).build();
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void buildShouldThrowExceptionOnAverageOfAdditiveMeasuresOverSingleDay() {
+
+        new MeasureAggregator.Builder<>(STEP_COUNT, Duration.ofDays(1)).setStatistics(AVERAGE).build();
+    }
+
+    @Test
+    public void addShouldEmitStatisticsWhenWindowCloses() {
+
+        MeasureAggregator<HeartRate> aggregator = new MeasureAggregator.Builder<>(HEART_RATE, Duration.ofHours(1))
+                .setClock(CLOCK)
+                .build();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(aggregator.add(newHeartRateDataPoint("joe", MIDNIGHT.plusMinutes(i * 10), 60 + i * 10)),
+                    empty());
+        }
+
+        List<DataPoint<HeartRate>> dataPoints = aggregator.add(newHeartRateDataPoint("joe", MIDNIGHT.plusHours(2), 70));
+
+        assertThat(dataPoints, hasSize(5));
+        assertThat(aggregator.getOpenWindowCount(), equalTo(1));
+
+        Map<DescriptiveStatistic, Double> valuesByStatistic = getValuesByStatistic(dataPoints);
+
+        assertThat(valuesByStatistic.get(MINIMUM), equalTo(60d));
+        assertThat(valuesByStatistic.get(MAXIMUM), equalTo(100d));
+        assertThat(valuesByStatistic.get(AVERAGE), closeTo(80, 1e-9));
+        assertThat(valuesByStatistic.get(STANDARD_DEVIATION), closeTo(Math.sqrt(250), 1e-9));
+        assertThat(valuesByStatistic.get(MEDIAN), closeTo(80, 80 * QuantileSketch.DEFAULT_RELATIVE_ACCURACY));
+
+        DataPoint<HeartRate> dataPoint = dataPoints.get(0);
+
+        assertThat(dataPoint.getHeader().getUserId(), equalTo("joe"));
+        assertThat(dataPoint.getHeader().getCreationDateTime(), equalTo(OffsetDateTime.now(CLOCK)));
+        assertThat(dataPoint.getHeader().getAcquisitionProvenance().getSourceName(),
+                equalTo(MeasureAggregator.DEFAULT_SOURCE_NAME));
+        assertThat(dataPoint.getBody().getEffectiveTimeFrame().getTimeInterval(),
+                equalTo(TimeInterval.ofStartDateTimeAndEndDateTime(MIDNIGHT, MIDNIGHT.plusHours(1))));
+    }
+
+    @Test
+    public void addShouldAlignWindowsToZoneOffset() {
+
+        ZoneOffset zoneOffset = ZoneOffset.ofHours(-5);
+        MeasureAggregator<HeartRate> aggregator = new MeasureAggregator.Builder<>(HEART_RATE, Duration.ofDays(1))
+                .setZoneOffset(zoneOffset)
+                .setStatistics(AVERAGE)
+                .build();
+
+        aggregator.add(newHeartRateDataPoint("joe", MIDNIGHT, 60));
+
+        List<DataPoint<HeartRate>> dataPoints = aggregator.flush();
+        OffsetDateTime localMidnight = OffsetDateTime.of(2017, 5, 31, 0, 0, 0, 0, zoneOffset);
+
+        assertThat(dataPoints, hasSize(1));
+        assertThat(dataPoints.get(0).getBody().getEffectiveTimeFrame().getTimeInterval(),
+                equalTo(TimeInterval.ofStartDateTimeAndEndDateTime(localMidnight, localMidnight.plusDays(1))));
+    }
+
+    @Test
+    public void addShouldAlignMultiDayWindowsToEpochAtZoneOffset() {
+
+        ZoneOffset zoneOffset = ZoneOffset.ofHours(2);
+        MeasureAggregator<HeartRate> aggregator = new MeasureAggregator.Builder<>(HEART_RATE, Duration.ofDays(7))
+                .setZoneOffset(zoneOffset)
+                .setStatistics(AVERAGE)
+                .build();
+
+        // a Monday, whose week-long window starts on the previous Thursday, since 1970-01-01 was a Thursday
+        aggregator.add(newHeartRateDataPoint("joe", OffsetDateTime.of(2017, 6, 5, 10, 0, 0, 0, zoneOffset), 60));
+
+        List<DataPoint<HeartRate>> dataPoints = aggregator.flush();
+        OffsetDateTime windowStart = OffsetDateTime.of(2017, 6, 1, 0, 0, 0, 0, zoneOffset);
+
+        assertThat(dataPoints, hasSize(1));
+        assertThat(dataPoints.get(0).getBody().getEffectiveTimeFrame().getTimeInterval(),
+                equalTo(TimeInterval.ofStartDateTimeAndEndDateTime(windowStart, windowStart.plusDays(7))));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void addShouldThrowExceptionOnMeasureInEarlierWindow() {
+
+        MeasureAggregator<HeartRate> aggregator =
+                new MeasureAggregator.Builder<>(HEART_RATE, Duration.ofHours(1)).build();
+
+        aggregator.add(newHeartRateDataPoint("joe", MIDNIGHT.plusHours(1), 60));
+        aggregator.add(newHeartRateDataPoint("joe", MIDNIGHT, 60));
+    }
+
+    @Test
+    public void addShouldKeepSeparateWindowsForEachUser() {
+
+        MeasureAggregator<HeartRate> aggregator = new MeasureAggregator.Builder<>(HEART_RATE, Duration.ofHours(1))
+                .setStatistics(AVERAGE)
+                .build();
+
+        aggregator.add(newHeartRateDataPoint("joe", MIDNIGHT.plusHours(1), 60));
+        aggregator.add(newHeartRateDataPoint("jane", MIDNIGHT, 80));
+        aggregator.add(newHeartRateDataPoint(null, MIDNIGHT, 100));
+
+        assertThat(aggregator.getOpenWindowCount(), equalTo(3));
+        assertThat(aggregator.flush(), hasSize(3));
+        assertThat(aggregator.getOpenWindowCount(), equalTo(0));
+    }
+
+    @Test
+    public void flushShouldOmitStandardDeviationOfSingleMeasure() {
+
+        MeasureAggregator<HeartRate> aggregator = new MeasureAggregator.Builder<>(HEART_RATE, Duration.ofHours(1))
+                .setStatistics(AVERAGE, STANDARD_DEVIATION)
+                .build();
+
+        aggregator.add(newHeartRateDataPoint("joe", MIDNIGHT, 60));
+
+        List<DataPoint<HeartRate>> dataPoints = aggregator.flush();
+
+        assertThat(dataPoints, hasSize(1));
+        assertThat(dataPoints.get(0).getBody().getDescriptiveStatistic(), equalTo(AVERAGE));
+    }
+
+    @Test
+    public void addShouldSumAdditiveMeasures() {
+
+        MeasureAggregator<StepCount2> aggregator =
+                new MeasureAggregator.Builder<>(STEP_COUNT, Duration.ofDays(1)).build();
+
+        aggregator.add("joe", newStepCount(MIDNIGHT.plusHours(8), 1000));
+        aggregator.add("joe", newStepCount(MIDNIGHT.plusHours(12), 2500));
+
+        List<DataPoint<StepCount2>> dataPoints = aggregator.flush();
+
+        assertThat(dataPoints, hasSize(1));
+
+        StepCount2 stepCount = dataPoints.get(0).getBody();
+
+        assertThat(stepCount.getDescriptiveStatistic(), equalTo(SUM));
+        assertThat(stepCount.getDescriptiveStatisticDenominator(), nullValue());
+        assertThat(stepCount.getStepCount().doubleValue(), equalTo(3500d));
+    }
+
+    @Test
+    public void addShouldComputeStatisticsOfDailyTotalsOverMultipleDays() {
+
+        MeasureAggregator<StepCount2> aggregator = new MeasureAggregator.Builder<>(STEP_COUNT, Duration.ofDays(7))
+                .setStatistics(SUM, AVERAGE, MAXIMUM)
+                .build();
+
+        // 2017-06-01 is a Thursday, and windows of a week start on Thursdays since they're aligned to the epoch
+        aggregator.add("joe", newStepCount(MIDNIGHT.plusHours(8), 1000));
+        aggregator.add("joe", newStepCount(MIDNIGHT.plusHours(12), 2000));
+        aggregator.add("joe", newStepCount(MIDNIGHT.plusDays(2), 6000));
+
+        List<DataPoint<StepCount2>> dataPoints = aggregator.flush();
+
+        assertThat(dataPoints, hasSize(3));
+
+        for (DataPoint<StepCount2> dataPoint : dataPoints) {
+            StepCount2 stepCount = dataPoint.getBody();
+
+            switch (stepCount.getDescriptiveStatistic()) {
+                case SUM:
+                    assertThat(stepCount.getStepCount().doubleValue(), equalTo(9000d));
+                    assertThat(stepCount.getDescriptiveStatisticDenominator(), nullValue());
+                    break;
+                case AVERAGE:
+                    assertThat(stepCount.getStepCount().doubleValue(), equalTo(4500d));
+                    assertThat(stepCount.getDescriptiveStatisticDenominator(), equalTo(DAY));
+                    break;
+                default:
+                    assertThat(stepCount.getStepCount().doubleValue(), equalTo(6000d));
+                    assertThat(stepCount.getDescriptiveStatisticDenominator(), equalTo(DAY));
+            }
+        }
+    }
+
+    @Test
+    public void aggregateShouldEmitDeterministicIdentifiers() {
+
+        MeasureAggregator<HeartRate> aggregator =
+                new MeasureAggregator.Builder<>(HEART_RATE, Duration.ofHours(1)).build();
+
+        List<DataPoint<HeartRate>> dataPoints = new ArrayList<>();
+
+        for (int i = 0; i < 12; i++) {
+            dataPoints.add(newHeartRateDataPoint("joe", MIDNIGHT.plusMinutes(i * 20), 60 + i));
+        }
+
+        List<String> ids = aggregator.aggregate(dataPoints.stream())
+                .map(dataPoint -> dataPoint.getHeader().getId())
+                .collect(toList());
+
+        List<String> otherIds = aggregator.aggregate(dataPoints.stream())
+                .map(dataPoint -> dataPoint.getHeader().getId())
+                .collect(toList());
+
+        assertThat(ids, hasSize(20));
+        assertThat(ids.stream().distinct().count(), equalTo(20L));
+        assertThat(otherIds, equalTo(ids));
+    }
+
+    @Test
+    public void aggregateInParallelShouldMatchSequentialAggregation() {
+
+        MeasureAggregator<HeartRate> aggregator = new MeasureAggregator.Builder<>(HEART_RATE, Duration.ofHours(1))
+                .setClock(CLOCK)
+                .build();
+
+        List<DataPoint<HeartRate>> dataPoints = new ArrayList<>();
+
+        for (int i = 0; i < 200; i++) {
+            for (int user = 0; user < 10; user++) {
+                dataPoints.add(newHeartRateDataPoint("user" + user, MIDNIGHT.plusMinutes(i * 7), 50 + (i * user) % 90));
+            }
+        }
+
+        Map<String, DataPoint<HeartRate>> expectedDataPointsById = aggregator.aggregate(dataPoints.stream())
+                .collect(toMap(dataPoint -> dataPoint.getHeader().getId(), dataPoint -> dataPoint));
+
+        Stream<Stream<DataPoint<HeartRate>>> partitions = IntStream.range(0, 10)
+                .mapToObj(user -> dataPoints.stream()
+                        .filter(dataPoint -> dataPoint.getHeader().getUserId().equals("user" + user)));
+
+        Map<String, DataPoint<HeartRate>> dataPointsById = aggregator.aggregateInParallel(partitions)
+                .collect(toMap(dataPoint -> dataPoint.getHeader().getId(), dataPoint -> dataPoint));
+
+        assertThat(dataPointsById, equalTo(expectedDataPointsById));
+        assertThat(aggregator.getOpenWindowCount(), equalTo(0));
+    }
+}
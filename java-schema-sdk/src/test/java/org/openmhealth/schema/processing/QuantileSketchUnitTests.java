@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.processing;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+
+
+/**
+ * @author agent
+ */
+public class QuantileSketchUnitTests {
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void constructorShouldThrowExceptionOnInvalidRelativeAccuracy() {
+
+        new QuantileSketch(1);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void addShouldThrowExceptionOnNonFiniteValue() {
+
+        new QuantileSketch().add(Double.NaN);
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void getMedianShouldThrowExceptionOnEmptySketch() {
+
+        new QuantileSketch().getMedian();
+    }
+
+    @Test
+    public void getQuantileShouldBeWithinRelativeAccuracy() {
+
+        Random random = new Random(42);
+        QuantileSketch sketch = new QuantileSketch(0.01);
+        double[] values = new double[10_001];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.exp(random.nextGaussian() * 3) * (random.nextBoolean() ? 1 : -1);
+            sketch.add(values[i]);
+        }
+
+        Arrays.sort(values);
+
+        for (double quantile : new double[] {0, 0.01, 0.25, 0.5, 0.75, 0.99, 1}) {
+            double expectedValue = values[(int) Math.floor(quantile * (values.length - 1))];
+
+            assertThat(sketch.getQuantile(quantile), closeTo(expectedValue, Math.abs(expectedValue) * 0.01));
+        }
+
+        assertThat(sketch.getCount(), equalTo((long) values.length));
+    }
+
+    @Test
+    public void getMedianShouldCountZeros() {
+
+        QuantileSketch sketch = new QuantileSketch();
+
+        sketch.add(-1);
+        sketch.add(0);
+        sketch.add(0);
+        sketch.add(1);
+
+        assertThat(sketch.getMedian(), equalTo(0d));
+    }
+
+    @Test
+    public void mergeShouldCombineCounts() {
+
+        QuantileSketch evenSketch = new QuantileSketch();
+        QuantileSketch oddSketch = new QuantileSketch();
+
+        for (int i = 1; i <= 100; i++) {
+            (i % 2 == 0 ? evenSketch : oddSketch).add(i);
+        }
+
+        evenSketch.merge(oddSketch);
+
+        assertThat(evenSketch.getCount(), equalTo(100L));
+        assertThat(evenSketch.getMedian(), closeTo(50, 50 * QuantileSketch.DEFAULT_RELATIVE_ACCURACY));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void mergeShouldThrowExceptionOnDifferentRelativeAccuracy() {
+
+        new QuantileSketch(0.01).merge(new QuantileSketch(0.02));
+    }
+
+    @Test
+    public void addShouldCollapseLowestBucketsWhenBucketCountIsExceeded() {
+
+        QuantileSketch sketch = new QuantileSketch(0.01, 128);
+
+        for (int i = -20; i <= 20; i++) {
+            sketch.add(Math.pow(10, i));
+        }
+
+        // the highest values remain accurate
+        assertThat(sketch.getQuantile(1), closeTo(1e20, 1e20 * 0.01));
+        assertThat(sketch.getCount(), equalTo(41L));
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.processing;
+
+import org.openmhealth.schema.domain.omh.CaloriesBurned2;
+import org.openmhealth.schema.domain.omh.DataPoint;
+import org.openmhealth.schema.domain.omh.DataPointAcquisitionProvenance;
+import org.openmhealth.schema.domain.omh.DataPointHeader;
+import org.openmhealth.schema.domain.omh.EpochRange;
+import org.openmhealth.schema.domain.omh.KcalUnitValue;
+import org.openmhealth.schema.domain.omh.Measure;
+import org.openmhealth.schema.domain.omh.SleepEpisode;
+import org.openmhealth.schema.domain.omh.StepCount2;
+import org.openmhealth.schema.domain.omh.TimeInterval;
+import org.testng.annotations.Test;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import static java.time.ZoneOffset.UTC;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.openmhealth.schema.domain.omh.KcalUnit.KILOCALORIE;
+import static org.openmhealth.schema.processing.SourcePriorityMerger.CALORIES_BURNED_SPLITTER;
+import static org.openmhealth.schema.processing.SourcePriorityMerger.STEP_COUNT_SPLITTER;
+
+
+/**
+ * @author agent
+ */
+public class SourcePriorityMergerUnitTests {
+
+    private static final OffsetDateTime MIDNIGHT = OffsetDateTime.of(2017, 6, 1, 0, 0, 0, 0, UTC);
+
+
+    private <M extends Measure> DataPoint<M> newDataPoint(String id, String userId, String sourceName, M measure) {
+
+        DataPointHeader.Builder builder = new DataPointHeader.Builder(id, measure.getSchemaId()).setUserId(userId);
+
+        if (sourceName != null) {
+            builder.setAcquisitionProvenance(new DataPointAcquisitionProvenance.Builder(sourceName).build());
+        }
+
+        return new DataPoint<>(builder.build(), measure);
+    }
+
+    private DataPoint<StepCount2> newStepCountDataPoint(String id, String sourceName, int startMinute, int endMinute,
+            long stepCount) {
+
+        return newDataPoint(id, "joe", sourceName, new StepCount2.Builder(stepCount, newTimeInterval(startMinute,
+                endMinute)).build());
+    }
+
+    private DataPoint<SleepEpisode> newSleepEpisodeDataPoint(String id, String sourceName, int startMinute,
+            int endMinute) {
+
+        return newDataPoint(id, "joe", sourceName, new SleepEpisode.Builder(newTimeInterval(startMinute, endMinute))
+                .build());
+    }
+
+    private TimeInterval newTimeInterval(int startMinute, int endMinute) {
+
+        return TimeInterval.ofStartDateTimeAndEndDateTime(MIDNIGHT.plusMinutes(startMinute),
+                MIDNIGHT.plusMinutes(endMinute));
+    }
+
+    private <T> List<T> map(List<DataPoint<StepCount2>> dataPoints, Function<DataPoint<StepCount2>, T> function) {
+        return dataPoints.stream().map(function).collect(toList());
+    }
+
+    private double getStepCount(DataPoint<StepCount2> dataPoint) {
+        return dataPoint.getBody().getStepCount().doubleValue();
+    }
+
+    private TimeInterval getTimeInterval(DataPoint<StepCount2> dataPoint) {
+        return dataPoint.getBody().getEffectiveTimeFrame().getTimeInterval();
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void builderShouldThrowExceptionOnDuplicateSourceName() {
+
+        new SourcePriorityMerger.Builder<StepCount2>(asList("watch", "phone", "watch"));
+    }
+
+    @Test
+    public void mergeShouldSplitOverlappedAdditiveMeasuresProRata() {
+
+        SourcePriorityMerger<StepCount2> merger = new SourcePriorityMerger.Builder<StepCount2>(asList("watch", "phone"))
+                .setSplitter(STEP_COUNT_SPLITTER)
+                .build();
+
+        DataPoint<StepCount2> watchDataPoint = newStepCountDataPoint("w", "watch", 0, 60, 600);
+
+        List<DataPoint<StepCount2>> dataPoints = merger.merge(asList(
+                newStepCountDataPoint("p", "phone", 30, 90, 900),
+                watchDataPoint));
+
+        assertThat(dataPoints, hasSize(2));
+        assertThat(dataPoints.get(0), sameInstance(watchDataPoint));
+        assertThat(getStepCount(dataPoints.get(1)), closeTo(450, 1e-9));
+        assertThat(getTimeInterval(dataPoints.get(1)), equalTo(newTimeInterval(60, 90)));
+        assertThat(dataPoints.get(1).getHeader().getAcquisitionProvenance().getSourceName(), equalTo("phone"));
+
+        // split data points have stable identifiers
+        assertThat(merger.merge(asList(newStepCountDataPoint("p", "phone", 30, 90, 900), watchDataPoint)).get(1)
+                .getHeader().getId(), equalTo(dataPoints.get(1).getHeader().getId()));
+    }
+
+    @Test
+    public void mergeShouldSplitAroundContainedMeasures() {
+
+        SourcePriorityMerger<StepCount2> merger = new SourcePriorityMerger.Builder<StepCount2>(asList("watch", "phone"))
+                .setSplitter(STEP_COUNT_SPLITTER)
+                .build();
+
+        List<DataPoint<StepCount2>> dataPoints = merger.merge(asList(
+                newStepCountDataPoint("p", "phone", 0, 90, 900),
+                newStepCountDataPoint("w", "watch", 30, 60, 100)));
+
+        assertThat(map(dataPoints, this::getTimeInterval),
+                contains(newTimeInterval(0, 30), newTimeInterval(30, 60), newTimeInterval(60, 90)));
+        assertThat(map(dataPoints, this::getStepCount), contains(300d, 100d, 300d));
+    }
+
+    @Test
+    public void mergeShouldNotSplitMeasuresOfSameSource() {
+
+        SourcePriorityMerger<StepCount2> merger = new SourcePriorityMerger.Builder<StepCount2>(asList("watch"))
+                .setSplitter(STEP_COUNT_SPLITTER)
+                .build();
+
+        List<DataPoint<StepCount2>> dataPoints = asList(
+                newStepCountDataPoint("a", "watch", 0, 60, 600),
+                newStepCountDataPoint("b", "watch", 30, 90, 600));
+
+        assertThat(merger.merge(dataPoints), equalTo(dataPoints));
+    }
+
+    @Test
+    public void mergeShouldPreferListedSourcesToUnlistedSources() {
+
+        SourcePriorityMerger<StepCount2> merger = new SourcePriorityMerger.Builder<StepCount2>(asList("watch"))
+                .setSplitter(STEP_COUNT_SPLITTER)
+                .build();
+
+        List<DataPoint<StepCount2>> dataPoints = merger.merge(asList(
+                newStepCountDataPoint("none", null, 0, 40, 400),
+                newStepCountDataPoint("scale", "scale", 0, 30, 300),
+                newStepCountDataPoint("phone", "phone", 0, 20, 200),
+                newStepCountDataPoint("watch", "watch", 0, 10, 100)));
+
+        assertThat(map(dataPoints, this::getStepCount), contains(100d, 100d, 100d, 100d));
+        assertThat(map(dataPoints, this::getTimeInterval), contains(newTimeInterval(0, 10), newTimeInterval(10, 20),
+                newTimeInterval(20, 30), newTimeInterval(30, 40)));
+    }
+
+    @Test
+    public void mergeShouldSplitCaloriesBurned() {
+
+        SourcePriorityMerger<CaloriesBurned2> merger =
+                new SourcePriorityMerger.Builder<CaloriesBurned2>(asList("watch", "phone"))
+                        .setSplitter(CALORIES_BURNED_SPLITTER)
+                        .build();
+
+        List<DataPoint<CaloriesBurned2>> dataPoints = merger.merge(asList(
+                newDataPoint("w", "joe", "watch", new CaloriesBurned2.Builder(new KcalUnitValue(KILOCALORIE, 100),
+                        newTimeInterval(0, 30)).build()),
+                newDataPoint("p", "joe", "phone", new CaloriesBurned2.Builder(new KcalUnitValue(KILOCALORIE, 200),
+                        newTimeInterval(0, 40)).setActivityName("walking").build())));
+
+        assertThat(dataPoints, hasSize(2));
+
+        CaloriesBurned2 caloriesBurned = dataPoints.get(1).getBody();
+
+        assertThat(caloriesBurned.getKcalBurned().getValue().doubleValue(), closeTo(50, 1e-9));
+        assertThat(caloriesBurned.getActivityName(), equalTo("walking"));
+    }
+
+    @Test
+    public void mergeShouldKeepUsersSeparate() {
+
+        SourcePriorityMerger<SleepEpisode> merger =
+                new SourcePriorityMerger.Builder<SleepEpisode>(asList("watch", "phone")).build();
+
+        List<DataPoint<SleepEpisode>> dataPoints = asList(
+                newDataPoint("a", "joe", "watch", new SleepEpisode.Builder(newTimeInterval(0, 60)).build()),
+                newDataPoint("b", "jane", "phone", new SleepEpisode.Builder(newTimeInterval(0, 60)).build()));
+
+        assertThat(merger.merge(dataPoints), equalTo(dataPoints));
+    }
+
+    @Test
+    public void mergeShouldSelectEpisodicMeasuresByPriority() {
+
+        SourcePriorityMerger<SleepEpisode> merger =
+                new SourcePriorityMerger.Builder<SleepEpisode>(asList("watch", "phone", "ring")).build();
+
+        List<DataPoint<SleepEpisode>> dataPoints = merger.merge(asList(
+                newSleepEpisodeDataPoint("ring", "ring", 720, 900),
+                newSleepEpisodeDataPoint("phone overlapping", "phone", 30, 750),
+                newSleepEpisodeDataPoint("phone", "phone", 1000, 1100),
+                newSleepEpisodeDataPoint("watch", "watch", 0, 600)));
+
+        // the ring episode is kept, since the phone episode that overlaps it is dropped
+        assertThat(dataPoints.stream().map(dataPoint -> dataPoint.getHeader().getId()).collect(toList()),
+                contains("watch", "ring", "phone"));
+    }
+
+    @Test
+    public void mergeShouldAssignEachStretchToOneSource() {
+
+        Random random = new Random(42);
+        List<String> sourceNames = asList("watch", "phone", "scale");
+        List<DataPoint<StepCount2>> dataPoints = new ArrayList<>();
+
+        for (int i = 0; i < 300; i++) {
+            int startMinute = random.nextInt(1000);
+
+            dataPoints.add(newStepCountDataPoint(Integer.toString(i), sourceNames.get(random.nextInt(3)),
+                    startMinute, startMinute + 1 + random.nextInt(60), 100));
+        }
+
+        List<DataPoint<StepCount2>> mergedDataPoints = new SourcePriorityMerger.Builder<StepCount2>(sourceNames)
+                .setSplitter(STEP_COUNT_SPLITTER)
+                .build()
+                .merge(dataPoints);
+
+        for (DataPoint<StepCount2> dataPoint : mergedDataPoints) {
+            EpochRange range = dataPoint.getBody().getEffectiveTimeFrame().toEpochRange();
+            String sourceName = dataPoint.getHeader().getAcquisitionProvenance().getSourceName();
+
+            for (DataPoint<StepCount2> otherDataPoint : mergedDataPoints) {
+                if (!otherDataPoint.getHeader().getAcquisitionProvenance().getSourceName().equals(sourceName)) {
+                    assertThat(otherDataPoint.getBody().getEffectiveTimeFrame().toEpochRange().overlaps(range),
+                            equalTo(false));
+                }
+            }
+        }
+
+        // every instant covered by the original data points is still covered
+        for (DataPoint<StepCount2> dataPoint : dataPoints) {
+            EpochRange range = dataPoint.getBody().getEffectiveTimeFrame().toEpochRange();
+
+            assertThat(mergedDataPoints.stream().anyMatch(mergedDataPoint -> mergedDataPoint.getBody()
+                    .getEffectiveTimeFrame().toEpochRange().overlaps(range.getStartEpochNano(),
+                            range.getStartEpochNano() + 1)), equalTo(true));
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openmhealth.schema.domain.omh.*;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+import static java.time.ZoneOffset.UTC;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.openmhealth.schema.configuration.JacksonConfiguration.newObjectMapper;
+import static org.openmhealth.schema.domain.omh.BodyTypeRegistry.newDefaultRegistry;
+import static org.openmhealth.schema.domain.omh.HeartRateUnit.BEATS_PER_MINUTE;
+
+
+/**
+ * A suite of unit tests for the data point deserializer.
+ *
+ * @author agent
+ */
+public class DataPointDeserializerUnitTests {
+
+    private static final String HEADER = "{\n" +
+            "    \"id\": \"a\",\n" +
+            "    \"creation_date_time\": \"2015-10-21T16:29:00Z\",\n" +
+            "    \"schema_id\": {\n" +
+            "        \"namespace\": \"omh\",\n" +
+            "        \"name\": \"heart-rate\",\n" +
+            "        \"version\": \"1.1\"\n" +
+            "    }\n" +
+            "}";
+
+    private static final String BODY = "{\n" +
+            "    \"heart_rate\": {\n" +
+            "        \"value\": 60,\n" +
+            "        \"unit\": \"beats/min\"\n" +
+            "    }\n" +
+            "}";
+
+    private ObjectMapper objectMapper;
+    private DataPoint<HeartRate> dataPoint;
+
+
+    @BeforeClass
+    public void initializeFixtures() {
+
+        objectMapper = newObjectMapper(newDefaultRegistry());
+
+        dataPoint = new DataPoint<>(
+                new DataPointHeader.Builder("a", HeartRate.SCHEMA_ID,
+                        OffsetDateTime.of(2015, 10, 21, 16, 29, 0, 0, UTC)).build(),
+                new HeartRate.Builder(new TypedUnitValue<>(BEATS_PER_MINUTE, 60)).build());
+    }
+
+    @Test
+    public void deserializeShouldResolveBodyTypeOfRawDataPoint() throws IOException {
+
+        String document = "{\"header\": " + HEADER + ", \"body\": " + BODY + "}";
+
+        DataPoint<?> deserializedDataPoint = objectMapper.readValue(document, DataPoint.class);
+
+        assertThat(deserializedDataPoint.getBody(), instanceOf(HeartRate.class));
+        assertThat(deserializedDataPoint, equalTo(dataPoint));
+    }
+
+    @Test
+    public void deserializeShouldResolveBodyTypeWhenBodyPrecedesHeader() throws IOException {
+
+        String document = "{\"body\": " + BODY + ", \"header\": " + HEADER + "}";
+
+        assertThat(objectMapper.readValue(document, DataPoint.class), equalTo(dataPoint));
+    }
+
+    @Test
+    public void deserializeShouldUseRequestedBodyType() throws IOException {
+
+        String document = "{\"header\": " + HEADER + ", \"body\": " + BODY + "}";
+
+        DataPoint<Map<String, Object>> deserializedDataPoint =
+                objectMapper.readValue(document, new TypeReference<DataPoint<Map<String, Object>>>() {
+                });
+
+        assertThat(deserializedDataPoint.getBody(), instanceOf(Map.class));
+    }
+
+    @Test
+    public void deserializeShouldFallBackOnUnregisteredBodySchema() throws IOException {
+
+        String document = "{\"header\": " + HEADER.replace("heart-rate", "widget") + ", \"body\": " + BODY + "}";
+
+        assertThat(objectMapper.readValue(document, DataPoint.class).getBody(), instanceOf(Map.class));
+    }
+
+    @Test
+    public void deserializeShouldSetAdditionalProperties() throws IOException {
+
+        String document = "{\"header\": " + HEADER + ", \"body\": " + BODY + ", \"status\": {\"valid\": true}}";
+
+        DataPoint<?> deserializedDataPoint = objectMapper.readValue(document, DataPoint.class);
+
+        assertThat(deserializedDataPoint.getAdditionalProperty("status").isPresent(), equalTo(true));
+        assertThat(((Map<?, ?>) deserializedDataPoint.getAdditionalProperty("status").get()).get("valid"),
+                equalTo(true));
+    }
+
+    @Test
+    public void deserializedDataPointShouldRoundTrip() throws IOException {
+
+        String document = objectMapper.writeValueAsString(dataPoint);
+
+        assertThat(objectMapper.readValue(document, DataPoint.class), equalTo(dataPoint));
+    }
+
+    @Test(expectedExceptions = JsonMappingException.class)
+    public void deserializeShouldThrowExceptionOnMissingHeader() throws IOException {
+
+        objectMapper.readValue("{\"body\": " + BODY + "}", DataPoint.class);
+    }
+
+    @Test(expectedExceptions = JsonMappingException.class)
+    public void deserializeShouldThrowExceptionOnMissingBody() throws IOException {
+
+        objectMapper.readValue("{\"header\": " + HEADER + ", \"body\": null}", DataPoint.class);
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openmhealth.schema.domain.omh.*;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.time.ZoneOffset.UTC;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.openmhealth.schema.configuration.JacksonConfiguration.newObjectMapper;
+import static org.openmhealth.schema.domain.omh.BloodGlucoseUnit.MILLIGRAMS_PER_DECILITER;
+import static org.openmhealth.schema.domain.omh.HeartRateUnit.BEATS_PER_MINUTE;
+
+
+/**
+ * A suite of unit tests for the data point stream reader.
+ *
+ * @author agent
+ */
+public class DataPointStreamReaderUnitTests {
+
+    private static final OffsetDateTime CREATION_DATE_TIME = OffsetDateTime.of(2015, 10, 21, 16, 29, 0, 0, UTC);
+
+    private ObjectMapper objectMapper;
+    private DataPointStreamReader reader;
+    private DataPoint<HeartRate> heartRateDataPoint;
+    private DataPoint<BloodGlucose> bloodGlucoseDataPoint;
+
+
+    @BeforeClass
+    public void initializeFixtures() {
+
+        objectMapper = newObjectMapper();
+
+        reader = new DataPointStreamReader(objectMapper, BodyTypeRegistry.newDefaultRegistry());
+
+        heartRateDataPoint = new DataPoint<>(
+                new DataPointHeader.Builder("a", HeartRate.SCHEMA_ID, CREATION_DATE_TIME).build(),
+                new HeartRate.Builder(new TypedUnitValue<>(BEATS_PER_MINUTE, 60)).build());
+
+        bloodGlucoseDataPoint = new DataPoint<>(
+                new DataPointHeader.Builder("b", BloodGlucose.SCHEMA_ID, CREATION_DATE_TIME).build(),
+                new BloodGlucose.Builder(new TypedUnitValue<>(MILLIGRAMS_PER_DECILITER, 110)).build());
+    }
+
+    private InputStream newInputStream(String document) {
+        return new ByteArrayInputStream(document.getBytes(UTF_8));
+    }
+
+    private List<DataPoint<?>> readAll(String document) throws IOException {
+
+        List<DataPoint<?>> dataPoints = new ArrayList<>();
+
+        try (DataPointStreamReader.DataPointIterator iterator = reader.read(newInputStream(document))) {
+            iterator.forEachRemaining(dataPoints::add);
+        }
+
+        return dataPoints;
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructorShouldThrowExceptionOnUndefinedObjectMapper() {
+
+        new DataPointStreamReader(null, new BodyTypeRegistry());
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructorShouldThrowExceptionOnUndefinedBodyTypeRegistry() {
+
+        new DataPointStreamReader(objectMapper, null);
+    }
+
+    @Test
+    public void readShouldReturnNoDataPointsOnEmptyStream() throws IOException {
+
+        assertThat(readAll("").isEmpty(), equalTo(true));
+        assertThat(readAll(" \n ").isEmpty(), equalTo(true));
+        assertThat(readAll("[]").isEmpty(), equalTo(true));
+    }
+
+    @Test
+    public void readShouldReadNewlineDelimitedDataPoints() throws IOException {
+
+        String document = objectMapper.writeValueAsString(heartRateDataPoint) + "\n" +
+                objectMapper.writeValueAsString(bloodGlucoseDataPoint) + "\n";
+
+        List<DataPoint<?>> dataPoints = readAll(document);
+
+        assertThat(dataPoints.size(), equalTo(2));
+        assertThat(dataPoints.get(0), equalTo(heartRateDataPoint));
+        assertThat(dataPoints.get(1), equalTo(bloodGlucoseDataPoint));
+    }
+
+    @Test
+    public void readShouldReadArrayOfDataPoints() throws IOException {
+
+        String document = "[" + objectMapper.writeValueAsString(heartRateDataPoint) + ",\n" +
+                objectMapper.writeValueAsString(bloodGlucoseDataPoint) + "]";
+
+        List<DataPoint<?>> dataPoints = readAll(document);
+
+        assertThat(dataPoints.size(), equalTo(2));
+        assertThat(dataPoints.get(0), equalTo(heartRateDataPoint));
+        assertThat(dataPoints.get(1), equalTo(bloodGlucoseDataPoint));
+    }
+
+    @Test
+    public void readShouldSupportRepeatedCallsToHasNext() throws IOException {
+
+        String document = objectMapper.writeValueAsString(heartRateDataPoint);
+
+        try (DataPointStreamReader.DataPointIterator iterator = reader.read(newInputStream(document))) {
+
+            assertThat(iterator.hasNext(), equalTo(true));
+            assertThat(iterator.hasNext(), equalTo(true));
+            assertThat(iterator.next(), equalTo(heartRateDataPoint));
+            assertThat(iterator.hasNext(), equalTo(false));
+        }
+    }
+
+    @Test
+    public void readShouldDeserializeUnresolvedBodiesAsJsonNodes() throws IOException {
+
+        DataPoint<?> dataPoint = new DataPoint<>(
+                new DataPointHeader.Builder("c", new SchemaId("acme", "widget", "1.0"), CREATION_DATE_TIME).build(),
+                heartRateDataPoint.getBody());
+
+        List<DataPoint<?>> dataPoints = readAll(objectMapper.writeValueAsString(dataPoint));
+
+        assertThat(dataPoints.size(), equalTo(1));
+        assertThat(dataPoints.get(0).getBody(), instanceOf(JsonNode.class));
+        assertThat(dataPoints.get(0).getHeader(), equalTo(dataPoint.getHeader()));
+    }
+
+    @Test(expectedExceptions = UncheckedIOException.class)
+    public void readShouldThrowExceptionOnMissingSchemaId() throws IOException {
+
+        readAll("{\"header\": {\"id\": \"a\"}, \"body\": {}}");
+    }
+
+    @Test(expectedExceptions = UncheckedIOException.class)
+    public void readShouldThrowExceptionOnNonObjectElement() throws IOException {
+
+        readAll("[" + objectMapper.writeValueAsString(heartRateDataPoint) + ", 1]");
+    }
+
+    @Test
+    public void streamShouldReadFile() throws IOException {
+
+        Path path = Files.createTempFile("data-points", ".json");
+
+        try {
+            Files.write(path, (objectMapper.writeValueAsString(heartRateDataPoint) + "\n" +
+                    objectMapper.writeValueAsString(bloodGlucoseDataPoint)).getBytes(UTF_8));
+
+            try (Stream<DataPoint<?>> dataPoints = reader.stream(path)) {
+                assertThat(dataPoints.map(DataPoint::getHeader).map(DataPointHeader::getId)
+                        .collect(Collectors.toList()).toString(), equalTo("[a, b]"));
+            }
+        }
+        finally {
+            Files.delete(path);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Random;
+
+import static com.fasterxml.jackson.databind.DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE;
+import static java.time.ZoneOffset.UTC;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+
+/**
+ * A suite of unit tests for the RFC 3339 {@link OffsetDateTime} deserializer.
+ *
+ * @author agent
+ */
+public class Rfc3339OffsetDateTimeDeserializerUnitTests {
+
+    private ObjectMapper objectMapper;
+    private ObjectMapper referenceObjectMapper;
+
+    @BeforeClass
+    public void initializeObjectMappers() throws IOException {
+
+        objectMapper = new ObjectMapper();
+        objectMapper.disable(ADJUST_DATES_TO_CONTEXT_TIME_ZONE);
+
+        SimpleModule rfc3339Module = new SimpleModule("rfc3339Module");
+        rfc3339Module.addDeserializer(OffsetDateTime.class,
+                new Rfc3339OffsetDateTimeDeserializer(OffsetDateTime.class));
+        objectMapper.registerModule(rfc3339Module);
+
+        referenceObjectMapper = new ObjectMapper();
+        referenceObjectMapper.disable(ADJUST_DATES_TO_CONTEXT_TIME_ZONE);
+        referenceObjectMapper.registerModule(new JavaTimeModule());
+    }
+
+    @Test
+    public void deserializeShouldParseUtcDateTimes() throws IOException {
+
+        assertThat(deserialize("2013-02-05T07:35:12Z"), equalTo(OffsetDateTime.of(2013, 2, 5, 7, 35, 12, 0, UTC)));
+    }
+
+    @Test
+    public void deserializeShouldParseOffsets() throws IOException {
+
+        assertThat(deserialize("2013-02-05T07:35:12-08:00"),
+                equalTo(OffsetDateTime.of(2013, 2, 5, 7, 35, 12, 0, ZoneOffset.ofHours(-8))));
+
+        assertThat(deserialize("2013-02-05T07:35:12+05:45"),
+                equalTo(OffsetDateTime.of(2013, 2, 5, 7, 35, 12, 0, ZoneOffset.ofHoursMinutes(5, 45))));
+    }
+
+    @Test
+    public void deserializeShouldParseFractions() throws IOException {
+
+        assertThat(deserialize("2013-02-05T07:35:12.1Z"),
+                equalTo(OffsetDateTime.of(2013, 2, 5, 7, 35, 12, 100_000_000, UTC)));
+
+        assertThat(deserialize("2013-02-05T07:35:12.000123Z"),
+                equalTo(OffsetDateTime.of(2013, 2, 5, 7, 35, 12, 123_000, UTC)));
+
+        assertThat(deserialize("2013-02-05T07:35:12.123456789Z"),
+                equalTo(OffsetDateTime.of(2013, 2, 5, 7, 35, 12, 123_456_789, UTC)));
+    }
+
+    @DataProvider(name = "dateTimes")
+    public Object[][] newDateTimes() {
+
+        return new Object[][] {
+                {"2013-02-05T07:35:12Z"},
+                {"2013-02-05t07:35:12z"},
+                {"2013-02-05T07:35:12.5+01:00"},
+                {"2016-02-29T23:59:59.999999999-12:00"},
+                {"0000-01-01T00:00:00+18:00"},
+                {"9999-12-31T23:59:59-18:00"},
+                {"2013-02-05T07:35Z"},
+                {"2013-02-05T07:35:12+01:00:30"},
+                {"+12013-02-05T07:35:12Z"},
+                {"2013-02-05T07:35:12.Z"},
+        };
+    }
+
+    @Test(dataProvider = "dateTimes")
+    public void deserializeShouldMatchJsr310Deserializer(String dateTime) throws IOException {
+
+        assertThat(deserialize(dateTime), equalTo(deserializeUsingReference(dateTime)));
+    }
+
+    @DataProvider(name = "invalidDateTimes")
+    public Object[][] newInvalidDateTimes() {
+
+        return new Object[][] {
+                {"2013-02-30T07:35:12Z"},
+                {"2013-13-05T07:35:12Z"},
+                {"2013-02-05T24:35:12Z"},
+                {"2013-02-05T07:35:12+19:00"},
+                {"2013-02-05T07:35:12.1234567890Z"},
+                {"2013-02-05T07:35:12+0100"},
+                {"2013-02-05 07:35:12Z"},
+                {"not a date time"},
+        };
+    }
+
+    @Test(dataProvider = "invalidDateTimes", expectedExceptions = JsonMappingException.class)
+    public void deserializeShouldRejectInvalidDateTimes(String dateTime) throws IOException {
+
+        deserialize(dateTime);
+    }
+
+    @Test
+    public void deserializeShouldMatchJsr310DeserializerForRandomDateTimes() throws IOException {
+
+        Random random = new Random(42);
+        ZoneOffset[] offsets =
+                {UTC, ZoneOffset.ofHours(-8), ZoneOffset.ofHoursMinutes(5, 30), ZoneOffset.ofHoursMinutes(-9, -30)};
+
+        for (int i = 0; i < 1000; i++) {
+
+            OffsetDateTime expected = OffsetDateTime.of(random.nextInt(10_000), 1 + random.nextInt(12),
+                    1 + random.nextInt(28), random.nextInt(24), random.nextInt(60), random.nextInt(60),
+                    random.nextInt(4) == 0 ? 0 : random.nextInt(1_000_000_000), offsets[random.nextInt(offsets.length)]);
+
+            String dateTime = expected.toString();
+
+            assertThat(deserialize(dateTime), equalTo(deserializeUsingReference(dateTime)));
+        }
+    }
+
+    @Test
+    public void parseShouldReturnNullForUnsupportedFormats() {
+
+        assertThat(parse("2013-02-05T07:35Z"), nullValue());
+        assertThat(parse("2013-02-05T07:35:12+01:00:30"), nullValue());
+        assertThat(parse("2013-02-30T07:35:12Z"), nullValue());
+    }
+
+    @Test
+    public void parseShouldRespectTextOffsetAndLength() {
+
+        char[] text = "[\"2013-02-05T07:35:12.25-08:00\"]".toCharArray();
+
+        assertThat(Rfc3339OffsetDateTimeDeserializer.parse(text, 2, 28),
+                equalTo(OffsetDateTime.of(2013, 2, 5, 7, 35, 12, 250_000_000, ZoneOffset.ofHours(-8))));
+    }
+
+    private OffsetDateTime parse(String dateTime) {
+        return Rfc3339OffsetDateTimeDeserializer.parse(dateTime.toCharArray(), 0, dateTime.length());
+    }
+
+    private OffsetDateTime deserialize(String dateTime) throws IOException {
+        return objectMapper.readValue("\"" + dateTime + "\"", OffsetDateTime.class);
+    }
+
+    private OffsetDateTime deserializeUsingReference(String dateTime) throws IOException {
+        return referenceObjectMapper.readValue("\"" + dateTime + "\"", OffsetDateTime.class);
+    }
+}
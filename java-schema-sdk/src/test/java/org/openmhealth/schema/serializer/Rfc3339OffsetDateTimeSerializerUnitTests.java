@@ -23,6 +23,8 @@ import org.testng.annotations.Test;
 
 import java.io.IOException;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Random;
 
 import static java.time.ZoneOffset.UTC;
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -72,4 +74,65 @@ public class Rfc3339OffsetDateTimeSerializerUnitTests {
 
         assertThat(objectMapper.writeValueAsString(instant), equalTo("\"2013-02-05T07:35:00.123Z\""));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void serializeShouldFormatFractionsLikeLocalTime() throws IOException {
+
+        assertThat(objectMapper.writeValueAsString(OffsetDateTime.of(2013, 2, 5, 7, 35, 1, 120_000_000, UTC)),
+                equalTo("\"2013-02-05T07:35:01.120Z\""));
+        assertThat(objectMapper.writeValueAsString(OffsetDateTime.of(2013, 2, 5, 7, 35, 1, 123_400_000, UTC)),
+                equalTo("\"2013-02-05T07:35:01.123400Z\""));
+        assertThat(objectMapper.writeValueAsString(OffsetDateTime.of(2013, 2, 5, 7, 35, 1, 1, UTC)),
+                equalTo("\"2013-02-05T07:35:01.000000001Z\""));
+    }
+
+    @Test
+    public void serializeShouldWriteOffsets() throws IOException {
+
+        OffsetDateTime instant = OffsetDateTime.of(2013, 2, 5, 7, 35, 0, 0, ZoneOffset.ofHoursMinutes(-7, -30));
+
+        assertThat(objectMapper.writeValueAsString(instant), equalTo("\"2013-02-05T07:35:00-07:30\""));
+    }
+
+    @Test
+    public void serializeShouldSupportYearsOutsideFourDigits() throws IOException {
+
+        assertThat(objectMapper.writeValueAsString(OffsetDateTime.of(12013, 2, 5, 7, 35, 0, 0, UTC)),
+                equalTo("\"+12013-02-05T07:35:00Z\""));
+        assertThat(objectMapper.writeValueAsString(OffsetDateTime.of(-13, 2, 5, 7, 35, 0, 0, UTC)),
+                equalTo("\"-0013-02-05T07:35:00Z\""));
+        assertThat(objectMapper.writeValueAsString(OffsetDateTime.of(13, 2, 5, 7, 35, 0, 0, UTC)),
+                equalTo("\"0013-02-05T07:35:00Z\""));
+    }
+
+    @Test
+    public void serializeShouldMatchLocalDateTimeFormat() throws IOException {
+
+        Random random = new Random(42);
+        int[] nanos = {0, 0, 1, 999_999_999, 500_000_000, 123_456_000, 7_000_000};
+        ZoneOffset[] offsets = {UTC, ZoneOffset.ofHoursMinutes(5, 30), ZoneOffset.ofHours(-7), ZoneOffset.MAX,
+                ZoneOffset.MIN, ZoneOffset.ofHoursMinutesSeconds(1, 2, 3)};
+
+        for (int i = 0; i < 10_000; i++) {
+            OffsetDateTime instant = OffsetDateTime.of(
+                    random.nextInt(10_000),
+                    1 + random.nextInt(12),
+                    1 + random.nextInt(28),
+                    random.nextInt(24),
+                    random.nextInt(60),
+                    random.nextBoolean() ? 0 : random.nextInt(60),
+                    random.nextBoolean() ? nanos[random.nextInt(nanos.length)] : random.nextInt(1_000_000_000),
+                    offsets[random.nextInt(offsets.length)]);
+
+            StringBuilder expected = new StringBuilder("\"").append(instant.toLocalDateTime());
+
+            if (instant.getSecond() == 0 && instant.getNano() == 0) {
+                expected.append(":00");
+            }
+
+            expected.append(instant.getOffset()).append("\"");
+
+            assertThat(objectMapper.writeValueAsString(instant), equalTo(expected.toString()));
+        }
+    }
+}
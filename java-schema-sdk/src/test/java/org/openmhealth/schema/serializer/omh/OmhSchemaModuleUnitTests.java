@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import org.openmhealth.schema.domain.omh.BodyWeight;
+import org.openmhealth.schema.domain.omh.DataPoint;
+import org.openmhealth.schema.domain.omh.DataPointHeader;
+import org.openmhealth.schema.domain.omh.HeartRate;
+import org.openmhealth.schema.domain.omh.MassUnitValue;
+import org.openmhealth.schema.domain.omh.SchemaId;
+import org.openmhealth.schema.domain.omh.TimeInterval;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+import static java.time.ZoneOffset.UTC;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.openmhealth.schema.configuration.JacksonConfiguration.newObjectMapper;
+import static org.openmhealth.schema.domain.omh.MassUnit.KILOGRAM;
+
+
+/**
+ * A suite of unit tests for the {@link OmhSchemaModule}. The compatibility of the module with the bean serializers
+ * and deserializers is tested by the serialization unit tests of the domain classes.
+ *
+ * @author agent
+ */
+public class OmhSchemaModuleUnitTests {
+
+    private static final String HEART_RATE = "{\"heart_rate\":{\"unit\":\"beats/min\",\"value\":60}}";
+
+    private ObjectMapper objectMapper;
+
+
+    @BeforeClass
+    public void initializeObjectMapper() {
+
+        objectMapper = newObjectMapper().registerModule(new OmhSchemaModule());
+    }
+
+    @Test
+    public void moduleShouldProvideSerializersForExactClasses() throws Exception {
+
+        assertThat(objectMapper.getSerializerProviderInstance().findValueSerializer(HeartRate.class),
+                instanceOf(HeartRateSerializer.class));
+
+        assertThat(objectMapper.getSerializerProviderInstance().findValueSerializer(MassUnitValue.class),
+                instanceOf(UnitValueSerializer.class));
+    }
+
+    @Test
+    public void moduleShouldNotProvideSerializersForSubclasses() throws Exception {
+
+        assertThat(objectMapper.getSerializerProviderInstance().findValueSerializer(DeviceBodyWeight.class),
+                instanceOf(BeanSerializer.class));
+    }
+
+    @Test
+    public void serializeShouldWritePropertiesOfSubclasses() throws IOException {
+
+        assertThat(objectMapper.writeValueAsString(new DeviceBodyWeight("scale")),
+                containsString("\"device\":\"scale\""));
+    }
+
+    @Test
+    public void serializeShouldWriteNestedSubclassesUsingTheirSerializers() throws IOException {
+
+        BodyWeight bodyWeight = new BodyWeight.Builder(new PrecisionMassUnitValue(60, 0.1)).build();
+
+        assertThat(objectMapper.writeValueAsString(bodyWeight), containsString("\"precision\":0.1"));
+    }
+
+    @Test
+    public void serializeShouldWriteDataPoints() throws IOException {
+
+        DataPoint<HeartRate> dataPoint = new DataPoint<>(
+                new DataPointHeader.Builder("a", HeartRate.SCHEMA_ID,
+                        OffsetDateTime.of(2015, 10, 21, 16, 29, 0, 0, UTC)).build(),
+                objectMapper.readValue(HEART_RATE, HeartRate.class));
+
+        assertThat(objectMapper.writeValueAsString(dataPoint),
+                equalTo(newObjectMapper().writeValueAsString(dataPoint)));
+    }
+
+    @Test
+    public void deserializeShouldSetAdditionalProperties() throws IOException {
+
+        String document = HEART_RATE.replace("}}", "},\"status\":{\"valid\":true},\"source\":null}");
+
+        HeartRate heartRate = objectMapper.readValue(document, HeartRate.class);
+
+        assertThat(((Map<?, ?>) heartRate.getAdditionalProperty("status").get()).get("valid"), equalTo(true));
+        assertThat(heartRate.getAdditionalProperties().containsKey("source"), equalTo(true));
+        assertThat(heartRate, equalTo(newObjectMapper().readValue(document, HeartRate.class)));
+    }
+
+    @Test(expectedExceptions = InvalidFormatException.class)
+    public void deserializeShouldThrowExceptionOnUnknownEnumValue() throws IOException {
+
+        objectMapper.readValue(HEART_RATE.replace("}}", "},\"temporal_relationship_to_sleep\":\"never\"}"),
+                HeartRate.class);
+    }
+
+    @Test(expectedExceptions = JsonMappingException.class)
+    public void deserializeShouldThrowExceptionOnUnsupportedUnit() throws IOException {
+
+        objectMapper.readValue(HEART_RATE.replace("beats/min", "beats/h"), HeartRate.class);
+    }
+
+    @Test
+    public void deserializeShouldThrowExceptionOnMissingRequiredProperty() throws IOException {
+
+        try {
+            objectMapper.readValue("{\"user_notes\":\"tired\"}", HeartRate.class);
+            throw new AssertionError("A heart rate without a heart rate has been deserialized.");
+        }
+        catch (JsonMappingException e) {
+            assertThat(e.getMessage(), containsString("'heart_rate'"));
+        }
+    }
+
+    @Test(expectedExceptions = JsonMappingException.class)
+    public void deserializeShouldThrowExceptionOnInvalidTimeInterval() throws IOException {
+
+        objectMapper.readValue("{\"start_date_time\":\"2015-10-21T16:29:00Z\","
+                + "\"end_date_time\":\"2015-10-21T17:29:00Z\",\"duration\":{\"unit\":\"h\",\"value\":1}}",
+                TimeInterval.class);
+    }
+
+    @Test(expectedExceptions = UnrecognizedPropertyException.class)
+    public void deserializeShouldThrowExceptionOnUnknownSchemaIdProperty() throws IOException {
+
+        objectMapper.readValue("{\"namespace\":\"omh\",\"name\":\"heart-rate\",\"version\":\"1.0\",\"foo\":1}",
+                SchemaId.class);
+    }
+
+    @Test
+    public void deserializeShouldInternSchemaIds() throws IOException {
+
+        SchemaId schemaId = objectMapper.readValue(
+                "{\"namespace\":\"omh\",\"name\":\"heart-rate\",\"version\":\"1.1\"}", SchemaId.class);
+
+        assertThat(schemaId == SchemaId.of("omh", "heart-rate", "1.1"), equalTo(true));
+    }
+
+
+    public static class DeviceBodyWeight extends BodyWeight {
+
+        private String device;
+
+        DeviceBodyWeight(String device) {
+            this.device = device;
+        }
+
+        public String getDevice() {
+            return device;
+        }
+    }
+
+    public static class PrecisionMassUnitValue extends MassUnitValue {
+
+        private double precision;
+
+        PrecisionMassUnitValue(long value, double precision) {
+            super(KILOGRAM, value);
+            this.precision = precision;
+        }
+
+        public double getPrecision() {
+            return precision;
+        }
+    }
+}
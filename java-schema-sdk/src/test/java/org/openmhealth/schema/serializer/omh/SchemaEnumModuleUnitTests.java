@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openmhealth.schema.serializer.omh;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.openmhealth.schema.domain.omh.DurationUnit;
+import org.openmhealth.schema.domain.omh.HeartRate;
+import org.openmhealth.schema.domain.omh.TemporalRelationshipToSleep;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.openmhealth.schema.configuration.JacksonConfiguration.newObjectMapper;
+import static org.openmhealth.schema.configuration.JacksonConfiguration.newSmileObjectMapper;
+import static org.openmhealth.schema.domain.omh.DescriptiveStatistic.MAXIMUM;
+import static org.openmhealth.schema.domain.omh.TemporalRelationshipToSleep.DURING_SLEEP;
+
+
+/**
+ * @author agent
+ */
+public class SchemaEnumModuleUnitTests {
+
+    private static final String HEART_RATE = "{\"heart_rate\":{\"unit\":\"beats/min\",\"value\":60}}";
+
+    private final ObjectMapper objectMapper = newObjectMapper();
+
+
+    @Test
+    public void moduleShouldProvideDeserializersForSchemaEnumerations() throws Exception {
+
+        assertThat(objectMapper.readValue("\"during sleep\"", TemporalRelationshipToSleep.class),
+                equalTo(DURING_SLEEP));
+        assertThat(objectMapper.readValue("\"wk\"", DurationUnit.class), equalTo(DurationUnit.WEEK));
+    }
+
+    @Test
+    public void deserializeShouldReturnNullOnUnknownValue() throws IOException {
+
+        assertThat(objectMapper.readValue("\"never\"", TemporalRelationshipToSleep.class), nullValue());
+
+        HeartRate heartRate = objectMapper.readValue(
+                HEART_RATE.replace("}}", "},\"temporal_relationship_to_sleep\":\"never\"}"), HeartRate.class);
+
+        assertThat(heartRate.getTemporalRelationshipToSleep(), nullValue());
+    }
+
+    @Test
+    public void deserializeShouldSkipNonStringValues() throws IOException {
+
+        HeartRate heartRate = objectMapper.readValue(HEART_RATE.replace("}}",
+                "},\"temporal_relationship_to_sleep\":{\"a\":[1]},\"descriptive_statistic\":\"maximum\"}"),
+                HeartRate.class);
+
+        assertThat(heartRate.getTemporalRelationshipToSleep(), nullValue());
+        assertThat(heartRate.getDescriptiveStatistic(), equalTo(MAXIMUM));
+        assertThat(objectMapper.readValue("1", TemporalRelationshipToSleep.class), nullValue());
+    }
+
+    @Test
+    public void deserializeShouldMatchValuesInBinaryFormats() throws IOException {
+
+        ObjectMapper smileObjectMapper = newSmileObjectMapper();
+
+        byte[] document = smileObjectMapper.writeValueAsBytes(DURING_SLEEP);
+
+        assertThat(smileObjectMapper.readValue(document, TemporalRelationshipToSleep.class), equalTo(DURING_SLEEP));
+    }
+
+    @Test(expectedExceptions = InvalidFormatException.class)
+    public void strictDeserializerShouldThrowExceptionOnUnknownValue() throws IOException {
+
+        SimpleModule module = new SimpleModule().addDeserializer(TemporalRelationshipToSleep.class,
+                new SchemaEnumValueDeserializer<>(TemporalRelationshipToSleep.class));
+
+        newObjectMapper().registerModule(module).readValue("\"never\"", TemporalRelationshipToSleep.class);
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.validation;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openmhealth.schema.domain.omh.SchemaId;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.not;
+import static org.openmhealth.schema.configuration.JacksonConfiguration.newObjectMapper;
+import static org.openmhealth.schema.domain.omh.SchemaSupport.OMH_NAMESPACE;
+
+
+/**
+ * A suite of unit tests for the schema validator, which checks the test data of every loaded schema.
+ *
+ * @author agent
+ */
+public class SchemaValidatorUnitTests {
+
+    public static final Path SCHEMA_DIRECTORY = Paths.get("schema");
+    public static final Path TEST_DATA_DIRECTORY = Paths.get("test-data");
+
+    private static final SchemaId HEART_RATE_SCHEMA_ID = SchemaId.of(OMH_NAMESPACE, "heart-rate", "1.0");
+
+    private static final ObjectMapper objectMapper = newObjectMapper();
+
+    private SchemaValidator validator;
+
+
+    @BeforeClass
+    public void initializeValidator() throws IOException {
+
+        validator = SchemaValidator.fromDirectory(SCHEMA_DIRECTORY);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void fromDirectoryShouldThrowExceptionOnMissingDirectory() throws IOException {
+
+        SchemaValidator.fromDirectory(Paths.get("nonexistent-directory"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void validateShouldThrowExceptionOnUnknownSchema() {
+
+        validator.validate(SchemaId.of(OMH_NAMESPACE, "nonexistent", "1.0"), objectMapper.createObjectNode());
+    }
+
+    @Test
+    public void getSchemaIdsShouldIncludeBothNamespaces() {
+
+        assertThat(validator.getSchemaIds(), hasItem(HEART_RATE_SCHEMA_ID));
+        assertThat(validator.getSchemaIds(), hasItem(SchemaId.of("granola", "hk-quantity-sample", "1.0")));
+    }
+
+    @Test
+    public void getUnresolvableReferencesShouldReturnReferencesToSchemasThatArentLoaded() {
+
+        assertThat(validator.getUnresolvableReferences(HEART_RATE_SCHEMA_ID), empty());
+        assertThat(validator.getUnresolvableReferences(SchemaId.of(OMH_NAMESPACE, "body-temperature", "4.0")),
+                not(empty()));
+    }
+
+    @Test
+    public void validateShouldReturnStructuredErrors() throws IOException {
+
+        JsonNode document = objectMapper.readTree("{"
+                + "\"heart_rate\": {\"value\": 60, \"unit\": \"beats/hour\"},"
+                + "\"effective_time_frame\": {\"date_time\": \"2013-02-05T07:25\"}"
+                + "}");
+
+        List<SchemaValidationError> errors = validator.validate(HEART_RATE_SCHEMA_ID, document);
+
+        assertThat(errors, hasItem(new SchemaValidationError("/heart_rate/unit", "enum",
+                "The value isn't one of [\"beats/min\"].")));
+        assertThat(errors.stream().map(SchemaValidationError::getInstancePointer).collect(Collectors.toList()),
+                hasItem("/effective_time_frame"));
+    }
+
+    @Test
+    public void validateShouldReturnStructuredErrorsFromTokenStream() throws IOException {
+
+        JsonParser parser = objectMapper.getFactory().createParser("{"
+                + "\"heart_rate\": {\"value\": 60, \"unit\": \"beats/hour\"},"
+                + "\"effective_time_frame\": {\"date_time\": \"2013-02-05T07:25\"}"
+                + "}");
+
+        List<SchemaValidationError> errors = validator.validate(HEART_RATE_SCHEMA_ID, parser);
+
+        assertThat(errors, hasItem(new SchemaValidationError("/heart_rate/unit", "enum",
+                "The value isn't one of [\"beats/min\"].")));
+        assertThat(errors.stream().map(SchemaValidationError::getInstancePointer).collect(Collectors.toList()),
+                hasItem("/effective_time_frame"));
+        assertThat(parser.getCurrentToken(), equalTo(JsonToken.END_OBJECT));
+    }
+
+    @DataProvider(name = "dateTimesWithLongFractions")
+    public Object[][] dateTimesWithLongFractions() {
+
+        return new Object[][] {
+                {"2013-02-05T07:25:00.1234567891Z", true},
+                {"2013-02-05T07:25:00.123456789123-08:00", true},
+                {"2013-02-30T07:25:00.1234567891Z", false},
+                {"2013-02-05T07:25:00.1234567891", false},
+        };
+    }
+
+    @Test(dataProvider = "dateTimesWithLongFractions")
+    public void validateShouldCheckDateTimesWithLongFractions(String dateTime, boolean valid) throws IOException {
+
+        String document = "{"
+                + "\"heart_rate\": {\"value\": 60, \"unit\": \"beats/min\"},"
+                + "\"effective_time_frame\": {\"date_time\": \"" + dateTime + "\"}"
+                + "}";
+
+        assertThat(validator.validate(HEART_RATE_SCHEMA_ID, objectMapper.readTree(document)).isEmpty(),
+                equalTo(valid));
+        assertThat(validator.validate(HEART_RATE_SCHEMA_ID, objectMapper.getFactory().createParser(document))
+                .isEmpty(), equalTo(valid));
+    }
+
+    @Test
+    public void isValidShouldSkipRestOfInvalidDocumentInTokenStream() throws IOException {
+
+        JsonParser parser = objectMapper.getFactory().createParser("[1, {\"a\": [2, 3]}] {}");
+
+        assertThat(validator.isValid(HEART_RATE_SCHEMA_ID, parser), equalTo(false));
+        assertThat(parser.getCurrentToken(), equalTo(JsonToken.END_ARRAY));
+
+        parser.nextToken();
+
+        assertThat(validator.validate(HEART_RATE_SCHEMA_ID, parser), equalTo(singletonList(
+                new SchemaValidationError("", "required", "The property 'heart_rate' is missing."))));
+    }
+
+    @Test(expectedExceptions = JsonParseException.class)
+    public void validateShouldThrowExceptionOnTruncatedTokenStream() throws IOException {
+
+        validator.validate(HEART_RATE_SCHEMA_ID, objectMapper.getFactory().createParser("{\"heart_rate\": {"));
+    }
+
+    @Test
+    public void validateShouldReportMissingProperties() throws IOException {
+
+        List<SchemaValidationError> errors = validator.validate(HEART_RATE_SCHEMA_ID, objectMapper.readTree("{}"));
+
+        assertThat(errors, equalTo(singletonList(
+                new SchemaValidationError("", "required", "The property 'heart_rate' is missing."))));
+    }
+
+    @DataProvider(name = "testDataFiles")
+    public Object[][] newTestDataFiles() throws IOException {
+
+        List<Path> files;
+
+        try (Stream<Path> paths = Files.walk(TEST_DATA_DIRECTORY)) {
+            files = paths
+                    .filter(path -> path.toString().endsWith(".json"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+
+        return files.stream()
+                .map(file -> new Object[] {file})
+                .toArray(Object[][]::new);
+    }
+
+    @Test(dataProvider = "testDataFiles")
+    public void validateShouldMatchTestDataExpectations(Path file) throws IOException {
+
+        // test data files are located at paths like "test-data/omh/heart-rate/1.0/shouldPass/foo.json"
+        Path versionDirectory = file.getParent().getParent();
+        Path nameDirectory = versionDirectory.getParent();
+
+        SchemaId schemaId = SchemaId.of(nameDirectory.getParent().getFileName().toString(),
+                nameDirectory.getFileName().toString(), versionDirectory.getFileName().toString());
+
+        if (!validator.getSchemaIds().contains(schemaId) || !validator.getUnresolvableReferences(schemaId).isEmpty()) {
+            return;
+        }
+
+        JsonNode document = objectMapper.readTree(file.toFile());
+        boolean shouldPass = file.getParent().getFileName().toString().equals("shouldPass");
+
+        List<SchemaValidationError> errors = validator.validate(schemaId, document);
+
+        assertThat(errors.toString(), errors.isEmpty(), equalTo(shouldPass));
+        assertThat(validator.isValid(schemaId, document), equalTo(shouldPass));
+
+        // the token stream checks should find the same errors, although not necessarily in the same order
+        try (JsonParser parser = objectMapper.getFactory().createParser(file.toFile())) {
+            assertThat(new HashSet<>(validator.validate(schemaId, parser)), equalTo(new HashSet<>(errors)));
+        }
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(file.toFile())) {
+            assertThat(validator.isValid(schemaId, parser), equalTo(shouldPass));
+            assertThat(parser.nextToken(), nullValue());
+        }
+    }
+
+    @Test
+    public void mostTestDataShouldBeValidated() throws IOException {
+
+        long validatedSchemaCount = validator.getSchemaIds().stream()
+                .filter(schemaId -> validator.getUnresolvableReferences(schemaId).isEmpty())
+                .count();
+
+        assertThat(validatedSchemaCount, greaterThan(validator.getSchemaIds().size() / 2L));
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 Open mHealth
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openmhealth.schema.validation;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openmhealth.schema.domain.omh.*;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.time.ZoneOffset.UTC;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.openmhealth.schema.configuration.JacksonConfiguration.newObjectMapper;
+import static org.openmhealth.schema.domain.omh.HeartRateUnit.BEATS_PER_MINUTE;
+import static org.openmhealth.schema.validation.SchemaValidatorUnitTests.SCHEMA_DIRECTORY;
+import static org.testng.Assert.fail;
+
+
+/**
+ * A suite of unit tests for the validating data point reader.
+ *
+ * @author agent
+ */
+public class ValidatingDataPointReaderUnitTests {
+
+    private static final OffsetDateTime CREATION_DATE_TIME = OffsetDateTime.of(2015, 10, 21, 16, 29, 0, 0, UTC);
+
+    private ObjectMapper objectMapper;
+    private SchemaValidator validator;
+    private ValidatingDataPointReader reader;
+    private DataPoint<HeartRate> dataPoint;
+
+
+    @BeforeClass
+    public void initializeFixtures() throws IOException {
+
+        objectMapper = newObjectMapper();
+        validator = SchemaValidator.fromDirectory(SCHEMA_DIRECTORY);
+        reader = new ValidatingDataPointReader(validator, objectMapper, BodyTypeRegistry.newDefaultRegistry());
+
+        dataPoint = new DataPoint<>(
+                new DataPointHeader.Builder("a", HeartRate.SCHEMA_ID, CREATION_DATE_TIME).build(),
+                new HeartRate.Builder(new TypedUnitValue<>(BEATS_PER_MINUTE, 60)).build());
+    }
+
+    private JsonParser newParser(Object document) throws IOException {
+        return objectMapper.getFactory().createParser(objectMapper.writeValueAsString(document));
+    }
+
+    private ObjectNode newDataPointNode() {
+        return objectMapper.valueToTree(dataPoint);
+    }
+
+    private InvalidDataPointException readInvalid(Object document) throws IOException {
+
+        try (JsonParser parser = newParser(document)) {
+            reader.read(parser);
+        }
+        catch (InvalidDataPointException e) {
+            return e;
+        }
+
+        fail("An invalid data point has been read.");
+        return null;
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructorShouldThrowExceptionOnUndefinedSchemaValidator() {
+
+        new ValidatingDataPointReader(null, objectMapper, BodyTypeRegistry.newDefaultRegistry());
+    }
+
+    @Test
+    public void readShouldReturnValidDataPoint() throws IOException {
+
+        assertThat(reader.read(newParser(dataPoint)), equalTo(dataPoint));
+    }
+
+    @Test
+    public void readShouldReturnValidDataPointWithBodyBeforeHeader() throws IOException {
+
+        ObjectNode node = newDataPointNode();
+
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("body", node.get("body"));
+        document.put("header", node.get("header"));
+
+        assertThat(reader.read(newParser(document)), equalTo(dataPoint));
+    }
+
+    @Test
+    public void readShouldRejectInvalidBody() throws IOException {
+
+        ObjectNode node = newDataPointNode();
+        ((ObjectNode) node.get("body").get("heart_rate")).put("unit", "beats/hour");
+
+        InvalidDataPointException exception = readInvalid(node);
+
+        assertThat(exception.getErrors(), hasItem(new SchemaValidationError("/body/heart_rate/unit", "enum",
+                "The value isn't one of [\"beats/min\"].")));
+    }
+
+    @Test
+    public void readShouldRejectInvalidBodyBeforeHeader() throws IOException {
+
+        ObjectNode node = newDataPointNode();
+        ((ObjectNode) node.get("body")).remove("heart_rate");
+
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("body", node.get("body"));
+        document.put("header", node.get("header"));
+
+        assertThat(readInvalid(document).getErrors(), hasItem(new SchemaValidationError("/body", "required",
+                "The property 'heart_rate' is missing.")));
+    }
+
+    @Test
+    public void readShouldRejectInvalidHeader() throws IOException {
+
+        ObjectNode node = newDataPointNode();
+        ((ObjectNode) node.get("header")).remove("creation_date_time");
+
+        assertThat(readInvalid(node).getErrors(), hasItem(new SchemaValidationError("/header", "required",
+                "The property 'creation_date_time' is missing.")));
+    }
+
+    @Test
+    public void readShouldRejectBodyOfUnknownSchema() throws IOException {
+
+        ObjectNode node = newDataPointNode();
+        ((ObjectNode) node.get("header").get("schema_id")).put("name", "nonexistent");
+
+        assertThat(readInvalid(node).getErrors(), hasItem(new SchemaValidationError("/body", "$ref",
+                "The schema 'omh:nonexistent:1.1' hasn't been loaded.")));
+    }
+
+    @Test
+    public void readShouldRejectMissingBody() throws IOException {
+
+        ObjectNode node = newDataPointNode();
+        node.remove("body");
+
+        assertThat(readInvalid(node).getErrors(), hasItem(new SchemaValidationError("", "required",
+                "The property 'body' is missing.")));
+    }
+
+    @Test
+    public void readShouldLeaveParserAfterInvalidDataPoint() throws IOException {
+
+        ObjectNode invalidNode = newDataPointNode();
+        ((ObjectNode) invalidNode.get("body")).remove("heart_rate");
+
+        String documents =
+                objectMapper.writeValueAsString(invalidNode) + "\n" + objectMapper.writeValueAsString(dataPoint);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(documents)) {
+            try {
+                reader.read(parser);
+                fail("An invalid data point has been read.");
+            }
+            catch (InvalidDataPointException e) {
+                assertThat(parser.getCurrentToken(), equalTo(JsonToken.END_OBJECT));
+            }
+
+            parser.nextToken();
+
+            assertThat(reader.read(parser), equalTo(dataPoint));
+        }
+    }
+}
@@ -16,5 +16,7 @@
 
 rootProject.name = "schemas"
 include("java-schema-sdk")
+include("java-schema-sdk-benchmarks")
+include("java-schema-sdk-codegen")
 include("kotlin-schema-sdk")
 